@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+/**
+ * Additive increase / multiplicative decrease controller of the number of rows sent in a single batch call.
+ * While the calls complete within the target latency the size grows by a fixed step,
+ * as soon as a call is slower the size is halved. The size always stays within [min, max].
+ * <br>
+ * The getters can be read from any thread to monitor a running batch.
+ */
+public class AdaptiveBatchSize {
+
+	private static final double THROUGHPUT_SMOOTHING = 0.3;
+
+	private final int initial;
+	private final int min;
+	private final int max;
+	private final int step;
+	private final long targetLatencyMillis;
+
+	private volatile int size;
+	private volatile long lastLatencyMillis = -1;
+	private volatile double throughput;
+	private volatile long chunks;
+
+	/**
+	 * @param initial             the size of the first call
+	 * @param min                 the lower bound of the size
+	 * @param max                 the upper bound of the size
+	 * @param targetLatencyMillis the latency above which the size is halved
+	 */
+	public AdaptiveBatchSize(int initial, int min, int max, long targetLatencyMillis) {
+		if (min < 1 || max < min) {
+			throw new IllegalArgumentException("Invalid adaptive batch bounds [" + min + ", " + max + "]");
+		}
+		this.min = min;
+		this.max = max;
+		this.initial = Math.max(min, Math.min(max, initial));
+		this.size = this.initial;
+		this.step = Math.max(1, this.size / 10);
+		this.targetLatencyMillis = targetLatencyMillis;
+	}
+
+	/**
+	 * Record the outcome of a call and adapt the size for the next one.
+	 *
+	 * @param rows          the number of rows sent in the call
+	 * @param latencyMillis the time spent by the call
+	 */
+	public synchronized void record(int rows, long latencyMillis) {
+		this.chunks++;
+		this.lastLatencyMillis = latencyMillis;
+		double chunkThroughput = rows * 1000d / Math.max(1, latencyMillis);
+		this.throughput = this.chunks == 1 ? chunkThroughput : THROUGHPUT_SMOOTHING * chunkThroughput + (1 - THROUGHPUT_SMOOTHING) * this.throughput;
+		if (latencyMillis > this.targetLatencyMillis) {
+			this.size = Math.max(this.min, this.size / 2);
+		} else if (rows >= this.size) {
+			// a short final chunk says nothing about a bigger one
+			this.size = Math.min(this.max, this.size + this.step);
+		}
+	}
+
+	/**
+	 * Forget what the previous calls told, the next call gets the initial size again.
+	 */
+	public synchronized void reset() {
+		this.size = this.initial;
+		this.lastLatencyMillis = -1;
+		this.throughput = 0;
+		this.chunks = 0;
+	}
+
+	/**
+	 * @return the number of rows of the next call
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the latency of the last call in milliseconds, -1 before the first one
+	 */
+	public long getLastLatencyMillis() {
+		return lastLatencyMillis;
+	}
+
+	/**
+	 * @return the smoothed number of rows per second
+	 */
+	public double getThroughput() {
+		return throughput;
+	}
+
+	/**
+	 * @return the number of calls recorded so far
+	 */
+	public long getChunks() {
+		return chunks;
+	}
+
+	@Override public String toString() {
+		return "AdaptiveBatchSize{size=" + size + ", lastLatencyMillis=" + lastLatencyMillis + ", throughput=" + throughput + ", chunks=" + chunks + "}";
+	}
+}
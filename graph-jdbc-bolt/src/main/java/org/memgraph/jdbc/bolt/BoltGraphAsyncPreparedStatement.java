@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous execution of a {@link java.sql.PreparedStatement}, reachable with {@code statement.unwrap(BoltGraphAsyncPreparedStatement.class)}.
+ * <br>
+ * The parameters are the ones set when the method is called, they can be changed right after for the next execution.
+ *
+ * @see BoltGraphAsyncStatement
+ */
+public interface BoltGraphAsyncPreparedStatement {
+
+	/**
+	 * @return the completion of the query, with all its records
+	 * @throws SQLException if the statement is closed
+	 */
+	CompletionStage<ResultSet> executeQueryAsync() throws SQLException;
+
+	/**
+	 * @return the completion of the update, with its update count
+	 * @throws SQLException if the statement is closed
+	 */
+	CompletionStage<Integer> executeUpdateAsync() throws SQLException;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous execution of a {@link java.sql.Statement}, reachable with {@code statement.unwrap(BoltGraphAsyncStatement.class)}.
+ * <br>
+ * In autocommit mode every statement runs in an async session of its own, so a single thread can keep many statements in flight;
+ * the connection bookmark is updated as each one completes. In manual commit mode the statement must run in the connection
+ * transaction: it's executed at once and the returned stage is already complete.
+ * <br>
+ * A failed statement completes the stage exceptionally with a {@link SQLException}.
+ */
+public interface BoltGraphAsyncStatement {
+
+	/**
+	 * @param sql the query
+	 * @return the completion of the query, with all its records
+	 * @throws SQLException if the statement is closed
+	 */
+	CompletionStage<ResultSet> executeQueryAsync(String sql) throws SQLException;
+
+	/**
+	 * @param sql the update
+	 * @return the completion of the update, with its update count
+	 * @throws SQLException if the statement is closed
+	 */
+	CompletionStage<Integer> executeUpdateAsync(String sql) throws SQLException;
+}
@@ -19,11 +19,19 @@
  */
 package org.memgraph.jdbc.bolt;
 
+import org.memgraph.jdbc.utils.RetryPolicy;
+import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionWork;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.reactive.RxSession;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * @author Gianmarco Laggia @ Larus B.A.
@@ -38,6 +46,53 @@ public interface BoltGraphConnection extends Connection {
 	 */
 	Transaction getTransaction();
 
+	/**
+	 * Getter for the runner of the next statement: the current transaction,
+	 * or in autocommit mode a session running the statement as an auto-commit transaction.
+	 *
+	 * @param fetchSize the number of records pulled per batch, 0 for the connection default
+	 * @return the runner of the statement
+	 */
+	QueryRunner getQueryRunner(long fetchSize);
+
+	/**
+	 * Getter for the runner of the next statement, sending its timeout to the server.
+	 *
+	 * @param fetchSize    the number of records pulled per batch, 0 for the connection default
+	 * @param queryTimeout the timeout of the statement in seconds, 0 for no timeout
+	 * @return the runner of the statement
+	 * @see #getQueryRunner(long)
+	 */
+	QueryRunner getQueryRunner(long fetchSize, int queryTimeout);
+
+	/**
+	 * Give up the session and the transaction of a statement that didn't complete in time:
+	 * the connection goes on with a new session, the abandoned one is closed once the statement completes.
+	 * A transaction of the application is rolled back with it, see {@link #checkTransaction()}.
+	 *
+	 * @param running the completion of the statement
+	 */
+	void abandonSession(CompletionStage<?> running);
+
+	/**
+	 * Check that the statements can still run in the transaction of the application. Once a statement timing out
+	 * took the transaction with it, the statements and the commit are refused until the application rolls back,
+	 * so the statements run afterwards can't be committed without the ones lost.
+	 *
+	 * @throws SQLException if the transaction was rolled back by a statement timing out
+	 */
+	void checkTransaction() throws SQLException;
+
+	/**
+	 * Terminate the statement running on the connection, can be called from any thread.
+	 */
+	void cancel();
+
+	/**
+	 * Record that a statement just completed successfully, so isValid doesn't ask the server for a while.
+	 */
+	void statementSucceeded();
+
 	/**
 	 * Getter for session.
 	 *
@@ -55,4 +110,109 @@ public interface BoltGraphConnection extends Connection {
 	 */
 	Session newGraphSession();
 
+	/**
+	 * Build an internal neo4j async session with the same configuration of {@link #newGraphSession()},
+	 * it must be closed by the caller
+	 * @return
+	 */
+	AsyncSession newAsyncGraphSession();
+
+	/**
+	 * Build an internal neo4j reactive session with the same configuration of {@link #newGraphSession()},
+	 * it must be closed by the caller
+	 * @return
+	 */
+	RxSession newRxGraphSession();
+
+	/**
+	 * Build an internal neo4j async session to run a single query, it must be closed by the caller.
+	 * The session is opened in read access mode when the query only reads, so a routing driver can send it to a follower.
+	 * @param query the query run in the session
+	 * @return
+	 */
+	AsyncSession newAsyncGraphSession(String query);
+
+	/**
+	 * Build an internal neo4j reactive session to run a single query, it must be closed by the caller.
+	 * The session is opened in read access mode when the query only reads, so a routing driver can send it to a follower.
+	 * @param query the query run in the session
+	 * @return
+	 */
+	RxSession newRxGraphSession(String query);
+
+	/**
+	 * Check that the query can run on the connection, a read only connection refuses the statements writing data or changing the schema.
+	 * @param query the query
+	 * @throws SQLException if the connection is read only and the query mutating
+	 */
+	void checkReadOnly(String query) throws SQLException;
+
+	/**
+	 * Make the following sessions of this connection wait for the given bookmark,
+	 * used after transactions that are not run through {@link #getTransaction()}
+	 *
+	 * @param bookmark the bookmark of the committed transaction
+	 */
+	void setLastBookmark(Bookmark bookmark) throws SQLException;
+
+	/**
+	 * Check if the result sets of this connection pull their records lazily from the server.
+	 *
+	 * @return true if the streaming mode is enabled
+	 */
+	boolean isStreaming();
+
+	/**
+	 * Keep the current transaction open while a streaming result set still reads from it.
+	 * In autocommit mode the commit is postponed until the result set is released.
+	 *
+	 * @param resultSet the streaming result set
+	 */
+	void holdTransaction(ResultSet resultSet);
+
+	/**
+	 * Release the transaction held by a streaming result set, committing it when in autocommit mode.
+	 * Nothing is done if the transaction is no longer held by the given result set.
+	 *
+	 * @param resultSet the streaming result set
+	 * @throws SQLException if the commit fails
+	 */
+	void releaseTransaction(ResultSet resultSet) throws SQLException;
+
+	/**
+	 * Check if a streaming result set is still reading from the current transaction.
+	 *
+	 * @return true if the transaction is held
+	 */
+	boolean isTransactionHeld();
+
+	/**
+	 * Getter for the retry policy of the statements, shared by the connections of the same driver.
+	 *
+	 * @return the retry policy
+	 */
+	RetryPolicy getRetryPolicy();
+
+	/**
+	 * Run a unit of work in a managed write transaction of the driver.
+	 * The whole function is retried on transient errors, on a new transaction routed again to a cluster member able to run it,
+	 * for up to the max.transaction.retry.time of the driver: it must not have side effects outside the transaction.
+	 * It's committed when the function returns, whatever the autocommit mode of the connection.
+	 *
+	 * @param work the unit of work
+	 * @return the value returned by the unit of work
+	 * @throws SQLException if a transaction of the connection is open, or the unit of work failed
+	 */
+	<T> T writeTransaction(TransactionWork<T> work) throws SQLException;
+
+	/**
+	 * Run a unit of work in a managed read transaction of the driver, routed to the readers of a cluster.
+	 *
+	 * @param work the unit of work
+	 * @return the value returned by the unit of work
+	 * @throws SQLException if a transaction of the connection is open, or the unit of work failed
+	 * @see #writeTransaction(TransactionWork)
+	 */
+	<T> T readTransaction(TransactionWork<T> work) throws SQLException;
+
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import org.memgraph.jdbc.bolt.pool.BoltGraphPooledConnection;
+
+import javax.sql.ConnectionPoolDataSource;
+import javax.sql.PooledConnection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * The data source used by the connection pool of an application server: every {@link PooledConnection} wraps
+ * a physical connection with its Bolt session and its own prepared statement cache.
+ */
+public class BoltGraphConnectionPoolDataSource extends BoltGraphDataSource implements ConnectionPoolDataSource {
+
+	private int maxStatements = 50;
+
+	@Override public PooledConnection getPooledConnection() throws SQLException {
+		return new BoltGraphPooledConnection(DriverManager.getConnection(getUrl(PROTOCOL)), this.maxStatements);
+	}
+
+	@Override public PooledConnection getPooledConnection(String user, String password) throws SQLException {
+		setUser(user);
+		setPassword(password);
+		return getPooledConnection();
+	}
+
+	/**
+	 * @return the size of the prepared statement cache of every pooled connection
+	 */
+	public int getMaxStatements() {
+		return maxStatements;
+	}
+
+	/**
+	 * @param maxStatements the size of the prepared statement cache of every pooled connection, 0 to disable it
+	 */
+	public void setMaxStatements(int maxStatements) {
+		this.maxStatements = maxStatements;
+	}
+}
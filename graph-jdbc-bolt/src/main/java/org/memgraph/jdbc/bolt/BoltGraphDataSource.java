@@ -32,7 +32,7 @@ import java.sql.SQLException;
  */
 public class BoltGraphDataSource extends GraphDataSource {
 
-	private static final String PROTOCOL = "bolt";
+	protected static final String PROTOCOL = "bolt";
 
 	@Override public Connection getConnection() throws SQLException {
 		return getConnection(user, password);
@@ -25,12 +25,11 @@ import org.neo4j.driver.Session;
 import org.neo4j.driver.TransactionWork;
 import org.memgraph.jdbc.GraphDatabaseMetaData;
 import org.memgraph.jdbc.bolt.impl.BoltGraphConnectionImpl;
+import org.memgraph.jdbc.debug.DebugDatabaseMetaData;
 import org.memgraph.jdbc.metadata.Column;
 import org.memgraph.jdbc.metadata.Table;
 import org.memgraph.jdbc.utils.BoltGraphUtils;
-import org.memgraph.jdbc.utils.GraphInvocationHandler;
 
-import java.lang.reflect.Proxy;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -80,8 +79,7 @@ public class BoltGraphDatabaseMetaData extends GraphDatabaseMetaData {
 
 	public static DatabaseMetaData newInstance(boolean debug, BoltGraphConnectionImpl connection) {
 		DatabaseMetaData dbmd = new BoltGraphDatabaseMetaData(connection);
-		return (DatabaseMetaData) Proxy.newProxyInstance(BoltGraphDatabaseMetaData.class.getClassLoader(), new Class[] { DatabaseMetaData.class },
-				new GraphInvocationHandler(dbmd, debug));
+		return debug ? new DebugDatabaseMetaData(dbmd) : dbmd;
 	}
 
 	private void getDatabaseVersion(Session session) {
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import org.memgraph.jdbc.bolt.pool.BoltGraphConnectionPool;
+import org.memgraph.jdbc.bolt.pool.BoltGraphConnectionPoolMXBean;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * A data source handing out connections from a {@link BoltGraphConnectionPool}.
+ * <br>
+ * The pool starts with the first connection request, with the settings of the data source at that time,
+ * and it's closed by {@link #close()}.
+ */
+public class BoltGraphPooledDataSource extends BoltGraphDataSource implements AutoCloseable {
+
+	private String  poolName;
+	private int     minPoolSize                  = 0;
+	private int     maxPoolSize                  = 10;
+	private long    maxLifetimeMillis            = 30 * 60 * 1000;
+	private long    idleTimeoutMillis            = 10 * 60 * 1000;
+	private long    connectionTimeoutMillis      = 30 * 1000;
+	private long    leakDetectionThresholdMillis = 0;
+	private int     validationTimeoutSeconds     = 5;
+	private long    validationBypassMillis       = 500;
+	private boolean registerMBean                = false;
+
+	private volatile BoltGraphConnectionPool pool;
+
+	@Override public Connection getConnection() throws SQLException {
+		return startPool().getConnection();
+	}
+
+	/**
+	 * The pool opens every connection with the same credentials, they can only be given before it starts.
+	 */
+	@Override public Connection getConnection(String username, String pass) throws SQLException {
+		if (this.pool == null) {
+			synchronized (this) {
+				if (this.pool == null) {
+					setUser(username);
+					setPassword(pass);
+				}
+			}
+		}
+		if (!Objects.equals(username, getUser()) || !Objects.equals(pass, getPassword())) {
+			throw new SQLException("The connections of a pooled data source share the credentials the pool was started with");
+		}
+		return getConnection();
+	}
+
+	/**
+	 * @return the statistics of the pool, starting it if needed
+	 */
+	public BoltGraphConnectionPoolMXBean getPool() {
+		return startPool();
+	}
+
+	private BoltGraphConnectionPool startPool() {
+		BoltGraphConnectionPool current = this.pool;
+		if (current == null) {
+			synchronized (this) {
+				current = this.pool;
+				if (current == null) {
+					String url = getUrl(PROTOCOL);
+					current = new BoltGraphConnectionPool(this.poolName, () -> DriverManager.getConnection(url), this.minPoolSize, this.maxPoolSize,
+							this.maxLifetimeMillis, this.idleTimeoutMillis, this.connectionTimeoutMillis, this.leakDetectionThresholdMillis,
+							this.validationTimeoutSeconds, this.validationBypassMillis, this.registerMBean);
+					this.pool = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Close the pool, a later connection request starts a new one.
+	 */
+	@Override public synchronized void close() {
+		if (this.pool != null) {
+			this.pool.close();
+			this.pool = null;
+		}
+	}
+
+	/**
+	 * The login timeout is the time a connection request waits for a free connection, 0 to wait without limit.
+	 */
+	@Override public void setLoginTimeout(int seconds) throws SQLException {
+		this.connectionTimeoutMillis = seconds > 0 ? seconds * 1000L : Long.MAX_VALUE;
+	}
+
+	@Override public int getLoginTimeout() throws SQLException {
+		return this.connectionTimeoutMillis == Long.MAX_VALUE ? 0 : (int) (this.connectionTimeoutMillis / 1000);
+	}
+
+	public String getPoolName() {
+		return poolName;
+	}
+
+	public void setPoolName(String poolName) {
+		this.poolName = poolName;
+	}
+
+	public int getMinPoolSize() {
+		return minPoolSize;
+	}
+
+	public void setMinPoolSize(int minPoolSize) {
+		this.minPoolSize = minPoolSize;
+	}
+
+	public int getMaxPoolSize() {
+		return maxPoolSize;
+	}
+
+	public void setMaxPoolSize(int maxPoolSize) {
+		this.maxPoolSize = maxPoolSize;
+	}
+
+	public long getMaxLifetimeMillis() {
+		return maxLifetimeMillis;
+	}
+
+	public void setMaxLifetimeMillis(long maxLifetimeMillis) {
+		this.maxLifetimeMillis = maxLifetimeMillis;
+	}
+
+	public long getIdleTimeoutMillis() {
+		return idleTimeoutMillis;
+	}
+
+	public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+		this.idleTimeoutMillis = idleTimeoutMillis;
+	}
+
+	public long getConnectionTimeoutMillis() {
+		return connectionTimeoutMillis;
+	}
+
+	public void setConnectionTimeoutMillis(long connectionTimeoutMillis) {
+		this.connectionTimeoutMillis = connectionTimeoutMillis;
+	}
+
+	public long getLeakDetectionThresholdMillis() {
+		return leakDetectionThresholdMillis;
+	}
+
+	public void setLeakDetectionThresholdMillis(long leakDetectionThresholdMillis) {
+		this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+	}
+
+	public int getValidationTimeoutSeconds() {
+		return validationTimeoutSeconds;
+	}
+
+	public void setValidationTimeoutSeconds(int validationTimeoutSeconds) {
+		this.validationTimeoutSeconds = validationTimeoutSeconds;
+	}
+
+	public long getValidationBypassMillis() {
+		return validationBypassMillis;
+	}
+
+	public void setValidationBypassMillis(long validationBypassMillis) {
+		this.validationBypassMillis = validationBypassMillis;
+	}
+
+	public boolean getRegisterMBean() {
+		return registerMBean;
+	}
+
+	public void setRegisterMBean(boolean registerMBean) {
+		this.registerMBean = registerMBean;
+	}
+}
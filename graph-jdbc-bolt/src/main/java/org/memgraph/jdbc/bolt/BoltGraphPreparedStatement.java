@@ -20,34 +20,60 @@
 package org.memgraph.jdbc.bolt;
 
 import org.neo4j.driver.Result;
+import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
 import org.memgraph.jdbc.Loggable;
 import org.memgraph.jdbc.GraphParameterMetaData;
 import org.memgraph.jdbc.GraphPreparedStatement;
 import org.memgraph.jdbc.GraphResultSetMetaData;
 import org.memgraph.jdbc.bolt.impl.BoltGraphConnectionImpl;
+import org.memgraph.jdbc.bolt.impl.BoltGraphDriverImpl;
+import org.memgraph.jdbc.debug.DebugPreparedStatement;
 import org.memgraph.jdbc.utils.BoltGraphUtils;
-import org.memgraph.jdbc.utils.GraphInvocationHandler;
+import org.memgraph.jdbc.utils.CypherStatement;
+import org.memgraph.jdbc.utils.PreparedStatementBuilder;
+import org.reactivestreams.Publisher;
 
-import java.lang.reflect.Proxy;
 import java.sql.*;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.Temporal;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static java.util.Arrays.copyOf;
+import static org.memgraph.jdbc.utils.BoltGraphUtils.executeAsync;
 import static org.memgraph.jdbc.utils.BoltGraphUtils.executeInTx;
 import static org.memgraph.jdbc.utils.BoltGraphUtils.hasResultSet;
 
-public class BoltGraphPreparedStatement extends GraphPreparedStatement implements Loggable {
+public class BoltGraphPreparedStatement extends GraphPreparedStatement implements BoltGraphAsyncPreparedStatement, BoltGraphReactivePreparedStatement, Loggable {
+
+	private static final String BATCH_ROWS_PARAMETER = "__batch_rows";
+	private static final String BATCH_ROW_VARIABLE = "__batch_row";
+	private static final int DEFAULT_UNWIND_BATCH_SIZE = 10_000;
+	private static final String DEFAULT_ADAPTIVE_MIN = "100";
+	private static final String DEFAULT_ADAPTIVE_MAX = "100000";
+	private static final String DEFAULT_ADAPTIVE_TARGET_LATENCY = "1000";
 
 	private final ResultSetFactory resultSetFactory;
+	private final RunningQueries running = new RunningQueries();
+	private final int unwindBatchSize;
+	private final int batchSize;
+	private final boolean commitChunks;
+	private final AdaptiveBatchSize adaptiveBatchSize;
+	private int batchParallelism;
+	private int[] flushedCounts = new int[0];
+	private int flushedRows;
+	private int flushedChunks;
 
 	private BoltGraphPreparedStatement(BoltGraphConnectionImpl connection, String rawStatement, int... rsParams) {
 		this(connection, BoltGraphResultSet::newInstance, rawStatement, rsParams);
@@ -57,14 +83,66 @@ public class BoltGraphPreparedStatement extends GraphPreparedStatement implement
 	BoltGraphPreparedStatement(BoltGraphConnectionImpl connection, ResultSetFactory resultSetFactory, String rawStatement, int... rsParams) {
 		super(connection, rawStatement);
 		this.resultSetFactory = resultSetFactory;
+		this.unwindBatchSize = unwindBatchSize(connection);
+		Properties properties = connection == null ? null : connection.getProperties();
+		this.batchSize = properties == null ? 0 : Integer.parseInt(properties.getProperty(BoltGraphDriverImpl.BATCH_SIZE, "0"));
+		this.commitChunks = properties != null && Boolean.parseBoolean(properties.getProperty(BoltGraphDriverImpl.BATCH_CHUNK_COMMIT));
+		this.adaptiveBatchSize = adaptiveBatchSize(properties, this.unwindBatchSize);
+		this.batchParallelism = properties == null ? 1 : Math.max(1, Integer.parseInt(properties.getProperty(BoltGraphDriverImpl.BATCH_PARALLELISM, "1")));
 		this.resultSetParams = rsParams;
 	}
 
 	public static PreparedStatement newInstance(boolean debug, BoltGraphConnectionImpl connection, String rawStatement, int... rsParams) {
 		PreparedStatement ps = new BoltGraphPreparedStatement(connection, rawStatement, rsParams);
 		((GraphPreparedStatement) ps).setDebug(debug);
-		return (PreparedStatement) Proxy.newProxyInstance(BoltGraphPreparedStatement.class.getClassLoader(), new Class[] { PreparedStatement.class },
-				new GraphInvocationHandler(ps, debug));
+		return debug ? new DebugPreparedStatement(ps) : ps;
+	}
+
+	private static int unwindBatchSize(BoltGraphConnectionImpl connection) {
+		Properties properties = connection == null ? null : connection.getProperties();
+		if (properties == null || !"unwind".equalsIgnoreCase(properties.getProperty(BoltGraphDriverImpl.BATCH_REWRITE))) {
+			return 0;
+		}
+		return Math.max(1, Integer.parseInt(properties.getProperty(BoltGraphDriverImpl.BATCH_REWRITE_SIZE, String.valueOf(DEFAULT_UNWIND_BATCH_SIZE))));
+	}
+
+	private static AdaptiveBatchSize adaptiveBatchSize(Properties properties, int unwindBatchSize) {
+		if (unwindBatchSize == 0 || !Boolean.parseBoolean(properties.getProperty(BoltGraphDriverImpl.BATCH_ADAPTIVE))) {
+			return null;
+		}
+		return new AdaptiveBatchSize(unwindBatchSize,
+				Integer.parseInt(properties.getProperty(BoltGraphDriverImpl.BATCH_ADAPTIVE_MIN, DEFAULT_ADAPTIVE_MIN)),
+				Integer.parseInt(properties.getProperty(BoltGraphDriverImpl.BATCH_ADAPTIVE_MAX, DEFAULT_ADAPTIVE_MAX)),
+				Long.parseLong(properties.getProperty(BoltGraphDriverImpl.BATCH_ADAPTIVE_TARGET_LATENCY, DEFAULT_ADAPTIVE_TARGET_LATENCY)));
+	}
+
+	/**
+	 * The controller of the UNWIND call size, available when batch.adaptive is enabled.
+	 * Reach it with {@code unwrap(BoltGraphPreparedStatement.class)} to monitor a running batch.
+	 *
+	 * @return the controller or null
+	 */
+	public AdaptiveBatchSize getAdaptiveBatchSize() {
+		return this.adaptiveBatchSize;
+	}
+
+	/**
+	 * Set the number of sessions running the batch concurrently in autocommit mode.
+	 * Use it only for order independent and idempotent writes, e.g. MERGE on unique keys.
+	 *
+	 * @param parallelism the number of sessions, 1 to run the batch on the connection transaction
+	 * @throws SQLException if the value is lower than 1
+	 */
+	public void setBatchParallelism(int parallelism) throws SQLException {
+		this.checkClosed();
+		if (parallelism < 1) {
+			throw new SQLException("Batch parallelism must be >= 1, was " + parallelism);
+		}
+		this.batchParallelism = parallelism;
+	}
+
+	public int getBatchParallelism() {
+		return this.batchParallelism;
 	}
 
 	@Override public ResultSet executeQuery() throws SQLException {
@@ -86,7 +164,7 @@ public class BoltGraphPreparedStatement extends GraphPreparedStatement implement
 
 	@Override public boolean execute() throws SQLException {
 		return executeInternal((result) -> {
-			boolean hasResultSet = hasResultSet((BoltGraphConnection) this.connection, this.statement);
+			boolean hasResultSet = hasResultSet(result);
 			if (hasResultSet) {
 				this.currentResultSet = this.resultSetFactory.create(this.hasDebug(), this, result, this.resultSetParams);
 				this.currentUpdateCount = -1;
@@ -101,7 +179,54 @@ public class BoltGraphPreparedStatement extends GraphPreparedStatement implement
 
 	private <T> T executeInternal(Function<Result, T> body) throws SQLException {
 		this.checkClosed();
-		return executeInTx((BoltGraphConnection) this.connection, this.statement, this.parameters, body);
+		BoltGraphConnection connection = (BoltGraphConnection) this.connection;
+		Runnable canceller = this.running.add(connection::cancel);
+		try {
+			return executeInTx(connection, this.statement, this.currentParameters(), this.getFetchSize(), this.getQueryTimeout(), body);
+		} finally {
+			this.running.remove(canceller);
+		}
+	}
+
+	/*-------------------*/
+	/*       Async       */
+	/*-------------------*/
+
+	@Override public CompletionStage<ResultSet> executeQueryAsync() throws SQLException {
+		this.checkClosed();
+		Map<String, Object> parameters = new HashMap<>(this.currentParameters());
+		int queryTimeout = this.getQueryTimeout();
+		return this.running.async(started -> executeAsync((BoltGraphConnection) this.connection, this.statement, parameters, queryTimeout,
+				this::executeQuery, started,
+				cursor -> cursor.listAsync().thenCompose(records -> cursor.consumeAsync().thenApply(
+						summary -> this.resultSetFactory.create(this.hasDebug(), this, new BufferedResult(cursor.keys(), records, summary),
+								this.resultSetParams)))));
+	}
+
+	@Override public CompletionStage<Integer> executeUpdateAsync() throws SQLException {
+		this.checkClosed();
+		Map<String, Object> parameters = new HashMap<>(this.currentParameters());
+		int queryTimeout = this.getQueryTimeout();
+		return this.running.async(started -> executeAsync((BoltGraphConnection) this.connection, this.statement, parameters, queryTimeout,
+				this::executeUpdate, started, cursor -> cursor.consumeAsync().thenApply(summary -> BoltGraphUtils.calculateUpdateCount(summary.counters()))));
+	}
+
+	/*----------------------*/
+	/*       Reactive       */
+	/*----------------------*/
+
+	@Override public <T> Publisher<T> executeQueryPublisher(BoltGraphRowMapper<T> mapper) throws SQLException {
+		this.checkClosed();
+		return new BoltGraphRowPublisher<>(this, this.running, (BoltGraphConnection) this.connection, this.statement,
+				new HashMap<>(this.currentParameters()), this.getQueryTimeout(), this.resultSetParams, mapper);
+	}
+
+	/**
+	 * Reset the sessions the queries of the statement are running in, terminating them on the server:
+	 * the session of the connection, or the sessions of their own of the async and reactive queries and of the parallel batches.
+	 */
+	@Override protected void doCancel() {
+		this.running.cancel();
 	}
 
 	@Override public GraphParameterMetaData getParameterMetaData() throws SQLException {
@@ -117,25 +242,177 @@ public class BoltGraphPreparedStatement extends GraphPreparedStatement implement
 	/*       Batch       */
 	/*-------------------*/
 
+	/**
+	 * When batch.size is set the rows are executed as soon as a chunk is complete,
+	 * so a failure of that chunk is reported here as a BatchUpdateException.
+	 */
+	@Override public void addBatch() throws SQLException {
+		super.addBatch();
+		if (this.batchSize > 0 && this.batchParameters.size() >= this.batchSize) {
+			flushBatch();
+		}
+	}
+
+	@Override public void clearBatch() throws SQLException {
+		super.clearBatch();
+		resetBatch();
+	}
+
 	@Override public int[] executeBatch() throws SQLException {
 		this.checkClosed();
-		int[] result = new int[0];
+		try {
+			if (!this.batchParameters.isEmpty()) {
+				flushBatch();
+			}
+			return copyOf(this.flushedCounts, this.flushedRows);
+		} finally {
+			resetBatch();
+		}
+	}
+
+	/**
+	 * Execute the pending rows as a chunk. In autocommit mode with batch.chunk.commit enabled the chunk runs
+	 * in a transaction of its own, committed once all its rows are executed; the setting has no effect inside
+	 * an explicit transaction, which is left to the caller to commit.
+	 * On failure the exception reports the counts of the rows that are still valid: the committed chunks only
+	 * with batch.chunk.commit, every executed row otherwise. Inside an explicit transaction the failure rolls back
+	 * the earlier chunks as well, so every row is reported as failed.
+	 */
+	private void flushBatch() throws SQLException {
+		BoltGraphConnection connection = (BoltGraphConnection) this.connection;
+		boolean autoCommit = connection.getAutoCommit();
+		boolean chunkTransaction = this.commitChunks && autoCommit;
+		int[] counts;
+		try {
+			if (chunkTransaction) {
+				connection.setAutoCommit(false);
+			}
+			counts = executeChunk(connection);
+			if (chunkTransaction) {
+				connection.doCommit();
+			}
+		} catch (SQLException e) {
+			int chunkRows = this.batchParameters.size();
+			int[] succeeded;
+			int successful;
+			if (!autoCommit) {
+				succeeded = new int[this.flushedRows + chunkRows];
+				Arrays.fill(succeeded, Statement.EXECUTE_FAILED);
+				successful = 0;
+			} else {
+				// with batch.chunk.commit the failed statement has already rolled back the transaction of the chunk
+				int[] executed = e instanceof BatchUpdateException && !chunkTransaction ? ((BatchUpdateException) e).getUpdateCounts() : new int[0];
+				succeeded = copyOf(this.flushedCounts, this.flushedRows + executed.length);
+				System.arraycopy(executed, 0, succeeded, this.flushedRows, executed.length);
+				successful = succeeded.length;
+			}
+			String message = String.format("Batch chunk %d (rows %d to %d) failed after %d successful rows",
+					this.flushedChunks, this.flushedRows, this.flushedRows + chunkRows - 1, successful);
+			resetBatch();
+			throw new BatchUpdateException(message, succeeded, e instanceof BatchUpdateException ? e.getCause() : e);
+		} finally {
+			this.batchParameters.clear();
+			if (chunkTransaction) {
+				connection.setAutoCommit(true);
+			}
+		}
+		if (this.flushedCounts.length < this.flushedRows + counts.length) {
+			this.flushedCounts = copyOf(this.flushedCounts, Math.max(this.flushedCounts.length * 2, this.flushedRows + counts.length));
+		}
+		System.arraycopy(counts, 0, this.flushedCounts, this.flushedRows, counts.length);
+		this.flushedRows += counts.length;
+		this.flushedChunks++;
+	}
+
+	private int[] executeChunk(BoltGraphConnection connection) throws SQLException {
+		boolean unwind = this.unwindBatchSize > 0 && canUnwind(this.statement);
+		if (this.batchParallelism > 1 && connection.getAutoCommit()) {
+			String statement = unwind ? PreparedStatementBuilder.unwindStatement(this.statement, BATCH_ROWS_PARAMETER, BATCH_ROW_VARIABLE) : this.statement;
+			return new ParallelBatchExecutor(connection, statement, unwind ? BATCH_ROWS_PARAMETER : null, this.unwindBatchSize, this.adaptiveBatchSize,
+					this.running).execute(this.batchParameters, this.batchParallelism);
+		}
+		Runnable canceller = this.running.add(connection::cancel);
+		try {
+			return unwind ? executeUnwindBatch() : executeRowByRowBatch();
+		} finally {
+			this.running.remove(canceller);
+		}
+	}
+
+	private void resetBatch() {
+		this.batchParameters.clear();
+		this.flushedCounts = new int[0];
+		this.flushedRows = 0;
+		this.flushedChunks = 0;
+	}
+
+	private int[] executeRowByRowBatch() throws SQLException {
+		int[] result = new int[this.batchParameters.size()];
+		int executed = 0;
 		try {
 			BoltGraphConnection connection = (BoltGraphConnection) this.connection;
 			for (Map<String, Object> parameter : this.batchParameters) {
-				int count = executeInTx(connection, this.statement, parameter, (statementResult) -> {
+				result[executed] = executeInTx(connection, this.statement, parameter, 0, this.getQueryTimeout(), (statementResult) -> {
 					SummaryCounters counters = statementResult.consume().counters();
 					return counters.nodesCreated() + counters.nodesDeleted();
 				});
-				result = copyOf(result, result.length + 1);
-				result[result.length - 1] = count;
+				executed++;
+			}
+		} catch (Exception e) {
+			throw new BatchUpdateException(copyOf(result, executed), e);
+		}
+		return result;
+	}
+
+	/**
+	 * Ship the batch as UNWIND calls of at most unwindBatchSize rows each, or of the size chosen by the adaptive controller.
+	 * The summary only reports the counters of the whole call, so a row gets its own count only
+	 * when it is alone in its call, or 0 when nothing changed, otherwise SUCCESS_NO_INFO.
+	 */
+	private int[] executeUnwindBatch() throws SQLException {
+		int size = this.batchParameters.size();
+		int[] result = new int[size];
+		int executed = 0;
+		try {
+			BoltGraphConnection connection = (BoltGraphConnection) this.connection;
+			String unwind = PreparedStatementBuilder.unwindStatement(this.statement, BATCH_ROWS_PARAMETER, BATCH_ROW_VARIABLE);
+			while (executed < size) {
+				int chunkSize = this.adaptiveBatchSize == null ? this.unwindBatchSize : this.adaptiveBatchSize.getSize();
+				int to = Math.min(size, executed + chunkSize);
+				List<Map<String, Object>> rows = this.batchParameters.subList(executed, to);
+				long start = System.nanoTime();
+				ResultSummary summary = executeInTx(connection, unwind, Collections.singletonMap(BATCH_ROWS_PARAMETER, rows), 0,
+						this.getQueryTimeout(), Result::consume);
+				if (this.adaptiveBatchSize != null) {
+					this.adaptiveBatchSize.record(rows.size(), latencyMillis(summary, start));
+				}
+				SummaryCounters counters = summary.counters();
+				int count = counters.nodesCreated() + counters.nodesDeleted();
+				Arrays.fill(result, executed, to, rows.size() == 1 || count == 0 ? count : Statement.SUCCESS_NO_INFO);
+				executed = to;
 			}
 		} catch (Exception e) {
-			throw new BatchUpdateException(result, e);
+			throw new BatchUpdateException(copyOf(result, executed), e);
 		}
 		return result;
 	}
 
+	/**
+	 * The server timings of the summary when available, the time measured by the client otherwise
+	 */
+	static long latencyMillis(ResultSummary summary, long startNanos) {
+		long available = summary.resultAvailableAfter(TimeUnit.MILLISECONDS);
+		long consumed = summary.resultConsumedAfter(TimeUnit.MILLISECONDS);
+		if (available < 0 || consumed < 0) {
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		}
+		return available + consumed;
+	}
+
+	private static boolean canUnwind(String statement) {
+		return CypherStatement.of(statement).isUnwindable();
+	}
+
 	/*-------------------*/
 	/*   setParameter    */
 	/*-------------------*/
@@ -187,7 +464,7 @@ public class BoltGraphPreparedStatement extends GraphPreparedStatement implement
 
 	// visible for testing
 	Map<String, Object> getParameters() {
-		return this.parameters;
+		return this.currentParameters();
 	}
 
 	// visible for testing
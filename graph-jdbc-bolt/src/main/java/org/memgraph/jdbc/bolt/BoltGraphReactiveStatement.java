@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import org.reactivestreams.Publisher;
+
+import java.sql.SQLException;
+
+/**
+ * Reactive execution of a {@link java.sql.Statement}, reachable with {@code statement.unwrap(BoltGraphReactiveStatement.class)}.
+ * <br>
+ * Every subscription runs the query in a reactive session of its own, as an auto-commit transaction: the records are pulled from the server
+ * as the subscriber requests them, {@code request(n)} sends a PULL of n records and {@code cancel()} a DISCARD of the remaining ones.
+ * The connection must be in autocommit mode, otherwise the subscriber gets a {@link SQLException}, as for any failure of the query.
+ */
+public interface BoltGraphReactiveStatement {
+
+	/**
+	 * @param sql    the query
+	 * @param mapper the mapper of the rows
+	 * @return the publisher of the mapped rows
+	 * @throws SQLException if the statement is closed
+	 */
+	<T> Publisher<T> executeQueryPublisher(String sql, BoltGraphRowMapper<T> mapper) throws SQLException;
+}
@@ -45,12 +45,11 @@ import org.neo4j.driver.util.Pair;
 import org.memgraph.jdbc.GraphArray;
 import org.memgraph.jdbc.GraphConnection;
 import org.memgraph.jdbc.GraphResultSet;
+import org.memgraph.jdbc.debug.DebugResultSet;
 import org.memgraph.jdbc.impl.ListArray;
 import org.memgraph.jdbc.utils.JSONUtils;
-import org.memgraph.jdbc.utils.GraphInvocationHandler;
 import org.memgraph.jdbc.utils.ObjectConverter;
 
-import java.lang.reflect.Proxy;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -84,6 +83,7 @@ import static org.memgraph.jdbc.utils.DataConverterUtils.valueToTimestamp;
  */
 public class BoltGraphResultSet extends GraphResultSet {
 
+	private final Result result;
 	private final Iterator<Record> iterator;
 	private final ResultSetMetaData metaData;
 	private Record current;
@@ -98,8 +98,14 @@ public class BoltGraphResultSet extends GraphResultSet {
 
 	private LinkedList<Record> prefetchedRecords = null;
 
+	/**
+	 * The connection holding the transaction open while the records are streamed, null if the records are all in memory.
+	 */
+	private BoltGraphConnection streamingConnection;
+
 	/**
 	 * Default constructor for this class, if no params are given or if some params are missing it uses the defaults.
+	 * In streaming mode the records are pulled lazily from the <code>Result</code>, only the flattening sample is prefetched.
 	 *
 	 * @param statement The <code>Statement</code> this ResultSet comes from
 	 * @param iterator  The <code>Result</code> of this set
@@ -110,20 +116,36 @@ public class BoltGraphResultSet extends GraphResultSet {
 	// visible for testing
 	BoltGraphResultSet(Statement statement, Result iterator, int... params) {
 		super(statement, params);
-		List<Record> recordList = iterator != null ? iterator.list() : Collections.emptyList();
-		Optional<Record> first = recordList.stream().findFirst();
-		this.iterator = iterator != null ? recordList.iterator() : null;
-
-		this.keys = new ArrayList<>();
-		this.classes = new ArrayList<>();
-		this.prefetchedRecords = new LinkedList<>();
+		this.result = iterator;
 
+		BoltGraphConnection connection = null;
 		try {
-			this.flatten = ((GraphConnection) this.statement.getConnection()).getFlattening();
+			GraphConnection graphConnection = (GraphConnection) this.statement.getConnection();
+			this.flatten = graphConnection.getFlattening();
+			if (graphConnection instanceof BoltGraphConnection && ((BoltGraphConnection) graphConnection).isStreaming() && !(iterator instanceof BufferedResult)) {
+				connection = (BoltGraphConnection) graphConnection;
+			}
 		} catch (Exception e) {
 			this.flatten = 0;
 		}
 
+		Optional<Record> first;
+		if (iterator == null) {
+			this.iterator = null;
+			first = Optional.empty();
+		} else if (connection != null) {
+			this.iterator = iterator;
+			first = iterator.hasNext() ? Optional.of(iterator.peek()) : Optional.empty();
+		} else {
+			List<Record> recordList = iterator.list();
+			this.iterator = recordList.iterator();
+			first = recordList.stream().findFirst();
+		}
+
+		this.keys = new ArrayList<>();
+		this.classes = new ArrayList<>();
+		this.prefetchedRecords = new LinkedList<>();
+
 		if (this.flatten != 0 && this.flatteningTypes(first)) {
 			//Flatten the result
 			this.flattenResultSet();
@@ -138,12 +160,17 @@ public class BoltGraphResultSet extends GraphResultSet {
 			});
 		}
 		this.metaData = BoltGraphResultSetMetaData.newInstance(false, this.classes, this.keys);
+
+		if (connection != null && this.iterator.hasNext()) {
+			//Records are still on the server, the transaction must stay open until they are read
+			this.streamingConnection = connection;
+			connection.holdTransaction(this);
+		}
 	}
 
 	public static ResultSet newInstance(boolean debug, Statement statement, Result iterator, int... params) {
 		ResultSet rs = new BoltGraphResultSet(statement, iterator, params);
-		return (ResultSet) Proxy
-				.newProxyInstance(BoltGraphResultSet.class.getClassLoader(), new Class[] { ResultSet.class }, new GraphInvocationHandler(rs, debug));
+		return debug ? new DebugResultSet(rs) : rs;
 	}
 
 	private void flattenResultSet() {
@@ -212,12 +239,19 @@ public class BoltGraphResultSet extends GraphResultSet {
 		if (this.iterator == null) {
 			throw new SQLException("ResultCursor not initialized");
 		}
-		if (!this.prefetchedRecords.isEmpty()) {
-			this.current = this.prefetchedRecords.pop();
-		} else if (this.iterator.hasNext()) {
-			this.current = this.iterator.next();
-		} else {
-			this.current = null;
+		try {
+			if (!this.prefetchedRecords.isEmpty()) {
+				this.current = this.prefetchedRecords.pop();
+			} else if (this.iterator.hasNext()) {
+				this.current = this.iterator.next();
+			} else {
+				this.current = null;
+				this.releaseStream();
+			}
+		} catch (SQLException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new SQLException(e);
 		}
 		return this.current != null;
 	}
@@ -227,6 +261,28 @@ public class BoltGraphResultSet extends GraphResultSet {
 			throw new SQLException("ResultCursor not initialized");
 		}
 		this.isClosed = true;
+		if (this.streamingConnection != null) {
+			//Discard the records not yet pulled from the server
+			try {
+				this.result.consume();
+			} catch (Exception e) {
+				// the transaction has already been closed, nothing left to discard
+			}
+			this.releaseStream();
+		}
+	}
+
+	/**
+	 * Give back the transaction held while streaming, committing it when the connection is in autocommit mode.
+	 *
+	 * @throws SQLException if the commit fails
+	 */
+	private void releaseStream() throws SQLException {
+		if (this.streamingConnection != null) {
+			BoltGraphConnection connection = this.streamingConnection;
+			this.streamingConnection = null;
+			connection.releaseTransaction(this);
+		}
 	}
 
 	@Override public boolean wasNull() throws SQLException {
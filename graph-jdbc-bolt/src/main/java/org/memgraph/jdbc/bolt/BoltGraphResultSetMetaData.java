@@ -22,9 +22,8 @@ package org.memgraph.jdbc.bolt;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
 import org.neo4j.driver.types.Type;
 import org.memgraph.jdbc.GraphResultSetMetaData;
-import org.memgraph.jdbc.utils.GraphInvocationHandler;
+import org.memgraph.jdbc.debug.DebugResultSetMetaData;
 
-import java.lang.reflect.Proxy;
 import java.sql.Array;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -93,8 +92,7 @@ public class BoltGraphResultSetMetaData extends GraphResultSetMetaData {
 
 	public static ResultSetMetaData newInstance(boolean debug, List<Type> types, List<String> keys) {
 		ResultSetMetaData rsmd = new BoltGraphResultSetMetaData(types, keys);
-		return (ResultSetMetaData) Proxy
-				.newProxyInstance(BoltGraphResultSetMetaData.class.getClassLoader(), new Class[] { ResultSetMetaData.class }, new GraphInvocationHandler(rsmd, debug));
+		return debug ? new DebugResultSetMetaData(rsmd) : rsmd;
 	}
 
 	/**
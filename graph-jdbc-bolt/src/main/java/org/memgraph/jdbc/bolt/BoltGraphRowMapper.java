@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps a row of a reactive query to an object.
+ *
+ * @param <T> the type of the mapped rows
+ */
+@FunctionalInterface
+public interface BoltGraphRowMapper<T> {
+
+	/**
+	 * @param row a result set positioned on the row, with the getters of the result sets of the driver; it's valid only during the call
+	 * @return the mapped row, not null
+	 * @throws SQLException if a getter fails, the query is cancelled and the subscriber gets the exception
+	 */
+	T mapRow(ResultSet row) throws SQLException;
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.reactive.RxSession;
+import org.memgraph.jdbc.utils.BoltGraphUtils;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes the rows of a query run on a reactive session, the demand of the subscriber is forwarded to the records of the driver.
+ * Every subscription runs the query again.
+ *
+ * @param <T> the type of the mapped rows
+ */
+final class BoltGraphRowPublisher<T> implements Publisher<T> {
+
+	private static final Subscription NO_SUBSCRIPTION = new Subscription() {
+		@Override public void request(long n) {
+		}
+
+		@Override public void cancel() {
+		}
+	};
+
+	private final Statement statement;
+	private final RunningQueries running;
+	private final BoltGraphConnection connection;
+	private final String query;
+	private final Map<String, Object> parameters;
+	private final int queryTimeout;
+	private final int[] resultSetParams;
+	private final BoltGraphRowMapper<T> mapper;
+
+	BoltGraphRowPublisher(Statement statement, RunningQueries running, BoltGraphConnection connection, String query, Map<String, Object> parameters,
+			int queryTimeout, int[] resultSetParams, BoltGraphRowMapper<T> mapper) {
+		this.statement = statement;
+		this.running = running;
+		this.connection = connection;
+		this.query = query;
+		this.parameters = parameters;
+		this.queryTimeout = queryTimeout;
+		this.resultSetParams = resultSetParams;
+		this.mapper = mapper;
+	}
+
+	@Override public void subscribe(Subscriber<? super T> subscriber) {
+		Objects.requireNonNull(subscriber);
+		RxSession session;
+		try {
+			if (!this.connection.getAutoCommit()) {
+				throw new SQLException("A reactive query runs in a transaction of its own, the connection must be in autocommit mode");
+			}
+			this.connection.checkReadOnly(this.query);
+			session = this.connection.newRxGraphSession(this.query);
+		} catch (Exception e) {
+			subscriber.onSubscribe(NO_SUBSCRIPTION);
+			subscriber.onError(e instanceof SQLException ? e : new SQLException(e));
+			return;
+		}
+		TransactionConfig config = this.queryTimeout > 0
+				? TransactionConfig.builder().withTimeout(Duration.ofSeconds(this.queryTimeout)).build() : TransactionConfig.empty();
+		session.run(this.query, this.parameters, config).records().subscribe(new RowSubscriber(subscriber, session));
+	}
+
+	private T map(Record record) throws SQLException {
+		BoltGraphResultSet row = new BoltGraphResultSet(this.statement, new BufferedResult(record.keys(), Collections.singletonList(record), null),
+				this.resultSetParams);
+		try {
+			row.next();
+			return this.mapper.mapRow(row);
+		} finally {
+			row.close();
+		}
+	}
+
+	/**
+	 * Maps the records for the subscriber and closes the session once the query is over, completed, failed or cancelled.
+	 * Until then cancelling the statement resets the session, the subscriber gets the failure of the query.
+	 */
+	private final class RowSubscriber implements Subscriber<Record>, Subscription {
+
+		private final Subscriber<? super T> downstream;
+		private final RxSession session;
+		private final AtomicBoolean done = new AtomicBoolean();
+		private final Runnable canceller;
+		private Subscription upstream;
+
+		private RowSubscriber(Subscriber<? super T> downstream, RxSession session) {
+			this.downstream = downstream;
+			this.session = session;
+			this.canceller = running.add(() -> BoltGraphUtils.reset(session));
+		}
+
+		@Override public void onSubscribe(Subscription subscription) {
+			this.upstream = subscription;
+			this.downstream.onSubscribe(this);
+		}
+
+		@Override public void onNext(Record record) {
+			if (this.done.get()) {
+				return;
+			}
+			T row;
+			try {
+				row = map(record);
+			} catch (Exception e) {
+				this.upstream.cancel();
+				finish(e);
+				return;
+			}
+			this.downstream.onNext(row);
+		}
+
+		@Override public void onError(Throwable error) {
+			finish(error);
+		}
+
+		@Override public void onComplete() {
+			finish(null);
+		}
+
+		@Override public void request(long n) {
+			this.upstream.request(n);
+		}
+
+		@Override public void cancel() {
+			if (this.done.compareAndSet(false, true)) {
+				this.upstream.cancel();
+				close(() -> {});
+			}
+		}
+
+		private void finish(Throwable error) {
+			if (!this.done.compareAndSet(false, true)) {
+				return;
+			}
+			close(() -> {
+				if (error != null) {
+					this.downstream.onError(error instanceof SQLException ? error : new SQLException(error));
+					return;
+				}
+				try {
+					connection.setLastBookmark(this.session.lastBookmark());
+				} catch (SQLException e) {
+					this.downstream.onError(e);
+					return;
+				}
+				connection.statementSucceeded();
+				this.downstream.onComplete();
+			});
+		}
+
+		private void close(Runnable then) {
+			running.remove(this.canceller);
+			BoltGraphUtils.subscribe(this.session.close(), then);
+		}
+	}
+}
@@ -20,22 +20,36 @@
 package org.memgraph.jdbc.bolt;
 
 import org.neo4j.driver.Result;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
 import org.memgraph.jdbc.GraphStatement;
 import org.memgraph.jdbc.bolt.impl.BoltGraphConnectionImpl;
+import org.memgraph.jdbc.bolt.impl.BoltGraphDriverImpl;
+import org.memgraph.jdbc.debug.DebugStatement;
 import org.memgraph.jdbc.utils.BoltGraphUtils;
-import org.memgraph.jdbc.utils.GraphInvocationHandler;
+import org.reactivestreams.Publisher;
 
-import java.lang.reflect.Proxy;
 import java.sql.BatchUpdateException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.logging.Logger;
 
 import static java.util.Arrays.copyOf;
+import static org.memgraph.jdbc.utils.BoltGraphUtils.await;
+import static org.memgraph.jdbc.utils.BoltGraphUtils.executeAsync;
 import static org.memgraph.jdbc.utils.BoltGraphUtils.executeInTx;
 import static org.memgraph.jdbc.utils.BoltGraphUtils.hasResultSet;
 
@@ -43,9 +57,14 @@ import static org.memgraph.jdbc.utils.BoltGraphUtils.hasResultSet;
  * @author AgileLARUS
  * @since 3.0.0
  */
-public class BoltGraphStatement extends GraphStatement {
+public class BoltGraphStatement extends GraphStatement implements BoltGraphAsyncStatement, BoltGraphReactiveStatement {
+
+	private static final Logger LOGGER = Logger.getLogger(BoltGraphStatement.class.getName());
+	private static final AtomicBoolean PIPELINE_FALLBACK_LOGGED = new AtomicBoolean();
 
 	private final ResultSetFactory resultSetFactory;
+	private final boolean pipelineBatch;
+	private final RunningQueries running = new RunningQueries();
 
 	/**
 	 * Default Constructor
@@ -57,6 +76,8 @@ public class BoltGraphStatement extends GraphStatement {
 	BoltGraphStatement(BoltGraphConnectionImpl connection, ResultSetFactory resultSetFactory, int... rsParams) {
 		super(connection);
 		this.resultSetFactory = resultSetFactory;
+		this.pipelineBatch = connection != null && connection.getProperties() != null
+				&& Boolean.parseBoolean(connection.getProperties().getProperty(BoltGraphDriverImpl.BATCH_PIPELINE));
 		this.resultSetParams = rsParams;
 		this.batchStatements = new ArrayList<>();
 	}
@@ -64,8 +85,7 @@ public class BoltGraphStatement extends GraphStatement {
 	public static Statement newInstance(boolean debug, BoltGraphConnectionImpl connection, int... rsParams) {
 		GraphStatement statement = new BoltGraphStatement(connection, BoltGraphResultSet::newInstance, rsParams);
 		statement.setDebug(debug);
-		return (Statement) Proxy.newProxyInstance(BoltGraphStatement.class.getClassLoader(), new Class[] { Statement.class },
-				new GraphInvocationHandler(statement, debug));
+		return debug ? new DebugStatement(statement) : statement;
 	}
 
 	@Override public ResultSet executeQuery(String sql) throws SQLException {
@@ -86,11 +106,11 @@ public class BoltGraphStatement extends GraphStatement {
 	}
 
 	@Override public boolean execute(String sql) throws SQLException {
-		boolean hasResultSet = hasResultSet((BoltGraphConnection) connection, sql);
 		return executeInternal(sql, (result) -> {
+			boolean hasResultSet = hasResultSet(result);
 			if (result != null) {
 				if (hasResultSet) {
-					this.currentResultSet = BoltGraphResultSet.newInstance(this.hasDebug(), this, result, this.resultSetParams);
+					this.currentResultSet = this.resultSetFactory.create(this.hasDebug(), this, result, this.resultSetParams);
 					this.currentUpdateCount = -1;
 				} else {
 					this.currentResultSet = null;
@@ -105,7 +125,53 @@ public class BoltGraphStatement extends GraphStatement {
 	private <T> T executeInternal(String statement,
 								  Function<Result, T> body) throws SQLException {
 		this.checkClosed();
-		return executeInTx((BoltGraphConnection) this.connection, statement, body);
+		BoltGraphConnection connection = (BoltGraphConnection) this.connection;
+		Runnable canceller = this.running.add(connection::cancel);
+		try {
+			return executeInTx(connection, statement, Collections.emptyMap(), this.getFetchSize(), this.getQueryTimeout(), body);
+		} finally {
+			this.running.remove(canceller);
+		}
+	}
+
+	/*-------------------*/
+	/*       Async       */
+	/*-------------------*/
+
+	@Override public CompletionStage<ResultSet> executeQueryAsync(String sql) throws SQLException {
+		this.checkClosed();
+		int queryTimeout = this.getQueryTimeout();
+		return this.running.async(started -> executeAsync((BoltGraphConnection) this.connection, sql, Collections.emptyMap(), queryTimeout,
+				() -> executeQuery(sql), started,
+				cursor -> cursor.listAsync().thenCompose(records -> cursor.consumeAsync().thenApply(
+						summary -> this.resultSetFactory.create(this.hasDebug(), this, new BufferedResult(cursor.keys(), records, summary),
+								this.resultSetParams)))));
+	}
+
+	@Override public CompletionStage<Integer> executeUpdateAsync(String sql) throws SQLException {
+		this.checkClosed();
+		int queryTimeout = this.getQueryTimeout();
+		return this.running.async(started -> executeAsync((BoltGraphConnection) this.connection, sql, Collections.emptyMap(), queryTimeout,
+				() -> executeUpdate(sql), started,
+				cursor -> cursor.consumeAsync().thenApply(summary -> BoltGraphUtils.calculateUpdateCount(summary.counters()))));
+	}
+
+	/*----------------------*/
+	/*       Reactive       */
+	/*----------------------*/
+
+	@Override public <T> Publisher<T> executeQueryPublisher(String sql, BoltGraphRowMapper<T> mapper) throws SQLException {
+		this.checkClosed();
+		return new BoltGraphRowPublisher<>(this, this.running, (BoltGraphConnection) this.connection, sql, Collections.emptyMap(),
+				this.getQueryTimeout(), this.resultSetParams, mapper);
+	}
+
+	/**
+	 * Reset the sessions the queries of the statement are running in, terminating them on the server:
+	 * the session of the connection, or the sessions of their own of the async, reactive and pipelined queries.
+	 */
+	@Override protected void doCancel() {
+		this.running.cancel();
 	}
 
 	/*-------------------*/
@@ -113,21 +179,86 @@ public class BoltGraphStatement extends GraphStatement {
 	/*-------------------*/
 
 
+	/**
+	 * Outside autocommit mode the statements of a pipelined batch belong to the connection transaction,
+	 * whose blocking API waits for every RUN: they run one at a time there, which is logged once.
+	 */
 	@Override public int[] executeBatch() throws SQLException {
 		this.checkClosed();
-		int[] result = new int[0];
+		BoltGraphConnection connection = (BoltGraphConnection) this.connection;
+		if (this.pipelineBatch && !this.batchStatements.isEmpty()) {
+			if (connection.getAutoCommit()) {
+				return executePipelinedBatch(connection);
+			}
+			if (PIPELINE_FALLBACK_LOGGED.compareAndSet(false, true)) {
+				LOGGER.info(BoltGraphDriverImpl.BATCH_PIPELINE + " applies in autocommit mode only, "
+						+ "the batches of a manual-commit connection run one statement at a time in its transaction");
+			}
+		}
+		Runnable canceller = this.running.add(connection::cancel);
+		try {
+			return executeBatchStatements(connection);
+		} finally {
+			this.running.remove(canceller);
+		}
+	}
+
+	private int[] executeBatchStatements(BoltGraphConnection connection) throws BatchUpdateException {
+		int[] result = new int[this.batchStatements.size()];
+		int executed = 0;
 		try {
-			BoltGraphConnection connection = (BoltGraphConnection) this.connection;
 			for (String query : this.batchStatements) {
-				int count = executeInTx(connection, query, (statementResult) -> {
+				result[executed] = executeInTx(connection, query, Collections.emptyMap(), 0, this.getQueryTimeout(), (statementResult) -> {
 					SummaryCounters counters = statementResult.consume().counters();
 					return counters.nodesCreated() + counters.nodesDeleted();
 				});
-				result = copyOf(result, result.length + 1);
-				result[result.length - 1] = count;
+				executed++;
+			}
+		} catch (Exception e) {
+			throw new BatchUpdateException(copyOf(result, executed), e);
+		}
+		return result;
+	}
+
+	/**
+	 * Send every RUN of the batch back to back in a single transaction of its own and collect the summaries afterwards.
+	 * The batch is atomic: on failure nothing is committed. The statements before the failing one report their counts,
+	 * the failing one and the next ones are reported as failed, and every statement when the commit fails.
+	 */
+	private int[] executePipelinedBatch(BoltGraphConnection connection) throws SQLException {
+		for (String query : this.batchStatements) {
+			connection.checkReadOnly(query);
+		}
+		int[] result = new int[this.batchStatements.size()];
+		int counted = 0;
+		AsyncSession session = connection.newAsyncGraphSession();
+		Runnable canceller = this.running.add(() -> BoltGraphUtils.reset(session));
+		try {
+			int queryTimeout = this.getQueryTimeout();
+			AsyncTransaction transaction = await(queryTimeout > 0
+					? session.beginTransactionAsync(TransactionConfig.builder().withTimeout(Duration.ofSeconds(queryTimeout)).build())
+					: session.beginTransactionAsync());
+			List<CompletionStage<ResultSummary>> summaries = new ArrayList<>(this.batchStatements.size());
+			for (String query : this.batchStatements) {
+				summaries.add(transaction.runAsync(query).thenCompose(ResultCursor::consumeAsync));
+			}
+			try {
+				for (; counted < result.length; counted++) {
+					SummaryCounters counters = await(summaries.get(counted)).counters();
+					result[counted] = counters.nodesCreated() + counters.nodesDeleted();
+				}
+				await(transaction.commitAsync());
+			} catch (Exception e) {
+				BoltGraphUtils.closeSafely(() -> await(transaction.rollbackAsync()), null);
+				throw e;
 			}
+			connection.setLastBookmark(session.lastBookmark());
 		} catch (Exception e) {
+			Arrays.fill(result, counted == result.length ? 0 : counted, result.length, Statement.EXECUTE_FAILED);
 			throw new BatchUpdateException(result, e);
+		} finally {
+			this.running.remove(canceller);
+			BoltGraphUtils.closeSafely(() -> await(session.closeAsync()), null);
 		}
 		return result;
 	}
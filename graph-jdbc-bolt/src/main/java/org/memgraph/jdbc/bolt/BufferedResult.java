@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.summary.ResultSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Result} whose records were all fetched already, e.g. by an async cursor.
+ * A result set built on it is never streamed, it doesn't hold the transaction of the connection.
+ */
+final class BufferedResult implements Result {
+
+	private final List<String> keys;
+	private final List<Record> records;
+	private final ResultSummary summary;
+	private int position;
+
+	BufferedResult(List<String> keys, List<Record> records, ResultSummary summary) {
+		this.keys = keys;
+		this.records = records;
+		this.summary = summary;
+	}
+
+	@Override public List<String> keys() {
+		return this.keys;
+	}
+
+	@Override public boolean hasNext() {
+		return this.position < this.records.size();
+	}
+
+	@Override public Record next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return this.records.get(this.position++);
+	}
+
+	@Override public Record single() {
+		if (this.records.size() - this.position != 1) {
+			throw new NoSuchRecordException("Expected a result with a single record, but this result contains " + (this.records.size() - this.position));
+		}
+		return next();
+	}
+
+	@Override public Record peek() {
+		if (!hasNext()) {
+			throw new NoSuchRecordException("Cannot peek past the last record");
+		}
+		return this.records.get(this.position);
+	}
+
+	@Override public Stream<Record> stream() {
+		return list().stream();
+	}
+
+	@Override public List<Record> list() {
+		return list(Function.identity());
+	}
+
+	@Override public <T> List<T> list(Function<Record, T> mapFunction) {
+		List<T> list = new ArrayList<>(this.records.size() - this.position);
+		while (hasNext()) {
+			list.add(mapFunction.apply(next()));
+		}
+		return list;
+	}
+
+	@Override public ResultSummary consume() {
+		this.position = this.records.size();
+		return this.summary;
+	}
+}
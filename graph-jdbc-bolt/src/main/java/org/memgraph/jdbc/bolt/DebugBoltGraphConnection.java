@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import org.memgraph.jdbc.debug.DebugConnection;
+import org.memgraph.jdbc.utils.RetryPolicy;
+import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.QueryRunner;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionWork;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.reactive.RxSession;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Debug decorator of a {@link BoltGraphConnection}, installed by the debug connection property.
+ */
+public class DebugBoltGraphConnection extends DebugConnection implements BoltGraphConnection {
+
+	private final BoltGraphConnection connection;
+
+	public DebugBoltGraphConnection(BoltGraphConnection delegate) {
+		super(delegate);
+		this.connection = delegate;
+	}
+
+	@Override public Transaction getTransaction() {
+		Transaction result = this.connection.getTransaction();
+		log("getTransaction");
+		return result;
+	}
+
+	@Override public QueryRunner getQueryRunner(long fetchSize) {
+		QueryRunner result = this.connection.getQueryRunner(fetchSize);
+		log("getQueryRunner");
+		return result;
+	}
+
+	@Override public QueryRunner getQueryRunner(long fetchSize, int queryTimeout) {
+		QueryRunner result = this.connection.getQueryRunner(fetchSize, queryTimeout);
+		log("getQueryRunner");
+		return result;
+	}
+
+	@Override public void abandonSession(CompletionStage<?> running) {
+		this.connection.abandonSession(running);
+		log("abandonSession");
+	}
+
+	@Override public void cancel() {
+		this.connection.cancel();
+		log("cancel");
+	}
+
+	@Override public void statementSucceeded() {
+		this.connection.statementSucceeded();
+		log("statementSucceeded");
+	}
+
+	@Override public Session getSession() {
+		Session result = this.connection.getSession();
+		log("getSession");
+		return result;
+	}
+
+	@Override public void doCommit() throws SQLException {
+		this.connection.doCommit();
+		log("doCommit");
+	}
+
+	@Override public void doRollback() throws SQLException {
+		this.connection.doRollback();
+		log("doRollback");
+	}
+
+	@Override public Session newGraphSession() {
+		Session result = this.connection.newGraphSession();
+		log("newGraphSession");
+		return result;
+	}
+
+	@Override public AsyncSession newAsyncGraphSession() {
+		AsyncSession result = this.connection.newAsyncGraphSession();
+		log("newAsyncGraphSession");
+		return result;
+	}
+
+	@Override public AsyncSession newAsyncGraphSession(String query) {
+		AsyncSession result = this.connection.newAsyncGraphSession(query);
+		log("newAsyncGraphSession");
+		return result;
+	}
+
+	@Override public RxSession newRxGraphSession() {
+		RxSession result = this.connection.newRxGraphSession();
+		log("newRxGraphSession");
+		return result;
+	}
+
+	@Override public RxSession newRxGraphSession(String query) {
+		RxSession result = this.connection.newRxGraphSession(query);
+		log("newRxGraphSession");
+		return result;
+	}
+
+	@Override public void checkReadOnly(String query) throws SQLException {
+		this.connection.checkReadOnly(query);
+		log("checkReadOnly");
+	}
+
+	@Override public void checkTransaction() throws SQLException {
+		this.connection.checkTransaction();
+		log("checkTransaction");
+	}
+
+	@Override public void setLastBookmark(Bookmark bookmark) throws SQLException {
+		this.connection.setLastBookmark(bookmark);
+		log("setLastBookmark");
+	}
+
+	@Override public boolean isStreaming() {
+		boolean result = this.connection.isStreaming();
+		log("isStreaming");
+		return result;
+	}
+
+	@Override public void holdTransaction(ResultSet resultSet) {
+		this.connection.holdTransaction(resultSet);
+		log("holdTransaction");
+	}
+
+	@Override public void releaseTransaction(ResultSet resultSet) throws SQLException {
+		this.connection.releaseTransaction(resultSet);
+		log("releaseTransaction");
+	}
+
+	@Override public boolean isTransactionHeld() {
+		boolean result = this.connection.isTransactionHeld();
+		log("isTransactionHeld");
+		return result;
+	}
+
+	@Override public RetryPolicy getRetryPolicy() {
+		RetryPolicy result = this.connection.getRetryPolicy();
+		log("getRetryPolicy");
+		return result;
+	}
+
+	@Override public <T> T writeTransaction(TransactionWork<T> work) throws SQLException {
+		T result = this.connection.writeTransaction(work);
+		log("writeTransaction");
+		return result;
+	}
+
+	@Override public <T> T readTransaction(TransactionWork<T> work) throws SQLException {
+		T result = this.connection.readTransaction(work);
+		log("readTransaction");
+		return result;
+	}
+}
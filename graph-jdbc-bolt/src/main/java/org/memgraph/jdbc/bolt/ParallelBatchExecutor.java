@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.TransactionWork;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
+import org.memgraph.jdbc.utils.BoltGraphUtils;
+import org.memgraph.jdbc.utils.SharedExecutor;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Run the rows of a batch on several sessions of the connection driver at the same time.
+ * <br>
+ * The rows are split in contiguous partitions, every partition runs on its own session and on a thread of the
+ * {@link SharedExecutor}, or on the calling thread when none is free. Every call (a single row, or an UNWIND of several rows)
+ * is a transaction of its own, with the access mode of the connection.
+ * It's meant for order independent and idempotent writes: the partitions don't see each other and
+ * a failed partition stops while the others go on.
+ */
+class ParallelBatchExecutor {
+
+	private final BoltGraphConnection connection;
+	private final String statement;
+	private final String rowsParameter;
+	private final int rowsPerCall;
+	private final AdaptiveBatchSize adaptiveBatchSize;
+	private final RunningQueries running;
+
+	/**
+	 * @param connection        the connection providing the sessions
+	 * @param statement         the statement to run
+	 * @param rowsParameter     the list parameter of an UNWIND statement, null to run the statement once per row
+	 * @param rowsPerCall       the rows per UNWIND call
+	 * @param adaptiveBatchSize the controller of the rows per UNWIND call, can be null
+	 * @param running           the running queries of the statement, every partition is cancelled by resetting its session
+	 */
+	ParallelBatchExecutor(BoltGraphConnection connection, String statement, String rowsParameter, int rowsPerCall, AdaptiveBatchSize adaptiveBatchSize,
+			RunningQueries running) {
+		this.connection = connection;
+		this.statement = statement;
+		this.rowsParameter = rowsParameter;
+		this.rowsPerCall = rowsPerCall;
+		this.adaptiveBatchSize = adaptiveBatchSize;
+		this.running = running;
+	}
+
+	/**
+	 * @param rows        the parameters of every row
+	 * @param parallelism the number of concurrent sessions
+	 * @return an update count for every row
+	 * @throws BatchUpdateException with an update count for every row, EXECUTE_FAILED for the rows of a failed partition
+	 *                              from the failed call onwards
+	 */
+	int[] execute(List<Map<String, Object>> rows, int parallelism) throws SQLException {
+		this.connection.checkReadOnly(this.statement);
+		boolean readOnly = this.connection.isReadOnly();
+		int size = rows.size();
+		int partitions = Math.max(1, Math.min(parallelism, size));
+		int[] result = new int[size];
+		Queue<Exception> failures = new ConcurrentLinkedQueue<>();
+		List<CompletableFuture<Bookmark>> futures = new ArrayList<>(partitions);
+		for (int partition = 0; partition < partitions; partition++) {
+			int from = (int) ((long) size * partition / partitions);
+			int to = (int) ((long) size * (partition + 1) / partitions);
+			Supplier<Bookmark> task = () -> executePartition(rows.subList(from, to), result, from, readOnly, failures);
+			try {
+				futures.add(CompletableFuture.supplyAsync(task, SharedExecutor.get()));
+			} catch (RejectedExecutionException e) {
+				futures.add(CompletableFuture.completedFuture(task.get()));
+			}
+		}
+		try {
+			Set<String> bookmarks = new HashSet<>();
+			for (CompletableFuture<Bookmark> future : futures) {
+				Bookmark bookmark = future.get();
+				if (bookmark != null) {
+					bookmarks.addAll(bookmark.values());
+				}
+			}
+			this.connection.setLastBookmark(Bookmark.from(bookmarks));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException(e);
+		} catch (ExecutionException e) {
+			throw new SQLException(e.getCause());
+		}
+		if (!failures.isEmpty()) {
+			BatchUpdateException exception = new BatchUpdateException(result, failures.poll());
+			failures.forEach(exception::addSuppressed);
+			throw exception;
+		}
+		return result;
+	}
+
+	private Bookmark executePartition(List<Map<String, Object>> rows, int[] result, int offset, boolean readOnly, Queue<Exception> failures) {
+		try (Session session = this.connection.newGraphSession()) {
+			Runnable canceller = this.running.add(() -> BoltGraphUtils.reset(session));
+			int executed = 0;
+			try {
+				while (executed < rows.size()) {
+					int callRows = this.rowsParameter == null ? 1 : this.adaptiveBatchSize == null ? this.rowsPerCall : this.adaptiveBatchSize.getSize();
+					int to = Math.min(rows.size(), executed + callRows);
+					Map<String, Object> parameters = this.rowsParameter == null ? rows.get(executed)
+							: Collections.singletonMap(this.rowsParameter, rows.subList(executed, to));
+					long start = System.nanoTime();
+					TransactionWork<ResultSummary> work = tx -> tx.run(this.statement, parameters).consume();
+					ResultSummary summary = readOnly ? session.readTransaction(work) : session.writeTransaction(work);
+					if (this.adaptiveBatchSize != null) {
+						this.adaptiveBatchSize.record(to - executed, BoltGraphPreparedStatement.latencyMillis(summary, start));
+					}
+					SummaryCounters counters = summary.counters();
+					int count = counters.nodesCreated() + counters.nodesDeleted();
+					Arrays.fill(result, offset + executed, offset + to, to - executed == 1 || count == 0 ? count : Statement.SUCCESS_NO_INFO);
+					executed = to;
+				}
+			} catch (Exception e) {
+				Arrays.fill(result, offset + executed, offset + rows.size(), Statement.EXECUTE_FAILED);
+				failures.add(e);
+			} finally {
+				this.running.remove(canceller);
+			}
+			return session.lastBookmark();
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import org.neo4j.driver.async.AsyncSession;
+import org.memgraph.jdbc.utils.BoltGraphUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The queries of a statement still running on the database, each with the way to stop it on the session it runs in.
+ * <br>
+ * A query is added when it starts and removed once over, both holding the lock {@link #cancel()} runs under:
+ * a cancel can't reach a query started after the cancelled one, nor the session once given back.
+ */
+final class RunningQueries {
+
+	private final List<Runnable> cancellers = new ArrayList<>();
+
+	/**
+	 * @param canceller stops the query, called from the cancelling thread
+	 * @return the canceller, to remove once the query is over
+	 */
+	synchronized Runnable add(Runnable canceller) {
+		this.cancellers.add(canceller);
+		return canceller;
+	}
+
+	synchronized void remove(Runnable canceller) {
+		this.cancellers.remove(canceller);
+	}
+
+	/**
+	 * Track an async query: it can be cancelled once its session is started, until its stage completes.
+	 *
+	 * @param execution runs the query, telling the session it runs in
+	 * @return the stage of the query
+	 */
+	<R> CompletionStage<R> async(Function<Consumer<AsyncSession>, CompletionStage<R>> execution) {
+		AtomicReference<Runnable> canceller = new AtomicReference<>();
+		return execution.apply(session -> canceller.set(add(() -> BoltGraphUtils.reset(session)))).whenComplete((result, error) -> {
+			if (canceller.get() != null) {
+				remove(canceller.get());
+			}
+		});
+	}
+
+	/**
+	 * Stop every query still running, the ones over in the meantime are left alone.
+	 */
+	synchronized void cancel() {
+		for (Runnable canceller : new ArrayList<>(this.cancellers)) {
+			canceller.run();
+		}
+	}
+}
@@ -19,28 +19,55 @@
  */
 package org.memgraph.jdbc.bolt.cache;
 
+import org.memgraph.jdbc.bolt.impl.BoltGraphDriverImpl;
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.Driver;
 
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
  * A cache for the driver instances in order to reduce the number of them.
  * In the JDBC specification the connection has the properties meanwhile in Graph they are on the driver.
+ * <br>
+ * Every driver got from the cache is leased to the caller, the connection, which releases it with {@link Driver#close()}.
+ * A driver without leases stays cached for the idle timeout (driver.idle.timeout property, in milliseconds),
+ * so the next connection reuses it, then it's evicted and closed.
  */
 public class BoltDriverCache {
 
-    private final Map<BoltDriverCacheKey, Driver> cache;
+    public static final long DEFAULT_IDLE_TIMEOUT = 60000;
+
+    private static final AtomicInteger EVICTOR_THREADS = new AtomicInteger();
+    private static final ScheduledThreadPoolExecutor EVICTOR = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "graph-jdbc-driver-evictor-" + EVICTOR_THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        EVICTOR.setRemoveOnCancelPolicy(true);
+    }
+
+    private final Map<BoltDriverCacheKey, BoltDriverCached> cache;
     private final Function<BoltDriverCacheKey, Driver> builder;
 
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
     /**
      * Setup the cache for the specific building function
      * @param builder
@@ -51,7 +78,7 @@ public class BoltDriverCache {
     }
 
     /**
-     * Get driver from cache, building it if necessary
+     * Get driver from cache, building it if necessary, leased to the caller
      * @param routingUris
      * @param config
      * @param authToken
@@ -59,8 +86,56 @@ public class BoltDriverCache {
      * @return
      */
     public Driver getDriver(List<URI> routingUris, Config config, AuthToken authToken, Properties info) {
-        return cache.computeIfAbsent(new BoltDriverCacheKey(routingUris, config, authToken, info),
-            key -> new BoltDriverCached(builder.apply(key), this, key));
+        AtomicReference<BoltDriverCached> leased = new AtomicReference<>();
+        // leased under the lock of the entry, so an eviction can't close the driver in between
+        cache.compute(new BoltDriverCacheKey(routingUris, config, authToken, info), (key, cached) -> {
+            BoltDriverCached driver = cached;
+            if (driver == null) {
+                misses.incrementAndGet();
+                driver = new BoltDriverCached(builder.apply(key), this, key);
+            } else {
+                hits.incrementAndGet();
+            }
+            driver.lease();
+            leased.set(driver);
+            return driver;
+        });
+        leases.incrementAndGet();
+        return leased.get();
+    }
+
+    /**
+     * Called by a driver when its last lease is released
+     * @param driver
+     */
+    void idle(BoltDriverCached driver) {
+        long idleTimeout = idleTimeout(driver.getKey());
+        if (idleTimeout <= 0) {
+            evictIfIdle(driver, 0);
+        } else {
+            EVICTOR.schedule(() -> evictIfIdle(driver, idleTimeout), idleTimeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void evictIfIdle(BoltDriverCached driver, long idleTimeout) {
+        boolean[] evicted = new boolean[1];
+        cache.computeIfPresent(driver.getKey(), (key, cached) -> {
+            if (cached != driver || !driver.isIdleFor(idleTimeout)) {
+                return cached;
+            }
+            evicted[0] = true;
+            return null;
+        });
+        if (evicted[0]) {
+            evictions.incrementAndGet();
+            driver.closeInternal();
+        }
+    }
+
+    private static long idleTimeout(BoltDriverCacheKey key) {
+        Properties info = key.getInfo();
+        String value = info == null ? null : info.getProperty(BoltGraphDriverImpl.DRIVER_IDLE_TIMEOUT);
+        return value == null ? DEFAULT_IDLE_TIMEOUT : Long.parseLong(value);
     }
 
     public Driver removeFromCache(BoltDriverCacheKey key){
@@ -74,4 +149,48 @@ public class BoltDriverCache {
     public Map<BoltDriverCacheKey, Driver> getCache() {
         return Collections.unmodifiableMap(cache);
     }
+
+    /**
+     * @return the number of drivers got from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of drivers built because they weren't cached
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of leases given so far
+     */
+    public long getLeases() {
+        return leases.get();
+    }
+
+    /**
+     * @return the number of leases not released yet, over all the cached drivers
+     */
+    public int getActiveLeases() {
+        int active = 0;
+        for (BoltDriverCached driver : cache.values()) {
+            active += driver.getLeases();
+        }
+        return active;
+    }
+
+    /**
+     * @return the number of idle drivers evicted and closed
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override public String toString() {
+        return "BoltDriverCache{drivers=" + cache.size() + ", hits=" + getHits() + ", misses=" + getMisses() + ", leases=" + getLeases()
+                + ", activeLeases=" + getActiveLeases() + ", evictions=" + getEvictions() + "}";
+    }
 }
@@ -23,19 +23,27 @@ import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Config;
 
 import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
 import java.util.Properties;
 
 /**
  * Implement the logic to cache driver instances (equals method)
+ * <br>
+ * The key is reduced once, when built, to a canonical fingerprint of the connection values: the URIs, the Config
+ * settings (Config has no equals), the auth token and a snapshot of the properties. Its hash is precomputed, so the
+ * lookups of the cache spread over its buckets and compare a single list only on a hash match.
  */
 public class BoltDriverCacheKey {
 
-    private List<URI> routingUris;
-    private Config config;
-    private AuthToken authToken;
-    private Properties info;
+    private final List<URI> routingUris;
+    private final Config config;
+    private final AuthToken authToken;
+    private final Properties info;
+
+    private final List<Object> fingerprint;
+    private final int hash;
 
     /**
      * Create the key as a combination of all the connection values
@@ -49,12 +57,13 @@ public class BoltDriverCacheKey {
         this.config = config;
         this.authToken = authToken;
         this.info = info;
+        this.fingerprint = Arrays.asList(routingUris, configFingerprint(config), authToken, info == null ? null : new HashMap<>(info));
+        this.hash = this.fingerprint.hashCode();
     }
 
     @Override
     public int hashCode() {
-        // use equals
-        return 0;
+        return hash;
     }
 
     @Override
@@ -62,11 +71,7 @@ public class BoltDriverCacheKey {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         BoltDriverCacheKey that = (BoltDriverCacheKey) o;
-        return Objects.equals(routingUris, that.routingUris) &&
-                compareConfig(config, that.config) &&
-                Objects.equals(authToken, that.authToken) &&
-                Objects.equals(info, that.info)
-                ;
+        return hash == that.hash && fingerprint.equals(that.fingerprint);
     }
 
     public List<URI> getRoutingUris() {
@@ -86,41 +91,24 @@ public class BoltDriverCacheKey {
     }
 
     /**
-     * Config has no equals implemented method
-     * @param o1
-     * @param o2
-     * @return
-     */
-    protected static boolean compareConfig(Config o1, Config o2){
-        boolean equal = o1.encrypted() == o2.encrypted();
-        equal = equal && o1.idleTimeBeforeConnectionTest() == o2.idleTimeBeforeConnectionTest();
-        equal = equal && o1.maxConnectionLifetimeMillis() == o2.maxConnectionLifetimeMillis();
-        equal = equal && o1.maxConnectionPoolSize() == o2.maxConnectionPoolSize();
-        equal = equal && o1.connectionAcquisitionTimeoutMillis() == o2.connectionAcquisitionTimeoutMillis();
-        equal = equal && o1.logLeakedSessions() == o2.logLeakedSessions();
-
-        equal = equal && trustStrategyEquals(o1.trustStrategy(),o2.trustStrategy());
-
-        return equal;
-    }
-
-    /**
-     * TrustStrategy has not equals method
-     * @param t1
-     * @param t2
+     * Config and TrustStrategy have no equals method, the settings that tell two drivers apart are listed instead
+     * @param config
      * @return
      */
-    protected static boolean trustStrategyEquals(Config.TrustStrategy t1, Config.TrustStrategy t2 ){
-
-        if(t1 == t2){
-            return true;
+    private static List<Object> configFingerprint(Config config) {
+        if (config == null) {
+            return null;
         }
-
-        // if one is null
-        if(t1 == null || t2 == null){
-            return false;
-        }
-
-        return Objects.equals(t1.certFile(),t2.certFile()) && t1.strategy() == t2.strategy();
+        Config.TrustStrategy trustStrategy = config.trustStrategy();
+        return Arrays.asList(config.encrypted(),
+                config.idleTimeBeforeConnectionTest(),
+                config.maxConnectionLifetimeMillis(),
+                config.maxConnectionPoolSize(),
+                config.connectionAcquisitionTimeoutMillis(),
+                config.connectionTimeoutMillis(),
+                config.fetchSize(),
+                config.logLeakedSessions(),
+                trustStrategy == null ? null : trustStrategy.strategy(),
+                trustStrategy == null ? null : trustStrategy.certFile());
     }
 }
@@ -7,21 +7,27 @@ import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.async.AsyncSession;
 import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.types.TypeSystem;
+import org.memgraph.jdbc.utils.BoltGraphUtils;
 
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A driver wrapper to keep connected the instance with the cache
+ * <br>
+ * It counts the leases given by the cache to the connections: {@link #close()} releases one, and once none is left
+ * the cache closes the driver after its idle timeout.
  */
 public class BoltDriverCached implements Driver {
 
     private static final UnsupportedOperationException UNSUPPORTED_OPERATION_EXCEPTION = new UnsupportedOperationException("Async operation are not supported over JDBC");
-    private Driver internal;
-    private BoltDriverCache cache;
-    private BoltDriverCacheKey key;
+    private final Driver internal;
+    private final BoltDriverCache cache;
+    private final BoltDriverCacheKey key;
 
-    private final AtomicInteger sessionCounter = new AtomicInteger(0);
+    private final AtomicInteger leases = new AtomicInteger();
+    private volatile long idleSince = System.nanoTime();
 
     /**
      *
@@ -42,44 +48,81 @@ public class BoltDriverCached implements Driver {
 
     @Override
     public Session session() {
-        sessionCounter.incrementAndGet();
         return internal.session();
     }
 
     @Override
     public Session session(SessionConfig sessionConfig) {
-        sessionCounter.incrementAndGet();
         return internal.session(sessionConfig);
     }
 
+    /**
+     * Used internally for reactive statements, the session is closed by the connection that opened it
+     */
     @Override
     public RxSession rxSession() {
-        throw UNSUPPORTED_OPERATION_EXCEPTION;
+        return internal.rxSession();
     }
 
+    /**
+     * @see #rxSession()
+     */
     @Override
     public RxSession rxSession(SessionConfig sessionConfig) {
-        throw UNSUPPORTED_OPERATION_EXCEPTION;
+        return internal.rxSession(sessionConfig);
     }
 
+    /**
+     * Used internally for pipelined work and async statements, the session is closed by the connection that opened it
+     */
     @Override
     public AsyncSession asyncSession() {
-        throw UNSUPPORTED_OPERATION_EXCEPTION;
+        return asyncSession(SessionConfig.defaultConfig());
     }
 
+    /**
+     * @see #asyncSession()
+     */
     @Override
     public AsyncSession asyncSession(SessionConfig sessionConfig) {
-        throw UNSUPPORTED_OPERATION_EXCEPTION;
+        return BoltGraphUtils.newAsyncSession(internal, sessionConfig);
     }
 
+    /**
+     * Release a lease, the driver itself is closed by the cache once it's idle
+     */
     @Override
     public void close() {
-        if(sessionCounter.decrementAndGet() <= 0){
-            cache.removeFromCache(key);
-            internal.close();
+        int left = leases.getAndUpdate(count -> count > 0 ? count - 1 : 0);
+        if (left == 1) {
+            idleSince = System.nanoTime();
+            cache.idle(this);
         }
     }
 
+    void lease() {
+        leases.incrementAndGet();
+    }
+
+    boolean isIdleFor(long millis) {
+        return leases.get() == 0 && System.nanoTime() - idleSince >= TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    void closeInternal() {
+        internal.close();
+    }
+
+    BoltDriverCacheKey getKey() {
+        return key;
+    }
+
+    /**
+     * @return the number of leases not released yet
+     */
+    public int getLeases() {
+        return leases.get();
+    }
+
     @Override
     public CompletionStage<Void> closeAsync() {
         throw UNSUPPORTED_OPERATION_EXCEPTION;
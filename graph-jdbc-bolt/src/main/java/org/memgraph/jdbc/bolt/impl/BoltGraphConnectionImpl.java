@@ -21,9 +21,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.TransactionWork;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.internal.InternalBookmark;
 import org.memgraph.jdbc.GraphDatabaseMetaData;
 import org.memgraph.jdbc.GraphResultSet;
@@ -32,19 +37,25 @@ import org.memgraph.jdbc.bolt.BoltGraphDatabaseMetaData;
 import org.memgraph.jdbc.bolt.BoltGraphPreparedStatement;
 import org.memgraph.jdbc.bolt.BoltGraphResultSet;
 import org.memgraph.jdbc.bolt.BoltGraphStatement;
+import org.memgraph.jdbc.bolt.DebugBoltGraphConnection;
+import org.memgraph.jdbc.bolt.cache.BoltDriverCached;
 import org.memgraph.jdbc.utils.BoltGraphUtils;
+import org.memgraph.jdbc.utils.CypherStatement;
+import org.memgraph.jdbc.utils.RetryPolicy;
 import org.memgraph.jdbc.boltrouting.BoltRoutingGraphDriver;
 import org.memgraph.jdbc.impl.GraphConnectionImpl;
-import org.memgraph.jdbc.utils.GraphInvocationHandler;
 import org.memgraph.jdbc.utils.TimeLimitedCodeBlock;
 
-import java.lang.reflect.Proxy;
-import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
 import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -58,14 +69,26 @@ import java.util.stream.Stream;
 public class BoltGraphConnectionImpl extends GraphConnectionImpl implements BoltGraphConnection {
 	public static final String BOOKMARK_SEPARATOR = ",";
 	public static final String BOOKMARK_VALUES_SEPARATOR = ";";
+	public static final long DEFAULT_VALIDATION_BYPASS_WINDOW = 500;
 
 	private Driver driver;
-	private Session session;
+	private volatile Session session;
 	private Transaction transaction;
 	private boolean autoCommit = true;
 	private BoltGraphDatabaseMetaData metadata;
 	private boolean readOnly = false;
 	private boolean useBookmarks = true;
+	private boolean streaming = false;
+	private long fetchSize = 0;
+	private long sessionFetchSize = 0;
+	private String sessionDatabase;
+	private Bookmark lastBookmark;
+	private String lastBookmarkValue;
+	private ResultSet transactionHolder;
+	private boolean transactionAbandoned;
+	private RetryPolicy retryPolicy;
+	private long validationBypassNanos;
+	private volatile long lastSuccessNanos;
 	private boolean closed = false;
 
 	private static final Logger LOGGER = Logger.getLogger(BoltGraphConnectionImpl.class.getName());
@@ -82,15 +105,19 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 		this.readOnly = Boolean.parseBoolean(getProperties().getProperty("readonly"));
 		this.autoCommit = Boolean.parseBoolean(getProperties().getProperty("autocommit", "true"));
 		this.useBookmarks = Boolean.parseBoolean(getProperties().getProperty("usebookmarks", "true"));
+		this.streaming = Boolean.parseBoolean(getProperties().getProperty(BoltGraphDriverImpl.STREAMING));
+		this.fetchSize = Long.parseLong(getProperties().getProperty(BoltGraphDriverImpl.FETCH_SIZE, "0"));
 		this.driver = driver;
+		this.retryPolicy = RetryPolicy.forDriver(driver, getProperties());
+		this.validationBypassNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(getProperties().getProperty(BoltGraphDriverImpl.VALIDATION_BYPASS_WINDOW,
+				String.valueOf(DEFAULT_VALIDATION_BYPASS_WINDOW))));
+		this.lastSuccessNanos = System.nanoTime() - this.validationBypassNanos;
 		this.initSession();
 	}
 
 	public static BoltGraphConnection newInstance(Driver driver, Properties info, String url) {
 		BoltGraphConnection boltConnection = new BoltGraphConnectionImpl(driver, info, url);
-		return (BoltGraphConnection) Proxy
-				.newProxyInstance(BoltGraphConnectionImpl.class.getClassLoader(), new Class[] { Connection.class, BoltGraphConnection.class },
-						new GraphInvocationHandler(boltConnection, BoltGraphConnectionImpl.hasDebug(info)));
+		return BoltGraphConnectionImpl.hasDebug(info) ? new DebugBoltGraphConnection(boltConnection) : boltConnection;
 	}
 
 	/**
@@ -99,10 +126,72 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 	 * @return the transaction
 	 */
 	@Override public Transaction getTransaction() {
-	    initTransaction();
+	    initTransaction(this.fetchSize);
 		return this.transaction;
 	}
 
+	/**
+	 * In autocommit mode the statements run as auto-commit transactions of the connection session,
+	 * which stays open across statements. The driver takes the fetch size per session only,
+	 * so the session is reopened when a statement asks for another fetch size than the one it was opened with.
+	 * Otherwise they run in the current transaction.
+	 *
+	 * @param fetchSize the number of records pulled per batch, 0 for the connection default
+	 * @return the session or the transaction to run the statement with
+	 */
+	@Override public QueryRunner getQueryRunner(long fetchSize) {
+		return getQueryRunner(fetchSize, 0);
+	}
+
+	/**
+	 * The timeout is sent to the server with the auto-commit transaction of the statement in autocommit mode,
+	 * otherwise with the transaction begun by the statement: the statements run in a transaction already begun share its timeout.
+	 */
+	@Override public QueryRunner getQueryRunner(long fetchSize, int queryTimeout) {
+		discardStream();
+		long size = fetchSize > 0 ? fetchSize : this.fetchSize;
+		if (!this.autoCommit) {
+			initTransaction(size, queryTimeout);
+			return this.transaction;
+		}
+		if (!isSessionReusable(size)) {
+			closeSession();
+			initSession(size);
+		}
+		return queryTimeout > 0 ? new TimeoutQueryRunner(this.session, transactionConfig(queryTimeout)) : this.session;
+	}
+
+	/**
+	 * The session is left to the statement still running in it and the connection goes on with a new one.
+	 * Once the statement completes the session is closed, rolling back its transaction.
+	 */
+	@Override public void abandonSession(CompletionStage<?> running) {
+		if (!this.autoCommit && this.transaction != null) {
+			this.transactionAbandoned = true;
+		}
+		Session abandoned = this.session;
+		this.session = null;
+		this.transaction = null;
+		this.transactionHolder = null;
+		BoltGraphUtils.reset(abandoned);
+		running.whenComplete((result, error) -> {
+			if (result instanceof AutoCloseable) {
+				BoltGraphUtils.closeSafely((AutoCloseable) result, LOGGER);
+			}
+			BoltGraphUtils.closeSafely(abandoned, LOGGER);
+		});
+	}
+
+	@Override public void checkTransaction() throws SQLException {
+		if (this.transactionAbandoned) {
+			throw new SQLTransactionRollbackException("The transaction was rolled back when a statement timed out, call rollback() to begin a new one");
+		}
+	}
+
+	private static TransactionConfig transactionConfig(int queryTimeout) {
+		return TransactionConfig.builder().withTimeout(Duration.ofSeconds(queryTimeout)).build();
+	}
+
 	/**
 	 * Getter for session.
 	 *
@@ -119,12 +208,47 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 	 */
 	@Override
 	public Session newGraphSession() {
+		return newGraphSession(this.fetchSize);
+	}
+
+	private Session newGraphSession(long fetchSize) {
+		return this.driver.session(newSessionConfig(fetchSize));
+	}
+
+	@Override
+	public AsyncSession newAsyncGraphSession() {
+		return BoltGraphUtils.newAsyncSession(this.driver, newSessionConfig(this.fetchSize));
+	}
+
+	@Override
+	public AsyncSession newAsyncGraphSession(String query) {
+		return BoltGraphUtils.newAsyncSession(this.driver, newSessionConfig(this.fetchSize, CypherStatement.of(query).getType() == CypherStatement.Type.READ));
+	}
+
+	@Override
+	public RxSession newRxGraphSession() {
+		return this.driver.rxSession(newSessionConfig(this.fetchSize));
+	}
+
+	@Override
+	public RxSession newRxGraphSession(String query) {
+		return this.driver.rxSession(newSessionConfig(this.fetchSize, CypherStatement.of(query).getType() == CypherStatement.Type.READ));
+	}
+
+	private SessionConfig newSessionConfig(long fetchSize) {
+		return newSessionConfig(fetchSize, false);
+	}
+
+	private SessionConfig newSessionConfig(long fetchSize, boolean read) {
 		try {
 			final SessionConfig.Builder config = SessionConfig.builder()
 					.withBookmarks(extractBookmarks())
-					.withDefaultAccessMode(readOnly || getReadOnly() ? AccessMode.READ : AccessMode.WRITE);
+					.withDefaultAccessMode(read || readOnly || getReadOnly() ? AccessMode.READ : AccessMode.WRITE);
 			setDatabase(config);
-			return this.driver.session(config.build());
+			if (fetchSize > 0) {
+				config.withFetchSize(fetchSize);
+			}
+			return config.build();
 		}
 		catch (Exception e) {
 			throw new RuntimeException(e);
@@ -132,16 +256,26 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 	}
 
 	private void setDatabase(SessionConfig.Builder config) {
-		String database = (String) this.getProperties().get(BoltGraphDriverImpl.DATABASE);
-		if (database != null && !database.trim().isEmpty()) {
-			config.withDatabase(database.trim());
+		String database = getDatabase();
+		if (database != null) {
+			config.withDatabase(database);
 		}
 	}
 
-	private Bookmark[] extractBookmarks() throws SQLException {
+	private String getDatabase() {
+		String database = (String) this.getProperties().get(BoltGraphDriverImpl.DATABASE);
+		return database != null && !database.trim().isEmpty() ? database.trim() : null;
+	}
+
+	/**
+	 * The bookmark of the last transaction is kept in memory, the client info is parsed only when set from outside.
+	 */
+	private synchronized Bookmark[] extractBookmarks() throws SQLException {
 		String stringBookmark = this.getClientInfo(BoltRoutingGraphDriver.BOOKMARK);
 		final Bookmark[] bookmarks;
-		if (useBookmarks && StringUtils.isNotBlank(stringBookmark)) {
+		if (useBookmarks && this.lastBookmark != null && stringBookmark != null && stringBookmark.equals(this.lastBookmarkValue)) {
+			bookmarks = new Bookmark[] { this.lastBookmark };
+		} else if (useBookmarks && StringUtils.isNotBlank(stringBookmark)) {
 			bookmarks = Stream.of(stringBookmark.split(BOOKMARK_SEPARATOR))
 					.map(b -> InternalBookmark.parse(Stream.of(b.split(BOOKMARK_VALUES_SEPARATOR)).collect(Collectors.toSet())))
 					.toArray(Bookmark[]::new);
@@ -169,6 +303,60 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
         initSession();
     }
 
+	/*------------------------------*/
+	/*       Streaming results      */
+	/*------------------------------*/
+
+	@Override public boolean isStreaming() {
+		return this.streaming;
+	}
+
+	@Override public void holdTransaction(ResultSet resultSet) {
+		this.transactionHolder = resultSet;
+	}
+
+	@Override public void releaseTransaction(ResultSet resultSet) throws SQLException {
+		if (resultSet == null || this.transactionHolder != resultSet) {
+			return;
+		}
+		this.transactionHolder = null;
+		if (!this.closed && this.autoCommit) {
+			doCommit();
+		}
+	}
+
+	@Override public boolean isTransactionHeld() {
+		return this.transactionHolder != null;
+	}
+
+	/**
+	 * The driver buffers in memory the records left of a result when the next query runs in its session or transaction,
+	 * so the streaming result set still open is closed first, discarding them on the server.
+	 */
+	private void discardStream() {
+		if (this.transactionHolder != null) {
+			BoltGraphUtils.closeSafely(this.transactionHolder, LOGGER);
+			this.transactionHolder = null;
+		}
+	}
+
+	/*------------------------------*/
+	/*            Cancel            */
+	/*------------------------------*/
+
+	/**
+	 * Reset the session the statements are running in: the server terminates the running query and its transaction,
+	 * the statement fails at once and the session goes back to the driver pool as soon as the statement gives it up.
+	 * The session is kept by the connection, the next statements run in it as usual.
+	 */
+	@Override public void cancel() {
+		BoltGraphUtils.reset(this.session);
+	}
+
+	@Override public RetryPolicy getRetryPolicy() {
+		return this.retryPolicy;
+	}
+
 	/*------------------------------*/
 	/*       Commit, rollback       */
 	/*------------------------------*/
@@ -193,22 +381,35 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 	}
 
     @Override public void doCommit() throws SQLException {
+		checkTransaction();
+		discardStream();
     	if (this.transaction != null && this.transaction.isOpen()) {
 			this.transaction.commit();
 		}
 		closeTransaction();
 		setBookmark();
-		closeSession();
 	}
 
 	private void setBookmark() throws SQLClientInfoException {
-		if (!useBookmarks || this.session == null) {
+		if (this.session == null) {
+			return;
+		}
+		setLastBookmark(this.session.lastBookmark());
+	}
+
+	/**
+	 * Synchronized with the reading of the bookmark, since the async statements set it from the threads of the driver.
+	 */
+	@Override public synchronized void setLastBookmark(Bookmark lastBookmark) throws SQLClientInfoException {
+		if (!useBookmarks) {
 			return;
 		}
-		InternalBookmark internalBookmark = (InternalBookmark) this.session.lastBookmark();
+		InternalBookmark internalBookmark = (InternalBookmark) lastBookmark;
 		if (internalBookmark != null && internalBookmark.values().iterator().hasNext()) {
 			String bookmark = String.join(BOOKMARK_SEPARATOR, internalBookmark.values());
 			this.setClientInfo(BoltRoutingGraphDriver.BOOKMARK, bookmark);
+			this.lastBookmark = lastBookmark;
+			this.lastBookmarkValue = bookmark;
 		}
 	}
 
@@ -219,14 +420,51 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 	}
 
     @Override public void doRollback() throws SQLClientInfoException {
+		this.transactionAbandoned = false;
+		discardStream();
 		if (this.transaction != null && this.transaction.isOpen()) {
 			this.transaction.rollback();
 		}
 		closeTransaction();
 		setBookmark();
-		closeSession();
     }
 
+	/*------------------------------*/
+	/*     Managed transactions     */
+	/*------------------------------*/
+
+	@Override public <T> T writeTransaction(TransactionWork<T> work) throws SQLException {
+		return runTransactionWork(AccessMode.WRITE, work);
+	}
+
+	@Override public <T> T readTransaction(TransactionWork<T> work) throws SQLException {
+		return runTransactionWork(AccessMode.READ, work);
+	}
+
+	/**
+	 * The unit of work runs on the connection session, so it waits for the bookmark of the previous transactions
+	 * and the following ones wait for its own. Like the next statement, it closes the streaming result set still open.
+	 */
+	private <T> T runTransactionWork(AccessMode mode, TransactionWork<T> work) throws SQLException {
+		this.checkClosed();
+		discardStream();
+		if (this.transaction != null) {
+			throw new SQLException("A managed transaction can't run while a transaction of the connection is open");
+		}
+		if (!isSessionReusable(this.fetchSize)) {
+			closeSession();
+			initSession();
+		}
+		try {
+			T result = mode == AccessMode.READ ? this.session.readTransaction(work) : this.session.writeTransaction(work);
+			setBookmark();
+			statementSucceeded();
+			return result;
+		} catch (RuntimeException e) {
+			throw new SQLException(e);
+		}
+	}
+
 	/*------------------------------*/
 	/*       Create Statement       */
 	/*------------------------------*/
@@ -244,7 +482,6 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 		this.checkTypeParams(resultSetType);
 		this.checkConcurrencyParams(resultSetConcurrency);
 		this.checkHoldabilityParams(resultSetHoldability);
-		this.initTransaction();
 		return BoltGraphStatement.newInstance(false, this, resultSetType, resultSetConcurrency, resultSetHoldability);
 	}
 
@@ -265,7 +502,6 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 		this.checkTypeParams(resultSetType);
 		this.checkConcurrencyParams(resultSetConcurrency);
 		this.checkHoldabilityParams(resultSetHoldability);
-		this.initTransaction();
 		return BoltGraphPreparedStatement.newInstance(false, this, nativeSQL(sql), resultSetType, resultSetConcurrency, resultSetHoldability);
 	}
 
@@ -277,6 +513,9 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
         return this.closed || (this.session != null && !this.session.isOpen());
 	}
 
+	/**
+	 * The driver got from the driver cache is leased to the connection, it's released here.
+	 */
 	@Override public void close() throws SQLException {
 		try {
 			if (!this.isClosed()) {
@@ -286,6 +525,9 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 		} catch (Exception e) {
 			throw new SQLException("A database access error has occurred: " + e.getMessage());
 		} finally {
+			if (!this.closed && this.driver instanceof BoltDriverCached) {
+				this.driver.close();
+			}
 			this.closed = true;
 		}
 	}
@@ -302,6 +544,7 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 			BoltGraphUtils.closeSafely(this.transaction, LOGGER);
 		}
 		this.transaction = null;
+		this.transactionHolder = null;
 	}
 
 
@@ -309,6 +552,12 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 	/*      isValid      */
 	/*-------------------*/
 
+	/**
+	 * The connection is valid without asking the server when a statement completed on it within the validation bypass window.
+	 * Otherwise the ping runs on the connection session, or in a new session while a transaction of the application or a streaming
+	 * result set is using it: a ping inside the transaction would take it away when timing out.
+	 * A ping still running once the timeout elapsed takes the connection session with it, the next statements get a new one.
+	 */
 	@Override public boolean isValid(int timeout) throws SQLException {
 		if (timeout < 0) {
 			throw new SQLException("Timeout can't be less than zero");
@@ -316,24 +565,49 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 		if (this.isClosed()) {
 			return false;
 		}
+		if (System.nanoTime() - this.lastSuccessNanos < this.validationBypassNanos) {
+			return true;
+		}
 
+		boolean ownSession = this.transactionHolder == null && this.transaction == null;
+		if (ownSession && (this.session == null || !this.session.isOpen())) {
+			closeSession();
+			initSession();
+		}
+		Session pinged = this.session;
 		Runnable r = () -> {
-			try (Session s = newGraphSession(); Transaction tr = s.beginTransaction()) {
-				tr.run(FASTEST_STATEMENT);
-				tr.commit();
+			if (!ownSession) {
+				try (Session s = newGraphSession(); Transaction tr = s.beginTransaction()) {
+					tr.run(FASTEST_STATEMENT);
+					tr.commit();
+				}
+			} else {
+				try (Transaction tr = pinged.beginTransaction()) {
+					tr.run(FASTEST_STATEMENT);
+					tr.commit();
+				}
 			}
 		};
 
 		try {
-			TimeLimitedCodeBlock.runWithTimeout(r, timeout, TimeUnit.SECONDS);
+			TimeLimitedCodeBlock.runWithTimeout(r, timeout, TimeUnit.SECONDS, running -> {
+				if (ownSession && this.session == pinged) {
+					abandonSession(running);
+				}
+			});
 		} catch (Exception e) { // also timeout
 			LOGGER.log(Level.FINEST, "Catch exception totally fine", e);
 			return false;
 		}
 
+		statementSucceeded();
 		return true;
 	}
 
+	@Override public void statementSucceeded() {
+		this.lastSuccessNanos = System.nanoTime();
+	}
+
 	/*-------------------------------------------------------*/
 	/*       Some useful initializer and check method        */
 	/*-------------------------------------------------------*/
@@ -344,19 +618,44 @@ public class BoltGraphConnectionImpl extends GraphConnectionImpl implements Bolt
 	 * This way we point to the right cluster instance (core vs read replica).
 	 */
 	private void initSession() {
-		this.session = newGraphSession();
+		initSession(this.fetchSize);
     }
 
-    private void initTransaction()  {
+	private void initSession(long fetchSize) {
+		this.session = newGraphSession(fetchSize);
+		this.sessionFetchSize = fetchSize;
+		this.sessionDatabase = getDatabase();
+	}
+
+	/**
+	 * The session is kept across statements and transactions, it's rebuilt when it no longer matches
+	 * the database or the fetch size asked for.
+	 */
+	private boolean isSessionReusable(long fetchSize) {
+		return this.session != null && this.session.isOpen()
+				&& Objects.equals(this.sessionDatabase, getDatabase())
+				&& this.sessionFetchSize == fetchSize;
+	}
+
+	/**
+	 * The transaction is begun lazily, by the first statement executed in it rather than when the statement is created.
+	 * The session is reused across transactions, and a transaction keeps the fetch size its session was opened with.
+	 */
+    private void initTransaction(long fetchSize)  {
+		initTransaction(fetchSize, 0);
+	}
+
+    private void initTransaction(long fetchSize, int queryTimeout)  {
 	    try {
 			if (this.getAutoCommit()) {
 				doCommit();
-				initSession();
-			} else if (this.session == null) {
-				initSession();
+			}
+			if (this.transaction == null && !isSessionReusable(fetchSize)) {
+				closeSession();
+				initSession(fetchSize);
 			}
 			if (this.transaction == null) {
-				this.transaction = this.session.beginTransaction();
+				this.transaction = queryTimeout > 0 ? this.session.beginTransaction(transactionConfig(queryTimeout)) : this.session.beginTransaction();
 			}
 		} catch (Exception e) {
             throw new RuntimeException(e);
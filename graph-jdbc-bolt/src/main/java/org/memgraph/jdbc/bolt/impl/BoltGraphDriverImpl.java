@@ -52,6 +52,34 @@ public abstract class BoltGraphDriverImpl extends GraphDriver {
     public static final String MAX_CONNECTION_POOLSIZE = "max.connection.poolsize";
     public static final String MAX_TRANSACTION_RETRY_TIME = "max.transaction.retry.time";
     public static final String DATABASE = "database";
+    public static final String STREAMING = "streaming";
+    public static final String FETCH_SIZE = "fetchsize";
+    public static final String QUERY_TIMEOUT = "querytimeout";
+    public static final String VALIDATION_BYPASS_WINDOW = "validation.bypass.window";
+    public static final String BATCH_REWRITE = "batch.rewrite";
+    public static final String BATCH_REWRITE_SIZE = "batch.rewrite.size";
+    /**
+     * Send the statements of a {@code Statement} batch back to back in a transaction of their own, in autocommit mode only:
+     * outside of it the batch runs one statement at a time in the connection transaction.
+     */
+    public static final String BATCH_PIPELINE = "batch.pipeline";
+    public static final String BATCH_SIZE = "batch.size";
+    public static final String BATCH_CHUNK_COMMIT = "batch.chunk.commit";
+    public static final String BATCH_ADAPTIVE = "batch.adaptive";
+    public static final String BATCH_ADAPTIVE_MIN = "batch.adaptive.min";
+    public static final String BATCH_ADAPTIVE_MAX = "batch.adaptive.max";
+    public static final String BATCH_ADAPTIVE_TARGET_LATENCY = "batch.adaptive.target.latency";
+    public static final String BATCH_PARALLELISM = "batch.parallelism";
+    public static final String RETRY_MAX_ATTEMPTS = "retry.max.attempts";
+    public static final String RETRY_INITIAL_BACKOFF = "retry.initial.backoff";
+    public static final String RETRY_MAX_BACKOFF = "retry.max.backoff";
+    public static final String RETRY_MULTIPLIER = "retry.multiplier";
+    public static final String RETRY_JITTER = "retry.jitter";
+    public static final String RETRY_BUDGET = "retry.budget";
+    public static final String RETRY_BUDGET_REFILL = "retry.budget.refill";
+    public static final String CIRCUIT_BREAKER_FAILURES = "circuit.breaker.failures";
+    public static final String CIRCUIT_BREAKER_OPEN_TIME = "circuit.breaker.open.time";
+    public static final String DRIVER_IDLE_TIMEOUT = "driver.idle.timeout";
 
     protected BoltGraphDriverImpl(String prefix) {
         super(prefix);
@@ -84,6 +112,7 @@ public abstract class BoltGraphDriverImpl extends GraphDriver {
                 builder = setMaxConnectionLifetime(info, builder);
                 builder = setMaxConnectionPoolSize(info, builder);
                 builder = setMaxTransactionRetryTime(info, builder);
+                builder = setFetchSize(info, builder);
 
                 Config config = builder.build();
                 AuthToken authToken = getAuthToken(info);
@@ -349,4 +378,14 @@ public abstract class BoltGraphDriverImpl extends GraphDriver {
     private Config.ConfigBuilder setMaxTransactionRetryTime(Properties info, Config.ConfigBuilder builder) {
         return setLongConfig(info, builder, MAX_TRANSACTION_RETRY_TIME, (ms)->builder.withMaxTransactionRetryTime(ms, TimeUnit.MILLISECONDS));
     }
+
+    /**
+     * Configure FETCH_SIZE
+     * @param info
+     * @param builder
+     * @return always a builder
+     */
+    private Config.ConfigBuilder setFetchSize(Properties info, Config.ConfigBuilder builder) {
+        return setLongConfig(info, builder, FETCH_SIZE, builder::withFetchSize);
+    }
 }
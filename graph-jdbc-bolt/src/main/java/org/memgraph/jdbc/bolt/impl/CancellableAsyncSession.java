@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt.impl;
+
+import org.neo4j.driver.internal.async.InternalAsyncSession;
+import org.neo4j.driver.internal.async.NetworkSession;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An async session that can be reset like a blocking one, the driver keeps its network session to itself.
+ */
+public class CancellableAsyncSession extends InternalAsyncSession {
+
+	private final NetworkSession session;
+
+	public CancellableAsyncSession(NetworkSession session) {
+		super(session);
+		this.session = session;
+	}
+
+	/**
+	 * Terminate the running query and its transaction on the server, the pending stages of the session fail.
+	 *
+	 * @return the stage completed once the server acknowledged the reset
+	 */
+	public CompletionStage<Void> resetAsync() {
+		return this.session.resetAsync();
+	}
+}
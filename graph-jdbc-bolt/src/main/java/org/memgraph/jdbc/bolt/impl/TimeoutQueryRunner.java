@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt.impl;
+
+import org.neo4j.driver.Query;
+import org.neo4j.driver.QueryRunner;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.Value;
+
+import java.util.Map;
+
+/**
+ * Runs the statements as auto-commit transactions of a session with a transaction configuration,
+ * i.e. the timeout of the statement.
+ */
+class TimeoutQueryRunner implements QueryRunner {
+
+	private final Session session;
+	private final TransactionConfig config;
+
+	TimeoutQueryRunner(Session session, TransactionConfig config) {
+		this.session = session;
+		this.config = config;
+	}
+
+	@Override public Result run(String query, Value parameters) {
+		return run(new Query(query, parameters));
+	}
+
+	@Override public Result run(String query, Map<String, Object> parameters) {
+		return run(new Query(query, parameters));
+	}
+
+	@Override public Result run(String query, Record parameters) {
+		return run(new Query(query, parameters.asMap()));
+	}
+
+	@Override public Result run(String query) {
+		return run(new Query(query));
+	}
+
+	@Override public Result run(Query query) {
+		return this.session.run(query, this.config);
+	}
+
+	/**
+	 * The session belongs to the connection.
+	 */
+	@Override public void close() {
+	}
+}
@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt.pool;
+
+import org.memgraph.jdbc.utils.BoltGraphUtils;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A pool of physical connections handed out as {@link LogicalConnection}s.
+ * <br>
+ * The idle connections wait in a lock-free deque, the most recently used first, and a semaphore bounds
+ * the connections in use to the maximum size. A connection is validated when it's borrowed only if it was idle
+ * for a while, so a busy pool doesn't pay a round trip per borrow. A housekeeping thread closes the connections
+ * idle for too long or older than their maximum lifetime, keeps the minimum size and reports the connections
+ * held longer than the leak detection threshold.
+ * <br>
+ * The connections keep their Bolt session across borrows: a connection given back is only rolled back
+ * and restored to its initial autocommit and read only modes.
+ */
+public class BoltGraphConnectionPool implements BoltGraphConnectionPoolMXBean, AutoCloseable {
+
+	/**
+	 * Opens the physical connections of the pool.
+	 */
+	@FunctionalInterface
+	public interface ConnectionFactory {
+		Connection create() throws SQLException;
+	}
+
+	private static final Logger LOGGER = Logger.getLogger(BoltGraphConnectionPool.class.getName());
+
+	private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+	private static final long MAX_HOUSEKEEPING_PERIOD_MILLIS = 30_000;
+	private static final long MIN_HOUSEKEEPING_PERIOD_MILLIS = 100;
+
+	private final String poolName;
+	private final ConnectionFactory factory;
+	private final int minSize;
+	private final int maxSize;
+	private final long maxLifetimeMillis;
+	private final long idleTimeoutMillis;
+	private final long connectionTimeoutMillis;
+	private final long leakDetectionThresholdMillis;
+	private final int validationTimeoutSeconds;
+	private final long validationBypassMillis;
+	private final long housekeepingPeriodMillis;
+
+	private final Deque<PoolEntry> idle = new ConcurrentLinkedDeque<>();
+	private final Semaphore permits;
+	private final AtomicInteger total = new AtomicInteger();
+	private final AtomicInteger active = new AtomicInteger();
+	private final LongAdder created = new LongAdder();
+	private final LongAdder destroyed = new LongAdder();
+	private final LongAdder timeouts = new LongAdder();
+	private final LongAdder leaks = new LongAdder();
+	private final ScheduledThreadPoolExecutor housekeeper;
+
+	private volatile int generation;
+	private volatile boolean closed;
+	private ObjectName objectName;
+
+	/**
+	 * @param poolName                     the name of the pool, null for a generated one
+	 * @param factory                      the factory of the physical connections
+	 * @param minSize                      the number of connections kept open even when idle
+	 * @param maxSize                      the maximum number of connections
+	 * @param maxLifetimeMillis            the age after which a connection is closed once idle, 0 for no limit
+	 * @param idleTimeoutMillis            the idle time after which a connection above the minimum size is closed, 0 for no limit
+	 * @param connectionTimeoutMillis      the time {@link #getConnection()} waits for a connection
+	 * @param leakDetectionThresholdMillis the time a connection can be held before being reported as a leak, 0 to disable
+	 * @param validationTimeoutSeconds     the time {@link Connection#isValid(int)} is given to validate a borrowed connection
+	 * @param validationBypassMillis       the idle time under which a borrowed connection isn't validated
+	 * @param registerMBean                true to register the statistics of the pool as a platform MBean
+	 */
+	public BoltGraphConnectionPool(String poolName, ConnectionFactory factory, int minSize, int maxSize, long maxLifetimeMillis,
+			long idleTimeoutMillis, long connectionTimeoutMillis, long leakDetectionThresholdMillis, int validationTimeoutSeconds,
+			long validationBypassMillis, boolean registerMBean) {
+		if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+			throw new IllegalArgumentException("Invalid pool size [" + minSize + ", " + maxSize + "]");
+		}
+		this.poolName = poolName != null ? poolName : "graph-jdbc-pool-" + POOL_COUNTER.incrementAndGet();
+		this.factory = factory;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.maxLifetimeMillis = maxLifetimeMillis;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+		this.connectionTimeoutMillis = connectionTimeoutMillis;
+		this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+		this.validationTimeoutSeconds = validationTimeoutSeconds;
+		this.validationBypassMillis = validationBypassMillis;
+		this.housekeepingPeriodMillis = housekeepingPeriod(maxLifetimeMillis, idleTimeoutMillis, leakDetectionThresholdMillis);
+		this.permits = new Semaphore(maxSize, true);
+		this.housekeeper = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, this.poolName + "-housekeeper");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.housekeeper.setRemoveOnCancelPolicy(true);
+		this.housekeeper.scheduleWithFixedDelay(this::housekeep, this.housekeepingPeriodMillis, this.housekeepingPeriodMillis, TimeUnit.MILLISECONDS);
+		if (registerMBean) {
+			registerMBean();
+		}
+		if (minSize > 0) {
+			this.housekeeper.execute(this::fill);
+		}
+	}
+
+	/**
+	 * The housekeeping runs twice within the smallest of the timeouts, so a connection outlives none of them
+	 * by more than half of it.
+	 */
+	private static long housekeepingPeriod(long... timeoutsMillis) {
+		long period = MAX_HOUSEKEEPING_PERIOD_MILLIS;
+		for (long timeout : timeoutsMillis) {
+			if (timeout > 0) {
+				period = Math.min(period, timeout / 2);
+			}
+		}
+		return Math.max(period, MIN_HOUSEKEEPING_PERIOD_MILLIS);
+	}
+
+	// visible for testing
+	long getHousekeepingPeriodMillis() {
+		return this.housekeepingPeriodMillis;
+	}
+
+	/*-------------------------*/
+	/*       Borrow, give      */
+	/*-------------------------*/
+
+	/**
+	 * Borrow a connection, waiting at most the connection timeout when all of them are in use.
+	 *
+	 * @return a connection to close as soon as it's no longer needed
+	 * @throws SQLTransientConnectionException if no connection is available within the timeout
+	 */
+	public Connection getConnection() throws SQLException {
+		checkOpen();
+		try {
+			if (!this.permits.tryAcquire(this.connectionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				this.timeouts.increment();
+				throw new SQLTransientConnectionException(
+						String.format("%s - Connection is not available, request timed out after %dms", this.poolName, this.connectionTimeoutMillis));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException(e);
+		}
+		try {
+			PoolEntry entry;
+			while ((entry = this.idle.pollFirst()) != null) {
+				if (isUsable(entry)) {
+					return lend(entry);
+				}
+				destroy(entry);
+			}
+			return lend(create());
+		} catch (SQLException | RuntimeException e) {
+			this.permits.release();
+			throw e;
+		}
+	}
+
+	private boolean isUsable(PoolEntry entry) {
+		if (isRetired(entry, System.currentTimeMillis())) {
+			return false;
+		}
+		try {
+			if (entry.connection.isClosed()) {
+				return false;
+			}
+			return System.currentTimeMillis() - entry.lastAccessed < this.validationBypassMillis || entry.connection.isValid(this.validationTimeoutSeconds);
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	private boolean isRetired(PoolEntry entry, long now) {
+		return entry.generation != this.generation || (this.maxLifetimeMillis > 0 && now - entry.createdAt >= this.maxLifetimeMillis);
+	}
+
+	private Connection lend(PoolEntry entry) {
+		entry.inUse.set(true);
+		entry.broken = false;
+		this.active.incrementAndGet();
+		if (this.leakDetectionThresholdMillis > 0) {
+			Exception borrowedAt = new Exception("Apparent connection leak detected");
+			entry.leakTask = this.housekeeper.schedule(() -> {
+				this.leaks.increment();
+				LOGGER.log(Level.WARNING, String.format("%s - Connection held for more than %dms, it may have leaked", this.poolName,
+						this.leakDetectionThresholdMillis), borrowedAt);
+			}, this.leakDetectionThresholdMillis, TimeUnit.MILLISECONDS);
+		}
+		return new LogicalConnection(entry.connection, new LogicalConnection.Listener() {
+			@Override public void closed(LogicalConnection connection) {
+				giveBack(entry);
+			}
+
+			@Override public void errorOccurred(LogicalConnection connection, SQLException exception) {
+				entry.broken = true;
+				if (connection.isLogicallyClosed()) {
+					giveBack(entry);
+				}
+			}
+		});
+	}
+
+	private void giveBack(PoolEntry entry) {
+		if (!entry.inUse.compareAndSet(true, false)) {
+			return;
+		}
+		if (entry.leakTask != null) {
+			entry.leakTask.cancel(false);
+			entry.leakTask = null;
+		}
+		this.active.decrementAndGet();
+		try {
+			if (this.closed || entry.broken || isRetired(entry, System.currentTimeMillis()) || !reset(entry)) {
+				destroy(entry);
+			} else {
+				entry.lastAccessed = System.currentTimeMillis();
+				this.idle.offerFirst(entry);
+			}
+		} finally {
+			this.permits.release();
+		}
+	}
+
+	/**
+	 * Roll back what the application left open and restore the initial modes of the connection.
+	 */
+	private boolean reset(PoolEntry entry) {
+		try {
+			Connection connection = entry.connection;
+			if (connection.isClosed()) {
+				return false;
+			}
+			LogicalConnection.rollback(connection);
+			if (connection.getAutoCommit() != entry.autoCommit) {
+				connection.setAutoCommit(entry.autoCommit);
+			}
+			if (connection.isReadOnly() != entry.readOnly) {
+				connection.setReadOnly(entry.readOnly);
+			}
+			return true;
+		} catch (SQLException e) {
+			LOGGER.log(Level.FINE, this.poolName + " - Connection reset failed", e);
+			return false;
+		}
+	}
+
+	/*--------------------------------*/
+	/*       Create and destroy       */
+	/*--------------------------------*/
+
+	private PoolEntry create() throws SQLException {
+		Connection connection = this.factory.create();
+		this.total.incrementAndGet();
+		this.created.increment();
+		try {
+			return new PoolEntry(connection, this.generation, connection.getAutoCommit(), connection.isReadOnly());
+		} catch (SQLException | RuntimeException e) {
+			destroy(new PoolEntry(connection, this.generation, true, false));
+			throw e;
+		}
+	}
+
+	private void destroy(PoolEntry entry) {
+		this.total.decrementAndGet();
+		this.destroyed.increment();
+		BoltGraphUtils.closeSafely(entry.connection, LOGGER);
+	}
+
+	/**
+	 * Close the connections idle for too long or too old, then open the ones missing to the minimum size.
+	 */
+	void housekeep() {
+		long now = System.currentTimeMillis();
+		for (PoolEntry entry : this.idle) {
+			boolean idleTooLong = this.idleTimeoutMillis > 0 && now - entry.lastAccessed >= this.idleTimeoutMillis && this.total.get() > this.minSize;
+			if ((idleTooLong || isRetired(entry, now)) && this.idle.remove(entry)) {
+				destroy(entry);
+			}
+		}
+		fill();
+	}
+
+	/**
+	 * Synchronized since the housekeeper and the callers of {@link #housekeep()} could otherwise both see the pool short
+	 * and open a connection each.
+	 */
+	private synchronized void fill() {
+		while (!this.closed && this.total.get() < this.minSize && this.permits.tryAcquire()) {
+			try {
+				this.idle.offerLast(create());
+			} catch (SQLException | RuntimeException e) {
+				LOGGER.log(Level.WARNING, this.poolName + " - Cannot open a connection to keep the minimum pool size", e);
+				return;
+			} finally {
+				this.permits.release();
+			}
+		}
+	}
+
+	/*-------------------*/
+	/*       Close       */
+	/*-------------------*/
+
+	private void checkOpen() throws SQLException {
+		if (this.closed) {
+			throw new SQLException(this.poolName + " - Pool is closed");
+		}
+	}
+
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Close the idle connections, the active ones are closed as soon as they are given back.
+	 */
+	@Override public void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		this.housekeeper.shutdownNow();
+		PoolEntry entry;
+		while ((entry = this.idle.pollFirst()) != null) {
+			destroy(entry);
+		}
+		unregisterMBean();
+	}
+
+	/*-----------------*/
+	/*       JMX       */
+	/*-----------------*/
+
+	private void registerMBean() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName("org.memgraph.jdbc:type=BoltGraphConnectionPool,name=" + ObjectName.quote(this.poolName));
+			server.registerMBean(this, name);
+			this.objectName = name;
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, this.poolName + " - Cannot register the pool MBean", e);
+		}
+	}
+
+	private void unregisterMBean() {
+		if (this.objectName == null) {
+			return;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, this.poolName + " - Cannot unregister the pool MBean", e);
+		}
+		this.objectName = null;
+	}
+
+	@Override public String getPoolName() {
+		return this.poolName;
+	}
+
+	@Override public int getActiveConnections() {
+		return this.active.get();
+	}
+
+	@Override public int getIdleConnections() {
+		return this.idle.size();
+	}
+
+	@Override public int getTotalConnections() {
+		return this.total.get();
+	}
+
+	@Override public int getThreadsAwaitingConnection() {
+		return this.permits.getQueueLength();
+	}
+
+	@Override public long getCreatedConnections() {
+		return this.created.sum();
+	}
+
+	@Override public long getDestroyedConnections() {
+		return this.destroyed.sum();
+	}
+
+	@Override public long getConnectionTimeouts() {
+		return this.timeouts.sum();
+	}
+
+	@Override public long getLeaksDetected() {
+		return this.leaks.sum();
+	}
+
+	@Override public synchronized void softEvictConnections() {
+		this.generation++;
+		housekeep();
+	}
+
+	@Override public String toString() {
+		return "BoltGraphConnectionPool{name=" + poolName + ", total=" + getTotalConnections() + ", active=" + getActiveConnections() + ", idle="
+				+ getIdleConnections() + ", waiting=" + getThreadsAwaitingConnection() + "}";
+	}
+
+	private static final class PoolEntry {
+
+		private final Connection    connection;
+		private final int           generation;
+		private final boolean       autoCommit;
+		private final boolean       readOnly;
+		private final long          createdAt = System.currentTimeMillis();
+		private final AtomicBoolean inUse     = new AtomicBoolean();
+
+		private volatile long               lastAccessed = this.createdAt;
+		private volatile boolean            broken;
+		private volatile ScheduledFuture<?> leakTask;
+
+		private PoolEntry(Connection connection, int generation, boolean autoCommit, boolean readOnly) {
+			this.connection = connection;
+			this.generation = generation;
+			this.autoCommit = autoCommit;
+			this.readOnly = readOnly;
+		}
+	}
+}
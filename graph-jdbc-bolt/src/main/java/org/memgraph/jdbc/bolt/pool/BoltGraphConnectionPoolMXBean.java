@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt.pool;
+
+/**
+ * The statistics and the management operations of a {@link BoltGraphConnectionPool} exposed through JMX.
+ */
+public interface BoltGraphConnectionPoolMXBean {
+
+	/**
+	 * @return the name of the pool
+	 */
+	String getPoolName();
+
+	/**
+	 * @return the number of connections in use by the application
+	 */
+	int getActiveConnections();
+
+	/**
+	 * @return the number of connections waiting in the pool
+	 */
+	int getIdleConnections();
+
+	/**
+	 * @return the number of physical connections, active or idle
+	 */
+	int getTotalConnections();
+
+	/**
+	 * @return the number of threads waiting for a connection
+	 */
+	int getThreadsAwaitingConnection();
+
+	/**
+	 * @return the number of physical connections opened since the pool started
+	 */
+	long getCreatedConnections();
+
+	/**
+	 * @return the number of physical connections closed since the pool started
+	 */
+	long getDestroyedConnections();
+
+	/**
+	 * @return the number of requests that gave up waiting for a connection
+	 */
+	long getConnectionTimeouts();
+
+	/**
+	 * @return the number of connections held longer than the leak detection threshold
+	 */
+	long getLeaksDetected();
+
+	/**
+	 * Close the idle connections and the active ones as soon as they are given back.
+	 */
+	void softEvictConnections();
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt.pool;
+
+import org.memgraph.jdbc.bolt.AdaptiveBatchSize;
+import org.memgraph.jdbc.bolt.BoltGraphPreparedStatement;
+import org.memgraph.jdbc.utils.BoltGraphUtils;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.PooledConnection;
+import javax.sql.StatementEvent;
+import javax.sql.StatementEventListener;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+/**
+ * A physical connection managed by a connection pool of the application server.
+ * <br>
+ * Every {@link #getConnection()} hands out a new logical connection over the same physical one, so the Bolt session
+ * survives the logical open/close cycles. Closing the logical connection rolls back what it left open and notifies
+ * the {@link ConnectionEventListener}s, which can then hand the pooled connection out again.
+ * <br>
+ * The prepared statements are cached per connection as well: closing one gives it back to a LRU cache of at most
+ * maxStatements statements, keyed by their query and result set parameters, and preparing the same query again reuses it.
+ * A statement is given back with its result set closed and its parameters, batch, limits and batch settings reset,
+ * it's dropped instead only when it failed because of the connection.
+ */
+public class BoltGraphPooledConnection implements PooledConnection, LogicalConnection.Listener {
+
+	private static final Logger LOGGER = Logger.getLogger(BoltGraphPooledConnection.class.getName());
+
+	private final Connection physicalConnection;
+	private final boolean autoCommit;
+	private final int maxStatements;
+	private final Map<StatementKey, PreparedStatement> statementCache;
+	private final List<ConnectionEventListener> connectionListeners = new CopyOnWriteArrayList<>();
+	private final List<StatementEventListener> statementListeners = new CopyOnWriteArrayList<>();
+
+	private LogicalConnection logicalConnection;
+	private boolean closed;
+
+	/**
+	 * @param physicalConnection the connection to manage
+	 * @param maxStatements      the size of the prepared statement cache, 0 to disable it
+	 */
+	public BoltGraphPooledConnection(Connection physicalConnection, int maxStatements) throws SQLException {
+		this.physicalConnection = physicalConnection;
+		this.autoCommit = physicalConnection.getAutoCommit();
+		this.maxStatements = maxStatements;
+		this.statementCache = new LinkedHashMap<StatementKey, PreparedStatement>(16, 0.75f, true) {
+			@Override protected boolean removeEldestEntry(Map.Entry<StatementKey, PreparedStatement> eldest) {
+				if (size() > BoltGraphPooledConnection.this.maxStatements) {
+					BoltGraphUtils.closeSafely(eldest.getValue(), LOGGER);
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Hand out a new logical connection, closing the previous one if still open.
+	 */
+	@Override public synchronized Connection getConnection() throws SQLException {
+		if (this.closed) {
+			throw new SQLException("Pooled connection is closed");
+		}
+		if (this.logicalConnection != null) {
+			this.logicalConnection.close();
+		}
+		this.logicalConnection = new CachingLogicalConnection(this.physicalConnection, this);
+		return this.logicalConnection;
+	}
+
+	/**
+	 * Close the cached statements and the physical connection.
+	 */
+	@Override public synchronized void close() throws SQLException {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		this.statementCache.values().forEach(statement -> BoltGraphUtils.closeSafely(statement, LOGGER));
+		this.statementCache.clear();
+		this.physicalConnection.close();
+	}
+
+	@Override public void addConnectionEventListener(ConnectionEventListener listener) {
+		this.connectionListeners.add(listener);
+	}
+
+	@Override public void removeConnectionEventListener(ConnectionEventListener listener) {
+		this.connectionListeners.remove(listener);
+	}
+
+	@Override public void addStatementEventListener(StatementEventListener listener) {
+		this.statementListeners.add(listener);
+	}
+
+	@Override public void removeStatementEventListener(StatementEventListener listener) {
+		this.statementListeners.remove(listener);
+	}
+
+	/*-------------------------------------*/
+	/*       Logical connection events     */
+	/*-------------------------------------*/
+
+	@Override public void closed(LogicalConnection connection) {
+		synchronized (this) {
+			if (this.logicalConnection == connection) {
+				this.logicalConnection = null;
+			}
+		}
+		SQLException failure = null;
+		try {
+			LogicalConnection.rollback(this.physicalConnection);
+			if (this.physicalConnection.getAutoCommit() != this.autoCommit) {
+				this.physicalConnection.setAutoCommit(this.autoCommit);
+			}
+		} catch (SQLException e) {
+			failure = e;
+		}
+		if (failure != null) {
+			errorOccurred(connection, failure);
+			return;
+		}
+		ConnectionEvent event = new ConnectionEvent(this);
+		for (ConnectionEventListener listener : this.connectionListeners) {
+			listener.connectionClosed(event);
+		}
+	}
+
+	@Override public void errorOccurred(LogicalConnection connection, SQLException exception) {
+		ConnectionEvent event = new ConnectionEvent(this, exception);
+		for (ConnectionEventListener listener : this.connectionListeners) {
+			listener.connectionErrorOccurred(event);
+		}
+	}
+
+	/*-------------------------------*/
+	/*       Statement caching       */
+	/*-------------------------------*/
+
+	/**
+	 * @return the number of statements waiting in the cache
+	 */
+	public synchronized int getCachedStatements() {
+		return this.statementCache.size();
+	}
+
+	private synchronized PreparedStatement takeCachedStatement(StatementKey key) {
+		return this.statementCache.remove(key);
+	}
+
+	/**
+	 * Give back a statement closed by the application, it's closed for real if the cache already holds one for its key.
+	 */
+	private void giveBack(CachedPreparedStatement cachedStatement) {
+		PreparedStatement statement = cachedStatement.getPhysicalStatement();
+		boolean cached = false;
+		if (!cachedStatement.broken) {
+			try {
+				BoltGraphUtils.closeSafely(statement.getResultSet(), LOGGER);
+				statement.clearParameters();
+				statement.clearBatch();
+				statement.clearWarnings();
+				statement.setFetchSize(cachedStatement.fetchSize);
+				statement.setMaxRows(cachedStatement.maxRows);
+				statement.setQueryTimeout(cachedStatement.queryTimeout);
+				resetBatchSettings(statement, cachedStatement.batchParallelism);
+				synchronized (this) {
+					if (!this.closed && !this.statementCache.containsKey(cachedStatement.key)) {
+						this.statementCache.put(cachedStatement.key, statement);
+						cached = true;
+					}
+				}
+			} catch (SQLException e) {
+				cached = false;
+			}
+		}
+		if (!cached) {
+			BoltGraphUtils.closeSafely(statement, LOGGER);
+		}
+	}
+
+	/**
+	 * The batch parallelism is restored and the adaptive batch size starts over, so the next borrower of the statement
+	 * doesn't inherit what the previous one set or measured.
+	 */
+	private static void resetBatchSettings(PreparedStatement statement, int batchParallelism) throws SQLException {
+		if (!statement.isWrapperFor(BoltGraphPreparedStatement.class)) {
+			return;
+		}
+		BoltGraphPreparedStatement boltStatement = statement.unwrap(BoltGraphPreparedStatement.class);
+		boltStatement.setBatchParallelism(batchParallelism);
+		AdaptiveBatchSize adaptiveBatchSize = boltStatement.getAdaptiveBatchSize();
+		if (adaptiveBatchSize != null) {
+			adaptiveBatchSize.reset();
+		}
+	}
+
+	/**
+	 * @return true if the failure comes from the connection rather than from the statement, which is then no longer usable
+	 */
+	private boolean isConnectionError(SQLException exception) {
+		if (exception instanceof SQLNonTransientConnectionException || exception instanceof SQLTransientConnectionException
+				|| (exception.getSQLState() != null && exception.getSQLState().startsWith("08"))) {
+			return true;
+		}
+		try {
+			return this.physicalConnection.isClosed();
+		} catch (SQLException e) {
+			return true;
+		}
+	}
+
+	private void fireStatementClosed(PreparedStatement statement) {
+		StatementEvent event = new StatementEvent(this, statement);
+		for (StatementEventListener listener : this.statementListeners) {
+			listener.statementClosed(event);
+		}
+	}
+
+	private void fireStatementError(PreparedStatement statement, SQLException exception) {
+		StatementEvent event = new StatementEvent(this, statement, exception);
+		for (StatementEventListener listener : this.statementListeners) {
+			listener.statementErrorOccurred(event);
+		}
+	}
+
+	private final class CachingLogicalConnection extends LogicalConnection {
+
+		private CachingLogicalConnection(Connection delegate, Listener listener) {
+			super(delegate, listener);
+		}
+
+		@Override public PreparedStatement prepareStatement(String sql) throws SQLException {
+			return prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.CLOSE_CURSORS_AT_COMMIT);
+		}
+
+		@Override public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+			return prepareStatement(sql, resultSetType, resultSetConcurrency, ResultSet.CLOSE_CURSORS_AT_COMMIT);
+		}
+
+		@Override public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+				throws SQLException {
+			if (maxStatements <= 0) {
+				return super.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+			}
+			StatementKey key = new StatementKey(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+			PreparedStatement cached = takeCachedStatement(key);
+			PreparedStatement statement = cached == null || cached.isClosed() ?
+					call(() -> getPhysicalConnection().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability)) :
+					cached;
+			return track(new CachedPreparedStatement(this, key, statement));
+		}
+	}
+
+	/**
+	 * The statement handed out to the application: closing it gives the statement back to the cache.
+	 */
+	private final class CachedPreparedStatement extends LogicalPreparedStatement {
+
+		private final StatementKey key;
+		private final int fetchSize;
+		private final int maxRows;
+		private final int queryTimeout;
+		private final int batchParallelism;
+		private volatile boolean broken;
+
+		private CachedPreparedStatement(LogicalConnection connection, StatementKey key, PreparedStatement statement) throws SQLException {
+			super(connection, statement);
+			this.key = key;
+			this.fetchSize = statement.getFetchSize();
+			this.maxRows = statement.getMaxRows();
+			this.queryTimeout = statement.getQueryTimeout();
+			this.batchParallelism = statement.isWrapperFor(BoltGraphPreparedStatement.class)
+					? statement.unwrap(BoltGraphPreparedStatement.class).getBatchParallelism() : 1;
+		}
+
+		@Override protected void failed(SQLException exception) {
+			super.failed(exception);
+			if (isConnectionError(exception)) {
+				this.broken = true;
+				fireStatementError(this, exception);
+			}
+		}
+
+		@Override protected void closePhysicalStatement() {
+			giveBack(this);
+			fireStatementClosed(this);
+		}
+	}
+
+	private static final class StatementKey {
+
+		private final String sql;
+		private final int resultSetType;
+		private final int resultSetConcurrency;
+		private final int resultSetHoldability;
+
+		private StatementKey(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.resultSetConcurrency = resultSetConcurrency;
+			this.resultSetHoldability = resultSetHoldability;
+		}
+
+		@Override public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof StatementKey)) {
+				return false;
+			}
+			StatementKey that = (StatementKey) o;
+			return resultSetType == that.resultSetType && resultSetConcurrency == that.resultSetConcurrency
+					&& resultSetHoldability == that.resultSetHoldability && sql.equals(that.sql);
+		}
+
+		@Override public int hashCode() {
+			return Objects.hash(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		}
+	}
+}
@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt.pool;
+
+import org.memgraph.jdbc.bolt.BoltGraphConnection;
+import org.memgraph.jdbc.utils.BoltGraphUtils;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+/**
+ * The connection handed out by a pool: it delegates to a physical connection,
+ * closing it gives the physical connection back to its owner instead of closing it.
+ * <br>
+ * A failure that leaves the physical connection closed is reported to the owner as well,
+ * so the physical connection isn't handed out again.
+ * <br>
+ * The statements are wrapped as well: they hand out the logical connection as theirs
+ * and the ones still open are closed with the logical connection, before the owner is notified.
+ */
+public class LogicalConnection implements Connection {
+
+	/**
+	 * Owner of the physical connection, notified of the events of the logical one.
+	 */
+	public interface Listener {
+
+		/**
+		 * @param connection the logical connection just closed by the application
+		 */
+		void closed(LogicalConnection connection);
+
+		/**
+		 * @param connection the logical connection whose physical connection is no longer usable
+		 * @param exception  the failure
+		 */
+		void errorOccurred(LogicalConnection connection, SQLException exception);
+	}
+
+	@FunctionalInterface
+	interface SqlCall<T> {
+		T call() throws SQLException;
+	}
+
+	@FunctionalInterface
+	interface SqlRun {
+		void run() throws SQLException;
+	}
+
+	private static final Logger LOGGER = Logger.getLogger(LogicalConnection.class.getName());
+
+	private final Connection     delegate;
+	private final Listener       listener;
+	private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+	private volatile boolean     closed;
+
+	public LogicalConnection(Connection delegate, Listener listener) {
+		this.delegate = delegate;
+		this.listener = listener;
+	}
+
+	/**
+	 * @return the physical connection
+	 */
+	public Connection getPhysicalConnection() {
+		return this.delegate;
+	}
+
+	/**
+	 * @return true once the application closed or aborted this connection, whatever the state of the physical one
+	 */
+	boolean isLogicallyClosed() {
+		return this.closed;
+	}
+
+	private void checkOpen() throws SQLException {
+		if (this.closed) {
+			throw new SQLException("Connection is closed");
+		}
+	}
+
+	<T> T call(SqlCall<T> call) throws SQLException {
+		checkOpen();
+		try {
+			return call.call();
+		} catch (SQLException e) {
+			fireErrorIfBroken(e);
+			throw e;
+		}
+	}
+
+	private void run(SqlRun run) throws SQLException {
+		call(() -> {
+			run.run();
+			return null;
+		});
+	}
+
+	void fireErrorIfBroken(SQLException exception) {
+		boolean broken;
+		try {
+			broken = this.delegate.isClosed();
+		} catch (Exception e) {
+			broken = true;
+		}
+		if (broken) {
+			this.listener.errorOccurred(this, exception);
+		}
+	}
+
+	/**
+	 * Roll back the transaction left open on a physical connection given back to its owner.
+	 * In auto-commit mode a transaction can still be held by a streaming result set, it's released as well.
+	 *
+	 * @param connection the physical connection
+	 * @throws SQLException if the rollback fails
+	 */
+	static void rollback(Connection connection) throws SQLException {
+		if (!connection.getAutoCommit()) {
+			connection.rollback();
+		} else if (connection instanceof BoltGraphConnection && ((BoltGraphConnection) connection).isTransactionHeld()) {
+			((BoltGraphConnection) connection).doRollback();
+		}
+	}
+
+	/*------------------------*/
+	/*       Statements       */
+	/*------------------------*/
+
+	/**
+	 * @return the statements of this connection not closed yet
+	 */
+	int getOpenStatements() {
+		return this.statements.size();
+	}
+
+	<S extends Statement> S track(S statement) {
+		this.statements.add(statement);
+		return statement;
+	}
+
+	void forget(Statement statement) {
+		this.statements.remove(statement);
+	}
+
+	private void closeStatements() {
+		for (Statement statement : this.statements) {
+			BoltGraphUtils.closeSafely(statement, LOGGER);
+		}
+		this.statements.clear();
+	}
+
+	/*-------------------*/
+	/*       Close       */
+	/*-------------------*/
+
+	@Override public void close() throws SQLException {
+		if (!this.closed) {
+			this.closed = true;
+			closeStatements();
+			this.listener.closed(this);
+		}
+	}
+
+	@Override public boolean isClosed() throws SQLException {
+		return this.closed || this.delegate.isClosed();
+	}
+
+	@Override public boolean isValid(int timeout) throws SQLException {
+		return !this.closed && this.delegate.isValid(timeout);
+	}
+
+	/**
+	 * The physical connection is given up: the owner is told it's no longer usable.
+	 */
+	@Override public void abort(Executor executor) throws SQLException {
+		if (!this.closed) {
+			this.closed = true;
+			closeStatements();
+			this.listener.errorOccurred(this, new SQLException("Connection aborted"));
+		}
+	}
+
+	/*------------------------*/
+	/*       Delegation       */
+	/*------------------------*/
+
+	@Override public Statement createStatement() throws SQLException {
+		return call(() -> track(new LogicalStatement(this, this.delegate.createStatement())));
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql) throws SQLException {
+		return call(() -> track(new LogicalPreparedStatement(this, this.delegate.prepareStatement(sql))));
+	}
+
+	@Override public CallableStatement prepareCall(String sql) throws SQLException {
+		return call(() -> this.delegate.prepareCall(sql));
+	}
+
+	@Override public String nativeSQL(String sql) throws SQLException {
+		return call(() -> this.delegate.nativeSQL(sql));
+	}
+
+	@Override public void setAutoCommit(boolean autoCommit) throws SQLException {
+		run(() -> this.delegate.setAutoCommit(autoCommit));
+	}
+
+	@Override public boolean getAutoCommit() throws SQLException {
+		return call(() -> this.delegate.getAutoCommit());
+	}
+
+	@Override public void commit() throws SQLException {
+		run(() -> this.delegate.commit());
+	}
+
+	@Override public void rollback() throws SQLException {
+		run(() -> this.delegate.rollback());
+	}
+
+	@Override public DatabaseMetaData getMetaData() throws SQLException {
+		return call(() -> this.delegate.getMetaData());
+	}
+
+	@Override public void setReadOnly(boolean readOnly) throws SQLException {
+		run(() -> this.delegate.setReadOnly(readOnly));
+	}
+
+	@Override public boolean isReadOnly() throws SQLException {
+		return call(() -> this.delegate.isReadOnly());
+	}
+
+	@Override public void setCatalog(String catalog) throws SQLException {
+		run(() -> this.delegate.setCatalog(catalog));
+	}
+
+	@Override public String getCatalog() throws SQLException {
+		return call(() -> this.delegate.getCatalog());
+	}
+
+	@Override public void setTransactionIsolation(int level) throws SQLException {
+		run(() -> this.delegate.setTransactionIsolation(level));
+	}
+
+	@Override public int getTransactionIsolation() throws SQLException {
+		return call(() -> this.delegate.getTransactionIsolation());
+	}
+
+	@Override public SQLWarning getWarnings() throws SQLException {
+		return call(() -> this.delegate.getWarnings());
+	}
+
+	@Override public void clearWarnings() throws SQLException {
+		run(() -> this.delegate.clearWarnings());
+	}
+
+	@Override public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+		return call(() -> track(new LogicalStatement(this, this.delegate.createStatement(resultSetType, resultSetConcurrency))));
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		return call(() -> track(new LogicalPreparedStatement(this, this.delegate.prepareStatement(sql, resultSetType, resultSetConcurrency))));
+	}
+
+	@Override public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		return call(() -> this.delegate.prepareCall(sql, resultSetType, resultSetConcurrency));
+	}
+
+	@Override public Map<String, Class<?>> getTypeMap() throws SQLException {
+		return call(() -> this.delegate.getTypeMap());
+	}
+
+	@Override public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+		run(() -> this.delegate.setTypeMap(map));
+	}
+
+	@Override public void setHoldability(int holdability) throws SQLException {
+		run(() -> this.delegate.setHoldability(holdability));
+	}
+
+	@Override public int getHoldability() throws SQLException {
+		return call(() -> this.delegate.getHoldability());
+	}
+
+	@Override public Savepoint setSavepoint() throws SQLException {
+		return call(() -> this.delegate.setSavepoint());
+	}
+
+	@Override public Savepoint setSavepoint(String name) throws SQLException {
+		return call(() -> this.delegate.setSavepoint(name));
+	}
+
+	@Override public void rollback(Savepoint savepoint) throws SQLException {
+		run(() -> this.delegate.rollback(savepoint));
+	}
+
+	@Override public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+		run(() -> this.delegate.releaseSavepoint(savepoint));
+	}
+
+	@Override public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		return call(() -> track(new LogicalStatement(this, this.delegate.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability))));
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		return call(() -> track(
+				new LogicalPreparedStatement(this, this.delegate.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability))));
+	}
+
+	@Override public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		return call(() -> this.delegate.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		return call(() -> track(new LogicalPreparedStatement(this, this.delegate.prepareStatement(sql, autoGeneratedKeys))));
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+		return call(() -> track(new LogicalPreparedStatement(this, this.delegate.prepareStatement(sql, columnIndexes))));
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+		return call(() -> track(new LogicalPreparedStatement(this, this.delegate.prepareStatement(sql, columnNames))));
+	}
+
+	@Override public Clob createClob() throws SQLException {
+		return call(() -> this.delegate.createClob());
+	}
+
+	@Override public Blob createBlob() throws SQLException {
+		return call(() -> this.delegate.createBlob());
+	}
+
+	@Override public NClob createNClob() throws SQLException {
+		return call(() -> this.delegate.createNClob());
+	}
+
+	@Override public SQLXML createSQLXML() throws SQLException {
+		return call(() -> this.delegate.createSQLXML());
+	}
+
+	@Override public String getClientInfo(String name) throws SQLException {
+		return call(() -> this.delegate.getClientInfo(name));
+	}
+
+	@Override public Properties getClientInfo() throws SQLException {
+		return call(() -> this.delegate.getClientInfo());
+	}
+
+	@Override public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+		return call(() -> this.delegate.createArrayOf(typeName, elements));
+	}
+
+	@Override public Struct createStruct(String typeName, Object[] elements) throws SQLException {
+		return call(() -> this.delegate.createStruct(typeName, elements));
+	}
+
+	@Override public void setSchema(String schema) throws SQLException {
+		run(() -> this.delegate.setSchema(schema));
+	}
+
+	@Override public String getSchema() throws SQLException {
+		return call(() -> this.delegate.getSchema());
+	}
+
+	@Override public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+		run(() -> this.delegate.setNetworkTimeout(executor, milliseconds));
+	}
+
+	@Override public int getNetworkTimeout() throws SQLException {
+		return call(() -> this.delegate.getNetworkTimeout());
+	}
+
+	@Override public void setClientInfo(String name, String value) throws SQLClientInfoException {
+		if (this.closed) {
+			throw new SQLClientInfoException();
+		}
+		this.delegate.setClientInfo(name, value);
+	}
+
+	@Override public void setClientInfo(Properties properties) throws SQLClientInfoException {
+		if (this.closed) {
+			throw new SQLClientInfoException();
+		}
+		this.delegate.setClientInfo(properties);
+	}
+
+	@Override public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface.isInstance(this)) {
+			return iface.cast(this);
+		}
+		return this.delegate.unwrap(iface);
+	}
+
+	@Override public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance(this) || this.delegate.isWrapperFor(iface);
+	}
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt.pool;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * A prepared statement created through a {@link LogicalConnection}, see {@link LogicalStatement}.
+ */
+class LogicalPreparedStatement extends LogicalStatement implements PreparedStatement {
+
+	private final PreparedStatement delegate;
+
+	LogicalPreparedStatement(LogicalConnection connection, PreparedStatement delegate) {
+		super(connection, delegate);
+		this.delegate = delegate;
+	}
+
+	@Override PreparedStatement getPhysicalStatement() {
+		return this.delegate;
+	}
+
+	@Override public ResultSet executeQuery() throws SQLException {
+		return call(() -> this.delegate.executeQuery());
+	}
+
+	@Override public int executeUpdate() throws SQLException {
+		return call(() -> this.delegate.executeUpdate());
+	}
+
+	@Override public boolean execute() throws SQLException {
+		return call(() -> this.delegate.execute());
+	}
+
+	@Override public long executeLargeUpdate() throws SQLException {
+		return call(() -> this.delegate.executeLargeUpdate());
+	}
+
+	@Override public void addBatch() throws SQLException {
+		run(() -> this.delegate.addBatch());
+	}
+
+	@Override public void clearParameters() throws SQLException {
+		run(() -> this.delegate.clearParameters());
+	}
+
+	@Override public ResultSetMetaData getMetaData() throws SQLException {
+		return call(() -> this.delegate.getMetaData());
+	}
+
+	@Override public ParameterMetaData getParameterMetaData() throws SQLException {
+		return call(() -> this.delegate.getParameterMetaData());
+	}
+
+	/*------------------------*/
+	/*       Parameters       */
+	/*------------------------*/
+
+	@Override public void setNull(int parameterIndex, int sqlType) throws SQLException {
+		run(() -> this.delegate.setNull(parameterIndex, sqlType));
+	}
+
+	@Override public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+		run(() -> this.delegate.setNull(parameterIndex, sqlType, typeName));
+	}
+
+	@Override public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+		run(() -> this.delegate.setBoolean(parameterIndex, x));
+	}
+
+	@Override public void setByte(int parameterIndex, byte x) throws SQLException {
+		run(() -> this.delegate.setByte(parameterIndex, x));
+	}
+
+	@Override public void setShort(int parameterIndex, short x) throws SQLException {
+		run(() -> this.delegate.setShort(parameterIndex, x));
+	}
+
+	@Override public void setInt(int parameterIndex, int x) throws SQLException {
+		run(() -> this.delegate.setInt(parameterIndex, x));
+	}
+
+	@Override public void setLong(int parameterIndex, long x) throws SQLException {
+		run(() -> this.delegate.setLong(parameterIndex, x));
+	}
+
+	@Override public void setFloat(int parameterIndex, float x) throws SQLException {
+		run(() -> this.delegate.setFloat(parameterIndex, x));
+	}
+
+	@Override public void setDouble(int parameterIndex, double x) throws SQLException {
+		run(() -> this.delegate.setDouble(parameterIndex, x));
+	}
+
+	@Override public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+		run(() -> this.delegate.setBigDecimal(parameterIndex, x));
+	}
+
+	@Override public void setString(int parameterIndex, String x) throws SQLException {
+		run(() -> this.delegate.setString(parameterIndex, x));
+	}
+
+	@Override public void setNString(int parameterIndex, String value) throws SQLException {
+		run(() -> this.delegate.setNString(parameterIndex, value));
+	}
+
+	@Override public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+		run(() -> this.delegate.setBytes(parameterIndex, x));
+	}
+
+	@Override public void setDate(int parameterIndex, Date x) throws SQLException {
+		run(() -> this.delegate.setDate(parameterIndex, x));
+	}
+
+	@Override public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+		run(() -> this.delegate.setDate(parameterIndex, x, cal));
+	}
+
+	@Override public void setTime(int parameterIndex, Time x) throws SQLException {
+		run(() -> this.delegate.setTime(parameterIndex, x));
+	}
+
+	@Override public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+		run(() -> this.delegate.setTime(parameterIndex, x, cal));
+	}
+
+	@Override public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+		run(() -> this.delegate.setTimestamp(parameterIndex, x));
+	}
+
+	@Override public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+		run(() -> this.delegate.setTimestamp(parameterIndex, x, cal));
+	}
+
+	@Override public void setObject(int parameterIndex, Object x) throws SQLException {
+		run(() -> this.delegate.setObject(parameterIndex, x));
+	}
+
+	@Override public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+		run(() -> this.delegate.setObject(parameterIndex, x, targetSqlType));
+	}
+
+	@Override public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+		run(() -> this.delegate.setObject(parameterIndex, x, targetSqlType, scaleOrLength));
+	}
+
+	@Override public void setObject(int parameterIndex, Object x, SQLType targetSqlType) throws SQLException {
+		run(() -> this.delegate.setObject(parameterIndex, x, targetSqlType));
+	}
+
+	@Override public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+		run(() -> this.delegate.setObject(parameterIndex, x, targetSqlType, scaleOrLength));
+	}
+
+	@Override public void setArray(int parameterIndex, Array x) throws SQLException {
+		run(() -> this.delegate.setArray(parameterIndex, x));
+	}
+
+	@Override public void setRef(int parameterIndex, Ref x) throws SQLException {
+		run(() -> this.delegate.setRef(parameterIndex, x));
+	}
+
+	@Override public void setRowId(int parameterIndex, RowId x) throws SQLException {
+		run(() -> this.delegate.setRowId(parameterIndex, x));
+	}
+
+	@Override public void setURL(int parameterIndex, URL x) throws SQLException {
+		run(() -> this.delegate.setURL(parameterIndex, x));
+	}
+
+	@Override public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+		run(() -> this.delegate.setSQLXML(parameterIndex, xmlObject));
+	}
+
+	@Override public void setBlob(int parameterIndex, Blob x) throws SQLException {
+		run(() -> this.delegate.setBlob(parameterIndex, x));
+	}
+
+	@Override public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+		run(() -> this.delegate.setBlob(parameterIndex, inputStream));
+	}
+
+	@Override public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+		run(() -> this.delegate.setBlob(parameterIndex, inputStream, length));
+	}
+
+	@Override public void setClob(int parameterIndex, Clob x) throws SQLException {
+		run(() -> this.delegate.setClob(parameterIndex, x));
+	}
+
+	@Override public void setClob(int parameterIndex, Reader reader) throws SQLException {
+		run(() -> this.delegate.setClob(parameterIndex, reader));
+	}
+
+	@Override public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		run(() -> this.delegate.setClob(parameterIndex, reader, length));
+	}
+
+	@Override public void setNClob(int parameterIndex, NClob value) throws SQLException {
+		run(() -> this.delegate.setNClob(parameterIndex, value));
+	}
+
+	@Override public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+		run(() -> this.delegate.setNClob(parameterIndex, reader));
+	}
+
+	@Override public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		run(() -> this.delegate.setNClob(parameterIndex, reader, length));
+	}
+
+	@Override public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+		run(() -> this.delegate.setAsciiStream(parameterIndex, x));
+	}
+
+	@Override public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		run(() -> this.delegate.setAsciiStream(parameterIndex, x, length));
+	}
+
+	@Override public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+		run(() -> this.delegate.setAsciiStream(parameterIndex, x, length));
+	}
+
+	@Override @Deprecated public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		run(() -> this.delegate.setUnicodeStream(parameterIndex, x, length));
+	}
+
+	@Override public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+		run(() -> this.delegate.setBinaryStream(parameterIndex, x));
+	}
+
+	@Override public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		run(() -> this.delegate.setBinaryStream(parameterIndex, x, length));
+	}
+
+	@Override public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+		run(() -> this.delegate.setBinaryStream(parameterIndex, x, length));
+	}
+
+	@Override public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+		run(() -> this.delegate.setCharacterStream(parameterIndex, reader));
+	}
+
+	@Override public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+		run(() -> this.delegate.setCharacterStream(parameterIndex, reader, length));
+	}
+
+	@Override public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+		run(() -> this.delegate.setCharacterStream(parameterIndex, reader, length));
+	}
+
+	@Override public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+		run(() -> this.delegate.setNCharacterStream(parameterIndex, value));
+	}
+
+	@Override public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+		run(() -> this.delegate.setNCharacterStream(parameterIndex, value, length));
+	}
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt.pool;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+/**
+ * A statement created through a {@link LogicalConnection}: it delegates to the statement of the physical connection
+ * and hands out the logical connection as its own.
+ * <br>
+ * The logical connection keeps track of its open statements and closes them when it's closed,
+ * so a statement left open by the application doesn't outlive its logical connection.
+ */
+class LogicalStatement implements Statement {
+
+	protected final LogicalConnection connection;
+	private final Statement delegate;
+	private volatile boolean closed;
+
+	LogicalStatement(LogicalConnection connection, Statement delegate) {
+		this.connection = connection;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * @return the statement of the physical connection
+	 */
+	Statement getPhysicalStatement() {
+		return this.delegate;
+	}
+
+	protected void checkOpen() throws SQLException {
+		if (this.closed) {
+			throw new SQLException("Statement is closed");
+		}
+	}
+
+	protected <T> T call(LogicalConnection.SqlCall<T> call) throws SQLException {
+		checkOpen();
+		try {
+			return call.call();
+		} catch (SQLException e) {
+			failed(e);
+			throw e;
+		}
+	}
+
+	protected void run(LogicalConnection.SqlRun run) throws SQLException {
+		call(() -> {
+			run.run();
+			return null;
+		});
+	}
+
+	/**
+	 * A failure of the statement, reported to the owner of the physical connection when it left the connection closed.
+	 *
+	 * @param exception the failure
+	 */
+	protected void failed(SQLException exception) {
+		this.connection.fireErrorIfBroken(exception);
+	}
+
+	/*-------------------*/
+	/*       Close       */
+	/*-------------------*/
+
+	@Override public void close() throws SQLException {
+		if (!this.closed) {
+			this.closed = true;
+			this.connection.forget(this);
+			closePhysicalStatement();
+		}
+	}
+
+	/**
+	 * Called once, when the application or the logical connection closes the statement.
+	 *
+	 * @throws SQLException if the statement can't be closed
+	 */
+	protected void closePhysicalStatement() throws SQLException {
+		this.delegate.close();
+	}
+
+	@Override public boolean isClosed() throws SQLException {
+		return this.closed || this.delegate.isClosed();
+	}
+
+	@Override public Connection getConnection() throws SQLException {
+		checkOpen();
+		return this.connection;
+	}
+
+	/*------------------------*/
+	/*       Delegation       */
+	/*------------------------*/
+
+	@Override public ResultSet executeQuery(String sql) throws SQLException {
+		return call(() -> this.delegate.executeQuery(sql));
+	}
+
+	@Override public int executeUpdate(String sql) throws SQLException {
+		return call(() -> this.delegate.executeUpdate(sql));
+	}
+
+	@Override public int getMaxFieldSize() throws SQLException {
+		return call(() -> this.delegate.getMaxFieldSize());
+	}
+
+	@Override public void setMaxFieldSize(int max) throws SQLException {
+		run(() -> this.delegate.setMaxFieldSize(max));
+	}
+
+	@Override public int getMaxRows() throws SQLException {
+		return call(() -> this.delegate.getMaxRows());
+	}
+
+	@Override public void setMaxRows(int max) throws SQLException {
+		run(() -> this.delegate.setMaxRows(max));
+	}
+
+	@Override public void setEscapeProcessing(boolean enable) throws SQLException {
+		run(() -> this.delegate.setEscapeProcessing(enable));
+	}
+
+	@Override public int getQueryTimeout() throws SQLException {
+		return call(() -> this.delegate.getQueryTimeout());
+	}
+
+	@Override public void setQueryTimeout(int seconds) throws SQLException {
+		run(() -> this.delegate.setQueryTimeout(seconds));
+	}
+
+	@Override public void cancel() throws SQLException {
+		run(() -> this.delegate.cancel());
+	}
+
+	@Override public SQLWarning getWarnings() throws SQLException {
+		return call(() -> this.delegate.getWarnings());
+	}
+
+	@Override public void clearWarnings() throws SQLException {
+		run(() -> this.delegate.clearWarnings());
+	}
+
+	@Override public void setCursorName(String name) throws SQLException {
+		run(() -> this.delegate.setCursorName(name));
+	}
+
+	@Override public boolean execute(String sql) throws SQLException {
+		return call(() -> this.delegate.execute(sql));
+	}
+
+	@Override public ResultSet getResultSet() throws SQLException {
+		return call(() -> this.delegate.getResultSet());
+	}
+
+	@Override public int getUpdateCount() throws SQLException {
+		return call(() -> this.delegate.getUpdateCount());
+	}
+
+	@Override public boolean getMoreResults() throws SQLException {
+		return call(() -> this.delegate.getMoreResults());
+	}
+
+	@Override public void setFetchDirection(int direction) throws SQLException {
+		run(() -> this.delegate.setFetchDirection(direction));
+	}
+
+	@Override public int getFetchDirection() throws SQLException {
+		return call(() -> this.delegate.getFetchDirection());
+	}
+
+	@Override public void setFetchSize(int rows) throws SQLException {
+		run(() -> this.delegate.setFetchSize(rows));
+	}
+
+	@Override public int getFetchSize() throws SQLException {
+		return call(() -> this.delegate.getFetchSize());
+	}
+
+	@Override public int getResultSetConcurrency() throws SQLException {
+		return call(() -> this.delegate.getResultSetConcurrency());
+	}
+
+	@Override public int getResultSetType() throws SQLException {
+		return call(() -> this.delegate.getResultSetType());
+	}
+
+	@Override public void addBatch(String sql) throws SQLException {
+		run(() -> this.delegate.addBatch(sql));
+	}
+
+	@Override public void clearBatch() throws SQLException {
+		run(() -> this.delegate.clearBatch());
+	}
+
+	@Override public int[] executeBatch() throws SQLException {
+		return call(() -> this.delegate.executeBatch());
+	}
+
+	@Override public boolean getMoreResults(int current) throws SQLException {
+		return call(() -> this.delegate.getMoreResults(current));
+	}
+
+	@Override public ResultSet getGeneratedKeys() throws SQLException {
+		return call(() -> this.delegate.getGeneratedKeys());
+	}
+
+	@Override public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		return call(() -> this.delegate.executeUpdate(sql, autoGeneratedKeys));
+	}
+
+	@Override public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		return call(() -> this.delegate.executeUpdate(sql, columnIndexes));
+	}
+
+	@Override public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+		return call(() -> this.delegate.executeUpdate(sql, columnNames));
+	}
+
+	@Override public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+		return call(() -> this.delegate.execute(sql, autoGeneratedKeys));
+	}
+
+	@Override public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+		return call(() -> this.delegate.execute(sql, columnIndexes));
+	}
+
+	@Override public boolean execute(String sql, String[] columnNames) throws SQLException {
+		return call(() -> this.delegate.execute(sql, columnNames));
+	}
+
+	@Override public int getResultSetHoldability() throws SQLException {
+		return call(() -> this.delegate.getResultSetHoldability());
+	}
+
+	@Override public void setPoolable(boolean poolable) throws SQLException {
+		run(() -> this.delegate.setPoolable(poolable));
+	}
+
+	@Override public boolean isPoolable() throws SQLException {
+		return call(() -> this.delegate.isPoolable());
+	}
+
+	@Override public void closeOnCompletion() throws SQLException {
+		run(() -> this.delegate.closeOnCompletion());
+	}
+
+	@Override public boolean isCloseOnCompletion() throws SQLException {
+		return call(() -> this.delegate.isCloseOnCompletion());
+	}
+
+	@Override public long getLargeUpdateCount() throws SQLException {
+		return call(() -> this.delegate.getLargeUpdateCount());
+	}
+
+	@Override public void setLargeMaxRows(long max) throws SQLException {
+		run(() -> this.delegate.setLargeMaxRows(max));
+	}
+
+	@Override public long getLargeMaxRows() throws SQLException {
+		return call(() -> this.delegate.getLargeMaxRows());
+	}
+
+	@Override public long[] executeLargeBatch() throws SQLException {
+		return call(() -> this.delegate.executeLargeBatch());
+	}
+
+	@Override public long executeLargeUpdate(String sql) throws SQLException {
+		return call(() -> this.delegate.executeLargeUpdate(sql));
+	}
+
+	@Override public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		return call(() -> this.delegate.executeLargeUpdate(sql, autoGeneratedKeys));
+	}
+
+	@Override public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		return call(() -> this.delegate.executeLargeUpdate(sql, columnIndexes));
+	}
+
+	@Override public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+		return call(() -> this.delegate.executeLargeUpdate(sql, columnNames));
+	}
+
+	@Override public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface.isInstance(this)) {
+			return iface.cast(this);
+		}
+		return this.delegate.unwrap(iface);
+	}
+
+	@Override public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance(this) || this.delegate.isWrapperFor(iface);
+	}
+}
@@ -1,25 +1,43 @@
 package org.memgraph.jdbc.utils;
 
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
-import org.neo4j.driver.Transaction;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.internal.InternalDriver;
+import org.neo4j.driver.internal.InternalSession;
+import org.neo4j.driver.internal.reactive.InternalRxSession;
+import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.summary.SummaryCounters;
 import org.memgraph.jdbc.bolt.BoltGraphConnection;
 import org.memgraph.jdbc.bolt.impl.BoltGraphConnectionImpl;
+import org.memgraph.jdbc.bolt.impl.CancellableAsyncSession;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.time.Duration;
-import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalUnit;
 import java.util.Collections;
-import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -27,12 +45,12 @@ import java.util.logging.Logger;
  */
 public class BoltGraphUtils {
 
-    public static final RetryConfig RETRY_CONFIG = RetryConfig
-            .custom()
-            .retryOnException(new RetryExceptionPredicate())
-            .waitDuration(Duration.of(1, ChronoUnit.SECONDS))
-            .maxAttempts(10)
-            .build();
+    private static final Logger LOGGER = Logger.getLogger(BoltGraphUtils.class.getName());
+
+    /**
+     * How long the caller waits for a statement past its query timeout, leaving the server the time to report it.
+     */
+    static final long QUERY_TIMEOUT_GRACE_MILLIS = 1000;
 
     /**
      * Calculate, using the summary, how many operations are executed in the statement
@@ -73,37 +91,256 @@ public class BoltGraphUtils {
                                     String sql,
                                     Map<String, Object> params,
                                     Function<Result, R> body) throws SQLException {
+        return executeInTx(connection, sql, params, 0, body);
+    }
+
+    public static <R> R executeInTx(BoltGraphConnection connection,
+                                    String sql,
+                                    Map<String, Object> params,
+                                    int fetchSize,
+                                    Function<Result, R> body) throws SQLException {
+        return executeInTx(connection, sql, params, fetchSize, 0, body);
+    }
+
+    /**
+     * Run the statement in the connection transaction, or as an auto-commit transaction in autocommit mode,
+     * pulling records in batches of {@code fetchSize} (0 keeps the connection default).
+     * A positive {@code queryTimeout}, in seconds, is sent to the server as the transaction timeout; the caller waits
+     * for it plus a grace period, then the statement is abandoned and its transaction rolled back.
+     * The statement is waited for on the {@link SharedExecutor}, when all its threads are busy it runs on the caller
+     * and only the server enforces the timeout.
+     * A read only connection refuses a mutating statement before sending it, and a connection whose transaction
+     * was rolled back by a statement timing out refuses every statement until the application rolls back.
+     */
+    public static <R> R executeInTx(BoltGraphConnection connection,
+                                    String sql,
+                                    Map<String, Object> params,
+                                    int fetchSize,
+                                    int queryTimeout,
+                                    Function<Result, R> body) throws SQLException {
+        connection.checkReadOnly(sql);
+        connection.checkTransaction();
         try {
-            Result statementResult = execute(connection, sql, params);
-            R result = body.apply(statementResult);
-            if (connection.getAutoCommit()) {
+            R result = queryTimeout > 0
+                    ? executeWithDeadline(connection, sql, params, fetchSize, queryTimeout, body)
+                    : body.apply(execute(connection, sql, params, fetchSize, 0));
+            // a streaming result set commits by itself once it is exhausted or closed
+            if (connection.getAutoCommit() && !connection.isTransactionHeld()) {
                 connection.doCommit();
             }
+            connection.statementSucceeded();
             return result;
-        }  catch (Exception e) {
+        } catch (SQLTimeoutException e) {
+            throw e;
+        } catch (Exception e) {
             connection.doRollback();
             throw new SQLException(e);
         }
     }
 
+    private static <R> R executeWithDeadline(BoltGraphConnection connection,
+                                             String sql,
+                                             Map<String, Object> params,
+                                             int fetchSize,
+                                             int queryTimeout,
+                                             Function<Result, R> body) throws Exception {
+        // the runner is taken on the caller, so abandoning the session can't race with its opening
+        QueryRunner runner = connection.getQueryRunner(fetchSize, queryTimeout);
+        Supplier<R> task = () -> {
+            try {
+                return body.apply(run(connection, runner, sql, params));
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        };
+        CompletableFuture<R> running;
+        try {
+            running = CompletableFuture.supplyAsync(task, SharedExecutor.get());
+        } catch (RejectedExecutionException e) {
+            return body.apply(run(connection, runner, sql, params));
+        }
+        try {
+            return running.get(TimeUnit.SECONDS.toMillis(queryTimeout) + QUERY_TIMEOUT_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            connection.abandonSession(running);
+            throw new SQLTimeoutException("The statement didn't complete within the query timeout of " + queryTimeout + " seconds", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
     public static <R> R executeInTx(BoltGraphConnection connection,
                                     String sql,
                                     Function<Result, R> body) throws SQLException {
         return executeInTx(connection, sql, Collections.emptyMap(), body);
     }
 
+    /**
+     * Run the statement without blocking the caller, as an auto-commit transaction of an async session of its own.
+     * The body gets the cursor of the statement, the session is closed once the stage of the body completes.
+     * Outside autocommit mode the statement belongs to the connection transaction, so it runs at once with {@code blocking}.
+     * {@code started} gets the async session before the statement is sent, to cancel it.
+     * The failures complete the returned stage with a SQLException.
+     */
+    public static <R> CompletionStage<R> executeAsync(BoltGraphConnection connection,
+                                                      String sql,
+                                                      Map<String, Object> params,
+                                                      int queryTimeout,
+                                                      Callable<R> blocking,
+                                                      Consumer<AsyncSession> started,
+                                                      Function<ResultCursor, CompletionStage<R>> body) {
+        CompletableFuture<R> completion = new CompletableFuture<>();
+        AsyncSession session;
+        try {
+            if (!connection.getAutoCommit()) {
+                completion.complete(blocking.call());
+                return completion;
+            }
+            connection.checkReadOnly(sql);
+            session = connection.newAsyncGraphSession(sql);
+        } catch (Exception e) {
+            completion.completeExceptionally(e instanceof SQLException ? e : new SQLException(e));
+            return completion;
+        }
+        TransactionConfig config = queryTimeout > 0 ? TransactionConfig.builder().withTimeout(Duration.ofSeconds(queryTimeout)).build() : TransactionConfig.empty();
+        started.accept(session);
+        session.runAsync(sql, params, config)
+                .thenCompose(body)
+                .whenComplete((result, error) -> session.closeAsync().whenComplete((closed, closeError) -> {
+                    if (error != null) {
+                        completion.completeExceptionally(new SQLException(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error));
+                        return;
+                    }
+                    try {
+                        connection.setLastBookmark(session.lastBookmark());
+                    } catch (SQLException e) {
+                        completion.completeExceptionally(e);
+                        return;
+                    }
+                    connection.statementSucceeded();
+                    completion.complete(result);
+                }));
+        return completion;
+    }
+
+    /**
+     * Open an async session that {@link #reset(AsyncSession)} can cancel, when the driver allows it.
+     */
+    public static AsyncSession newAsyncSession(Driver driver, SessionConfig config) {
+        return driver instanceof InternalDriver ? new CancellableAsyncSession(((InternalDriver) driver).newSession(config)) : driver.asyncSession(config);
+    }
+
+    /**
+     * Reset the session from any thread: the server terminates the running query and its transaction, the statement
+     * running in the session fails at once. The failures of the reset itself are ignored.
+     */
+    public static void reset(Session session) {
+        if (session instanceof InternalSession && session.isOpen()) {
+            try {
+                ((InternalSession) session).reset();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.FINE, "Cannot reset the session", e);
+            }
+        }
+    }
+
+    /**
+     * @see #reset(Session)
+     */
+    public static void reset(AsyncSession session) {
+        if (session instanceof CancellableAsyncSession) {
+            ((CancellableAsyncSession) session).resetAsync().exceptionally(error -> {
+                LOGGER.log(Level.FINE, "Cannot reset the session", error);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * @see #reset(Session)
+     */
+    public static void reset(RxSession session) {
+        if (session instanceof InternalRxSession) {
+            subscribe(((InternalRxSession) session).reset(), () -> {});
+        }
+    }
+
+    /**
+     * Request everything from a publisher run for its side effects, {@code then} runs once it's over, failed or not.
+     */
+    public static void subscribe(Publisher<?> publisher, Runnable then) {
+        publisher.subscribe(new Subscriber<Object>() {
+            @Override public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override public void onNext(Object ignored) {
+            }
+
+            @Override public void onError(Throwable error) {
+                then.run();
+            }
+
+            @Override public void onComplete() {
+                then.run();
+            }
+        });
+    }
+
     private static Result execute(BoltGraphConnection connection,
                                           String statement,
-                                          Map<String, Object> params) throws Exception {
-        return runTransactionWithRetries(connection.getTransaction(), statement, params);
+                                          Map<String, Object> params,
+                                          int fetchSize,
+                                          int queryTimeout) throws Exception {
+        QueryRunner runner = queryTimeout > 0 ? connection.getQueryRunner(fetchSize, queryTimeout) : connection.getQueryRunner(fetchSize);
+        return run(connection, runner, statement, params);
     }
 
-    public static Result runTransactionWithRetries(Transaction tx,
+    private static Result run(BoltGraphConnection connection,
+                              QueryRunner runner,
+                              String statement,
+                              Map<String, Object> params) throws Exception {
+        RetryPolicy retryPolicy = connection.getRetryPolicy();
+        return runTransactionWithRetries(retryPolicy == null ? RetryPolicy.DEFAULT : retryPolicy, runner, statement, params);
+    }
+
+    public static Result runTransactionWithRetries(QueryRunner tx,
                                                    String statement,
                                                    Map<String, Object> params) throws Exception {
-        return Retry.decorateCallable(Retry.of("retryPool", RETRY_CONFIG),
-                () -> tx.run(statement, params))
-                .call();
+        return runTransactionWithRetries(RetryPolicy.DEFAULT, tx, statement, params);
+    }
+
+    /**
+     * Run the statement, retrying the transient failures as configured by the retry policy
+     */
+    public static Result runTransactionWithRetries(RetryPolicy retryPolicy,
+                                                   QueryRunner tx,
+                                                   String statement,
+                                                   Map<String, Object> params) throws Exception {
+        return retryPolicy.call(() -> tx.run(statement, params));
+    }
+
+    /**
+     * Wait for an async driver operation, rethrowing the cause of its failure
+     * @param stage
+     * @return the completed value
+     */
+    public static <T> T await(CompletionStage<T> stage) throws Exception {
+        try {
+            return stage.toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
     }
 
     public static void closeSafely(AutoCloseable closeable, Logger logger) {
@@ -121,30 +358,15 @@ public class BoltGraphUtils {
         }
     }
 
-    public static boolean hasResultSet(BoltGraphConnection connection, String cypher) {
-        if (StringUtils.isBlank(cypher)) {
-            return false;
-        }
-        try (final Session session = connection.newGraphSession();
-             final Transaction transaction = session.beginTransaction()) {
-            final String toUpperCase = cypher.trim().toUpperCase(Locale.ROOT);
-            final String cql;
-            if (toUpperCase.startsWith("EXPLAIN") || toUpperCase.startsWith("PROFILE")) {
-                cql = cypher;
-            } else {
-                cql = "EXPLAIN " + cypher;
-            }
-            return transaction
-                    .run(cql)
-                    .consume()
-                    .plan()
-                    .children()
-                    .stream()
-                    .map(f -> f.operatorType())
-                    .noneMatch(o -> o.toUpperCase(Locale.ROOT).contains("EMPTYRESULT"));
-        } catch (Exception e) {
-            return false;
-        }
+    /**
+     * A statement produces a ResultSet when the server declares at least one field in the RUN response.
+     * Update-only statements (CREATE, MERGE without RETURN, schema changes...) return no fields,
+     * so the answer comes with the result itself, without any further round trip.
+     * @param result the result of the executed statement
+     * @return true if the result must be exposed as a ResultSet
+     */
+    public static boolean hasResultSet(Result result) {
+        return result != null && !result.keys().isEmpty();
     }
 
 }
@@ -0,0 +1,249 @@
+package org.memgraph.jdbc.utils;
+
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import org.memgraph.jdbc.bolt.impl.BoltGraphDriverImpl;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * The retry policy of the statements run by the connections of a driver.
+ * <br>
+ * A retryable failure is retried with an exponential, randomized backoff. Every retry takes a token from a budget
+ * refilled at a fixed rate, so a failing cluster isn't flooded by the retries of all the connections: once the
+ * budget is empty the failures are reported at once. After a number of consecutive calls failed even with their
+ * retries, the circuit breaker opens and the calls fail fast until a trial call succeeds.
+ * <br>
+ * The policy is shared by all the connections of a driver, so its counters cover all of them.
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 10;
+    public static final long DEFAULT_INITIAL_BACKOFF = 100;
+    public static final long DEFAULT_MAX_BACKOFF = 5000;
+    public static final double DEFAULT_MULTIPLIER = 2;
+    public static final double DEFAULT_JITTER = 0.5;
+    public static final int DEFAULT_BUDGET = 100;
+    public static final int DEFAULT_BUDGET_REFILL = 10;
+    public static final int DEFAULT_CIRCUIT_BREAKER_FAILURES = 5;
+    public static final long DEFAULT_CIRCUIT_BREAKER_OPEN_TIME = 10000;
+
+    /**
+     * The policy of the calls made without a driver.
+     */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(new Properties());
+
+    private static final Map<Object, RetryPolicy> POLICIES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Predicate<Throwable> retryable = new RetryExceptionPredicate();
+    private final Retry retry;
+    private final RetryBudget budget;
+    private final CircuitBreaker circuitBreaker;
+
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong backoffMillis = new AtomicLong();
+    private final AtomicLong rejectedRetries = new AtomicLong();
+
+    /**
+     * @param properties the connection properties, the missing ones keep their default
+     */
+    public RetryPolicy(Properties properties) {
+        int maxAttempts = Integer.parseInt(properties.getProperty(BoltGraphDriverImpl.RETRY_MAX_ATTEMPTS, String.valueOf(DEFAULT_MAX_ATTEMPTS)));
+        long initialBackoff = Long.parseLong(properties.getProperty(BoltGraphDriverImpl.RETRY_INITIAL_BACKOFF, String.valueOf(DEFAULT_INITIAL_BACKOFF)));
+        long maxBackoff = Long.parseLong(properties.getProperty(BoltGraphDriverImpl.RETRY_MAX_BACKOFF, String.valueOf(DEFAULT_MAX_BACKOFF)));
+        double multiplier = Double.parseDouble(properties.getProperty(BoltGraphDriverImpl.RETRY_MULTIPLIER, String.valueOf(DEFAULT_MULTIPLIER)));
+        double jitter = Double.parseDouble(properties.getProperty(BoltGraphDriverImpl.RETRY_JITTER, String.valueOf(DEFAULT_JITTER)));
+        int budget = Integer.parseInt(properties.getProperty(BoltGraphDriverImpl.RETRY_BUDGET, String.valueOf(DEFAULT_BUDGET)));
+        int refill = Integer.parseInt(properties.getProperty(BoltGraphDriverImpl.RETRY_BUDGET_REFILL, String.valueOf(DEFAULT_BUDGET_REFILL)));
+        int failures = Integer.parseInt(properties.getProperty(BoltGraphDriverImpl.CIRCUIT_BREAKER_FAILURES, String.valueOf(DEFAULT_CIRCUIT_BREAKER_FAILURES)));
+        long openTime = Long.parseLong(properties.getProperty(BoltGraphDriverImpl.CIRCUIT_BREAKER_OPEN_TIME, String.valueOf(DEFAULT_CIRCUIT_BREAKER_OPEN_TIME)));
+
+        IntervalFunction backoff = jitter > 0
+                ? IntervalFunction.ofExponentialRandomBackoff(initialBackoff, multiplier, Math.min(jitter, 1), maxBackoff)
+                : IntervalFunction.ofExponentialBackoff(initialBackoff, multiplier, maxBackoff);
+        this.budget = new RetryBudget(budget, refill);
+        this.circuitBreaker = new CircuitBreaker(failures, openTime);
+        this.retry = Retry.of("retryPool", RetryConfig.custom()
+                .retryOnException(this::shouldRetry)
+                .intervalFunction(backoff)
+                .maxAttempts(Math.max(1, maxAttempts))
+                .build());
+        this.retry.getEventPublisher().onRetry(event -> {
+            this.retries.incrementAndGet();
+            this.backoffMillis.addAndGet(event.getWaitInterval().toMillis());
+        });
+    }
+
+    /**
+     * @param driver     the driver of the connection
+     * @param properties the connection properties, used the first time a policy is built for the driver
+     * @return the policy shared by all the connections of the driver
+     */
+    public static RetryPolicy forDriver(Object driver, Properties properties) {
+        return POLICIES.computeIfAbsent(driver, key -> new RetryPolicy(properties));
+    }
+
+    /**
+     * Run a call, retrying its retryable failures.
+     *
+     * @param callable the call
+     * @return the result of the call
+     * @throws SQLTransientConnectionException if the circuit breaker is open
+     * @throws Exception                       the failure of the last attempt
+     */
+    public <T> T call(Callable<T> callable) throws Exception {
+        this.circuitBreaker.acquirePermission();
+        try {
+            T result = Retry.decorateCallable(this.retry, callable).call();
+            this.circuitBreaker.onSuccess();
+            return result;
+        } catch (Exception e) {
+            if (this.retryable.test(e)) {
+                this.circuitBreaker.onFailure();
+            } else {
+                // the server answered, it's the statement that failed
+                this.circuitBreaker.onSuccess();
+            }
+            throw e;
+        }
+    }
+
+    private boolean shouldRetry(Throwable throwable) {
+        if (!this.retryable.test(throwable)) {
+            return false;
+        }
+        if (this.budget.tryAcquire()) {
+            return true;
+        }
+        this.rejectedRetries.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * @return the number of retries made so far
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return the time spent waiting before the retries, in milliseconds
+     */
+    public long getBackoffMillis() {
+        return backoffMillis.get();
+    }
+
+    /**
+     * @return the number of retries not made because the retry budget was empty
+     */
+    public long getRejectedRetries() {
+        return rejectedRetries.get();
+    }
+
+    /**
+     * @return the number of calls failed at once because the circuit breaker was open
+     */
+    public long getShortCircuitedCalls() {
+        return circuitBreaker.shortCircuited.get();
+    }
+
+    /**
+     * @return true if the calls currently fail fast
+     */
+    public boolean isCircuitBreakerOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    @Override public String toString() {
+        return "RetryPolicy{retries=" + getRetries() + ", backoffMillis=" + getBackoffMillis() + ", rejectedRetries=" + getRejectedRetries()
+                + ", shortCircuitedCalls=" + getShortCircuitedCalls() + ", circuitBreakerOpen=" + isCircuitBreakerOpen() + "}";
+    }
+
+    /**
+     * Token bucket of the retries, 0 tokens disable the budget.
+     */
+    private static final class RetryBudget {
+
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        private RetryBudget(int capacity, int refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1e9;
+            this.tokens = capacity;
+        }
+
+        private synchronized boolean tryAcquire() {
+            if (this.capacity <= 0) {
+                return true;
+            }
+            long now = System.nanoTime();
+            this.tokens = Math.min(this.capacity, this.tokens + (now - this.lastRefill) * this.refillPerNano);
+            this.lastRefill = now;
+            if (this.tokens < 1) {
+                return false;
+            }
+            this.tokens--;
+            return true;
+        }
+    }
+
+    /**
+     * Opens after a number of consecutive failed calls, 0 failures disable it.
+     * Once the open time elapsed a single trial call goes through: its success closes the breaker, its failure opens it again.
+     */
+    private static final class CircuitBreaker {
+
+        private final int failureThreshold;
+        private final long openNanos;
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicLong openUntil = new AtomicLong();
+        private final AtomicLong shortCircuited = new AtomicLong();
+        private volatile boolean open;
+
+        private CircuitBreaker(int failureThreshold, long openMillis) {
+            this.failureThreshold = failureThreshold;
+            this.openNanos = openMillis * 1_000_000;
+        }
+
+        private void acquirePermission() throws SQLTransientConnectionException {
+            if (!this.open) {
+                return;
+            }
+            long until = this.openUntil.get();
+            long now = System.nanoTime();
+            // the first caller after the open time makes the trial call, the others keep failing fast
+            if (now - until < 0 || !this.openUntil.compareAndSet(until, now + this.openNanos)) {
+                this.shortCircuited.incrementAndGet();
+                throw new SQLTransientConnectionException("Circuit breaker open after " + this.failureThreshold + " consecutive failures");
+            }
+        }
+
+        private void onSuccess() {
+            this.failures.set(0);
+            this.open = false;
+        }
+
+        private void onFailure() {
+            if (this.failureThreshold > 0 && this.failures.incrementAndGet() >= this.failureThreshold) {
+                this.openUntil.set(System.nanoTime() + this.openNanos);
+                this.open = true;
+            }
+        }
+
+        private boolean isOpen() {
+            return this.open;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AdaptiveBatchSizeTest {
+
+	@Test public void sizeShouldGrowAdditivelyWhileFast() {
+		AdaptiveBatchSize batchSize = new AdaptiveBatchSize(1000, 100, 1200, 500);
+
+		batchSize.record(1000, 100);
+		assertEquals(1100, batchSize.getSize());
+		batchSize.record(1100, 100);
+		assertEquals(1200, batchSize.getSize());
+		batchSize.record(1200, 100);
+		assertEquals(1200, batchSize.getSize());
+	}
+
+	@Test public void sizeShouldHalveWhenSlow() {
+		AdaptiveBatchSize batchSize = new AdaptiveBatchSize(1000, 300, 5000, 500);
+
+		batchSize.record(1000, 800);
+		assertEquals(500, batchSize.getSize());
+		batchSize.record(500, 800);
+		assertEquals(300, batchSize.getSize());
+	}
+
+	@Test public void sizeShouldNotGrowOnShortChunk() {
+		AdaptiveBatchSize batchSize = new AdaptiveBatchSize(1000, 100, 5000, 500);
+
+		batchSize.record(10, 1);
+		assertEquals(1000, batchSize.getSize());
+	}
+
+	@Test public void initialSizeShouldBeClamped() {
+		assertEquals(100, new AdaptiveBatchSize(1, 100, 5000, 500).getSize());
+		assertEquals(5000, new AdaptiveBatchSize(10_000, 100, 5000, 500).getSize());
+	}
+
+	@Test public void statisticsShouldBeObservable() {
+		AdaptiveBatchSize batchSize = new AdaptiveBatchSize(1000, 100, 5000, 500);
+		assertEquals(-1, batchSize.getLastLatencyMillis());
+
+		batchSize.record(1000, 500);
+		assertEquals(1, batchSize.getChunks());
+		assertEquals(500, batchSize.getLastLatencyMillis());
+		assertEquals(2000, batchSize.getThroughput(), 0.001);
+
+		batchSize.record(1100, 1100);
+		assertEquals(2, batchSize.getChunks());
+		assertEquals(0.3 * 1000 + 0.7 * 2000, batchSize.getThroughput(), 0.001);
+	}
+
+	@Test public void resetShouldStartOverFromTheInitialSize() {
+		AdaptiveBatchSize batchSize = new AdaptiveBatchSize(1000, 100, 5000, 500);
+		batchSize.record(1000, 100);
+		batchSize.record(1100, 1000);
+
+		batchSize.reset();
+
+		assertEquals(1000, batchSize.getSize());
+		assertEquals(0, batchSize.getChunks());
+		assertEquals(-1, batchSize.getLastLatencyMillis());
+		assertEquals(0, batchSize.getThroughput(), 0.001);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void boundsShouldBeValid() {
+		new AdaptiveBatchSize(1000, 500, 100, 500);
+	}
+}
@@ -25,21 +25,39 @@ import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.TransactionWork;
+import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.internal.DatabaseNameUtil;
 import org.neo4j.driver.internal.DefaultBookmarkHolder;
+import org.neo4j.driver.internal.InternalBookmark;
 import org.neo4j.driver.internal.InternalSession;
 import org.neo4j.driver.internal.async.NetworkSession;
 import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
 import org.neo4j.driver.internal.logging.DevNullLogging;
 import org.memgraph.jdbc.bolt.data.StatementData;
 import org.memgraph.jdbc.bolt.impl.BoltGraphConnectionImpl;
+import org.memgraph.jdbc.bolt.impl.BoltGraphDriverImpl;
+import org.memgraph.jdbc.boltrouting.BoltRoutingGraphDriver;
 import org.memgraph.jdbc.bolt.utils.JdbcConnectionTestUtils;
+import org.memgraph.jdbc.utils.SharedExecutor;
 
 import java.sql.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -103,6 +121,24 @@ public class BoltGraphConnectionTest {
 		closedConnection.getHoldability();
 	}
 
+	/*------------------------------*/
+	/*          newInstance         */
+	/*------------------------------*/
+	@Test public void newInstanceShouldReturnTheConnectionItself() {
+		assertTrue(BoltGraphConnectionImpl.newInstance(mockDriverOpen(), new Properties(), "") instanceof BoltGraphConnectionImpl);
+	}
+
+	@Test public void newInstanceShouldDecorateTheConnectionInDebugMode() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("debug", "true");
+		BoltGraphConnection connection = BoltGraphConnectionImpl.newInstance(mockDriverOpen(), properties, "");
+
+		assertTrue(connection instanceof DebugBoltGraphConnection);
+		assertSame(properties, connection.unwrap(BoltGraphConnectionImpl.class).getProperties());
+		connection.close();
+		assertTrue(connection.isClosed());
+	}
+
 	/*------------------------------*/
 	/*           isClosed           */
 	/*------------------------------*/
@@ -524,37 +560,153 @@ public class BoltGraphConnectionTest {
 
 	@Test public void setAutoCommitShouldCommit() throws SQLException {
 		openConnection.setAutoCommit(true);
-		openConnection.createStatement();
-		verify(openConnection.getSession(), times(1)).beginTransaction();
+		openConnection.getQueryRunner(0);
+		final Session session = openConnection.getSession();
+		verify(session, never()).beginTransaction();
 
 		openConnection.setAutoCommit(false);
-		openConnection.createStatement();
-		final Session session = openConnection.getSession();
+		openConnection.getQueryRunner(0);
 		verify(session, times(1)).beginTransaction();
+		assertSame(session, openConnection.getSession());
 
 		openConnection.setAutoCommit(false);
-		openConnection.createStatement();
-		final Session session1 = openConnection.getSession();
-		verify(session1, times(1)).beginTransaction();
-		assertSame(session, session1);
+		openConnection.getQueryRunner(0);
+		verify(session, times(1)).beginTransaction();
+		assertSame(session, openConnection.getSession());
 
 		openConnection.setAutoCommit(true);
-		openConnection.createStatement();
-		final Session session2 = openConnection.getSession();
-		verify(session2, times(1)).beginTransaction();
-		assertNotSame(session1, session2);
+		openConnection.getQueryRunner(0);
+		verify(session, times(1)).beginTransaction();
+		assertSame(session, openConnection.getSession());
 
-		openConnection.setAutoCommit(true);
-		openConnection.createStatement();
-		final Session session3 = openConnection.getSession();
-		verify(session3, times(1)).beginTransaction();
-		assertNotSame(session2, session3);
+		openConnection.setAutoCommit(false);
+		openConnection.getQueryRunner(0);
+		verify(session, times(2)).beginTransaction();
+		verify(session, never()).close();
+	}
+
+	@Test public void commitAndRollbackShouldKeepTheSession() throws SQLException {
+		Session session = mockSessionOpen();
+		Transaction transaction = session.beginTransaction();
+		when(transaction.isOpen()).thenReturn(true);
+		when(session.lastBookmark()).thenReturn(InternalBookmark.parse("bookmark-1"));
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		connection.setAutoCommit(false);
+
+		connection.getQueryRunner(0);
+		connection.commit();
+		connection.getQueryRunner(0);
+		connection.rollback();
+		connection.getQueryRunner(0);
+
+		verify(driver, times(1)).session(any(SessionConfig.class));
+		verify(transaction, times(1)).commit();
+		verify(transaction, times(1)).rollback();
+		verify(session, never()).close();
+		assertEquals("bookmark-1", connection.getClientInfo(BoltRoutingGraphDriver.BOOKMARK));
+	}
+
+	@Test public void shouldRebuildTheSessionWhenTheDatabaseChanges() throws SQLException {
+		Session session = mockSessionOpen();
+		Session otherSession = mockSessionOpen();
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session, otherSession);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		connection.setAutoCommit(false);
+		connection.getQueryRunner(0);
+		connection.commit();
+
+		connection.getProperties().setProperty(BoltGraphDriverImpl.DATABASE, "other");
+		connection.getQueryRunner(0);
+
+		ArgumentCaptor<SessionConfig> config = ArgumentCaptor.forClass(SessionConfig.class);
+		verify(driver, times(2)).session(config.capture());
+		assertEquals("other", config.getValue().database().orElse(null));
+		verify(session, times(1)).close();
+		verify(otherSession, times(1)).beginTransaction();
+	}
+
+	/*------------------------------*/
+	/*     Managed transactions     */
+	/*------------------------------*/
+	@SuppressWarnings("unchecked")
+	@Test public void writeTransactionShouldRunTheWorkOnTheConnectionSession() throws SQLException {
+		Session session = mockSessionOpen();
+		Transaction transaction = mock(Transaction.class);
+		when(session.writeTransaction(any(TransactionWork.class))).thenAnswer(invocation -> ((TransactionWork<?>) invocation.getArgument(0)).execute(transaction));
+		when(session.lastBookmark()).thenReturn(InternalBookmark.parse("bookmark-1"));
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+
+		assertEquals("done", connection.writeTransaction(tx -> {
+			tx.run(StatementData.STATEMENT_CREATE);
+			return "done";
+		}));
+
+		verify(transaction, times(1)).run(StatementData.STATEMENT_CREATE);
+		verify(session, never()).readTransaction(any(TransactionWork.class));
+		verify(driver, times(1)).session(any(SessionConfig.class));
+		assertEquals("bookmark-1", connection.getClientInfo(BoltRoutingGraphDriver.BOOKMARK));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test public void readTransactionShouldRunAManagedReadTransaction() throws SQLException {
+		Session session = openConnection.getSession();
+		when(session.readTransaction(any(TransactionWork.class))).thenReturn(42);
+
+		assertEquals(42, (int) openConnection.readTransaction(tx -> 0));
+		verify(session, never()).writeTransaction(any(TransactionWork.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test public void managedTransactionShouldWrapTheFailure() throws SQLException {
+		expectedEx.expect(SQLException.class);
+
+		when(openConnection.getSession().writeTransaction(any(TransactionWork.class))).thenThrow(new ClientException("Invalid syntax"));
+		openConnection.writeTransaction(tx -> null);
+	}
+
+	@Test public void managedTransactionShouldNotRunWhileATransactionIsOpen() throws SQLException {
+		expectedEx.expect(SQLException.class);
 
+		openConnection.setAutoCommit(false);
+		openConnection.getQueryRunner(0);
+		openConnection.writeTransaction(tx -> null);
+	}
+
+	@Test public void managedTransactionShouldThrowExceptionWhenCalledOnClosedConnection() throws SQLException {
+		expectedEx.expect(SQLException.class);
+
+		closedConnection.readTransaction(tx -> null);
+	}
+
+	@Test public void createStatementShouldNotBeginATransaction() throws SQLException {
 		openConnection.setAutoCommit(false);
 		openConnection.createStatement();
-		final Session session4 = openConnection.getSession();
-		verify(session4, times(1)).beginTransaction();
-		assertNotSame(session3, session4);
+		openConnection.prepareStatement(StatementData.STATEMENT_MATCH_ALL);
+		verify(openConnection.getSession(), never()).beginTransaction();
+
+		openConnection.getQueryRunner(0);
+		openConnection.getQueryRunner(0);
+		verify(openConnection.getSession(), times(1)).beginTransaction();
+	}
+
+	@Test public void autoCommitStatementsShouldRunOnTheSameSession() throws SQLException {
+		Session session = mockSessionOpen();
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+
+		assertSame(session, connection.getQueryRunner(0));
+		connection.doCommit();
+		assertSame(session, connection.getQueryRunner(0));
+
+		verify(driver, times(1)).session(any(SessionConfig.class));
+		verify(session, never()).beginTransaction();
+		verify(session, never()).close();
 	}
 
 	/*------------------------------*/
@@ -681,4 +833,322 @@ public class BoltGraphConnectionTest {
 		assertTrue(openConnection.isValid(0));
 	}
 
+	@Test public void isValidShouldPingOnTheConnectionSession() throws SQLException {
+		org.neo4j.driver.Driver driver = mockDriverOpen();
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		Session session = connection.getSession();
+
+		assertTrue(connection.isValid(1));
+		verify(driver, times(1)).session(any(SessionConfig.class));
+		verify(session).beginTransaction();
+		assertSame(session, connection.getSession());
+	}
+
+	@Test public void isValidShouldPingInANewSessionInTheOpenTransaction() throws SQLException {
+		Session session = mockSessionOpen();
+		Transaction transaction = session.beginTransaction();
+		when(transaction.isOpen()).thenReturn(true);
+		Session pinged = mockSessionOpen();
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session, pinged);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		connection.setAutoCommit(false);
+		connection.getTransaction();
+
+		assertTrue(connection.isValid(1));
+		verify(transaction, never()).run(anyString());
+		verify(pinged.beginTransaction()).run(anyString());
+		verify(pinged).close();
+		assertSame(transaction, connection.getTransaction());
+	}
+
+	@Test public void isValidShouldReturnFalseAndKeepTheOpenTransactionWhenThePingFails() throws SQLException {
+		Session session = mockSessionOpen();
+		Transaction transaction = session.beginTransaction();
+		when(transaction.isOpen()).thenReturn(true);
+		Session pinged = mockSessionOpen();
+		when(pinged.beginTransaction()).thenThrow(new RuntimeException("connection lost"));
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session, pinged);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		connection.setAutoCommit(false);
+		connection.getTransaction();
+
+		assertFalse(connection.isValid(1));
+		verify(transaction, never()).run(anyString());
+		assertSame(transaction, connection.getTransaction());
+	}
+
+	@Test(timeout = 10000) public void isValidShouldPingOnTheCallingThreadWhenNoThreadIsAvailable() throws Exception {
+		CountDownLatch busy = new CountDownLatch(1);
+		try {
+			try {
+				while (true) {
+					SharedExecutor.get().execute(() -> {
+						try {
+							busy.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					});
+				}
+			} catch (RejectedExecutionException e) {
+				// every thread of the shared executor is busy
+			}
+			Session session = mockSessionOpen();
+			Transaction transaction = session.beginTransaction();
+			Thread caller = Thread.currentThread();
+			List<Thread> pingers = new ArrayList<>();
+			when(transaction.run(anyString())).thenAnswer(invocation -> {
+				pingers.add(Thread.currentThread());
+				return null;
+			});
+			org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+			when(driver.session(any(SessionConfig.class))).thenReturn(session);
+			BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+
+			assertTrue(connection.isValid(1));
+			assertEquals(Collections.singletonList(caller), pingers);
+		} finally {
+			busy.countDown();
+		}
+	}
+
+	@Test public void isValidShouldNotPingRightAfterASuccessfulStatement() throws SQLException {
+		openConnection.statementSucceeded();
+
+		assertTrue(openConnection.isValid(1));
+		verify(openConnection.getSession(), never()).beginTransaction();
+	}
+
+	@Test public void isValidShouldPingWhenTheBypassWindowIsDisabled() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty(BoltGraphDriverImpl.VALIDATION_BYPASS_WINDOW, "0");
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(mockDriverOpen(), properties, "");
+		connection.statementSucceeded();
+
+		assertTrue(connection.isValid(1));
+		verify(connection.getSession()).beginTransaction();
+	}
+
+	@Test(timeout=3000) public void isValidShouldGiveUpTheSessionOnTimeout() throws SQLException {
+		Session slow = mockSessionOpenSlow();
+		Session next = mockSessionOpen();
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(slow, next);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+
+		assertFalse(connection.isValid(1));
+		assertSame(next, connection.getQueryRunner(0));
+	}
+
+
+	/*-------------------------------*/
+	/*           fetchSize           */
+	/*-------------------------------*/
+	@Test public void sessionShouldUseConnectionFetchSize() throws SQLException {
+		org.neo4j.driver.Driver driver = mockDriverOpen();
+		Properties properties = new Properties();
+		properties.setProperty("fetchsize", "100");
+		new BoltGraphConnectionImpl(driver, properties, "");
+
+		ArgumentCaptor<SessionConfig> config = ArgumentCaptor.forClass(SessionConfig.class);
+		verify(driver).session(config.capture());
+		assertEquals(Long.valueOf(100), config.getValue().fetchSize().orElse(null));
+	}
+
+	@Test public void sessionShouldUseDriverFetchSizeByDefault() throws SQLException {
+		org.neo4j.driver.Driver driver = mockDriverOpen();
+		new BoltGraphConnectionImpl(driver, new Properties(), "");
+
+		ArgumentCaptor<SessionConfig> config = ArgumentCaptor.forClass(SessionConfig.class);
+		verify(driver).session(config.capture());
+		assertFalse(config.getValue().fetchSize().isPresent());
+	}
+
+	@Test public void getQueryRunnerShouldOpenSessionWithStatementFetchSize() throws SQLException {
+		org.neo4j.driver.Driver driver = mockDriverOpen();
+		BoltGraphConnection connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		connection.getQueryRunner(25);
+		connection.getQueryRunner(25);
+		connection.getQueryRunner(50);
+
+		ArgumentCaptor<SessionConfig> config = ArgumentCaptor.forClass(SessionConfig.class);
+		verify(driver, times(3)).session(config.capture());
+		assertEquals(Long.valueOf(25), config.getAllValues().get(1).fetchSize().orElse(null));
+		assertEquals(Long.valueOf(50), config.getAllValues().get(2).fetchSize().orElse(null));
+	}
+
+	@Test public void getQueryRunnerShouldOpenSessionWithStatementFetchSizeWhenStreaming() throws SQLException {
+		org.neo4j.driver.Driver driver = mockDriverOpen();
+		Properties properties = new Properties();
+		properties.setProperty("fetchsize", "100");
+		properties.setProperty("streaming", "true");
+		BoltGraphConnection connection = new BoltGraphConnectionImpl(driver, properties, "");
+		connection.getQueryRunner(25);
+		connection.getQueryRunner(25);
+		connection.getQueryRunner(0);
+
+		ArgumentCaptor<SessionConfig> config = ArgumentCaptor.forClass(SessionConfig.class);
+		verify(driver, times(3)).session(config.capture());
+		assertEquals(Long.valueOf(25), config.getAllValues().get(1).fetchSize().orElse(null));
+		assertEquals(Long.valueOf(100), config.getAllValues().get(2).fetchSize().orElse(null));
+	}
+
+	/*-------------------------------*/
+	/*           streaming           */
+	/*-------------------------------*/
+	@Test public void getQueryRunnerShouldCloseTheStreamStillOpen() throws SQLException {
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(mockDriverOpen(), new Properties(), "");
+		ResultSet stream = mock(ResultSet.class);
+		connection.holdTransaction(stream);
+		connection.getQueryRunner(0);
+
+		verify(stream, times(1)).close();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test public void managedTransactionShouldCloseTheStreamStillOpen() throws SQLException {
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(mockDriverOpen(), new Properties(), "");
+		ResultSet stream = mock(ResultSet.class);
+		connection.holdTransaction(stream);
+		connection.writeTransaction(tx -> null);
+
+		verify(stream, times(1)).close();
+		assertFalse(connection.isTransactionHeld());
+		verify(connection.getSession(), times(1)).writeTransaction(any(TransactionWork.class));
+	}
+
+	@Test public void rollbackShouldCloseTheStreamStillOpen() throws SQLException {
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(mockDriverOpen(), new Properties(), "");
+		connection.setAutoCommit(false);
+		ResultSet stream = mock(ResultSet.class);
+		connection.holdTransaction(stream);
+		connection.rollback();
+
+		verify(stream, times(1)).close();
+	}
+
+	/*-------------------------------*/
+	/*          queryTimeout         */
+	/*-------------------------------*/
+	@Test public void transactionShouldBeginWithTheQueryTimeout() throws SQLException {
+		Session session = mockSessionOpen();
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		connection.setAutoCommit(false);
+		connection.getQueryRunner(0, 5);
+
+		ArgumentCaptor<TransactionConfig> config = ArgumentCaptor.forClass(TransactionConfig.class);
+		verify(session).beginTransaction(config.capture());
+		assertEquals(Duration.ofSeconds(5), config.getValue().timeout());
+		verify(session, never()).beginTransaction();
+	}
+
+	@Test public void autoCommitStatementShouldRunWithTheQueryTimeout() throws SQLException {
+		Session session = mockSessionOpen();
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		connection.getQueryRunner(0, 5).run(StatementData.STATEMENT_MATCH_ALL, Collections.emptyMap());
+
+		ArgumentCaptor<TransactionConfig> config = ArgumentCaptor.forClass(TransactionConfig.class);
+		verify(session).run(any(Query.class), config.capture());
+		assertEquals(Duration.ofSeconds(5), config.getValue().timeout());
+		assertSame(session, connection.getQueryRunner(0));
+	}
+
+	@Test public void abandonSessionShouldCloseItOnceTheStatementCompletes() throws SQLException {
+		Session session = mockSessionOpen();
+		Session next = mockSessionOpen();
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session, next);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		connection.setAutoCommit(false);
+		connection.getQueryRunner(0);
+
+		CompletableFuture<Object> running = new CompletableFuture<>();
+		connection.abandonSession(running);
+		connection.getQueryRunner(0);
+		verify(session, never()).close();
+		verify(next).beginTransaction();
+
+		running.complete(null);
+		verify(session).close();
+	}
+
+	@Test(timeout = 10000) public void timedOutStatementShouldRollBackTheTransactionUntilTheApplicationDoes() throws Exception {
+		Session abandoned = mockSessionOpen();
+		Transaction lost = mock(Transaction.class);
+		when(abandoned.beginTransaction(any(TransactionConfig.class))).thenReturn(lost);
+		CountDownLatch running = new CountDownLatch(1);
+		when(lost.run(anyString(), anyMap())).thenAnswer(invocation -> {
+			running.await();
+			return null;
+		});
+		Session next = mockSessionOpen();
+		Transaction transaction = mock(Transaction.class);
+		when(next.beginTransaction(any(TransactionConfig.class))).thenReturn(transaction);
+		when(transaction.isOpen()).thenReturn(true);
+		when(transaction.run(anyString(), anyMap())).thenReturn(mock(Result.class, RETURNS_DEEP_STUBS));
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(abandoned, next);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		connection.setAutoCommit(false);
+		Statement statement = connection.createStatement();
+		statement.setQueryTimeout(1);
+
+		try {
+			statement.executeUpdate(StatementData.STATEMENT_CREATE);
+			fail();
+		} catch (SQLTimeoutException e) {
+			// the transaction is lost with the session
+		} finally {
+			running.countDown();
+		}
+		try {
+			statement.executeUpdate(StatementData.STATEMENT_CREATE);
+			fail();
+		} catch (SQLTransactionRollbackException e) {
+			verify(driver, times(1)).session(any(SessionConfig.class));
+		}
+		try {
+			connection.commit();
+			fail();
+		} catch (SQLTransactionRollbackException e) {
+			verify(transaction, never()).commit();
+		}
+
+		connection.rollback();
+		statement.executeUpdate(StatementData.STATEMENT_CREATE);
+		connection.commit();
+		verify(transaction, times(1)).run(anyString(), anyMap());
+		verify(transaction, times(1)).commit();
+	}
+
+	/*-------------------------------*/
+	/*             cancel            */
+	/*-------------------------------*/
+	@Test public void cancelShouldResetTheSessionAndKeepIt() throws SQLException {
+		InternalSession session = mock(InternalSession.class);
+		when(session.isOpen()).thenReturn(true);
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session);
+		BoltGraphConnectionImpl connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+		connection.cancel();
+
+		verify(session).reset();
+		verify(session, never()).close();
+		assertSame(session, connection.getQueryRunner(0));
+	}
+
+	@Test public void cancelShouldDoNothingWithoutAnOpenSession() throws SQLException {
+		InternalSession session = mock(InternalSession.class);
+		org.neo4j.driver.Driver driver = mock(org.neo4j.driver.Driver.class);
+		when(driver.session(any(SessionConfig.class))).thenReturn(session);
+		new BoltGraphConnectionImpl(driver, new Properties(), "").cancel();
+
+		verify(session, never()).reset();
+	}
 }
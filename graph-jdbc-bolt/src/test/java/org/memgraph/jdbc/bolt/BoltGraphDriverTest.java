@@ -524,6 +524,32 @@ public class BoltGraphDriverTest {
 		driver.connect(COMPLETE_VALID_URL, info);
 	}
 
+	@Test public void shouldConfigureFetchSize() throws SQLException {
+		Properties info = new Properties();
+		info.setProperty("fetchsize","500");
+		AtomicBoolean called = new AtomicBoolean(false);
+		Driver driver = new BoltDriver((routingUris, config, authToken, props) -> {
+			assertEquals(500, config.fetchSize());
+			assertTrue(called.compareAndSet(false, true));
+			return mockedDriver;
+		});
+
+		driver.connect(COMPLETE_VALID_URL, info);
+
+		assertTrue(called.get());
+	}
+
+	@Test
+	public void shouldRefuseFetchSize() throws SQLException {
+		expectedEx.expect(SQLException.class);
+		expectedEx.expectMessage("fetchsize: XX is not a number");
+		Properties info = new Properties();
+		info.setProperty("fetchsize","XX");
+		Driver driver = new BoltDriver((routingUris, config, authToken, props) -> mockedDriver);
+
+		driver.connect(COMPLETE_VALID_URL, info);
+	}
+
 	@Test public void shouldConfigure_TRUST_SYSTEM_CA_SIGNED_CERTIFICATES() throws SQLException {
 		Properties info = new Properties();
 		info.setProperty("trust.strategy","TRUST_SYSTEM_CA_SIGNED_CERTIFICATES");
@@ -26,23 +26,36 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.reactive.RxResult;
+import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
 import org.memgraph.jdbc.bolt.data.StatementData;
 import org.memgraph.jdbc.bolt.impl.BoltGraphConnectionImpl;
 import org.memgraph.jdbc.bolt.utils.Mocker;
+import org.memgraph.jdbc.debug.DebugPreparedStatement;
 import org.memgraph.jdbc.impl.ListArray;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
 
 import java.sql.BatchUpdateException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.sql.Types.ARRAY;
@@ -69,8 +82,14 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -627,6 +646,25 @@ public class BoltGraphPreparedStatementTest {
 		statement.executeQuery();
 	}
 
+	/*------------------------------*/
+	/*          newInstance         */
+	/*------------------------------*/
+	@Test public void newInstanceShouldReturnTheStatementItself() throws SQLException {
+		PreparedStatement statement = BoltGraphPreparedStatement.newInstance(false, mockOpenConnection(), StatementData.STATEMENT_MATCH_ALL);
+
+		assertTrue(statement instanceof BoltGraphPreparedStatement);
+	}
+
+	@Test public void newInstanceShouldDecorateTheStatementInDebugMode() throws SQLException {
+		PreparedStatement statement = BoltGraphPreparedStatement.newInstance(true, mockOpenConnection(), StatementData.STATEMENT_MATCH_ALL);
+
+		assertTrue(statement instanceof DebugPreparedStatement);
+		assertTrue(statement.isWrapperFor(BoltGraphPreparedStatement.class));
+		BoltGraphPreparedStatement unwrapped = statement.unwrap(BoltGraphPreparedStatement.class);
+		statement.close();
+		assertTrue(unwrapped.isClosed());
+	}
+
 	/*------------------------------*/
 	/*         executeUpdate        */
 	/*------------------------------*/
@@ -850,7 +888,7 @@ public class BoltGraphPreparedStatementTest {
 	@Test public void executeBatchShouldWork() throws SQLException {
 		Transaction transaction = mock(Transaction.class);
 		BoltGraphConnectionImpl connection = mockOpenConnection();
-		when(connection.getTransaction()).thenReturn(transaction);
+		when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
         when(connection.getAutoCommit()).thenReturn(true);
 
         Result stmtResult = mock(Result.class);
@@ -883,7 +921,8 @@ public class BoltGraphPreparedStatementTest {
 		Transaction transaction = mock(Transaction.class);
 		Mockito.when(transaction.run(anyString(), anyMap())).thenThrow(TxRunRuntimeException.class);
 		BoltGraphConnection connection = (BoltGraphConnection) stmt.getConnection();
-		Mockito.when(connection.getTransaction()).thenReturn(transaction);
+		Mockito.when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
+		Mockito.when(connection.getAutoCommit()).thenReturn(true);
 
 		try {
 			stmt.executeBatch();
@@ -896,6 +935,228 @@ public class BoltGraphPreparedStatementTest {
 		}
 	}
 
+	@Test public void executeBatchShouldUnwindRowsInChunks() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.rewrite", "unwind");
+		properties.setProperty("batch.rewrite.size", "2");
+		Transaction transaction = mock(Transaction.class);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
+		when(connection.getAutoCommit()).thenReturn(true);
+
+		Result stmtResult = mock(Result.class, RETURNS_DEEP_STUBS);
+		List<List<?>> sentRows = new ArrayList<>();
+		when(transaction.run(Mockito.eq("UNWIND $__batch_rows AS __batch_row CREATE (n:User {id: __batch_row.`1`})"), anyMap())).thenAnswer(invocation -> {
+			Map<String, Object> parameters = invocation.getArgument(1);
+			sentRows.add(new ArrayList<>((List<?>) parameters.get("__batch_rows")));
+			return stmtResult;
+		});
+		when(stmtResult.consume().counters().nodesCreated()).thenReturn(2, 1);
+
+		PreparedStatement stmt = new BoltGraphPreparedStatement(connection, resultSetFactory, "CREATE (n:User {id: ?})");
+		for (int i = 1; i <= 3; i++) {
+			stmt.setInt(1, i);
+			stmt.addBatch();
+		}
+
+		assertArrayEquals(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1 }, stmt.executeBatch());
+		assertEquals(2, sentRows.size());
+		assertEquals(2, sentRows.get(0).size());
+		assertEquals(Collections.singletonList(Collections.singletonMap("1", 3)), sentRows.get(1));
+	}
+
+	@Test public void executeBatchShouldAdaptUnwindChunkSize() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.rewrite", "unwind");
+		properties.setProperty("batch.rewrite.size", "10");
+		properties.setProperty("batch.adaptive", "true");
+		properties.setProperty("batch.adaptive.min", "5");
+		properties.setProperty("batch.adaptive.max", "20");
+		properties.setProperty("batch.adaptive.target.latency", "100");
+		Transaction transaction = mock(Transaction.class);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
+		when(connection.getAutoCommit()).thenReturn(true);
+
+		Result stmtResult = mock(Result.class, RETURNS_DEEP_STUBS);
+		List<Integer> sentRows = new ArrayList<>();
+		when(transaction.run(anyString(), anyMap())).thenAnswer(invocation -> {
+			Map<String, Object> parameters = invocation.getArgument(1);
+			sentRows.add(((List<?>) parameters.get("__batch_rows")).size());
+			return stmtResult;
+		});
+		when(stmtResult.consume().resultAvailableAfter(Mockito.any())).thenReturn(10L, 10L, 500L, 10L);
+
+		BoltGraphPreparedStatement stmt = new BoltGraphPreparedStatement(connection, resultSetFactory, "CREATE (n:User {id: ?})");
+		for (int i = 0; i < 40; i++) {
+			stmt.setInt(1, i);
+			stmt.addBatch();
+		}
+		stmt.executeBatch();
+
+		assertEquals(Arrays.asList(10, 11, 12, 6, 1), sentRows);
+		assertEquals(7, stmt.getAdaptiveBatchSize().getSize());
+		assertEquals(5, stmt.getAdaptiveBatchSize().getChunks());
+	}
+
+	@Test public void executeBatchShouldRunRowByRowWhenTheStatementWorksAcrossRows() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.rewrite", "unwind");
+		Transaction transaction = mock(Transaction.class);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
+		when(connection.getAutoCommit()).thenReturn(true);
+
+		Result stmtResult = mock(Result.class, RETURNS_DEEP_STUBS);
+		when(transaction.run(anyString(), anyMap())).thenReturn(stmtResult);
+		when(stmtResult.consume().counters().nodesCreated()).thenReturn(1);
+
+		PreparedStatement stmt = new BoltGraphPreparedStatement(connection, resultSetFactory,
+				"MATCH (n:User) WITH count(n) AS users CREATE (:Stat {users: users, day: ?})");
+		stmt.setInt(1, 1);
+		stmt.addBatch();
+		stmt.setInt(1, 2);
+		stmt.addBatch();
+
+		assertArrayEquals(new int[] { 1, 1 }, stmt.executeBatch());
+		verify(transaction, times(2)).run(Mockito.eq("MATCH (n:User) WITH count(n) AS users CREATE (:Stat {users: users, day: $1})"), anyMap());
+	}
+
+	@Test public void executeBatchShouldReportUnwindedRowsOnError() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.rewrite", "unwind");
+		properties.setProperty("batch.rewrite.size", "1");
+		Transaction transaction = mock(Transaction.class);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
+		when(connection.getAutoCommit()).thenReturn(true);
+
+		Result stmtResult = mock(Result.class, RETURNS_DEEP_STUBS);
+		when(stmtResult.consume().counters().nodesCreated()).thenReturn(1);
+		when(transaction.run(anyString(), anyMap())).thenReturn(stmtResult).thenThrow(RuntimeException.class);
+
+		PreparedStatement stmt = new BoltGraphPreparedStatement(connection, resultSetFactory, "CREATE (n:User {id: ?})");
+		stmt.setInt(1, 1);
+		stmt.addBatch();
+		stmt.setInt(1, 2);
+		stmt.addBatch();
+
+		try {
+			stmt.executeBatch();
+			fail();
+		} catch (BatchUpdateException e) {
+			assertArrayEquals(new int[] { 1 }, e.getUpdateCounts());
+		}
+	}
+
+	@Test public void addBatchShouldFlushChunkWhenBatchSizeIsReached() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.size", "2");
+		Transaction transaction = mock(Transaction.class);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
+		when(connection.getAutoCommit()).thenReturn(true);
+
+		Result stmtResult = mock(Result.class, RETURNS_DEEP_STUBS);
+		when(transaction.run(anyString(), anyMap())).thenReturn(stmtResult);
+		when(stmtResult.consume().counters().nodesCreated()).thenReturn(1);
+
+		BoltGraphPreparedStatement stmt = new BoltGraphPreparedStatement(connection, resultSetFactory, "CREATE (n:User {id: ?})");
+		stmt.setInt(1, 1);
+		stmt.addBatch();
+		verify(transaction, never()).run(anyString(), anyMap());
+		stmt.setInt(1, 2);
+		stmt.addBatch();
+		verify(transaction, times(2)).run(anyString(), anyMap());
+		assertEquals(Collections.EMPTY_LIST, stmt.getBatchParameters());
+		stmt.setInt(1, 3);
+		stmt.addBatch();
+
+		assertArrayEquals(new int[] { 1, 1, 1 }, stmt.executeBatch());
+		verify(transaction, times(3)).run(anyString(), anyMap());
+		assertArrayEquals(new int[0], stmt.executeBatch());
+	}
+
+	@Test public void executeBatchShouldReportCommittedChunksOnError() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.size", "2");
+		properties.setProperty("batch.chunk.commit", "true");
+		Transaction transaction = mock(Transaction.class);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
+		AtomicBoolean autoCommit = new AtomicBoolean(true);
+		when(connection.getAutoCommit()).thenAnswer(invocation -> autoCommit.get());
+		doAnswer(invocation -> {
+			autoCommit.set(invocation.getArgument(0));
+			return null;
+		}).when(connection).setAutoCommit(anyBoolean());
+
+		Result stmtResult = mock(Result.class, RETURNS_DEEP_STUBS);
+		when(stmtResult.consume().counters().nodesCreated()).thenReturn(1);
+		when(transaction.run(anyString(), anyMap())).thenReturn(stmtResult, stmtResult, stmtResult).thenThrow(RuntimeException.class);
+
+		BoltGraphPreparedStatement stmt = new BoltGraphPreparedStatement(connection, resultSetFactory, "CREATE (n:User {id: ?})");
+		for (int i = 1; i <= 3; i++) {
+			stmt.setInt(1, i);
+			stmt.addBatch();
+		}
+		verify(connection, times(1)).setAutoCommit(false);
+		verify(connection, times(1)).doCommit();
+		verify(connection, times(1)).setAutoCommit(true);
+		stmt.setInt(1, 4);
+
+		try {
+			stmt.addBatch();
+			fail();
+		} catch (BatchUpdateException e) {
+			assertArrayEquals(new int[] { 1, 1 }, e.getUpdateCounts());
+			assertEquals("Batch chunk 1 (rows 2 to 3) failed after 2 successful rows", e.getMessage());
+		}
+		verify(connection, times(1)).doCommit();
+		verify(connection, times(1)).doRollback();
+		verify(connection, times(2)).setAutoCommit(true);
+		assertEquals(Collections.EMPTY_LIST, stmt.getBatchParameters());
+	}
+
+	@Test public void executeBatchShouldReportRolledBackChunksAsFailedInATransaction() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.size", "2");
+		properties.setProperty("batch.chunk.commit", "true");
+		Transaction transaction = mock(Transaction.class);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
+		when(connection.getAutoCommit()).thenReturn(false);
+
+		Result stmtResult = mock(Result.class, RETURNS_DEEP_STUBS);
+		when(stmtResult.consume().counters().nodesCreated()).thenReturn(1);
+		when(transaction.run(anyString(), anyMap())).thenReturn(stmtResult, stmtResult, stmtResult).thenThrow(RuntimeException.class);
+
+		BoltGraphPreparedStatement stmt = new BoltGraphPreparedStatement(connection, resultSetFactory, "CREATE (n:User {id: ?})");
+		for (int i = 1; i <= 3; i++) {
+			stmt.setInt(1, i);
+			stmt.addBatch();
+		}
+		stmt.setInt(1, 4);
+
+		try {
+			stmt.addBatch();
+			fail();
+		} catch (BatchUpdateException e) {
+			assertArrayEquals(new int[] { Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED },
+					e.getUpdateCounts());
+			assertEquals("Batch chunk 1 (rows 2 to 3) failed after 0 successful rows", e.getMessage());
+		}
+		verify(connection, never()).doCommit();
+		verify(connection, never()).setAutoCommit(anyBoolean());
+	}
+
 	@Test public void executeBatchShouldThrowExceptionOnClosed() throws SQLException {
 		expectedEx.expect(SQLException.class);
 
@@ -939,4 +1200,61 @@ public class BoltGraphPreparedStatementTest {
 
 		assertArrayEquals(new Long[]{1L,2L,4L}, (Long[]) preparedStatementOneParam.getParameters().get("1"));
 	}
+
+	/*------------------------------*/
+	/*             async            */
+	/*------------------------------*/
+
+	@Test public void executeUpdateAsyncShouldRunWithTheParametersSetWhenCalled() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getAutoCommit()).thenReturn(true);
+		AsyncSession session = mock(AsyncSession.class);
+		ResultCursor cursor = mock(ResultCursor.class);
+		CompletableFuture<ResultCursor> run = new CompletableFuture<>();
+		when(connection.newAsyncGraphSession(anyString())).thenReturn(session);
+		when(session.runAsync(anyString(), anyMap(), any(TransactionConfig.class))).thenReturn(run);
+		when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		when(cursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(mock(ResultSummary.class, RETURNS_DEEP_STUBS)));
+
+		PreparedStatement statement = BoltGraphPreparedStatement.newInstance(false, connection, StatementData.STATEMENT_CREATE_TWO_PROPERTIES_PARAMETRIC);
+		statement.setInt(1, 1);
+		statement.setInt(2, 2);
+		CompletionStage<Integer> update = statement.unwrap(BoltGraphAsyncPreparedStatement.class).executeUpdateAsync();
+		statement.setInt(1, 10);
+		run.complete(cursor);
+
+		assertEquals(Integer.valueOf(0), update.toCompletableFuture().get());
+		Map<String, Object> expected = new HashMap<>();
+		expected.put("1", 1);
+		expected.put("2", 2);
+		verify(session).runAsync(anyString(), eq(expected), eq(TransactionConfig.empty()));
+	}
+
+	/*------------------------------*/
+	/*           reactive           */
+	/*------------------------------*/
+
+	@Test public void executeQueryPublisherShouldRunWithTheParametersSetWhenCalled() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getAutoCommit()).thenReturn(true);
+		RxSession session = mock(RxSession.class);
+		RxResult result = mock(RxResult.class);
+		when(connection.newRxGraphSession(anyString())).thenReturn(session);
+		when(session.run(anyString(), anyMap(), any(TransactionConfig.class))).thenReturn(result);
+		when(result.records()).thenReturn(Subscriber::onComplete);
+		doReturn((Publisher<Object>) Subscriber::onComplete).when(session).close();
+
+		PreparedStatement statement = BoltGraphPreparedStatement.newInstance(false, connection, StatementData.STATEMENT_CREATE_TWO_PROPERTIES_PARAMETRIC);
+		statement.setInt(1, 1);
+		statement.setInt(2, 2);
+		Publisher<Object> rows = statement.unwrap(BoltGraphReactivePreparedStatement.class).executeQueryPublisher(row -> row.getObject(1));
+		statement.setInt(1, 10);
+		rows.subscribe(mock(Subscriber.class));
+
+		Map<String, Object> expected = new HashMap<>();
+		expected.put("1", 1);
+		expected.put("2", 2);
+		verify(session).run(anyString(), eq(expected), eq(TransactionConfig.empty()));
+		verify(session).close();
+	}
 }
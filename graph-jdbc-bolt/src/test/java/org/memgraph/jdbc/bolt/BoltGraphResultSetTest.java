@@ -20,6 +20,8 @@
 package org.memgraph.jdbc.bolt;
 
 import org.memgraph.jdbc.bolt.data.ResultSetData;
+import org.memgraph.jdbc.bolt.impl.BoltGraphConnectionImpl;
+import org.memgraph.jdbc.bolt.utils.Mocker;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -28,9 +30,17 @@ import org.neo4j.driver.Result;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author AgileLARUS
@@ -77,4 +87,59 @@ public class BoltGraphResultSetTest {
 		resultSet.close();
 	}
 
+	/*------------------------------*/
+	/*           streaming          */
+	/*------------------------------*/
+
+	@Test public void streamingShouldPullRecordsLazily() throws SQLException {
+		Result result = ResultSetData
+				.buildResultCursor(ResultSetData.KEYS_RECORD_LIST_MORE_ELEMENTS, ResultSetData.RECORD_LIST_MORE_ELEMENTS);
+		BoltGraphConnectionImpl connection = mockStreamingConnection();
+		BoltGraphResultSet resultSet = new BoltGraphResultSet(mockStatement(connection), result);
+
+		verify(result, never()).list();
+		verify(connection, times(1)).holdTransaction(resultSet);
+
+		int rows = 0;
+		while (resultSet.next()) {
+			rows++;
+		}
+
+		assertEquals(3, rows);
+		verify(connection, times(1)).releaseTransaction(resultSet);
+	}
+
+	@Test public void streamingCloseShouldDiscardRemainingRecords() throws SQLException {
+		Result result = ResultSetData
+				.buildResultCursor(ResultSetData.KEYS_RECORD_LIST_MORE_ELEMENTS, ResultSetData.RECORD_LIST_MORE_ELEMENTS);
+		BoltGraphConnectionImpl connection = mockStreamingConnection();
+		BoltGraphResultSet resultSet = new BoltGraphResultSet(mockStatement(connection), result);
+
+		assertTrue(resultSet.next());
+		resultSet.close();
+
+		verify(result, times(1)).consume();
+		verify(connection, times(1)).releaseTransaction(resultSet);
+	}
+
+	@Test public void streamingShouldNotHoldTransactionWhenEmpty() throws SQLException {
+		Result result = ResultSetData.buildResultCursor(ResultSetData.KEYS_RECORD_LIST_EMPTY, ResultSetData.RECORD_LIST_EMPTY);
+		BoltGraphConnectionImpl connection = mockStreamingConnection();
+		new BoltGraphResultSet(mockStatement(connection), result);
+
+		verify(connection, never()).holdTransaction(any());
+	}
+
+	private static BoltGraphConnectionImpl mockStreamingConnection() throws SQLException {
+		BoltGraphConnectionImpl connection = Mocker.mockOpenConnection();
+		when(connection.isStreaming()).thenReturn(true);
+		return connection;
+	}
+
+	private static Statement mockStatement(BoltGraphConnectionImpl connection) throws SQLException {
+		BoltGraphStatement statement = mock(BoltGraphStatement.class);
+		when(statement.getConnection()).thenReturn(connection);
+		return statement;
+	}
+
 }
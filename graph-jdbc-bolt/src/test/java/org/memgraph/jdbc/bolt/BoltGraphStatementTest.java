@@ -25,36 +25,65 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
+import org.neo4j.driver.QueryRunner;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.Values;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.Transaction;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.reactive.RxResult;
+import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
 import org.memgraph.jdbc.bolt.data.StatementData;
 import org.memgraph.jdbc.bolt.impl.BoltGraphConnectionImpl;
+import org.memgraph.jdbc.bolt.impl.CancellableAsyncSession;
 import org.memgraph.jdbc.bolt.utils.Mocker;
 import org.memgraph.jdbc.bolt.utils.ReflectionUtil;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -115,7 +144,7 @@ public class BoltGraphStatementTest {
 		Transaction mockTransaction = mock(Transaction.class);
 
 		BoltGraphConnectionImpl mockConnection = mockOpenConnection();
-		when(mockConnection.getTransaction()).thenReturn(mockTransaction);
+		when(mockConnection.getQueryRunner(anyLong())).thenReturn(mockTransaction);
 
 		Statement statement = BoltGraphStatement.newInstance(false, mockConnection);
 
@@ -230,6 +259,15 @@ public class BoltGraphStatementTest {
 		statement.executeUpdate(StatementData.STATEMENT_CREATE);
 	}
 
+	@Test public void executeUpdateShouldThrowExceptionOnReadOnlyConnection() throws SQLException {
+		expectedEx.expect(SQLException.class);
+		expectedEx.expectMessage("readonly");
+
+		Connection connection = new BoltGraphConnectionImpl(mockDriverOpen(), new Properties(), "");
+		connection.setReadOnly(true);
+		connection.createStatement().executeUpdate(StatementData.STATEMENT_CREATE);
+	}
+
 	@Test public void executeUpdateShouldThrowExceptionOnPreparedStatement() throws SQLException {
 		expectedEx.expect(SQLException.class);
 
@@ -316,6 +354,30 @@ public class BoltGraphStatementTest {
 		statement.execute(StatementData.STATEMENT_CREATE);
 	}
 
+	@Test public void executeShouldReturnResultSetWhenResultHasKeys() throws SQLException {
+		Result mockResult = mockResultWithUpdateCount(0);
+		when(mockResult.keys()).thenReturn(Collections.singletonList("n"));
+		BoltGraphConnectionImpl connection = mockOpenConnectionWithResult(mockResult);
+		BoltGraphStatement statement = new BoltGraphStatement(connection, resultSetFactory);
+
+		assertTrue(statement.execute(StatementData.STATEMENT_MATCH_ALL));
+		assertSame(expectedResultSet, statement.getResultSet());
+		assertEquals(-1, statement.getUpdateCount());
+		verify(connection, never()).newGraphSession();
+	}
+
+	@Test public void executeShouldReturnUpdateCountWhenResultHasNoKeys() throws SQLException {
+		Result mockResult = mockResultWithUpdateCount(3);
+		when(mockResult.keys()).thenReturn(Collections.emptyList());
+		BoltGraphConnectionImpl connection = mockOpenConnectionWithResult(mockResult);
+		BoltGraphStatement statement = new BoltGraphStatement(connection, resultSetFactory);
+
+		assertFalse(statement.execute(StatementData.STATEMENT_CREATE));
+		assertNull(statement.getResultSet());
+		assertEquals(3, statement.getUpdateCount());
+		verify(connection, never()).newGraphSession();
+	}
+
 	@Test public void executeShouldThrowExceptionOnQueryWhenClosedConnection() throws SQLException {
 		expectedEx.expect(SQLException.class);
 
@@ -493,7 +555,7 @@ public class BoltGraphStatementTest {
 	@Test public void executeBatchShouldWork() throws SQLException {
 		Transaction transaction = mock(Transaction.class);
 		BoltGraphConnectionImpl connection = mockOpenConnection();
-		when(connection.getTransaction()).thenReturn(transaction);
+		when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
 		when(connection.getAutoCommit()).thenReturn(true);
 		Result stmtResult = mock(Result.class);
 		ResultSummary resultSummary = mock(ResultSummary.class);
@@ -523,7 +585,7 @@ public class BoltGraphStatementTest {
 		Transaction transaction = mock(Transaction.class);
 		Mockito.when(transaction.run(anyString(), anyMap())).thenThrow(TxRunRuntimeException.class);
 		BoltGraphConnection connection = (BoltGraphConnection) stmt.getConnection();
-		Mockito.when(connection.getTransaction()).thenReturn(transaction);
+		Mockito.when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
 
 		try {
 			stmt.executeBatch();
@@ -536,6 +598,137 @@ public class BoltGraphStatementTest {
 		}
 	}
 
+	@Test public void executeBatchShouldPipelineStatementsInOneTransaction() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.pipeline", "true");
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getAutoCommit()).thenReturn(true);
+		AsyncSession session = mock(AsyncSession.class);
+		AsyncTransaction transaction = mock(AsyncTransaction.class);
+		ResultCursor cursor = mock(ResultCursor.class);
+		ResultSummary summary = mock(ResultSummary.class, Mockito.RETURNS_DEEP_STUBS);
+		CompletableFuture<ResultCursor> pendingRun = new CompletableFuture<>();
+		when(connection.newAsyncGraphSession()).thenReturn(session);
+		when(session.beginTransactionAsync()).thenReturn(CompletableFuture.completedFuture(transaction));
+		when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		when(transaction.runAsync(anyString())).thenReturn(pendingRun);
+		when(transaction.commitAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		when(cursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(summary));
+		when(summary.counters().nodesCreated()).thenReturn(1);
+
+		BoltGraphStatement stmt = new BoltGraphStatement(connection, resultSetFactory);
+		stmt.addBatch("CREATE (:A)");
+		stmt.addBatch("CREATE (:B)");
+		stmt.addBatch("CREATE (:C)");
+		// every RUN is sent before the first one gets its answer
+		doAnswer(invocation -> {
+			pendingRun.complete(cursor);
+			return pendingRun;
+		}).when(transaction).runAsync("CREATE (:C)");
+
+		assertArrayEquals(new int[] { 1, 1, 1 }, stmt.executeBatch());
+		verify(transaction, times(3)).runAsync(anyString());
+		verify(transaction).commitAsync();
+		verify(connection).setLastBookmark(any());
+		verify(connection, never()).getQueryRunner(anyLong());
+	}
+
+	@Test public void executeBatchShouldRollbackPipelinedBatchOnError() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.pipeline", "true");
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getAutoCommit()).thenReturn(true);
+		AsyncSession session = mock(AsyncSession.class);
+		AsyncTransaction transaction = mock(AsyncTransaction.class);
+		ResultCursor cursor = mock(ResultCursor.class);
+		ResultSummary summary = mock(ResultSummary.class, Mockito.RETURNS_DEEP_STUBS);
+		CompletableFuture<ResultCursor> failedRun = new CompletableFuture<>();
+		failedRun.completeExceptionally(new IllegalStateException("syntax error"));
+		when(connection.newAsyncGraphSession()).thenReturn(session);
+		when(session.beginTransactionAsync()).thenReturn(CompletableFuture.completedFuture(transaction));
+		when(transaction.runAsync("CREATE (:A)")).thenReturn(CompletableFuture.completedFuture(cursor));
+		when(transaction.runAsync("CREATE (:B")).thenReturn(failedRun);
+		when(transaction.runAsync("CREATE (:C)")).thenReturn(CompletableFuture.completedFuture(cursor));
+		when(transaction.rollbackAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		when(cursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(summary));
+
+		BoltGraphStatement stmt = new BoltGraphStatement(connection, resultSetFactory);
+		when(summary.counters().nodesCreated()).thenReturn(1);
+		stmt.addBatch("CREATE (:A)");
+		stmt.addBatch("CREATE (:B");
+		stmt.addBatch("CREATE (:C)");
+
+		try {
+			stmt.executeBatch();
+			fail();
+		} catch (BatchUpdateException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+			assertArrayEquals(new int[] { 1, Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED }, e.getUpdateCounts());
+		}
+		verify(transaction).rollbackAsync();
+		verify(transaction, never()).commitAsync();
+		verify(session).closeAsync();
+	}
+
+	@Test public void executeBatchShouldReportEveryStatementAsFailedWhenThePipelinedCommitFails() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.pipeline", "true");
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getAutoCommit()).thenReturn(true);
+		AsyncSession session = mock(AsyncSession.class);
+		AsyncTransaction transaction = mock(AsyncTransaction.class);
+		ResultCursor cursor = mock(ResultCursor.class);
+		ResultSummary summary = mock(ResultSummary.class, Mockito.RETURNS_DEEP_STUBS);
+		CompletableFuture<Void> failedCommit = new CompletableFuture<>();
+		failedCommit.completeExceptionally(new IllegalStateException("commit failed"));
+		when(connection.newAsyncGraphSession()).thenReturn(session);
+		when(session.beginTransactionAsync()).thenReturn(CompletableFuture.completedFuture(transaction));
+		when(transaction.runAsync(anyString())).thenReturn(CompletableFuture.completedFuture(cursor));
+		when(transaction.commitAsync()).thenReturn(failedCommit);
+		when(transaction.rollbackAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		when(cursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(summary));
+		when(summary.counters().nodesCreated()).thenReturn(1);
+
+		BoltGraphStatement stmt = new BoltGraphStatement(connection, resultSetFactory);
+		stmt.addBatch("CREATE (:A)");
+		stmt.addBatch("CREATE (:B)");
+
+		try {
+			stmt.executeBatch();
+			fail();
+		} catch (BatchUpdateException e) {
+			assertArrayEquals(new int[] { Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED }, e.getUpdateCounts());
+		}
+	}
+
+	@Test public void executeBatchShouldRunOneStatementAtATimeWhenPipelinedOutsideAutoCommit() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.pipeline", "true");
+		Transaction transaction = mock(Transaction.class);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getQueryRunner(anyLong())).thenReturn(transaction);
+		when(connection.getAutoCommit()).thenReturn(false);
+		Result stmtResult = mock(Result.class);
+		ResultSummary summary = mock(ResultSummary.class, Mockito.RETURNS_DEEP_STUBS);
+		when(transaction.run(anyString(), anyMap())).thenReturn(stmtResult);
+		when(stmtResult.consume()).thenReturn(summary);
+		when(summary.counters().nodesCreated()).thenReturn(1);
+
+		BoltGraphStatement stmt = new BoltGraphStatement(connection, resultSetFactory);
+		stmt.addBatch("CREATE (:A)");
+		stmt.addBatch("CREATE (:B)");
+
+		assertArrayEquals(new int[] { 1, 1 }, stmt.executeBatch());
+		verify(transaction, times(2)).run(anyString(), anyMap());
+		verify(connection, never()).newAsyncGraphSession();
+	}
+
 	@Test public void executeBatchShouldThrowExceptionOnClosed() throws SQLException {
 		expectedEx.expect(SQLException.class);
 
@@ -569,7 +762,7 @@ public class BoltGraphStatementTest {
 		stmt.getConnection();
 	}
 
-	@Test public void shouldCreateABrandNewSession() throws Exception {
+	@Test public void shouldReuseTheSessionInAutoCommit() throws Exception {
 		Properties props = new Properties();
 		Connection connection = new BoltGraphConnectionImpl(mockDriverOpen(), props, "");
 		PreparedStatement statement = connection.prepareStatement(StatementData.STATEMENT_MATCH_ALL);
@@ -578,6 +771,397 @@ public class BoltGraphStatementTest {
 		PreparedStatement otherStatement = connection.prepareStatement(StatementData.STATEMENT_MATCH_ALL);
 		Session otherSession = ReflectionUtil.getPrivateField(connection, "session", Session.class);
 		otherStatement.executeQuery();
-		assertNotSame(session, otherSession);
+		assertSame(session, otherSession);
+		verify(session, times(2)).run(anyString(), anyMap());
+		verify(session, never()).beginTransaction();
+	}
+
+	/*------------------------------*/
+	/*         queryTimeout         */
+	/*------------------------------*/
+
+	@Test public void queryTimeoutShouldDefaultToTheConnectionProperty() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("querytimeout", "30");
+		Connection connection = new BoltGraphConnectionImpl(mockDriverOpen(), properties, "");
+
+		assertEquals(30, connection.createStatement().getQueryTimeout());
+	}
+
+	@Test public void setQueryTimeoutShouldThrowExceptionIfNegative() throws SQLException {
+		expectedEx.expect(SQLException.class);
+
+		BoltGraphStatement.newInstance(false, mockOpenConnection()).setQueryTimeout(-1);
+	}
+
+	@Test public void executeUpdateShouldRunWithTheQueryTimeout() throws SQLException {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		QueryRunner runner = mock(QueryRunner.class);
+		Result result = mockResultWithUpdateCount(1);
+		when(runner.run(anyString(), anyMap())).thenReturn(result);
+		when(connection.getQueryRunner(anyLong(), anyInt())).thenReturn(runner);
+
+		Statement statement = BoltGraphStatement.newInstance(false, connection);
+		statement.setQueryTimeout(5);
+
+		assertEquals(1, statement.executeUpdate(StatementData.STATEMENT_CREATE));
+		verify(connection).getQueryRunner(0, 5);
+		verify(connection, never()).abandonSession(any());
+	}
+
+	@Test public void executeUpdateShouldTakeTheRunnerOnTheCallerAndRunOnTheSharedExecutor() throws SQLException {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		QueryRunner runner = mock(QueryRunner.class);
+		AtomicReference<Thread> runnerThread = new AtomicReference<>();
+		AtomicReference<Thread> runThread = new AtomicReference<>();
+		when(runner.run(anyString(), anyMap())).thenAnswer(invocation -> {
+			runThread.set(Thread.currentThread());
+			return mockResultWithUpdateCount(1);
+		});
+		when(connection.getQueryRunner(anyLong(), anyInt())).thenAnswer(invocation -> {
+			runnerThread.set(Thread.currentThread());
+			return runner;
+		});
+
+		Statement statement = BoltGraphStatement.newInstance(false, connection);
+		statement.setQueryTimeout(5);
+
+		assertEquals(1, statement.executeUpdate(StatementData.STATEMENT_CREATE));
+		assertSame(Thread.currentThread(), runnerThread.get());
+		assertTrue(runThread.get().getName().startsWith("graph-jdbc-"));
+	}
+
+	@Test(timeout = 10000) public void executeUpdateShouldAbandonTheStatementOnceTheQueryTimeoutElapsed() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		QueryRunner runner = mock(QueryRunner.class);
+		CountDownLatch running = new CountDownLatch(1);
+		when(runner.run(anyString(), anyMap())).thenAnswer(invocation -> {
+			running.await();
+			return mockResultWithUpdateCount(1);
+		});
+		when(connection.getQueryRunner(anyLong(), anyInt())).thenReturn(runner);
+
+		Statement statement = BoltGraphStatement.newInstance(false, connection);
+		statement.setQueryTimeout(1);
+		try {
+			statement.executeUpdate(StatementData.STATEMENT_CREATE);
+			fail();
+		} catch (SQLTimeoutException e) {
+			verify(connection).abandonSession(any());
+			verify(connection, never()).doCommit();
+		} finally {
+			running.countDown();
+		}
+	}
+
+	/*------------------------------*/
+	/*            cancel            */
+	/*------------------------------*/
+
+	@Test(timeout = 10000) public void cancelShouldTerminateTheRunningStatementFromAnotherThread() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		QueryRunner runner = mock(QueryRunner.class);
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch cancelled = new CountDownLatch(1);
+		when(runner.run(anyString(), anyMap())).thenAnswer(invocation -> {
+			running.countDown();
+			cancelled.await();
+			throw new ClientException("The transaction has been terminated");
+		});
+		when(connection.getQueryRunner(anyLong())).thenReturn(runner);
+		doAnswer(invocation -> {
+			cancelled.countDown();
+			return null;
+		}).when(connection).cancel();
+
+		Statement statement = BoltGraphStatement.newInstance(false, connection);
+		CompletableFuture<Integer> update = CompletableFuture.supplyAsync(() -> {
+			try {
+				return statement.executeUpdate(StatementData.STATEMENT_CREATE);
+			} catch (SQLException e) {
+				throw new CompletionException(e);
+			}
+		});
+		running.await();
+		statement.cancel();
+
+		try {
+			update.join();
+			fail();
+		} catch (CompletionException e) {
+			assertTrue(e.getCause() instanceof SQLException);
+		}
+		verify(connection).cancel();
+		verify(connection).doRollback();
+	}
+
+	@Test public void cancelShouldResetTheSessionOfTheAsyncStatement() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		CancellableAsyncSession session = mock(CancellableAsyncSession.class);
+		CompletableFuture<ResultCursor> run = new CompletableFuture<>();
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(connection.newAsyncGraphSession(anyString())).thenReturn(session);
+		when(session.runAsync(anyString(), anyMap(), any(TransactionConfig.class))).thenReturn(run);
+		when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		when(session.resetAsync()).thenAnswer(invocation -> {
+			run.completeExceptionally(new ClientException("The transaction has been terminated"));
+			return CompletableFuture.completedFuture(null);
+		});
+
+		BoltGraphStatement statement = new BoltGraphStatement(connection, resultSetFactory);
+		CompletionStage<Integer> update = statement.executeUpdateAsync(StatementData.STATEMENT_CREATE);
+		statement.cancel();
+		statement.cancel();
+
+		try {
+			update.toCompletableFuture().get();
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof SQLException);
+		}
+		verify(session, times(1)).resetAsync();
+		verify(connection, never()).cancel();
+	}
+
+	@Test public void cancelShouldDoNothingWhenNotExecuting() throws SQLException {
+		BoltGraphConnectionImpl connection = mockOpenConnectionWithResult(mockResultWithUpdateCount(1));
+		Statement statement = BoltGraphStatement.newInstance(false, connection);
+		statement.cancel();
+		statement.executeUpdate(StatementData.STATEMENT_CREATE);
+		statement.cancel();
+
+		verify(connection, never()).cancel();
+	}
+
+	@Test public void cancelShouldThrowExceptionOnClosedStatement() throws SQLException {
+		expectedEx.expect(SQLException.class);
+
+		Statement statement = BoltGraphStatement.newInstance(false, mockOpenConnection());
+		statement.close();
+		statement.cancel();
+	}
+
+	/*------------------------------*/
+	/*             async            */
+	/*------------------------------*/
+
+	private static AsyncSession mockAsyncSession(BoltGraphConnectionImpl connection, CompletionStage<ResultCursor> run) throws SQLException {
+		AsyncSession session = mock(AsyncSession.class);
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(connection.newAsyncGraphSession(anyString())).thenReturn(session);
+		when(session.runAsync(anyString(), anyMap(), any(TransactionConfig.class))).thenReturn(run);
+		when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		return session;
+	}
+
+	@Test public void executeUpdateAsyncShouldRunOnAnAsyncSession() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		ResultCursor cursor = mock(ResultCursor.class);
+		ResultSummary summary = mock(ResultSummary.class, Mockito.RETURNS_DEEP_STUBS);
+		when(summary.counters().nodesCreated()).thenReturn(2);
+		when(cursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(summary));
+		AsyncSession session = mockAsyncSession(connection, CompletableFuture.completedFuture(cursor));
+
+		BoltGraphAsyncStatement statement = BoltGraphStatement.newInstance(false, connection).unwrap(BoltGraphAsyncStatement.class);
+
+		assertEquals(Integer.valueOf(2), statement.executeUpdateAsync(StatementData.STATEMENT_CREATE).toCompletableFuture().get());
+		verify(session).closeAsync();
+		verify(connection).setLastBookmark(any());
+		verify(connection, never()).getQueryRunner(anyLong());
+	}
+
+	@Test public void executeQueryAsyncShouldNotHoldTheConnectionTransaction() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.isStreaming()).thenReturn(true);
+		ResultCursor cursor = mock(ResultCursor.class);
+		when(cursor.keys()).thenReturn(Collections.singletonList("n"));
+		when(cursor.listAsync()).thenReturn(CompletableFuture.completedFuture(Collections.singletonList(new FakeRecord(new LinkedHashMap<>(Collections.singletonMap("n", Values.value(1)))))));
+		when(cursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(mock(ResultSummary.class)));
+		mockAsyncSession(connection, CompletableFuture.completedFuture(cursor));
+
+		BoltGraphStatement statement = new BoltGraphStatement(connection, BoltGraphResultSet::newInstance);
+		ResultSet resultSet = statement.executeQueryAsync(StatementData.STATEMENT_MATCH_ALL).toCompletableFuture().get();
+
+		assertTrue(resultSet.next());
+		assertFalse(resultSet.next());
+		verify(connection, never()).holdTransaction(any());
+	}
+
+	@Test public void executeUpdateAsyncShouldFailWithSQLException() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		CompletableFuture<ResultCursor> failedRun = new CompletableFuture<>();
+		failedRun.completeExceptionally(new IllegalStateException("syntax error"));
+		AsyncSession session = mockAsyncSession(connection, failedRun);
+
+		CompletableFuture<Integer> update = new BoltGraphStatement(connection, resultSetFactory).executeUpdateAsync("CREATE (:A").toCompletableFuture();
+		try {
+			update.get();
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof SQLException);
+			assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+		}
+		verify(session).closeAsync();
+		verify(connection, never()).setLastBookmark(any());
+	}
+
+	@Test public void executeUpdateAsyncShouldRunInTheConnectionTransactionInManualCommit() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnectionWithResult(mockResultWithUpdateCount(1));
+		when(connection.getAutoCommit()).thenReturn(false);
+
+		CompletionStage<Integer> update = new BoltGraphStatement(connection, resultSetFactory).executeUpdateAsync(StatementData.STATEMENT_CREATE);
+
+		assertTrue(update.toCompletableFuture().isDone());
+		assertEquals(Integer.valueOf(1), update.toCompletableFuture().get());
+		verify(connection, never()).newAsyncGraphSession(anyString());
+	}
+
+	/*------------------------------*/
+	/*           reactive           */
+	/*------------------------------*/
+
+	/**
+	 * Records publisher emitting the records as they are requested, like the PULL of the driver.
+	 */
+	private static class FakeRecords implements Publisher<Record>, Subscription {
+		private final List<Record> records;
+		private final List<Long> requests = new ArrayList<>();
+		private Subscriber<? super Record> subscriber;
+		private int next;
+		private boolean cancelled;
+
+		private FakeRecords(Record... records) {
+			this.records = Arrays.asList(records);
+		}
+
+		@Override public void subscribe(Subscriber<? super Record> subscriber) {
+			this.subscriber = subscriber;
+			subscriber.onSubscribe(this);
+		}
+
+		@Override public void request(long n) {
+			this.requests.add(n);
+			for (long i = 0; i < n && this.next < this.records.size() && !this.cancelled; i++) {
+				this.subscriber.onNext(this.records.get(this.next++));
+			}
+			if (this.next == this.records.size() && !this.cancelled) {
+				this.subscriber.onComplete();
+			}
+		}
+
+		@Override public void cancel() {
+			this.cancelled = true;
+		}
+	}
+
+	/**
+	 * Subscriber requesting the rows one at a time, on demand of the test.
+	 */
+	private static class StepSubscriber<T> implements Subscriber<T> {
+		private final List<T> rows = new ArrayList<>();
+		private Subscription subscription;
+		private Throwable error;
+		private boolean completed;
+
+		@Override public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override public void onNext(T row) {
+			this.rows.add(row);
+		}
+
+		@Override public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override public void onComplete() {
+			this.completed = true;
+		}
+	}
+
+	private static Record record(String key, Object value) {
+		return new FakeRecord(new LinkedHashMap<>(Collections.singletonMap(key, Values.value(value))));
+	}
+
+	private static RxSession mockRxSession(BoltGraphConnectionImpl connection, FakeRecords records) throws SQLException {
+		RxSession session = mock(RxSession.class);
+		RxResult result = mock(RxResult.class);
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(connection.newRxGraphSession(anyString())).thenReturn(session);
+		when(session.run(anyString(), anyMap(), any(TransactionConfig.class))).thenReturn(result);
+		when(result.records()).thenReturn(records);
+		doReturn((Publisher<Object>) Subscriber::onComplete).when(session).close();
+		return session;
+	}
+
+	@Test public void executeQueryPublisherShouldForwardTheDemandOfTheSubscriber() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		FakeRecords records = new FakeRecords(record("n", 1), record("n", 2), record("n", 3));
+		RxSession session = mockRxSession(connection, records);
+
+		BoltGraphReactiveStatement statement = BoltGraphStatement.newInstance(false, connection).unwrap(BoltGraphReactiveStatement.class);
+		StepSubscriber<Long> subscriber = new StepSubscriber<>();
+		statement.executeQueryPublisher(StatementData.STATEMENT_MATCH_ALL, row -> row.getLong("n")).subscribe(subscriber);
+
+		assertTrue(records.requests.isEmpty());
+		subscriber.subscription.request(2);
+		assertEquals(Arrays.asList(1L, 2L), subscriber.rows);
+		assertFalse(subscriber.completed);
+		subscriber.subscription.request(1);
+		assertEquals(Arrays.asList(1L, 2L, 3L), subscriber.rows);
+		assertEquals(Arrays.asList(2L, 1L), records.requests);
+		assertTrue(subscriber.completed);
+		verify(session).close();
+		verify(connection).setLastBookmark(any());
+		verify(connection, never()).getQueryRunner(anyLong());
+	}
+
+	@Test public void executeQueryPublisherShouldCloseTheSessionWhenCancelled() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		FakeRecords records = new FakeRecords(record("n", 1), record("n", 2));
+		RxSession session = mockRxSession(connection, records);
+
+		StepSubscriber<String> subscriber = new StepSubscriber<>();
+		new BoltGraphStatement(connection, resultSetFactory).executeQueryPublisher(StatementData.STATEMENT_MATCH_ALL, row -> row.getString(1))
+				.subscribe(subscriber);
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+
+		assertEquals(Collections.singletonList("1"), subscriber.rows);
+		assertTrue(records.cancelled);
+		assertFalse(subscriber.completed);
+		assertNull(subscriber.error);
+		verify(session).close();
+		verify(connection, never()).setLastBookmark(any());
+	}
+
+	@Test public void executeQueryPublisherShouldFailWhenTheMapperFails() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		FakeRecords records = new FakeRecords(record("n", 1), record("n", 2));
+		RxSession session = mockRxSession(connection, records);
+
+		StepSubscriber<Object> subscriber = new StepSubscriber<>();
+		new BoltGraphStatement(connection, resultSetFactory).executeQueryPublisher(StatementData.STATEMENT_MATCH_ALL, row -> row.getObject("missing"))
+				.subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		assertTrue(subscriber.rows.isEmpty());
+		assertTrue(subscriber.error instanceof SQLException);
+		assertTrue(records.cancelled);
+		verify(session).close();
+	}
+
+	@Test public void executeQueryPublisherShouldFailInManualCommit() throws Exception {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getAutoCommit()).thenReturn(false);
+
+		StepSubscriber<Object> subscriber = new StepSubscriber<>();
+		new BoltGraphStatement(connection, resultSetFactory).executeQueryPublisher(StatementData.STATEMENT_MATCH_ALL, row -> row.getObject(1))
+				.subscribe(subscriber);
+
+		assertNotNull(subscriber.subscription);
+		assertTrue(subscriber.error instanceof SQLException);
+		verify(connection, never()).newRxGraphSession(anyString());
 	}
 }
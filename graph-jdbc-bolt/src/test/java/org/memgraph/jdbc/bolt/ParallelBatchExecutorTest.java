@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt;
+
+import org.junit.Test;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionWork;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.InternalSession;
+import org.memgraph.jdbc.bolt.impl.BoltGraphConnectionImpl;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.memgraph.jdbc.bolt.utils.Mocker.mockOpenConnection;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ParallelBatchExecutorTest {
+
+	private static List<Map<String, Object>> rows(int size) {
+		List<Map<String, Object>> rows = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			rows.add(Collections.singletonMap("1", i));
+		}
+		return rows;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Session mockSession(Set<String> threads, Transaction transaction) {
+		Session session = mock(Session.class);
+		when(session.lastBookmark()).thenReturn(InternalBookmark.parse("bookmark"));
+		when(session.writeTransaction(any(TransactionWork.class))).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread().getName());
+			return ((TransactionWork<?>) invocation.getArgument(0)).execute(transaction);
+		});
+		return session;
+	}
+
+	@Test public void executeShouldRunPartitionsOnTheirOwnSessions() throws SQLException {
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		Transaction transaction = mock(Transaction.class);
+		Result result = mock(Result.class, RETURNS_DEEP_STUBS);
+		when(result.consume().counters().nodesCreated()).thenReturn(1);
+		when(transaction.run(anyString(), anyMap())).thenReturn(result);
+		Session first = mockSession(threads, transaction);
+		Session second = mockSession(threads, transaction);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.newGraphSession()).thenReturn(first, second);
+
+		int[] counts = new ParallelBatchExecutor(connection, "MERGE (n:User {id: $1})", null, 0, null, new RunningQueries()).execute(rows(5), 2);
+
+		assertArrayEquals(new int[] { 1, 1, 1, 1, 1 }, counts);
+		verify(first, times(1)).close();
+		verify(second, times(1)).close();
+		verify(connection).setLastBookmark(any());
+		assertTrue(threads.stream().allMatch(name -> name.startsWith("graph-jdbc-")));
+	}
+
+	@Test public void executeShouldUnwindRowsOfEveryPartition() throws SQLException {
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		Transaction transaction = mock(Transaction.class);
+		Result result = mock(Result.class, RETURNS_DEEP_STUBS);
+		when(result.consume().counters().nodesCreated()).thenReturn(2);
+		when(transaction.run(anyString(), anyMap())).thenReturn(result);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		Session first = mockSession(threads, transaction);
+		Session second = mockSession(threads, transaction);
+		when(connection.newGraphSession()).thenReturn(first, second);
+
+		int[] counts = new ParallelBatchExecutor(connection, "UNWIND $rows AS row MERGE (n:User {id: row.`1`})", "rows", 2, null, new RunningQueries()).execute(rows(6), 2);
+
+		// every partition has 3 rows, sent as a call of 2 rows and a call of 1 row
+		assertArrayEquals(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 2,
+				Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 2 }, counts);
+		verify(transaction, times(4)).run(anyString(), anyMap());
+	}
+
+	@Test public void executeShouldReportFailedPartitionRows() throws SQLException {
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		Transaction transaction = mock(Transaction.class);
+		Result result = mock(Result.class, RETURNS_DEEP_STUBS);
+		when(result.consume().counters().nodesCreated()).thenReturn(1);
+		when(transaction.run(anyString(), anyMap())).thenAnswer(invocation -> {
+			Map<String, Object> parameters = invocation.getArgument(1);
+			if (Integer.valueOf(1).equals(parameters.get("1"))) {
+				throw new IllegalStateException("constraint violation");
+			}
+			return result;
+		});
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		Session first = mockSession(threads, transaction);
+		Session second = mockSession(threads, transaction);
+		when(connection.newGraphSession()).thenReturn(first, second);
+
+		try {
+			new ParallelBatchExecutor(connection, "MERGE (n:User {id: $1})", null, 0, null, new RunningQueries()).execute(rows(4), 2);
+			fail();
+		} catch (BatchUpdateException e) {
+			assertArrayEquals(new int[] { 1, Statement.EXECUTE_FAILED, 1, 1 }, e.getUpdateCounts());
+			assertEquals("constraint violation", e.getCause().getMessage());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test public void executeShouldRunReadTransactionsOnReadOnlyConnection() throws SQLException {
+		Transaction transaction = mock(Transaction.class);
+		Result result = mock(Result.class, RETURNS_DEEP_STUBS);
+		when(transaction.run(anyString(), anyMap())).thenReturn(result);
+		Session session = mock(Session.class);
+		when(session.readTransaction(any(TransactionWork.class))).thenAnswer(invocation -> ((TransactionWork<?>) invocation.getArgument(0)).execute(transaction));
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.isReadOnly()).thenReturn(true);
+		when(connection.newGraphSession()).thenReturn(session);
+
+		new ParallelBatchExecutor(connection, "CALL mg.refresh($1)", null, 0, null, new RunningQueries()).execute(rows(2), 1);
+
+		verify(session, times(2)).readTransaction(any(TransactionWork.class));
+		verify(session, never()).writeTransaction(any(TransactionWork.class));
+	}
+
+	@Test public void executeShouldRefuseWritesOnReadOnlyConnection() throws SQLException {
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		doThrow(new SQLException("read only")).when(connection).checkReadOnly(anyString());
+
+		try {
+			new ParallelBatchExecutor(connection, "MERGE (n:User {id: $1})", null, 0, null, new RunningQueries()).execute(rows(2), 2);
+			fail();
+		} catch (SQLException e) {
+			assertEquals("read only", e.getMessage());
+		}
+		verify(connection, never()).newGraphSession();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test(timeout = 10000) public void cancelShouldResetTheSessionOfEveryPartition() throws Exception {
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch cancelled = new CountDownLatch(2);
+		List<Session> sessions = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			InternalSession session = mock(InternalSession.class);
+			when(session.isOpen()).thenReturn(true);
+			when(session.writeTransaction(any(TransactionWork.class))).thenAnswer(invocation -> {
+				started.countDown();
+				cancelled.await();
+				throw new ClientException("The transaction has been terminated");
+			});
+			doAnswer(invocation -> {
+				cancelled.countDown();
+				return null;
+			}).when(session).reset();
+			sessions.add(session);
+		}
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.newGraphSession()).thenReturn(sessions.get(0), sessions.get(1));
+		RunningQueries running = new RunningQueries();
+
+		CompletableFuture<int[]> batch = CompletableFuture.supplyAsync(() -> {
+			try {
+				return new ParallelBatchExecutor(connection, "MERGE (n:User {id: $1})", null, 0, null, running).execute(rows(2), 2);
+			} catch (SQLException e) {
+				throw new CompletionException(e);
+			}
+		});
+		started.await();
+		running.cancel();
+
+		try {
+			batch.join();
+			fail();
+		} catch (CompletionException e) {
+			assertArrayEquals(new int[] { Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED }, ((BatchUpdateException) e.getCause()).getUpdateCounts());
+		}
+		verify((InternalSession) sessions.get(0), times(1)).reset();
+		verify((InternalSession) sessions.get(1), times(1)).reset();
+		verify(connection, never()).cancel();
+	}
+
+	@Test public void preparedStatementShouldRunInParallelInAutoCommit() throws SQLException {
+		Properties properties = new Properties();
+		properties.setProperty("batch.parallelism", "2");
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		Transaction transaction = mock(Transaction.class);
+		Result result = mock(Result.class, RETURNS_DEEP_STUBS);
+		when(result.consume().counters().nodesCreated()).thenReturn(1);
+		when(transaction.run(anyString(), anyMap())).thenReturn(result);
+		BoltGraphConnectionImpl connection = mockOpenConnection();
+		when(connection.getProperties()).thenReturn(properties);
+		when(connection.getAutoCommit()).thenReturn(true);
+		Session first = mockSession(threads, transaction);
+		Session second = mockSession(threads, transaction);
+		when(connection.newGraphSession()).thenReturn(first, second);
+
+		BoltGraphPreparedStatement stmt = new BoltGraphPreparedStatement(connection, (debug, statement, iterator, params) -> null, "MERGE (n:User {id: ?})");
+		assertEquals(2, stmt.getBatchParallelism());
+		for (int i = 0; i < 4; i++) {
+			stmt.setInt(1, i);
+			stmt.addBatch();
+		}
+
+		assertArrayEquals(new int[] { 1, 1, 1, 1 }, stmt.executeBatch());
+		verify(connection, times(2)).newGraphSession();
+		verify(connection, times(0)).getQueryRunner(anyLong());
+	}
+
+	@Test(expected = SQLException.class)
+	public void setBatchParallelismShouldRefuseValuesLowerThanOne() throws SQLException {
+		BoltGraphPreparedStatement stmt = new BoltGraphPreparedStatement(mockOpenConnection(), (debug, statement, iterator, params) -> null, "MERGE (n:User {id: ?})");
+		stmt.setBatchParallelism(0);
+	}
+}
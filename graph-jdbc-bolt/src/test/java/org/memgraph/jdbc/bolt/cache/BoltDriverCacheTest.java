@@ -1,18 +1,19 @@
 package org.memgraph.jdbc.bolt.cache;
 
 import org.junit.Test;
+import org.memgraph.jdbc.bolt.impl.BoltGraphConnectionImpl;
+import org.memgraph.jdbc.bolt.impl.BoltGraphDriverImpl;
+import org.memgraph.jdbc.bolt.utils.Mocker;
 import org.mockito.Mockito;
-import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.AuthTokens;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.Driver;
-import org.neo4j.driver.Session;
-import org.neo4j.driver.SessionConfig;
-import org.neo4j.driver.internal.InternalBookmark;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -31,6 +32,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
 
@@ -286,35 +289,105 @@ public class BoltDriverCacheTest {
         assertTrue(driver1 != driver2);
     }
 
-    // SESSION MANAGEMENT //
+    @Test
+    public void equalKeysShouldHaveTheSameHash() {
+        List<URI> url = Arrays.asList(URI.create("bolt://localhost"));
+        AuthToken authToken = AuthTokens.basic("neo4j", "password");
+        Properties info = new Properties();
+        info.setProperty("flatten", "1");
+
+        BoltDriverCacheKey key1 = new BoltDriverCacheKey(url, Config.builder().build(), authToken, info);
+        BoltDriverCacheKey key2 = new BoltDriverCacheKey(Arrays.asList(URI.create("bolt://localhost")), Config.builder().build(),
+                AuthTokens.basic("neo4j", "password"), (Properties) info.clone());
+        BoltDriverCacheKey key3 = new BoltDriverCacheKey(Arrays.asList(URI.create("bolt://another")), Config.builder().build(), authToken, info);
+
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+        assertNotEquals(key1, key3);
+        assertNotEquals(key1.hashCode(), key3.hashCode());
+    }
+
+    // LEASE MANAGEMENT //
+
+    private static Properties idleTimeout(long millis) {
+        Properties info = new Properties();
+        info.setProperty(BoltGraphDriverImpl.DRIVER_IDLE_TIMEOUT, String.valueOf(millis));
+        return info;
+    }
 
     @Test
-    public void shouldRemoveDriver() throws URISyntaxException {
+    public void shouldCloseTheDriverWhenTheLastLeaseIsReleased() {
         List<URI> url = Arrays.asList(URI.create("bolt://localhost"));
-        Config.ConfigBuilder configBuilder = Config.builder();
         AuthToken authToken = AuthTokens.basic("neo4j", "password");
+        Driver internal = Mockito.mock(Driver.class);
+        BoltDriverCache cache = new BoltDriverCache(params -> internal);
 
+        Driver driver1 = cache.getDriver(url, Config.builder().build(), authToken, idleTimeout(0));
+        Driver driver2 = cache.getDriver(url, Config.builder().build(), authToken, idleTimeout(0));
+        driver1.session();
+        driver1.session();
+
+        assertSame(driver1, driver2);
+        assertEquals(2, cache.getActiveLeases());
+        driver1.close();
+        assertEquals(1, cache.getCache().size());
+        Mockito.verify(internal, Mockito.never()).close();
+        driver2.close();
+        assertEquals(0, cache.getCache().size());
+        Mockito.verify(internal).close();
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getLeases());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void shouldKeepTheIdleDriverForTheIdleTimeout() throws InterruptedException {
+        List<URI> url = Arrays.asList(URI.create("bolt://localhost"));
+        AuthToken authToken = AuthTokens.basic("neo4j", "password");
         BoltDriverCache cache = new BoltDriverCache(builder);
 
-        Driver driver1 = cache.getDriver(url, configBuilder.build(), authToken, new Properties());
+        Driver driver1 = cache.getDriver(url, Config.builder().build(), authToken, idleTimeout(100));
+        driver1.close();
+        Driver driver2 = cache.getDriver(url, Config.builder().build(), authToken, idleTimeout(100));
+        assertSame(driver1, driver2);
+        driver2.close();
 
-        List<URI> url2 = Arrays.asList(URI.create("bolt://another"));
-        Driver driver2 = cache.getDriver(url2, configBuilder.build(), authToken, new Properties());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!cache.getCache().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, cache.getCache().size());
+        assertEquals(1, cache.getEvictions());
+    }
 
-        assertEquals(2, cache.getCache().size());
+    @Test
+    public void shouldIgnoreTheReleasesWithoutLease() {
+        List<URI> url = Arrays.asList(URI.create("bolt://localhost"));
+        AuthToken authToken = AuthTokens.basic("neo4j", "password");
+        BoltDriverCache cache = new BoltDriverCache(builder);
 
-        SessionConfig conf = SessionConfig.builder()
-                .withBookmarks(InternalBookmark.parse("bookmark"))
-                .withDefaultAccessMode(AccessMode.READ)
-                .build();
-        Session s1_1 = driver1.session(conf);
-        Session s1_2 = driver1.session(conf);
+        Driver driver = cache.getDriver(url, Config.builder().build(), authToken, idleTimeout(0));
+        driver.close();
+        driver.close();
 
-        //it doesn't remove the driver from cache because the cache receive driver.close for each connection (session)
-        //so it remains in the cache if there are other opened sessions
-        driver1.close();
-        assertEquals(2, cache.getCache().size());
-        driver1.close();
+        assertEquals(0, ((BoltDriverCached) driver).getLeases());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void connectionCloseShouldReleaseItsLease() throws SQLException {
+        List<URI> url = Arrays.asList(URI.create("bolt://localhost"));
+        AuthToken authToken = AuthTokens.basic("neo4j", "password");
+        BoltDriverCache cache = new BoltDriverCache(params -> Mocker.mockDriverOpen());
+
+        Driver driver = cache.getDriver(url, Config.builder().build(), authToken, idleTimeout(60000));
+        Connection connection = new BoltGraphConnectionImpl(driver, new Properties(), "");
+        assertEquals(1, cache.getActiveLeases());
+        connection.close();
+        connection.close();
+
+        assertEquals(0, cache.getActiveLeases());
         assertEquals(1, cache.getCache().size());
     }
 }
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt.pool;
+
+import org.junit.After;
+import org.junit.Test;
+import org.memgraph.jdbc.bolt.BoltGraphConnection;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BoltGraphConnectionPoolTest {
+
+	private final List<Connection> physicalConnections = new ArrayList<>();
+	private BoltGraphConnectionPool pool;
+
+	@After public void tearDown() {
+		if (this.pool != null) {
+			this.pool.close();
+		}
+	}
+
+	private Connection newPhysicalConnection() throws SQLException {
+		Connection connection = mock(Connection.class);
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(connection.isValid(anyInt())).thenReturn(true);
+		this.physicalConnections.add(connection);
+		return connection;
+	}
+
+	private BoltGraphConnectionPool newPool(int minSize, int maxSize, long maxLifetimeMillis, long idleTimeoutMillis, long leakDetectionThresholdMillis) {
+		this.pool = new BoltGraphConnectionPool(null, this::newPhysicalConnection, minSize, maxSize, maxLifetimeMillis, idleTimeoutMillis, 50,
+				leakDetectionThresholdMillis, 5, 500, false);
+		return this.pool;
+	}
+
+	private static Connection physical(Connection connection) throws SQLException {
+		return connection.unwrap(LogicalConnection.class).getPhysicalConnection();
+	}
+
+	/*------------------------------*/
+	/*        getConnection         */
+	/*------------------------------*/
+
+	@Test public void shouldReuseTheConnectionGivenBack() throws SQLException {
+		BoltGraphConnectionPool pool = newPool(0, 2, 0, 0, 0);
+
+		Connection first = pool.getConnection();
+		Connection physical = physical(first);
+		first.close();
+		Connection second = pool.getConnection();
+
+		assertNotSame(first, second);
+		assertSame(physical, physical(second));
+		assertEquals(1, this.physicalConnections.size());
+		verify(physical, never()).close();
+		assertTrue(first.isClosed());
+		assertFalse(second.isClosed());
+	}
+
+	@Test public void closedLogicalConnectionShouldRefuseCalls() throws SQLException {
+		Connection connection = newPool(0, 1, 0, 0, 0).getConnection();
+		connection.close();
+		connection.close();
+
+		try {
+			connection.createStatement();
+			fail();
+		} catch (SQLException e) {
+			assertEquals("Connection is closed", e.getMessage());
+		}
+		assertEquals(1, this.pool.getIdleConnections());
+	}
+
+	@Test public void shouldTimeOutWhenThePoolIsExhausted() throws SQLException {
+		BoltGraphConnectionPool pool = newPool(0, 1, 0, 0, 0);
+		Connection connection = pool.getConnection();
+
+		try {
+			pool.getConnection();
+			fail();
+		} catch (SQLTransientConnectionException e) {
+			assertEquals(1, pool.getConnectionTimeouts());
+		}
+
+		connection.close();
+		pool.getConnection();
+		assertEquals(1, pool.getTotalConnections());
+	}
+
+	@Test public void shouldResetTheConnectionGivenBack() throws SQLException {
+		Connection connection = newPool(0, 1, 0, 0, 0).getConnection();
+		Connection physical = physical(connection);
+		when(physical.getAutoCommit()).thenReturn(false);
+
+		connection.close();
+
+		verify(physical, times(1)).rollback();
+		verify(physical, times(1)).setAutoCommit(true);
+		assertEquals(1, this.pool.getIdleConnections());
+	}
+
+	@Test public void shouldReleaseTheTransactionHeldInAutoCommit() throws SQLException {
+		BoltGraphConnection physical = mock(BoltGraphConnection.class);
+		when(physical.getAutoCommit()).thenReturn(true);
+		when(physical.isTransactionHeld()).thenReturn(true);
+		this.pool = new BoltGraphConnectionPool(null, () -> physical, 0, 1, 0, 0, 50, 0, 5, 500, false);
+
+		this.pool.getConnection().close();
+
+		verify(physical, times(1)).doRollback();
+		verify(physical, never()).rollback();
+		assertEquals(1, this.pool.getIdleConnections());
+	}
+
+	@Test public void closingTheLogicalConnectionShouldCloseItsStatements() throws SQLException {
+		Connection connection = newPool(0, 1, 0, 0, 0).getConnection();
+		Connection physical = physical(connection);
+		Statement physicalStatement = mock(Statement.class);
+		PreparedStatement physicalPrepared = mock(PreparedStatement.class);
+		when(physical.createStatement()).thenReturn(physicalStatement);
+		when(physical.prepareStatement(anyString())).thenReturn(physicalPrepared);
+
+		Statement statement = connection.createStatement();
+		PreparedStatement prepared = connection.prepareStatement("MATCH (n) RETURN n");
+		PreparedStatement closedByTheApplication = connection.prepareStatement("MATCH (n) RETURN n");
+		closedByTheApplication.close();
+		assertSame(connection, statement.getConnection());
+		assertSame(connection, prepared.getConnection());
+		assertEquals(2, connection.unwrap(LogicalConnection.class).getOpenStatements());
+
+		connection.close();
+
+		assertTrue(statement.isClosed());
+		assertTrue(prepared.isClosed());
+		verify(physicalStatement, times(1)).close();
+		verify(physicalPrepared, times(2)).close();
+		try {
+			prepared.executeQuery();
+			fail();
+		} catch (SQLException e) {
+			assertEquals("Statement is closed", e.getMessage());
+		}
+	}
+
+	@Test public void shouldValidateBorrowedConnectionsWithTheConfiguredTimeout() throws SQLException {
+		this.pool = new BoltGraphConnectionPool(null, this::newPhysicalConnection, 0, 1, 0, 0, 50, 0, 7, 0, false);
+		this.pool.getConnection().close();
+		this.pool.getConnection();
+
+		verify(this.physicalConnections.get(0), times(1)).isValid(7);
+	}
+
+	@Test public void shouldNotValidateConnectionsGivenBackWithinTheBypassWindow() throws SQLException {
+		this.pool = new BoltGraphConnectionPool(null, this::newPhysicalConnection, 0, 1, 0, 0, 50, 0, 7, 60_000, false);
+		this.pool.getConnection().close();
+		this.pool.getConnection();
+
+		verify(this.physicalConnections.get(0), never()).isValid(anyInt());
+	}
+
+	@Test public void shouldDestroyBrokenConnections() throws SQLException {
+		BoltGraphConnectionPool pool = newPool(0, 1, 0, 0, 0);
+		Connection connection = pool.getConnection();
+		Connection physical = physical(connection);
+		when(physical.createStatement()).thenThrow(new SQLException("broken"));
+		when(physical.isClosed()).thenReturn(true);
+
+		try {
+			connection.createStatement();
+			fail();
+		} catch (SQLException e) {
+			assertEquals("broken", e.getMessage());
+		}
+		connection.close();
+
+		assertEquals(0, pool.getTotalConnections());
+		assertEquals(1, pool.getDestroyedConnections());
+		assertNotSame(physical, physical(pool.getConnection()));
+	}
+
+	@Test public void shouldDestroyAbortedConnections() throws SQLException {
+		BoltGraphConnectionPool pool = newPool(0, 1, 0, 0, 0);
+		Connection connection = pool.getConnection();
+
+		connection.abort(Runnable::run);
+
+		verify(this.physicalConnections.get(0), times(1)).close();
+		assertEquals(0, pool.getActiveConnections());
+		assertEquals(0, pool.getTotalConnections());
+	}
+
+	/*------------------------------*/
+	/*        Housekeeping          */
+	/*------------------------------*/
+
+	@Test public void shouldRetireConnectionsAfterTheirLifetime() throws Exception {
+		BoltGraphConnectionPool pool = newPool(0, 1, 1, 0, 0);
+		Connection connection = pool.getConnection();
+		Thread.sleep(5);
+
+		connection.close();
+
+		verify(this.physicalConnections.get(0), times(1)).close();
+		assertEquals(0, pool.getTotalConnections());
+	}
+
+	@Test public void housekeepShouldEvictIdleConnectionsAboveTheMinimumSize() throws Exception {
+		BoltGraphConnectionPool pool = newPool(0, 2, 0, 1, 0);
+		Connection first = pool.getConnection();
+		Connection second = pool.getConnection();
+		first.close();
+		second.close();
+		Thread.sleep(5);
+
+		pool.housekeep();
+
+		assertEquals(0, pool.getTotalConnections());
+		assertEquals(2, pool.getDestroyedConnections());
+	}
+
+	@Test public void housekeepShouldKeepTheMinimumSize() throws Exception {
+		BoltGraphConnectionPool pool = newPool(2, 3, 0, 1, 0);
+		pool.housekeep();
+
+		assertEquals(2, pool.getTotalConnections());
+		assertEquals(2, pool.getIdleConnections());
+		Thread.sleep(5);
+		pool.housekeep();
+		assertEquals(2, pool.getTotalConnections());
+	}
+
+	@Test public void housekeepingShouldRunTwiceWithinTheSmallestTimeout() {
+		assertEquals(30_000, newPool(0, 1, 0, 0, 0).getHousekeepingPeriodMillis());
+		assertEquals(30_000, newPool(0, 1, 30 * 60 * 1000, 10 * 60 * 1000, 0).getHousekeepingPeriodMillis());
+		assertEquals(5_000, newPool(0, 1, 10_000, 20_000, 0).getHousekeepingPeriodMillis());
+		assertEquals(2_000, newPool(0, 1, 10_000, 20_000, 4_000).getHousekeepingPeriodMillis());
+		assertEquals(100, newPool(0, 1, 0, 10, 0).getHousekeepingPeriodMillis());
+	}
+
+	@Test public void housekeeperShouldEvictIdleConnectionsWithinAShortIdleTimeout() throws Exception {
+		BoltGraphConnectionPool pool = newPool(0, 1, 0, 200, 0);
+		pool.getConnection().close();
+
+		long deadline = System.currentTimeMillis() + 2_000;
+		while (pool.getTotalConnections() > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertEquals(0, pool.getTotalConnections());
+	}
+
+	@Test public void softEvictShouldCloseConnectionsOnceGivenBack() throws SQLException {
+		BoltGraphConnectionPool pool = newPool(0, 2, 0, 0, 0);
+		Connection active = pool.getConnection();
+		pool.getConnection().close();
+
+		pool.softEvictConnections();
+
+		assertEquals(1, pool.getTotalConnections());
+		active.close();
+		assertEquals(0, pool.getTotalConnections());
+	}
+
+	@Test public void shouldReportLeakedConnections() throws Exception {
+		BoltGraphConnectionPool pool = newPool(0, 1, 0, 0, 10);
+		Connection connection = pool.getConnection();
+
+		for (int i = 0; i < 100 && pool.getLeaksDetected() == 0; i++) {
+			Thread.sleep(10);
+		}
+
+		assertEquals(1, pool.getLeaksDetected());
+		connection.close();
+	}
+
+	/*-------------------------------*/
+	/*          Close, JMX           */
+	/*-------------------------------*/
+
+	@Test public void closeShouldDestroyTheIdleConnectionsAndRefuseRequests() throws SQLException {
+		BoltGraphConnectionPool pool = newPool(0, 2, 0, 0, 0);
+		Connection active = pool.getConnection();
+		pool.getConnection().close();
+
+		pool.close();
+
+		assertEquals(1, pool.getTotalConnections());
+		active.close();
+		assertEquals(0, pool.getTotalConnections());
+		try {
+			pool.getConnection();
+			fail();
+		} catch (SQLException e) {
+			assertTrue(pool.isClosed());
+		}
+	}
+
+	@Test public void shouldRegisterTheStatisticsMBean() throws Exception {
+		this.pool = new BoltGraphConnectionPool("jmx-test", this::newPhysicalConnection, 0, 1, 0, 0, 50, 0, 5, 500, true);
+		ObjectName name = new ObjectName("org.memgraph.jdbc:type=BoltGraphConnectionPool,name=\"jmx-test\"");
+		this.pool.getConnection();
+
+		assertEquals(1, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "ActiveConnections"));
+
+		this.pool.close();
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+	}
+}
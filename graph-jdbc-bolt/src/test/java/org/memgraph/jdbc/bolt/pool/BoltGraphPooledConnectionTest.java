@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.bolt.pool;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.memgraph.jdbc.bolt.AdaptiveBatchSize;
+import org.memgraph.jdbc.bolt.BoltGraphPreparedStatement;
+import org.mockito.ArgumentCaptor;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.StatementEvent;
+import javax.sql.StatementEventListener;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BoltGraphPooledConnectionTest {
+
+	private Connection physical;
+
+	@Before public void setUp() throws SQLException {
+		this.physical = mock(Connection.class);
+		when(this.physical.getAutoCommit()).thenReturn(true);
+		when(this.physical.prepareStatement(anyString(), anyInt(), anyInt(), anyInt()))
+				.thenAnswer(invocation -> mock(PreparedStatement.class));
+	}
+
+	private static PreparedStatement unwrapped(PreparedStatement statement) {
+		return ((LogicalPreparedStatement) statement).getPhysicalStatement();
+	}
+
+	/*------------------------------*/
+	/*      Logical connections     */
+	/*------------------------------*/
+
+	@Test public void closingTheLogicalConnectionShouldKeepThePhysicalOne() throws SQLException {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		ConnectionEventListener listener = mock(ConnectionEventListener.class);
+		pooled.addConnectionEventListener(listener);
+
+		Connection first = pooled.getConnection();
+		first.close();
+		Connection second = pooled.getConnection();
+
+		assertNotSame(first, second);
+		assertTrue(first.isClosed());
+		verify(this.physical, never()).close();
+		ArgumentCaptor<ConnectionEvent> event = ArgumentCaptor.forClass(ConnectionEvent.class);
+		verify(listener, times(1)).connectionClosed(event.capture());
+		assertSame(pooled, event.getValue().getSource());
+	}
+
+	@Test public void getConnectionShouldCloseThePreviousLogicalConnection() throws SQLException {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		Connection first = pooled.getConnection();
+
+		pooled.getConnection();
+
+		assertTrue(first.isClosed());
+	}
+
+	@Test public void closingTheLogicalConnectionShouldRollBack() throws SQLException {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		Connection connection = pooled.getConnection();
+		when(this.physical.getAutoCommit()).thenReturn(false);
+
+		connection.close();
+
+		verify(this.physical, times(1)).rollback();
+		verify(this.physical, times(1)).setAutoCommit(true);
+	}
+
+	@Test public void shouldNotifyFatalErrors() throws SQLException {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		ConnectionEventListener listener = mock(ConnectionEventListener.class);
+		pooled.addConnectionEventListener(listener);
+		SQLException failure = new SQLException("connection lost");
+		when(this.physical.createStatement()).thenThrow(failure);
+		when(this.physical.isClosed()).thenReturn(true);
+
+		try {
+			pooled.getConnection().createStatement();
+			fail();
+		} catch (SQLException e) {
+			assertSame(failure, e);
+		}
+
+		ArgumentCaptor<ConnectionEvent> event = ArgumentCaptor.forClass(ConnectionEvent.class);
+		verify(listener, times(1)).connectionErrorOccurred(event.capture());
+		assertSame(failure, event.getValue().getSQLException());
+	}
+
+	@Test public void closeShouldClosePhysicalConnection() throws SQLException {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		PreparedStatement statement = pooled.getConnection().prepareStatement("RETURN 1");
+		statement.close();
+
+		pooled.close();
+
+		verify(this.physical, times(1)).close();
+		try {
+			pooled.getConnection();
+			fail();
+		} catch (SQLException e) {
+			assertEquals("Pooled connection is closed", e.getMessage());
+		}
+	}
+
+	/*------------------------------*/
+	/*       Statement cache        */
+	/*------------------------------*/
+
+	@Test public void shouldReusePreparedStatementsAcrossLogicalConnections() throws Exception {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		StatementEventListener listener = mock(StatementEventListener.class);
+		pooled.addStatementEventListener(listener);
+
+		Connection connection = pooled.getConnection();
+		PreparedStatement first = connection.prepareStatement("MATCH (n) WHERE n.id = ? RETURN n");
+		first.setInt(1, 1);
+		first.close();
+		connection.close();
+		PreparedStatement second = pooled.getConnection().prepareStatement("MATCH (n) WHERE n.id = ? RETURN n");
+
+		assertSame(unwrapped(first), unwrapped(second));
+		verify(unwrapped(first), times(1)).clearParameters();
+		verify(unwrapped(first), never()).close();
+		verify(this.physical, times(1)).prepareStatement(anyString(), anyInt(), anyInt(), anyInt());
+		verify(listener, times(1)).statementClosed(any(StatementEvent.class));
+		assertEquals(0, pooled.getCachedStatements());
+	}
+
+	@Test public void closedCachedStatementShouldRefuseCalls() throws SQLException {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		PreparedStatement statement = pooled.getConnection().prepareStatement("RETURN 1");
+		statement.close();
+
+		assertTrue(statement.isClosed());
+		try {
+			statement.executeQuery();
+			fail();
+		} catch (SQLException e) {
+			assertEquals("Statement is closed", e.getMessage());
+		}
+	}
+
+	@Test public void shouldKeepOneStatementPerQuery() throws Exception {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		Connection connection = pooled.getConnection();
+		PreparedStatement first = connection.prepareStatement("RETURN 1");
+		PreparedStatement second = connection.prepareStatement("RETURN 1");
+		assertNotSame(unwrapped(first), unwrapped(second));
+
+		first.close();
+		second.close();
+
+		assertEquals(1, pooled.getCachedStatements());
+		verify(unwrapped(second), times(1)).close();
+	}
+
+	@Test public void shouldEvictTheLeastRecentlyUsedStatement() throws Exception {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 2);
+		Connection connection = pooled.getConnection();
+		PreparedStatement first = connection.prepareStatement("RETURN 1");
+		PreparedStatement second = connection.prepareStatement("RETURN 2");
+		PreparedStatement third = connection.prepareStatement("RETURN 3");
+		first.close();
+		second.close();
+		third.close();
+
+		assertEquals(2, pooled.getCachedStatements());
+		verify(unwrapped(first), times(1)).close();
+		verify(unwrapped(second), never()).close();
+	}
+
+	@Test public void shouldResetStatementsGivenBack() throws Exception {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		PreparedStatement statement = pooled.getConnection().prepareStatement("RETURN 1");
+		PreparedStatement physicalStatement = unwrapped(statement);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(physicalStatement.getResultSet()).thenReturn(resultSet);
+		statement.setFetchSize(100);
+		statement.setMaxRows(10);
+		statement.setQueryTimeout(5);
+
+		statement.close();
+
+		verify(resultSet, times(1)).close();
+		verify(physicalStatement, times(1)).clearBatch();
+		verify(physicalStatement, times(1)).setFetchSize(0);
+		verify(physicalStatement, times(1)).setMaxRows(0);
+		verify(physicalStatement, times(1)).setQueryTimeout(0);
+		assertEquals(1, pooled.getCachedStatements());
+	}
+
+	@Test public void shouldResetTheBatchSettingsOfStatementsGivenBack() throws Exception {
+		BoltGraphPreparedStatement physicalStatement = mock(BoltGraphPreparedStatement.class);
+		AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize(1000, 100, 5000, 500);
+		when(physicalStatement.isWrapperFor(BoltGraphPreparedStatement.class)).thenReturn(true);
+		when(physicalStatement.unwrap(BoltGraphPreparedStatement.class)).thenReturn(physicalStatement);
+		when(physicalStatement.getBatchParallelism()).thenReturn(1);
+		when(physicalStatement.getAdaptiveBatchSize()).thenReturn(adaptiveBatchSize);
+		when(this.physical.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(physicalStatement);
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		PreparedStatement statement = pooled.getConnection().prepareStatement("RETURN 1");
+		statement.unwrap(BoltGraphPreparedStatement.class).setBatchParallelism(4);
+		adaptiveBatchSize.record(1000, 100);
+
+		statement.close();
+
+		verify(physicalStatement, times(1)).setBatchParallelism(1);
+		assertEquals(1000, adaptiveBatchSize.getSize());
+		assertEquals(0, adaptiveBatchSize.getChunks());
+		assertEquals(1, pooled.getCachedStatements());
+	}
+
+	@Test public void shouldKeepStatementsThatFailedOnTheirQuery() throws Exception {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		StatementEventListener listener = mock(StatementEventListener.class);
+		pooled.addStatementEventListener(listener);
+		PreparedStatement statement = pooled.getConnection().prepareStatement("RETURN 1");
+		when(unwrapped(statement).executeQuery()).thenThrow(new SQLException("syntax error"));
+
+		try {
+			statement.executeQuery();
+			fail();
+		} catch (SQLException e) {
+			assertEquals("syntax error", e.getMessage());
+		}
+		statement.close();
+
+		verify(listener, never()).statementErrorOccurred(any(StatementEvent.class));
+		verify(unwrapped(statement), never()).close();
+		assertEquals(1, pooled.getCachedStatements());
+	}
+
+	@Test public void shouldDropStatementsThatFailedOnTheConnection() throws Exception {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 10);
+		StatementEventListener listener = mock(StatementEventListener.class);
+		pooled.addStatementEventListener(listener);
+		PreparedStatement statement = pooled.getConnection().prepareStatement("RETURN 1", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		when(unwrapped(statement).executeQuery()).thenThrow(new SQLNonTransientConnectionException("failed"));
+
+		try {
+			statement.executeQuery();
+			fail();
+		} catch (SQLException e) {
+			assertEquals("failed", e.getMessage());
+		}
+		statement.close();
+
+		verify(listener, times(1)).statementErrorOccurred(any(StatementEvent.class));
+		verify(unwrapped(statement), times(1)).close();
+		assertEquals(0, pooled.getCachedStatements());
+	}
+
+	@Test public void shouldNotCacheWithoutMaxStatements() throws SQLException {
+		BoltGraphPooledConnection pooled = new BoltGraphPooledConnection(this.physical, 0);
+		PreparedStatement statement = pooled.getConnection().prepareStatement("RETURN 1");
+		statement.close();
+
+		assertEquals(0, pooled.getCachedStatements());
+		verify(unwrapped(statement), times(1)).close();
+	}
+}
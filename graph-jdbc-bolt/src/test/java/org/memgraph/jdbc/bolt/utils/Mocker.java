@@ -143,7 +143,7 @@ public class Mocker {
 		when(mockTransaction.run(anyString(), any(Map.class))).thenReturn(cur);
 
 		BoltGraphConnectionImpl mockConnection = mockOpenConnection();
-		when(mockConnection.getTransaction()).thenReturn(mockTransaction);
+		when(mockConnection.getQueryRunner(anyLong())).thenReturn(mockTransaction);
 		return mockConnection;
 	}
 
@@ -0,0 +1,129 @@
+package org.memgraph.jdbc.utils;
+
+import org.junit.Test;
+import org.memgraph.jdbc.bolt.impl.BoltGraphDriverImpl;
+import org.neo4j.driver.QueryRunner;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.exceptions.TransientException;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.anyMap;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RetryPolicyTest {
+
+    private static final TransientException TRANSIENT = new TransientException("code.allowed.to.retry", "");
+
+    private static Properties properties(String... keyValues) {
+        Properties properties = new Properties();
+        properties.setProperty(BoltGraphDriverImpl.RETRY_JITTER, "0");
+        properties.setProperty(BoltGraphDriverImpl.RETRY_INITIAL_BACKOFF, "1");
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+
+    private static void runFailing(RetryPolicy policy, QueryRunner runner) {
+        try {
+            BoltGraphUtils.runTransactionWithRetries(policy, runner, "", Collections.emptyMap());
+            fail();
+        } catch (Exception e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldRetryWithExponentialBackoffAndCountIt() throws Exception {
+        RetryPolicy policy = new RetryPolicy(properties());
+        QueryRunner runner = mock(QueryRunner.class);
+        Result result = mock(Result.class);
+        when(runner.run(anyString(), anyMap())).thenThrow(TRANSIENT).thenThrow(TRANSIENT).thenReturn(result);
+
+        assertSame(result, BoltGraphUtils.runTransactionWithRetries(policy, runner, "", Collections.emptyMap()));
+        assertEquals(2, policy.getRetries());
+        assertEquals(1 + 2, policy.getBackoffMillis());
+    }
+
+    @Test
+    public void shouldNotRetryNonTransientFailures() {
+        RetryPolicy policy = new RetryPolicy(properties());
+        QueryRunner runner = mock(QueryRunner.class);
+        when(runner.run(anyString(), anyMap())).thenThrow(new ClientException("Invalid syntax"));
+
+        runFailing(policy, runner);
+        verify(runner, times(1)).run(anyString(), anyMap());
+        assertEquals(0, policy.getRetries());
+        assertFalse(policy.isCircuitBreakerOpen());
+    }
+
+    @Test
+    public void shouldStopRetryingWhenTheBudgetIsEmpty() {
+        RetryPolicy policy = new RetryPolicy(properties(BoltGraphDriverImpl.RETRY_BUDGET, "2", BoltGraphDriverImpl.RETRY_BUDGET_REFILL, "0",
+                BoltGraphDriverImpl.CIRCUIT_BREAKER_FAILURES, "0"));
+        QueryRunner runner = mock(QueryRunner.class);
+        when(runner.run(anyString(), anyMap())).thenThrow(TRANSIENT);
+
+        runFailing(policy, runner);
+        verify(runner, times(3)).run(anyString(), anyMap());
+        assertEquals(2, policy.getRetries());
+        assertEquals(1, policy.getRejectedRetries());
+    }
+
+    @Test
+    public void shouldFailFastWhenTheCircuitBreakerIsOpen() {
+        RetryPolicy policy = new RetryPolicy(properties(BoltGraphDriverImpl.RETRY_MAX_ATTEMPTS, "1", BoltGraphDriverImpl.CIRCUIT_BREAKER_FAILURES, "2",
+                BoltGraphDriverImpl.CIRCUIT_BREAKER_OPEN_TIME, "60000"));
+        QueryRunner runner = mock(QueryRunner.class);
+        when(runner.run(anyString(), anyMap())).thenThrow(TRANSIENT);
+
+        runFailing(policy, runner);
+        assertFalse(policy.isCircuitBreakerOpen());
+        runFailing(policy, runner);
+        assertTrue(policy.isCircuitBreakerOpen());
+        try {
+            BoltGraphUtils.runTransactionWithRetries(policy, runner, "", Collections.emptyMap());
+            fail();
+        } catch (Exception e) {
+            assertTrue(e instanceof SQLTransientConnectionException);
+        }
+        verify(runner, times(2)).run(anyString(), anyMap());
+        assertEquals(1, policy.getShortCircuitedCalls());
+    }
+
+    @Test
+    public void shouldCloseTheCircuitBreakerAfterASuccessfulTrial() throws Exception {
+        RetryPolicy policy = new RetryPolicy(properties(BoltGraphDriverImpl.RETRY_MAX_ATTEMPTS, "1", BoltGraphDriverImpl.CIRCUIT_BREAKER_FAILURES, "1",
+                BoltGraphDriverImpl.CIRCUIT_BREAKER_OPEN_TIME, "0"));
+        QueryRunner runner = mock(QueryRunner.class);
+        Result result = mock(Result.class);
+        when(runner.run(anyString(), anyMap())).thenThrow(TRANSIENT).thenReturn(result);
+
+        runFailing(policy, runner);
+        assertTrue(policy.isCircuitBreakerOpen());
+        assertSame(result, BoltGraphUtils.runTransactionWithRetries(policy, runner, "", Collections.emptyMap()));
+        assertFalse(policy.isCircuitBreakerOpen());
+    }
+
+    @Test
+    public void shouldShareThePolicyOfTheSameDriver() {
+        Object driver = new Object();
+
+        assertSame(RetryPolicy.forDriver(driver, new Properties()), RetryPolicy.forDriver(driver, new Properties()));
+        assertNotSame(RetryPolicy.forDriver(driver, new Properties()), RetryPolicy.forDriver(new Object(), new Properties()));
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.memgraph.jdbc;
 
+import org.memgraph.jdbc.impl.ParameterBuffer;
 import org.memgraph.jdbc.utils.ExceptionBuilder;
 import org.memgraph.jdbc.utils.PreparedStatementBuilder;
 
@@ -42,8 +43,7 @@ import static java.sql.Types.*;
 public abstract class GraphPreparedStatement extends GraphStatement implements PreparedStatement {
 
 	protected String                    statement;
-	protected HashMap<String, Object>   parameters;
-	protected List<Map<String, Object>> batchParameters;
+	protected ParameterBuffer           batchParameters;
 	protected int                       parametersNumber;
 	private static final List<Integer> UNSUPPORTED_TYPES = Collections .unmodifiableList(
 			Arrays.asList(
@@ -71,10 +71,10 @@ public abstract class GraphPreparedStatement extends GraphStatement implements P
 	 */
 	protected GraphPreparedStatement(GraphConnection connection, String rawStatement) {
 		super(connection);
-		this.statement = PreparedStatementBuilder.replacePlaceholders(rawStatement);
-		this.parametersNumber = PreparedStatementBuilder.namedParameterCount(statement);
-		this.parameters = new HashMap<>(this.parametersNumber);
-		this.batchParameters = new ArrayList<>();
+		PreparedStatementBuilder.Template template = PreparedStatementBuilder.template(rawStatement);
+		this.statement = template.getStatement();
+		this.parametersNumber = template.getParametersNumber();
+		this.batchParameters = new ParameterBuffer(this.parametersNumber);
 	}
 
 	/*----------------------------------------*/
@@ -135,7 +135,14 @@ public abstract class GraphPreparedStatement extends GraphStatement implements P
 	 * @param obj   The value of the parameter
 	 */
 	protected void insertParameter(int index, Object obj) {
-		this.parameters.put(Integer.toString(index), obj);
+		this.batchParameters.setObject(index, obj);
+	}
+
+	/**
+	 * @return the parameters set so far, as a map from the parameter index to its value
+	 */
+	protected Map<String, Object> currentParameters() {
+		return this.batchParameters.openRow();
 	}
 
 	/*------------------------------------*/
@@ -154,37 +161,37 @@ public abstract class GraphPreparedStatement extends GraphStatement implements P
 	@Override public void setBoolean(int parameterIndex, boolean x) throws SQLException {
 		this.checkClosed();
 		this.checkParamsNumber(parameterIndex);
-		this.insertParameter(parameterIndex, x);
+		this.batchParameters.setBoolean(parameterIndex, x);
 	}
 
 	@Override public void setShort(int parameterIndex, short x) throws SQLException {
 		this.checkClosed();
 		this.checkParamsNumber(parameterIndex);
-		this.insertParameter(parameterIndex, x);
+		this.batchParameters.setShort(parameterIndex, x);
 	}
 
 	@Override public void setInt(int parameterIndex, int x) throws SQLException {
 		this.checkClosed();
 		this.checkParamsNumber(parameterIndex);
-		this.insertParameter(parameterIndex, x);
+		this.batchParameters.setInt(parameterIndex, x);
 	}
 
 	@Override public void setLong(int parameterIndex, long x) throws SQLException {
 		this.checkClosed();
 		this.checkParamsNumber(parameterIndex);
-		this.insertParameter(parameterIndex, x);
+		this.batchParameters.setLong(parameterIndex, x);
 	}
 
 	@Override public void setFloat(int parameterIndex, float x) throws SQLException {
 		this.checkClosed();
 		this.checkParamsNumber(parameterIndex);
-		this.insertParameter(parameterIndex, x);
+		this.batchParameters.setFloat(parameterIndex, x);
 	}
 
 	@Override public void setDouble(int parameterIndex, double x) throws SQLException {
 		this.checkClosed();
 		this.checkParamsNumber(parameterIndex);
-		this.insertParameter(parameterIndex, x);
+		this.batchParameters.setDouble(parameterIndex, x);
 	}
 
 	@Override public void setString(int parameterIndex, String x) throws SQLException {
@@ -202,13 +209,12 @@ public abstract class GraphPreparedStatement extends GraphStatement implements P
 
 	@Override public void clearParameters() throws SQLException {
 		this.checkClosed();
-		this.parameters.clear();
+		this.batchParameters.clearOpenRow();
 	}
 
 	@Override public void addBatch() throws SQLException {
 		this.checkClosed();
-		this.batchParameters.add(new HashMap<>(this.parameters));
-		this.parameters.clear();
+		this.batchParameters.addRow();
 	}
 
 	@Override public void clearBatch() throws SQLException {
@@ -45,6 +45,7 @@ public abstract class GraphStatement implements Statement, Loggable {
 	protected int[]           resultSetParams;
 	private   int             maxRows;
 	private   int             queryTimeout;
+	private   int             fetchSize;
 
 	/**
 	 * Default constructor with JDBC connection.
@@ -59,6 +60,8 @@ public abstract class GraphStatement implements Statement, Loggable {
 		this.maxRows = 0;
 		if (connection != null && connection.getProperties() != null) {
 			this.maxRows = Integer.parseInt(connection.getProperties().getProperty("maxrows", "0"));
+			this.fetchSize = Integer.parseInt(connection.getProperties().getProperty("fetchsize", "0"));
+			this.queryTimeout = Integer.parseInt(connection.getProperties().getProperty("querytimeout", "0"));
 		}
 	}
 
@@ -149,12 +152,21 @@ public abstract class GraphStatement implements Statement, Loggable {
 	 * Some tools call this method, so this just a workaround to make it work.
 	 * If you set the fetch at Integer.MIN_VALUE, or if you put maxRows to -1, there is no exception.
 	 * It's pretty much the same hack as the mysql connector.
+	 * Otherwise the value is used as the number of records pulled per batch, 0 meaning the connection default.
 	 */
 	@Override public void setFetchSize(int rows) throws SQLException {
 		this.checkClosed();
-		if (rows != Integer.MIN_VALUE && (this.getMaxRows() > 0 && rows > this.getMaxRows())) {
+		if (rows == Integer.MIN_VALUE) {
+			this.fetchSize = 0;
+			return;
+		}
+		if (rows < 0) {
+			throw new SQLException("Fetch size must be >= 0, was " + rows);
+		}
+		if (this.getMaxRows() > 0 && rows > this.getMaxRows()) {
 			throw new UnsupportedOperationException("Not implemented yet. => maxRow :" + getMaxRows() + " rows :" + rows);
 		}
+		this.fetchSize = rows;
 	}
 
 	/**
@@ -191,7 +203,7 @@ public abstract class GraphStatement implements Statement, Loggable {
 	}
 
 	/**
-	 * Added just for value memorization
+	 * The timeout defaults to the querytimeout connection property.
 	 *
 	 * @return the current query timeout limit in seconds; zero means there is no limit
 	 * @throws SQLException if a database error occurs
@@ -201,12 +213,15 @@ public abstract class GraphStatement implements Statement, Loggable {
 	}
 
 	/**
-	 * Added just for value memorization
+	 * The implementations send the timeout to the database with the statement and stop waiting for it once elapsed.
 	 *
 	 * @param seconds the new query timeout limit in seconds; zero means there is no limit
-	 * @throws SQLException if a database error occurs
+	 * @throws SQLException if a database error occurs or the timeout is negative
 	 */
 	@Override public void setQueryTimeout(int seconds) throws SQLException {
+		if (seconds < 0) {
+			throw new SQLException("The query timeout can't be negative");
+		}
 		this.queryTimeout = seconds;
 	}
 
@@ -298,7 +313,7 @@ public abstract class GraphStatement implements Statement, Loggable {
 	}
 
 	@Override public int getFetchSize() throws SQLException {
-		return 0;
+		return this.fetchSize;
 	}
 
 	@Override public boolean getMoreResults(int current) throws SQLException {
@@ -310,7 +325,25 @@ public abstract class GraphStatement implements Statement, Loggable {
 		return ListGraphResultSet.newInstance(false, Collections.<List<Object>>emptyList(), Collections.<String>emptyList());
 	}
 
-	@Override public void cancel() throws SQLException {} // do nothing
+	/**
+	 * Safe to call from another thread while the statement is executing, it does nothing otherwise.
+	 *
+	 * @throws SQLException if the statement is closed
+	 */
+	@Override public void cancel() throws SQLException {
+		this.checkClosed();
+		this.doCancel();
+	}
+
+	/**
+	 * Stop the queries of the statement still running on the database, if any.
+	 * The implementations not supporting it do nothing.
+	 *
+	 * @throws SQLException if a database error occurs
+	 */
+	protected void doCancel() throws SQLException {
+		// do nothing
+	}
 
 	@Override public void setPoolable(boolean poolable) throws SQLException {} // do nothing
 
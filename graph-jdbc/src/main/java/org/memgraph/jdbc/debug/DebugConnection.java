@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.debug;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Debug decorator of a {@link Connection}.
+ */
+public class DebugConnection extends DebugWrapper<Connection> implements Connection {
+
+	public DebugConnection(Connection delegate) {
+		super(delegate);
+	}
+
+	@Override public Statement createStatement() throws SQLException {
+		Statement result = this.delegate.createStatement();
+		log("createStatement");
+		return result;
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql) throws SQLException {
+		PreparedStatement result = this.delegate.prepareStatement(sql);
+		log("prepareStatement");
+		return result;
+	}
+
+	@Override public CallableStatement prepareCall(String sql) throws SQLException {
+		CallableStatement result = this.delegate.prepareCall(sql);
+		log("prepareCall");
+		return result;
+	}
+
+	@Override public String nativeSQL(String sql) throws SQLException {
+		String result = this.delegate.nativeSQL(sql);
+		log("nativeSQL");
+		return result;
+	}
+
+	@Override public void setAutoCommit(boolean autoCommit) throws SQLException {
+		this.delegate.setAutoCommit(autoCommit);
+		log("setAutoCommit");
+	}
+
+	@Override public boolean getAutoCommit() throws SQLException {
+		boolean result = this.delegate.getAutoCommit();
+		log("getAutoCommit");
+		return result;
+	}
+
+	@Override public void commit() throws SQLException {
+		this.delegate.commit();
+		log("commit");
+	}
+
+	@Override public void rollback() throws SQLException {
+		this.delegate.rollback();
+		log("rollback");
+	}
+
+	@Override public void close() throws SQLException {
+		this.delegate.close();
+		log("close");
+	}
+
+	@Override public boolean isClosed() throws SQLException {
+		boolean result = this.delegate.isClosed();
+		log("isClosed");
+		return result;
+	}
+
+	@Override public DatabaseMetaData getMetaData() throws SQLException {
+		DatabaseMetaData result = this.delegate.getMetaData();
+		log("getMetaData");
+		return result;
+	}
+
+	@Override public void setReadOnly(boolean readOnly) throws SQLException {
+		this.delegate.setReadOnly(readOnly);
+		log("setReadOnly");
+	}
+
+	@Override public boolean isReadOnly() throws SQLException {
+		boolean result = this.delegate.isReadOnly();
+		log("isReadOnly");
+		return result;
+	}
+
+	@Override public void setCatalog(String catalog) throws SQLException {
+		this.delegate.setCatalog(catalog);
+		log("setCatalog");
+	}
+
+	@Override public String getCatalog() throws SQLException {
+		String result = this.delegate.getCatalog();
+		log("getCatalog");
+		return result;
+	}
+
+	@Override public void setTransactionIsolation(int level) throws SQLException {
+		this.delegate.setTransactionIsolation(level);
+		log("setTransactionIsolation");
+	}
+
+	@Override public int getTransactionIsolation() throws SQLException {
+		int result = this.delegate.getTransactionIsolation();
+		log("getTransactionIsolation");
+		return result;
+	}
+
+	@Override public SQLWarning getWarnings() throws SQLException {
+		SQLWarning result = this.delegate.getWarnings();
+		log("getWarnings");
+		return result;
+	}
+
+	@Override public void clearWarnings() throws SQLException {
+		this.delegate.clearWarnings();
+		log("clearWarnings");
+	}
+
+	@Override public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+		Statement result = this.delegate.createStatement(resultSetType, resultSetConcurrency);
+		log("createStatement");
+		return result;
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		PreparedStatement result = this.delegate.prepareStatement(sql, resultSetType, resultSetConcurrency);
+		log("prepareStatement");
+		return result;
+	}
+
+	@Override public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		CallableStatement result = this.delegate.prepareCall(sql, resultSetType, resultSetConcurrency);
+		log("prepareCall");
+		return result;
+	}
+
+	@Override public Map<String, Class<?>> getTypeMap() throws SQLException {
+		Map<String, Class<?>> result = this.delegate.getTypeMap();
+		log("getTypeMap");
+		return result;
+	}
+
+	@Override public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+		this.delegate.setTypeMap(map);
+		log("setTypeMap");
+	}
+
+	@Override public void setHoldability(int holdability) throws SQLException {
+		this.delegate.setHoldability(holdability);
+		log("setHoldability");
+	}
+
+	@Override public int getHoldability() throws SQLException {
+		int result = this.delegate.getHoldability();
+		log("getHoldability");
+		return result;
+	}
+
+	@Override public Savepoint setSavepoint() throws SQLException {
+		Savepoint result = this.delegate.setSavepoint();
+		log("setSavepoint");
+		return result;
+	}
+
+	@Override public Savepoint setSavepoint(String name) throws SQLException {
+		Savepoint result = this.delegate.setSavepoint(name);
+		log("setSavepoint");
+		return result;
+	}
+
+	@Override public void rollback(Savepoint savepoint) throws SQLException {
+		this.delegate.rollback(savepoint);
+		log("rollback");
+	}
+
+	@Override public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+		this.delegate.releaseSavepoint(savepoint);
+		log("releaseSavepoint");
+	}
+
+	@Override public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		Statement result = this.delegate.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+		log("createStatement");
+		return result;
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		PreparedStatement result = this.delegate.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		log("prepareStatement");
+		return result;
+	}
+
+	@Override public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		CallableStatement result = this.delegate.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		log("prepareCall");
+		return result;
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		PreparedStatement result = this.delegate.prepareStatement(sql, autoGeneratedKeys);
+		log("prepareStatement");
+		return result;
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+		PreparedStatement result = this.delegate.prepareStatement(sql, columnIndexes);
+		log("prepareStatement");
+		return result;
+	}
+
+	@Override public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+		PreparedStatement result = this.delegate.prepareStatement(sql, columnNames);
+		log("prepareStatement");
+		return result;
+	}
+
+	@Override public Clob createClob() throws SQLException {
+		Clob result = this.delegate.createClob();
+		log("createClob");
+		return result;
+	}
+
+	@Override public Blob createBlob() throws SQLException {
+		Blob result = this.delegate.createBlob();
+		log("createBlob");
+		return result;
+	}
+
+	@Override public NClob createNClob() throws SQLException {
+		NClob result = this.delegate.createNClob();
+		log("createNClob");
+		return result;
+	}
+
+	@Override public SQLXML createSQLXML() throws SQLException {
+		SQLXML result = this.delegate.createSQLXML();
+		log("createSQLXML");
+		return result;
+	}
+
+	@Override public boolean isValid(int timeout) throws SQLException {
+		boolean result = this.delegate.isValid(timeout);
+		log("isValid");
+		return result;
+	}
+
+	@Override public void setClientInfo(String name, String value) throws SQLClientInfoException {
+		this.delegate.setClientInfo(name, value);
+		log("setClientInfo");
+	}
+
+	@Override public void setClientInfo(Properties properties) throws SQLClientInfoException {
+		this.delegate.setClientInfo(properties);
+		log("setClientInfo");
+	}
+
+	@Override public String getClientInfo(String name) throws SQLException {
+		String result = this.delegate.getClientInfo(name);
+		log("getClientInfo");
+		return result;
+	}
+
+	@Override public Properties getClientInfo() throws SQLException {
+		Properties result = this.delegate.getClientInfo();
+		log("getClientInfo");
+		return result;
+	}
+
+	@Override public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+		Array result = this.delegate.createArrayOf(typeName, elements);
+		log("createArrayOf");
+		return result;
+	}
+
+	@Override public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+		Struct result = this.delegate.createStruct(typeName, attributes);
+		log("createStruct");
+		return result;
+	}
+
+	@Override public void setSchema(String schema) throws SQLException {
+		this.delegate.setSchema(schema);
+		log("setSchema");
+	}
+
+	@Override public String getSchema() throws SQLException {
+		String result = this.delegate.getSchema();
+		log("getSchema");
+		return result;
+	}
+
+	@Override public void abort(Executor executor) throws SQLException {
+		this.delegate.abort(executor);
+		log("abort");
+	}
+
+	@Override public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+		this.delegate.setNetworkTimeout(executor, milliseconds);
+		log("setNetworkTimeout");
+	}
+
+	@Override public int getNetworkTimeout() throws SQLException {
+		int result = this.delegate.getNetworkTimeout();
+		log("getNetworkTimeout");
+		return result;
+	}
+}
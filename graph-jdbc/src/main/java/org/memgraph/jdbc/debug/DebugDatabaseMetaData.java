@@ -0,0 +1,1078 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.debug;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.RowIdLifetime;
+import java.sql.SQLException;
+
+/**
+ * Debug decorator of a {@link DatabaseMetaData}.
+ */
+public class DebugDatabaseMetaData extends DebugWrapper<DatabaseMetaData> implements DatabaseMetaData {
+
+	public DebugDatabaseMetaData(DatabaseMetaData delegate) {
+		super(delegate);
+	}
+
+	@Override public boolean allProceduresAreCallable() throws SQLException {
+		boolean result = this.delegate.allProceduresAreCallable();
+		log("allProceduresAreCallable");
+		return result;
+	}
+
+	@Override public boolean allTablesAreSelectable() throws SQLException {
+		boolean result = this.delegate.allTablesAreSelectable();
+		log("allTablesAreSelectable");
+		return result;
+	}
+
+	@Override public String getURL() throws SQLException {
+		String result = this.delegate.getURL();
+		log("getURL");
+		return result;
+	}
+
+	@Override public String getUserName() throws SQLException {
+		String result = this.delegate.getUserName();
+		log("getUserName");
+		return result;
+	}
+
+	@Override public boolean isReadOnly() throws SQLException {
+		boolean result = this.delegate.isReadOnly();
+		log("isReadOnly");
+		return result;
+	}
+
+	@Override public boolean nullsAreSortedHigh() throws SQLException {
+		boolean result = this.delegate.nullsAreSortedHigh();
+		log("nullsAreSortedHigh");
+		return result;
+	}
+
+	@Override public boolean nullsAreSortedLow() throws SQLException {
+		boolean result = this.delegate.nullsAreSortedLow();
+		log("nullsAreSortedLow");
+		return result;
+	}
+
+	@Override public boolean nullsAreSortedAtStart() throws SQLException {
+		boolean result = this.delegate.nullsAreSortedAtStart();
+		log("nullsAreSortedAtStart");
+		return result;
+	}
+
+	@Override public boolean nullsAreSortedAtEnd() throws SQLException {
+		boolean result = this.delegate.nullsAreSortedAtEnd();
+		log("nullsAreSortedAtEnd");
+		return result;
+	}
+
+	@Override public String getDatabaseProductName() throws SQLException {
+		String result = this.delegate.getDatabaseProductName();
+		log("getDatabaseProductName");
+		return result;
+	}
+
+	@Override public String getDatabaseProductVersion() throws SQLException {
+		String result = this.delegate.getDatabaseProductVersion();
+		log("getDatabaseProductVersion");
+		return result;
+	}
+
+	@Override public String getDriverName() throws SQLException {
+		String result = this.delegate.getDriverName();
+		log("getDriverName");
+		return result;
+	}
+
+	@Override public String getDriverVersion() throws SQLException {
+		String result = this.delegate.getDriverVersion();
+		log("getDriverVersion");
+		return result;
+	}
+
+	@Override public int getDriverMajorVersion() {
+		int result = this.delegate.getDriverMajorVersion();
+		log("getDriverMajorVersion");
+		return result;
+	}
+
+	@Override public int getDriverMinorVersion() {
+		int result = this.delegate.getDriverMinorVersion();
+		log("getDriverMinorVersion");
+		return result;
+	}
+
+	@Override public boolean usesLocalFiles() throws SQLException {
+		boolean result = this.delegate.usesLocalFiles();
+		log("usesLocalFiles");
+		return result;
+	}
+
+	@Override public boolean usesLocalFilePerTable() throws SQLException {
+		boolean result = this.delegate.usesLocalFilePerTable();
+		log("usesLocalFilePerTable");
+		return result;
+	}
+
+	@Override public boolean supportsMixedCaseIdentifiers() throws SQLException {
+		boolean result = this.delegate.supportsMixedCaseIdentifiers();
+		log("supportsMixedCaseIdentifiers");
+		return result;
+	}
+
+	@Override public boolean storesUpperCaseIdentifiers() throws SQLException {
+		boolean result = this.delegate.storesUpperCaseIdentifiers();
+		log("storesUpperCaseIdentifiers");
+		return result;
+	}
+
+	@Override public boolean storesLowerCaseIdentifiers() throws SQLException {
+		boolean result = this.delegate.storesLowerCaseIdentifiers();
+		log("storesLowerCaseIdentifiers");
+		return result;
+	}
+
+	@Override public boolean storesMixedCaseIdentifiers() throws SQLException {
+		boolean result = this.delegate.storesMixedCaseIdentifiers();
+		log("storesMixedCaseIdentifiers");
+		return result;
+	}
+
+	@Override public boolean supportsMixedCaseQuotedIdentifiers() throws SQLException {
+		boolean result = this.delegate.supportsMixedCaseQuotedIdentifiers();
+		log("supportsMixedCaseQuotedIdentifiers");
+		return result;
+	}
+
+	@Override public boolean storesUpperCaseQuotedIdentifiers() throws SQLException {
+		boolean result = this.delegate.storesUpperCaseQuotedIdentifiers();
+		log("storesUpperCaseQuotedIdentifiers");
+		return result;
+	}
+
+	@Override public boolean storesLowerCaseQuotedIdentifiers() throws SQLException {
+		boolean result = this.delegate.storesLowerCaseQuotedIdentifiers();
+		log("storesLowerCaseQuotedIdentifiers");
+		return result;
+	}
+
+	@Override public boolean storesMixedCaseQuotedIdentifiers() throws SQLException {
+		boolean result = this.delegate.storesMixedCaseQuotedIdentifiers();
+		log("storesMixedCaseQuotedIdentifiers");
+		return result;
+	}
+
+	@Override public String getIdentifierQuoteString() throws SQLException {
+		String result = this.delegate.getIdentifierQuoteString();
+		log("getIdentifierQuoteString");
+		return result;
+	}
+
+	@Override public String getSQLKeywords() throws SQLException {
+		String result = this.delegate.getSQLKeywords();
+		log("getSQLKeywords");
+		return result;
+	}
+
+	@Override public String getNumericFunctions() throws SQLException {
+		String result = this.delegate.getNumericFunctions();
+		log("getNumericFunctions");
+		return result;
+	}
+
+	@Override public String getStringFunctions() throws SQLException {
+		String result = this.delegate.getStringFunctions();
+		log("getStringFunctions");
+		return result;
+	}
+
+	@Override public String getSystemFunctions() throws SQLException {
+		String result = this.delegate.getSystemFunctions();
+		log("getSystemFunctions");
+		return result;
+	}
+
+	@Override public String getTimeDateFunctions() throws SQLException {
+		String result = this.delegate.getTimeDateFunctions();
+		log("getTimeDateFunctions");
+		return result;
+	}
+
+	@Override public String getSearchStringEscape() throws SQLException {
+		String result = this.delegate.getSearchStringEscape();
+		log("getSearchStringEscape");
+		return result;
+	}
+
+	@Override public String getExtraNameCharacters() throws SQLException {
+		String result = this.delegate.getExtraNameCharacters();
+		log("getExtraNameCharacters");
+		return result;
+	}
+
+	@Override public boolean supportsAlterTableWithAddColumn() throws SQLException {
+		boolean result = this.delegate.supportsAlterTableWithAddColumn();
+		log("supportsAlterTableWithAddColumn");
+		return result;
+	}
+
+	@Override public boolean supportsAlterTableWithDropColumn() throws SQLException {
+		boolean result = this.delegate.supportsAlterTableWithDropColumn();
+		log("supportsAlterTableWithDropColumn");
+		return result;
+	}
+
+	@Override public boolean supportsColumnAliasing() throws SQLException {
+		boolean result = this.delegate.supportsColumnAliasing();
+		log("supportsColumnAliasing");
+		return result;
+	}
+
+	@Override public boolean nullPlusNonNullIsNull() throws SQLException {
+		boolean result = this.delegate.nullPlusNonNullIsNull();
+		log("nullPlusNonNullIsNull");
+		return result;
+	}
+
+	@Override public boolean supportsConvert() throws SQLException {
+		boolean result = this.delegate.supportsConvert();
+		log("supportsConvert");
+		return result;
+	}
+
+	@Override public boolean supportsConvert(int fromType, int toType) throws SQLException {
+		boolean result = this.delegate.supportsConvert(fromType, toType);
+		log("supportsConvert");
+		return result;
+	}
+
+	@Override public boolean supportsTableCorrelationNames() throws SQLException {
+		boolean result = this.delegate.supportsTableCorrelationNames();
+		log("supportsTableCorrelationNames");
+		return result;
+	}
+
+	@Override public boolean supportsDifferentTableCorrelationNames() throws SQLException {
+		boolean result = this.delegate.supportsDifferentTableCorrelationNames();
+		log("supportsDifferentTableCorrelationNames");
+		return result;
+	}
+
+	@Override public boolean supportsExpressionsInOrderBy() throws SQLException {
+		boolean result = this.delegate.supportsExpressionsInOrderBy();
+		log("supportsExpressionsInOrderBy");
+		return result;
+	}
+
+	@Override public boolean supportsOrderByUnrelated() throws SQLException {
+		boolean result = this.delegate.supportsOrderByUnrelated();
+		log("supportsOrderByUnrelated");
+		return result;
+	}
+
+	@Override public boolean supportsGroupBy() throws SQLException {
+		boolean result = this.delegate.supportsGroupBy();
+		log("supportsGroupBy");
+		return result;
+	}
+
+	@Override public boolean supportsGroupByUnrelated() throws SQLException {
+		boolean result = this.delegate.supportsGroupByUnrelated();
+		log("supportsGroupByUnrelated");
+		return result;
+	}
+
+	@Override public boolean supportsGroupByBeyondSelect() throws SQLException {
+		boolean result = this.delegate.supportsGroupByBeyondSelect();
+		log("supportsGroupByBeyondSelect");
+		return result;
+	}
+
+	@Override public boolean supportsLikeEscapeClause() throws SQLException {
+		boolean result = this.delegate.supportsLikeEscapeClause();
+		log("supportsLikeEscapeClause");
+		return result;
+	}
+
+	@Override public boolean supportsMultipleResultSets() throws SQLException {
+		boolean result = this.delegate.supportsMultipleResultSets();
+		log("supportsMultipleResultSets");
+		return result;
+	}
+
+	@Override public boolean supportsMultipleTransactions() throws SQLException {
+		boolean result = this.delegate.supportsMultipleTransactions();
+		log("supportsMultipleTransactions");
+		return result;
+	}
+
+	@Override public boolean supportsNonNullableColumns() throws SQLException {
+		boolean result = this.delegate.supportsNonNullableColumns();
+		log("supportsNonNullableColumns");
+		return result;
+	}
+
+	@Override public boolean supportsMinimumSQLGrammar() throws SQLException {
+		boolean result = this.delegate.supportsMinimumSQLGrammar();
+		log("supportsMinimumSQLGrammar");
+		return result;
+	}
+
+	@Override public boolean supportsCoreSQLGrammar() throws SQLException {
+		boolean result = this.delegate.supportsCoreSQLGrammar();
+		log("supportsCoreSQLGrammar");
+		return result;
+	}
+
+	@Override public boolean supportsExtendedSQLGrammar() throws SQLException {
+		boolean result = this.delegate.supportsExtendedSQLGrammar();
+		log("supportsExtendedSQLGrammar");
+		return result;
+	}
+
+	@Override public boolean supportsANSI92EntryLevelSQL() throws SQLException {
+		boolean result = this.delegate.supportsANSI92EntryLevelSQL();
+		log("supportsANSI92EntryLevelSQL");
+		return result;
+	}
+
+	@Override public boolean supportsANSI92IntermediateSQL() throws SQLException {
+		boolean result = this.delegate.supportsANSI92IntermediateSQL();
+		log("supportsANSI92IntermediateSQL");
+		return result;
+	}
+
+	@Override public boolean supportsANSI92FullSQL() throws SQLException {
+		boolean result = this.delegate.supportsANSI92FullSQL();
+		log("supportsANSI92FullSQL");
+		return result;
+	}
+
+	@Override public boolean supportsIntegrityEnhancementFacility() throws SQLException {
+		boolean result = this.delegate.supportsIntegrityEnhancementFacility();
+		log("supportsIntegrityEnhancementFacility");
+		return result;
+	}
+
+	@Override public boolean supportsOuterJoins() throws SQLException {
+		boolean result = this.delegate.supportsOuterJoins();
+		log("supportsOuterJoins");
+		return result;
+	}
+
+	@Override public boolean supportsFullOuterJoins() throws SQLException {
+		boolean result = this.delegate.supportsFullOuterJoins();
+		log("supportsFullOuterJoins");
+		return result;
+	}
+
+	@Override public boolean supportsLimitedOuterJoins() throws SQLException {
+		boolean result = this.delegate.supportsLimitedOuterJoins();
+		log("supportsLimitedOuterJoins");
+		return result;
+	}
+
+	@Override public String getSchemaTerm() throws SQLException {
+		String result = this.delegate.getSchemaTerm();
+		log("getSchemaTerm");
+		return result;
+	}
+
+	@Override public String getProcedureTerm() throws SQLException {
+		String result = this.delegate.getProcedureTerm();
+		log("getProcedureTerm");
+		return result;
+	}
+
+	@Override public String getCatalogTerm() throws SQLException {
+		String result = this.delegate.getCatalogTerm();
+		log("getCatalogTerm");
+		return result;
+	}
+
+	@Override public boolean isCatalogAtStart() throws SQLException {
+		boolean result = this.delegate.isCatalogAtStart();
+		log("isCatalogAtStart");
+		return result;
+	}
+
+	@Override public String getCatalogSeparator() throws SQLException {
+		String result = this.delegate.getCatalogSeparator();
+		log("getCatalogSeparator");
+		return result;
+	}
+
+	@Override public boolean supportsSchemasInDataManipulation() throws SQLException {
+		boolean result = this.delegate.supportsSchemasInDataManipulation();
+		log("supportsSchemasInDataManipulation");
+		return result;
+	}
+
+	@Override public boolean supportsSchemasInProcedureCalls() throws SQLException {
+		boolean result = this.delegate.supportsSchemasInProcedureCalls();
+		log("supportsSchemasInProcedureCalls");
+		return result;
+	}
+
+	@Override public boolean supportsSchemasInTableDefinitions() throws SQLException {
+		boolean result = this.delegate.supportsSchemasInTableDefinitions();
+		log("supportsSchemasInTableDefinitions");
+		return result;
+	}
+
+	@Override public boolean supportsSchemasInIndexDefinitions() throws SQLException {
+		boolean result = this.delegate.supportsSchemasInIndexDefinitions();
+		log("supportsSchemasInIndexDefinitions");
+		return result;
+	}
+
+	@Override public boolean supportsSchemasInPrivilegeDefinitions() throws SQLException {
+		boolean result = this.delegate.supportsSchemasInPrivilegeDefinitions();
+		log("supportsSchemasInPrivilegeDefinitions");
+		return result;
+	}
+
+	@Override public boolean supportsCatalogsInDataManipulation() throws SQLException {
+		boolean result = this.delegate.supportsCatalogsInDataManipulation();
+		log("supportsCatalogsInDataManipulation");
+		return result;
+	}
+
+	@Override public boolean supportsCatalogsInProcedureCalls() throws SQLException {
+		boolean result = this.delegate.supportsCatalogsInProcedureCalls();
+		log("supportsCatalogsInProcedureCalls");
+		return result;
+	}
+
+	@Override public boolean supportsCatalogsInTableDefinitions() throws SQLException {
+		boolean result = this.delegate.supportsCatalogsInTableDefinitions();
+		log("supportsCatalogsInTableDefinitions");
+		return result;
+	}
+
+	@Override public boolean supportsCatalogsInIndexDefinitions() throws SQLException {
+		boolean result = this.delegate.supportsCatalogsInIndexDefinitions();
+		log("supportsCatalogsInIndexDefinitions");
+		return result;
+	}
+
+	@Override public boolean supportsCatalogsInPrivilegeDefinitions() throws SQLException {
+		boolean result = this.delegate.supportsCatalogsInPrivilegeDefinitions();
+		log("supportsCatalogsInPrivilegeDefinitions");
+		return result;
+	}
+
+	@Override public boolean supportsPositionedDelete() throws SQLException {
+		boolean result = this.delegate.supportsPositionedDelete();
+		log("supportsPositionedDelete");
+		return result;
+	}
+
+	@Override public boolean supportsPositionedUpdate() throws SQLException {
+		boolean result = this.delegate.supportsPositionedUpdate();
+		log("supportsPositionedUpdate");
+		return result;
+	}
+
+	@Override public boolean supportsSelectForUpdate() throws SQLException {
+		boolean result = this.delegate.supportsSelectForUpdate();
+		log("supportsSelectForUpdate");
+		return result;
+	}
+
+	@Override public boolean supportsStoredProcedures() throws SQLException {
+		boolean result = this.delegate.supportsStoredProcedures();
+		log("supportsStoredProcedures");
+		return result;
+	}
+
+	@Override public boolean supportsSubqueriesInComparisons() throws SQLException {
+		boolean result = this.delegate.supportsSubqueriesInComparisons();
+		log("supportsSubqueriesInComparisons");
+		return result;
+	}
+
+	@Override public boolean supportsSubqueriesInExists() throws SQLException {
+		boolean result = this.delegate.supportsSubqueriesInExists();
+		log("supportsSubqueriesInExists");
+		return result;
+	}
+
+	@Override public boolean supportsSubqueriesInIns() throws SQLException {
+		boolean result = this.delegate.supportsSubqueriesInIns();
+		log("supportsSubqueriesInIns");
+		return result;
+	}
+
+	@Override public boolean supportsSubqueriesInQuantifieds() throws SQLException {
+		boolean result = this.delegate.supportsSubqueriesInQuantifieds();
+		log("supportsSubqueriesInQuantifieds");
+		return result;
+	}
+
+	@Override public boolean supportsCorrelatedSubqueries() throws SQLException {
+		boolean result = this.delegate.supportsCorrelatedSubqueries();
+		log("supportsCorrelatedSubqueries");
+		return result;
+	}
+
+	@Override public boolean supportsUnion() throws SQLException {
+		boolean result = this.delegate.supportsUnion();
+		log("supportsUnion");
+		return result;
+	}
+
+	@Override public boolean supportsUnionAll() throws SQLException {
+		boolean result = this.delegate.supportsUnionAll();
+		log("supportsUnionAll");
+		return result;
+	}
+
+	@Override public boolean supportsOpenCursorsAcrossCommit() throws SQLException {
+		boolean result = this.delegate.supportsOpenCursorsAcrossCommit();
+		log("supportsOpenCursorsAcrossCommit");
+		return result;
+	}
+
+	@Override public boolean supportsOpenCursorsAcrossRollback() throws SQLException {
+		boolean result = this.delegate.supportsOpenCursorsAcrossRollback();
+		log("supportsOpenCursorsAcrossRollback");
+		return result;
+	}
+
+	@Override public boolean supportsOpenStatementsAcrossCommit() throws SQLException {
+		boolean result = this.delegate.supportsOpenStatementsAcrossCommit();
+		log("supportsOpenStatementsAcrossCommit");
+		return result;
+	}
+
+	@Override public boolean supportsOpenStatementsAcrossRollback() throws SQLException {
+		boolean result = this.delegate.supportsOpenStatementsAcrossRollback();
+		log("supportsOpenStatementsAcrossRollback");
+		return result;
+	}
+
+	@Override public int getMaxBinaryLiteralLength() throws SQLException {
+		int result = this.delegate.getMaxBinaryLiteralLength();
+		log("getMaxBinaryLiteralLength");
+		return result;
+	}
+
+	@Override public int getMaxCharLiteralLength() throws SQLException {
+		int result = this.delegate.getMaxCharLiteralLength();
+		log("getMaxCharLiteralLength");
+		return result;
+	}
+
+	@Override public int getMaxColumnNameLength() throws SQLException {
+		int result = this.delegate.getMaxColumnNameLength();
+		log("getMaxColumnNameLength");
+		return result;
+	}
+
+	@Override public int getMaxColumnsInGroupBy() throws SQLException {
+		int result = this.delegate.getMaxColumnsInGroupBy();
+		log("getMaxColumnsInGroupBy");
+		return result;
+	}
+
+	@Override public int getMaxColumnsInIndex() throws SQLException {
+		int result = this.delegate.getMaxColumnsInIndex();
+		log("getMaxColumnsInIndex");
+		return result;
+	}
+
+	@Override public int getMaxColumnsInOrderBy() throws SQLException {
+		int result = this.delegate.getMaxColumnsInOrderBy();
+		log("getMaxColumnsInOrderBy");
+		return result;
+	}
+
+	@Override public int getMaxColumnsInSelect() throws SQLException {
+		int result = this.delegate.getMaxColumnsInSelect();
+		log("getMaxColumnsInSelect");
+		return result;
+	}
+
+	@Override public int getMaxColumnsInTable() throws SQLException {
+		int result = this.delegate.getMaxColumnsInTable();
+		log("getMaxColumnsInTable");
+		return result;
+	}
+
+	@Override public int getMaxConnections() throws SQLException {
+		int result = this.delegate.getMaxConnections();
+		log("getMaxConnections");
+		return result;
+	}
+
+	@Override public int getMaxCursorNameLength() throws SQLException {
+		int result = this.delegate.getMaxCursorNameLength();
+		log("getMaxCursorNameLength");
+		return result;
+	}
+
+	@Override public int getMaxIndexLength() throws SQLException {
+		int result = this.delegate.getMaxIndexLength();
+		log("getMaxIndexLength");
+		return result;
+	}
+
+	@Override public int getMaxSchemaNameLength() throws SQLException {
+		int result = this.delegate.getMaxSchemaNameLength();
+		log("getMaxSchemaNameLength");
+		return result;
+	}
+
+	@Override public int getMaxProcedureNameLength() throws SQLException {
+		int result = this.delegate.getMaxProcedureNameLength();
+		log("getMaxProcedureNameLength");
+		return result;
+	}
+
+	@Override public int getMaxCatalogNameLength() throws SQLException {
+		int result = this.delegate.getMaxCatalogNameLength();
+		log("getMaxCatalogNameLength");
+		return result;
+	}
+
+	@Override public int getMaxRowSize() throws SQLException {
+		int result = this.delegate.getMaxRowSize();
+		log("getMaxRowSize");
+		return result;
+	}
+
+	@Override public boolean doesMaxRowSizeIncludeBlobs() throws SQLException {
+		boolean result = this.delegate.doesMaxRowSizeIncludeBlobs();
+		log("doesMaxRowSizeIncludeBlobs");
+		return result;
+	}
+
+	@Override public int getMaxStatementLength() throws SQLException {
+		int result = this.delegate.getMaxStatementLength();
+		log("getMaxStatementLength");
+		return result;
+	}
+
+	@Override public int getMaxStatements() throws SQLException {
+		int result = this.delegate.getMaxStatements();
+		log("getMaxStatements");
+		return result;
+	}
+
+	@Override public int getMaxTableNameLength() throws SQLException {
+		int result = this.delegate.getMaxTableNameLength();
+		log("getMaxTableNameLength");
+		return result;
+	}
+
+	@Override public int getMaxTablesInSelect() throws SQLException {
+		int result = this.delegate.getMaxTablesInSelect();
+		log("getMaxTablesInSelect");
+		return result;
+	}
+
+	@Override public int getMaxUserNameLength() throws SQLException {
+		int result = this.delegate.getMaxUserNameLength();
+		log("getMaxUserNameLength");
+		return result;
+	}
+
+	@Override public int getDefaultTransactionIsolation() throws SQLException {
+		int result = this.delegate.getDefaultTransactionIsolation();
+		log("getDefaultTransactionIsolation");
+		return result;
+	}
+
+	@Override public boolean supportsTransactions() throws SQLException {
+		boolean result = this.delegate.supportsTransactions();
+		log("supportsTransactions");
+		return result;
+	}
+
+	@Override public boolean supportsTransactionIsolationLevel(int level) throws SQLException {
+		boolean result = this.delegate.supportsTransactionIsolationLevel(level);
+		log("supportsTransactionIsolationLevel");
+		return result;
+	}
+
+	@Override public boolean supportsDataDefinitionAndDataManipulationTransactions() throws SQLException {
+		boolean result = this.delegate.supportsDataDefinitionAndDataManipulationTransactions();
+		log("supportsDataDefinitionAndDataManipulationTransactions");
+		return result;
+	}
+
+	@Override public boolean supportsDataManipulationTransactionsOnly() throws SQLException {
+		boolean result = this.delegate.supportsDataManipulationTransactionsOnly();
+		log("supportsDataManipulationTransactionsOnly");
+		return result;
+	}
+
+	@Override public boolean dataDefinitionCausesTransactionCommit() throws SQLException {
+		boolean result = this.delegate.dataDefinitionCausesTransactionCommit();
+		log("dataDefinitionCausesTransactionCommit");
+		return result;
+	}
+
+	@Override public boolean dataDefinitionIgnoredInTransactions() throws SQLException {
+		boolean result = this.delegate.dataDefinitionIgnoredInTransactions();
+		log("dataDefinitionIgnoredInTransactions");
+		return result;
+	}
+
+	@Override public ResultSet getProcedures(String catalog, String schemaPattern, String procedureNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getProcedures(catalog, schemaPattern, procedureNamePattern);
+		log("getProcedures");
+		return result;
+	}
+
+	@Override public ResultSet getProcedureColumns(String catalog, String schemaPattern, String procedureNamePattern, String columnNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getProcedureColumns(catalog, schemaPattern, procedureNamePattern, columnNamePattern);
+		log("getProcedureColumns");
+		return result;
+	}
+
+	@Override public ResultSet getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+		ResultSet result = this.delegate.getTables(catalog, schemaPattern, tableNamePattern, types);
+		log("getTables");
+		return result;
+	}
+
+	@Override public ResultSet getSchemas() throws SQLException {
+		ResultSet result = this.delegate.getSchemas();
+		log("getSchemas");
+		return result;
+	}
+
+	@Override public ResultSet getCatalogs() throws SQLException {
+		ResultSet result = this.delegate.getCatalogs();
+		log("getCatalogs");
+		return result;
+	}
+
+	@Override public ResultSet getTableTypes() throws SQLException {
+		ResultSet result = this.delegate.getTableTypes();
+		log("getTableTypes");
+		return result;
+	}
+
+	@Override public ResultSet getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);
+		log("getColumns");
+		return result;
+	}
+
+	@Override public ResultSet getColumnPrivileges(String catalog, String schema, String table, String columnNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getColumnPrivileges(catalog, schema, table, columnNamePattern);
+		log("getColumnPrivileges");
+		return result;
+	}
+
+	@Override public ResultSet getTablePrivileges(String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getTablePrivileges(catalog, schemaPattern, tableNamePattern);
+		log("getTablePrivileges");
+		return result;
+	}
+
+	@Override public ResultSet getBestRowIdentifier(String catalog, String schema, String table, int scope, boolean nullable) throws SQLException {
+		ResultSet result = this.delegate.getBestRowIdentifier(catalog, schema, table, scope, nullable);
+		log("getBestRowIdentifier");
+		return result;
+	}
+
+	@Override public ResultSet getVersionColumns(String catalog, String schema, String table) throws SQLException {
+		ResultSet result = this.delegate.getVersionColumns(catalog, schema, table);
+		log("getVersionColumns");
+		return result;
+	}
+
+	@Override public ResultSet getPrimaryKeys(String catalog, String schema, String table) throws SQLException {
+		ResultSet result = this.delegate.getPrimaryKeys(catalog, schema, table);
+		log("getPrimaryKeys");
+		return result;
+	}
+
+	@Override public ResultSet getImportedKeys(String catalog, String schema, String table) throws SQLException {
+		ResultSet result = this.delegate.getImportedKeys(catalog, schema, table);
+		log("getImportedKeys");
+		return result;
+	}
+
+	@Override public ResultSet getExportedKeys(String catalog, String schema, String table) throws SQLException {
+		ResultSet result = this.delegate.getExportedKeys(catalog, schema, table);
+		log("getExportedKeys");
+		return result;
+	}
+
+	@Override public ResultSet getCrossReference(String parentCatalog, String parentSchema, String parentTable, String foreignCatalog, String foreignSchema, String foreignTable) throws SQLException {
+		ResultSet result = this.delegate.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema, foreignTable);
+		log("getCrossReference");
+		return result;
+	}
+
+	@Override public ResultSet getTypeInfo() throws SQLException {
+		ResultSet result = this.delegate.getTypeInfo();
+		log("getTypeInfo");
+		return result;
+	}
+
+	@Override public ResultSet getIndexInfo(String catalog, String schema, String table, boolean unique, boolean approximate) throws SQLException {
+		ResultSet result = this.delegate.getIndexInfo(catalog, schema, table, unique, approximate);
+		log("getIndexInfo");
+		return result;
+	}
+
+	@Override public boolean supportsResultSetType(int type) throws SQLException {
+		boolean result = this.delegate.supportsResultSetType(type);
+		log("supportsResultSetType");
+		return result;
+	}
+
+	@Override public boolean supportsResultSetConcurrency(int type, int concurrency) throws SQLException {
+		boolean result = this.delegate.supportsResultSetConcurrency(type, concurrency);
+		log("supportsResultSetConcurrency");
+		return result;
+	}
+
+	@Override public boolean ownUpdatesAreVisible(int type) throws SQLException {
+		boolean result = this.delegate.ownUpdatesAreVisible(type);
+		log("ownUpdatesAreVisible");
+		return result;
+	}
+
+	@Override public boolean ownDeletesAreVisible(int type) throws SQLException {
+		boolean result = this.delegate.ownDeletesAreVisible(type);
+		log("ownDeletesAreVisible");
+		return result;
+	}
+
+	@Override public boolean ownInsertsAreVisible(int type) throws SQLException {
+		boolean result = this.delegate.ownInsertsAreVisible(type);
+		log("ownInsertsAreVisible");
+		return result;
+	}
+
+	@Override public boolean othersUpdatesAreVisible(int type) throws SQLException {
+		boolean result = this.delegate.othersUpdatesAreVisible(type);
+		log("othersUpdatesAreVisible");
+		return result;
+	}
+
+	@Override public boolean othersDeletesAreVisible(int type) throws SQLException {
+		boolean result = this.delegate.othersDeletesAreVisible(type);
+		log("othersDeletesAreVisible");
+		return result;
+	}
+
+	@Override public boolean othersInsertsAreVisible(int type) throws SQLException {
+		boolean result = this.delegate.othersInsertsAreVisible(type);
+		log("othersInsertsAreVisible");
+		return result;
+	}
+
+	@Override public boolean updatesAreDetected(int type) throws SQLException {
+		boolean result = this.delegate.updatesAreDetected(type);
+		log("updatesAreDetected");
+		return result;
+	}
+
+	@Override public boolean deletesAreDetected(int type) throws SQLException {
+		boolean result = this.delegate.deletesAreDetected(type);
+		log("deletesAreDetected");
+		return result;
+	}
+
+	@Override public boolean insertsAreDetected(int type) throws SQLException {
+		boolean result = this.delegate.insertsAreDetected(type);
+		log("insertsAreDetected");
+		return result;
+	}
+
+	@Override public boolean supportsBatchUpdates() throws SQLException {
+		boolean result = this.delegate.supportsBatchUpdates();
+		log("supportsBatchUpdates");
+		return result;
+	}
+
+	@Override public ResultSet getUDTs(String catalog, String schemaPattern, String typeNamePattern, int[] types) throws SQLException {
+		ResultSet result = this.delegate.getUDTs(catalog, schemaPattern, typeNamePattern, types);
+		log("getUDTs");
+		return result;
+	}
+
+	@Override public Connection getConnection() throws SQLException {
+		Connection result = this.delegate.getConnection();
+		log("getConnection");
+		return result;
+	}
+
+	@Override public boolean supportsSavepoints() throws SQLException {
+		boolean result = this.delegate.supportsSavepoints();
+		log("supportsSavepoints");
+		return result;
+	}
+
+	@Override public boolean supportsNamedParameters() throws SQLException {
+		boolean result = this.delegate.supportsNamedParameters();
+		log("supportsNamedParameters");
+		return result;
+	}
+
+	@Override public boolean supportsMultipleOpenResults() throws SQLException {
+		boolean result = this.delegate.supportsMultipleOpenResults();
+		log("supportsMultipleOpenResults");
+		return result;
+	}
+
+	@Override public boolean supportsGetGeneratedKeys() throws SQLException {
+		boolean result = this.delegate.supportsGetGeneratedKeys();
+		log("supportsGetGeneratedKeys");
+		return result;
+	}
+
+	@Override public ResultSet getSuperTypes(String catalog, String schemaPattern, String typeNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getSuperTypes(catalog, schemaPattern, typeNamePattern);
+		log("getSuperTypes");
+		return result;
+	}
+
+	@Override public ResultSet getSuperTables(String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getSuperTables(catalog, schemaPattern, tableNamePattern);
+		log("getSuperTables");
+		return result;
+	}
+
+	@Override public ResultSet getAttributes(String catalog, String schemaPattern, String typeNamePattern, String attributeNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern);
+		log("getAttributes");
+		return result;
+	}
+
+	@Override public boolean supportsResultSetHoldability(int holdability) throws SQLException {
+		boolean result = this.delegate.supportsResultSetHoldability(holdability);
+		log("supportsResultSetHoldability");
+		return result;
+	}
+
+	@Override public int getResultSetHoldability() throws SQLException {
+		int result = this.delegate.getResultSetHoldability();
+		log("getResultSetHoldability");
+		return result;
+	}
+
+	@Override public int getDatabaseMajorVersion() throws SQLException {
+		int result = this.delegate.getDatabaseMajorVersion();
+		log("getDatabaseMajorVersion");
+		return result;
+	}
+
+	@Override public int getDatabaseMinorVersion() throws SQLException {
+		int result = this.delegate.getDatabaseMinorVersion();
+		log("getDatabaseMinorVersion");
+		return result;
+	}
+
+	@Override public int getJDBCMajorVersion() throws SQLException {
+		int result = this.delegate.getJDBCMajorVersion();
+		log("getJDBCMajorVersion");
+		return result;
+	}
+
+	@Override public int getJDBCMinorVersion() throws SQLException {
+		int result = this.delegate.getJDBCMinorVersion();
+		log("getJDBCMinorVersion");
+		return result;
+	}
+
+	@Override public int getSQLStateType() throws SQLException {
+		int result = this.delegate.getSQLStateType();
+		log("getSQLStateType");
+		return result;
+	}
+
+	@Override public boolean locatorsUpdateCopy() throws SQLException {
+		boolean result = this.delegate.locatorsUpdateCopy();
+		log("locatorsUpdateCopy");
+		return result;
+	}
+
+	@Override public boolean supportsStatementPooling() throws SQLException {
+		boolean result = this.delegate.supportsStatementPooling();
+		log("supportsStatementPooling");
+		return result;
+	}
+
+	@Override public RowIdLifetime getRowIdLifetime() throws SQLException {
+		RowIdLifetime result = this.delegate.getRowIdLifetime();
+		log("getRowIdLifetime");
+		return result;
+	}
+
+	@Override public ResultSet getSchemas(String catalog, String schemaPattern) throws SQLException {
+		ResultSet result = this.delegate.getSchemas(catalog, schemaPattern);
+		log("getSchemas");
+		return result;
+	}
+
+	@Override public boolean supportsStoredFunctionsUsingCallSyntax() throws SQLException {
+		boolean result = this.delegate.supportsStoredFunctionsUsingCallSyntax();
+		log("supportsStoredFunctionsUsingCallSyntax");
+		return result;
+	}
+
+	@Override public boolean autoCommitFailureClosesAllResultSets() throws SQLException {
+		boolean result = this.delegate.autoCommitFailureClosesAllResultSets();
+		log("autoCommitFailureClosesAllResultSets");
+		return result;
+	}
+
+	@Override public ResultSet getClientInfoProperties() throws SQLException {
+		ResultSet result = this.delegate.getClientInfoProperties();
+		log("getClientInfoProperties");
+		return result;
+	}
+
+	@Override public ResultSet getFunctions(String catalog, String schemaPattern, String functionNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getFunctions(catalog, schemaPattern, functionNamePattern);
+		log("getFunctions");
+		return result;
+	}
+
+	@Override public ResultSet getFunctionColumns(String catalog, String schemaPattern, String functionNamePattern, String columnNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getFunctionColumns(catalog, schemaPattern, functionNamePattern, columnNamePattern);
+		log("getFunctionColumns");
+		return result;
+	}
+
+	@Override public ResultSet getPseudoColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+		ResultSet result = this.delegate.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);
+		log("getPseudoColumns");
+		return result;
+	}
+
+	@Override public boolean generatedKeyAlwaysReturned() throws SQLException {
+		boolean result = this.delegate.generatedKeyAlwaysReturned();
+		log("generatedKeyAlwaysReturned");
+		return result;
+	}
+}
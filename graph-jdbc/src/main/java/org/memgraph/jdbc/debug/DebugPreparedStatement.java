@@ -0,0 +1,569 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.debug;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * Debug decorator of a {@link PreparedStatement}.
+ */
+public class DebugPreparedStatement extends DebugWrapper<PreparedStatement> implements PreparedStatement {
+
+	public DebugPreparedStatement(PreparedStatement delegate) {
+		super(delegate);
+	}
+
+	@Override public ResultSet executeQuery() throws SQLException {
+		ResultSet result = this.delegate.executeQuery();
+		log("executeQuery");
+		return result;
+	}
+
+	@Override public int executeUpdate() throws SQLException {
+		int result = this.delegate.executeUpdate();
+		log("executeUpdate");
+		return result;
+	}
+
+	@Override public void setNull(int parameterIndex, int sqlType) throws SQLException {
+		this.delegate.setNull(parameterIndex, sqlType);
+		log("setNull");
+	}
+
+	@Override public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+		this.delegate.setBoolean(parameterIndex, x);
+		log("setBoolean");
+	}
+
+	@Override public void setByte(int parameterIndex, byte x) throws SQLException {
+		this.delegate.setByte(parameterIndex, x);
+		log("setByte");
+	}
+
+	@Override public void setShort(int parameterIndex, short x) throws SQLException {
+		this.delegate.setShort(parameterIndex, x);
+		log("setShort");
+	}
+
+	@Override public void setInt(int parameterIndex, int x) throws SQLException {
+		this.delegate.setInt(parameterIndex, x);
+		log("setInt");
+	}
+
+	@Override public void setLong(int parameterIndex, long x) throws SQLException {
+		this.delegate.setLong(parameterIndex, x);
+		log("setLong");
+	}
+
+	@Override public void setFloat(int parameterIndex, float x) throws SQLException {
+		this.delegate.setFloat(parameterIndex, x);
+		log("setFloat");
+	}
+
+	@Override public void setDouble(int parameterIndex, double x) throws SQLException {
+		this.delegate.setDouble(parameterIndex, x);
+		log("setDouble");
+	}
+
+	@Override public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+		this.delegate.setBigDecimal(parameterIndex, x);
+		log("setBigDecimal");
+	}
+
+	@Override public void setString(int parameterIndex, String x) throws SQLException {
+		this.delegate.setString(parameterIndex, x);
+		log("setString");
+	}
+
+	@Override public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+		this.delegate.setBytes(parameterIndex, x);
+		log("setBytes");
+	}
+
+	@Override public void setDate(int parameterIndex, Date x) throws SQLException {
+		this.delegate.setDate(parameterIndex, x);
+		log("setDate");
+	}
+
+	@Override public void setTime(int parameterIndex, Time x) throws SQLException {
+		this.delegate.setTime(parameterIndex, x);
+		log("setTime");
+	}
+
+	@Override public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+		this.delegate.setTimestamp(parameterIndex, x);
+		log("setTimestamp");
+	}
+
+	@Override public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		this.delegate.setAsciiStream(parameterIndex, x, length);
+		log("setAsciiStream");
+	}
+
+	@Override public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		this.delegate.setUnicodeStream(parameterIndex, x, length);
+		log("setUnicodeStream");
+	}
+
+	@Override public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		this.delegate.setBinaryStream(parameterIndex, x, length);
+		log("setBinaryStream");
+	}
+
+	@Override public void clearParameters() throws SQLException {
+		this.delegate.clearParameters();
+		log("clearParameters");
+	}
+
+	@Override public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+		this.delegate.setObject(parameterIndex, x, targetSqlType);
+		log("setObject");
+	}
+
+	@Override public void setObject(int parameterIndex, Object x) throws SQLException {
+		this.delegate.setObject(parameterIndex, x);
+		log("setObject");
+	}
+
+	@Override public boolean execute() throws SQLException {
+		boolean result = this.delegate.execute();
+		log("execute");
+		return result;
+	}
+
+	@Override public void addBatch() throws SQLException {
+		this.delegate.addBatch();
+		log("addBatch");
+	}
+
+	@Override public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+		this.delegate.setCharacterStream(parameterIndex, reader, length);
+		log("setCharacterStream");
+	}
+
+	@Override public void setRef(int parameterIndex, Ref x) throws SQLException {
+		this.delegate.setRef(parameterIndex, x);
+		log("setRef");
+	}
+
+	@Override public void setBlob(int parameterIndex, Blob x) throws SQLException {
+		this.delegate.setBlob(parameterIndex, x);
+		log("setBlob");
+	}
+
+	@Override public void setClob(int parameterIndex, Clob x) throws SQLException {
+		this.delegate.setClob(parameterIndex, x);
+		log("setClob");
+	}
+
+	@Override public void setArray(int parameterIndex, Array x) throws SQLException {
+		this.delegate.setArray(parameterIndex, x);
+		log("setArray");
+	}
+
+	@Override public ResultSetMetaData getMetaData() throws SQLException {
+		ResultSetMetaData result = this.delegate.getMetaData();
+		log("getMetaData");
+		return result;
+	}
+
+	@Override public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+		this.delegate.setDate(parameterIndex, x, cal);
+		log("setDate");
+	}
+
+	@Override public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+		this.delegate.setTime(parameterIndex, x, cal);
+		log("setTime");
+	}
+
+	@Override public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+		this.delegate.setTimestamp(parameterIndex, x, cal);
+		log("setTimestamp");
+	}
+
+	@Override public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+		this.delegate.setNull(parameterIndex, sqlType, typeName);
+		log("setNull");
+	}
+
+	@Override public void setURL(int parameterIndex, URL x) throws SQLException {
+		this.delegate.setURL(parameterIndex, x);
+		log("setURL");
+	}
+
+	@Override public ParameterMetaData getParameterMetaData() throws SQLException {
+		ParameterMetaData result = this.delegate.getParameterMetaData();
+		log("getParameterMetaData");
+		return result;
+	}
+
+	@Override public void setRowId(int parameterIndex, RowId x) throws SQLException {
+		this.delegate.setRowId(parameterIndex, x);
+		log("setRowId");
+	}
+
+	@Override public void setNString(int parameterIndex, String value) throws SQLException {
+		this.delegate.setNString(parameterIndex, value);
+		log("setNString");
+	}
+
+	@Override public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+		this.delegate.setNCharacterStream(parameterIndex, value, length);
+		log("setNCharacterStream");
+	}
+
+	@Override public void setNClob(int parameterIndex, NClob value) throws SQLException {
+		this.delegate.setNClob(parameterIndex, value);
+		log("setNClob");
+	}
+
+	@Override public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		this.delegate.setClob(parameterIndex, reader, length);
+		log("setClob");
+	}
+
+	@Override public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+		this.delegate.setBlob(parameterIndex, inputStream, length);
+		log("setBlob");
+	}
+
+	@Override public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		this.delegate.setNClob(parameterIndex, reader, length);
+		log("setNClob");
+	}
+
+	@Override public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+		this.delegate.setSQLXML(parameterIndex, xmlObject);
+		log("setSQLXML");
+	}
+
+	@Override public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+		this.delegate.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+		log("setObject");
+	}
+
+	@Override public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+		this.delegate.setAsciiStream(parameterIndex, x, length);
+		log("setAsciiStream");
+	}
+
+	@Override public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+		this.delegate.setBinaryStream(parameterIndex, x, length);
+		log("setBinaryStream");
+	}
+
+	@Override public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+		this.delegate.setCharacterStream(parameterIndex, reader, length);
+		log("setCharacterStream");
+	}
+
+	@Override public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+		this.delegate.setAsciiStream(parameterIndex, x);
+		log("setAsciiStream");
+	}
+
+	@Override public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+		this.delegate.setBinaryStream(parameterIndex, x);
+		log("setBinaryStream");
+	}
+
+	@Override public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+		this.delegate.setCharacterStream(parameterIndex, reader);
+		log("setCharacterStream");
+	}
+
+	@Override public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+		this.delegate.setNCharacterStream(parameterIndex, value);
+		log("setNCharacterStream");
+	}
+
+	@Override public void setClob(int parameterIndex, Reader reader) throws SQLException {
+		this.delegate.setClob(parameterIndex, reader);
+		log("setClob");
+	}
+
+	@Override public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+		this.delegate.setBlob(parameterIndex, inputStream);
+		log("setBlob");
+	}
+
+	@Override public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+		this.delegate.setNClob(parameterIndex, reader);
+		log("setNClob");
+	}
+
+	@Override public ResultSet executeQuery(String sql) throws SQLException {
+		ResultSet result = this.delegate.executeQuery(sql);
+		log("executeQuery");
+		return result;
+	}
+
+	@Override public int executeUpdate(String sql) throws SQLException {
+		int result = this.delegate.executeUpdate(sql);
+		log("executeUpdate");
+		return result;
+	}
+
+	@Override public void close() throws SQLException {
+		this.delegate.close();
+		log("close");
+	}
+
+	@Override public int getMaxFieldSize() throws SQLException {
+		int result = this.delegate.getMaxFieldSize();
+		log("getMaxFieldSize");
+		return result;
+	}
+
+	@Override public void setMaxFieldSize(int max) throws SQLException {
+		this.delegate.setMaxFieldSize(max);
+		log("setMaxFieldSize");
+	}
+
+	@Override public int getMaxRows() throws SQLException {
+		int result = this.delegate.getMaxRows();
+		log("getMaxRows");
+		return result;
+	}
+
+	@Override public void setMaxRows(int max) throws SQLException {
+		this.delegate.setMaxRows(max);
+		log("setMaxRows");
+	}
+
+	@Override public void setEscapeProcessing(boolean enable) throws SQLException {
+		this.delegate.setEscapeProcessing(enable);
+		log("setEscapeProcessing");
+	}
+
+	@Override public int getQueryTimeout() throws SQLException {
+		int result = this.delegate.getQueryTimeout();
+		log("getQueryTimeout");
+		return result;
+	}
+
+	@Override public void setQueryTimeout(int seconds) throws SQLException {
+		this.delegate.setQueryTimeout(seconds);
+		log("setQueryTimeout");
+	}
+
+	@Override public void cancel() throws SQLException {
+		this.delegate.cancel();
+		log("cancel");
+	}
+
+	@Override public SQLWarning getWarnings() throws SQLException {
+		SQLWarning result = this.delegate.getWarnings();
+		log("getWarnings");
+		return result;
+	}
+
+	@Override public void clearWarnings() throws SQLException {
+		this.delegate.clearWarnings();
+		log("clearWarnings");
+	}
+
+	@Override public void setCursorName(String name) throws SQLException {
+		this.delegate.setCursorName(name);
+		log("setCursorName");
+	}
+
+	@Override public boolean execute(String sql) throws SQLException {
+		boolean result = this.delegate.execute(sql);
+		log("execute");
+		return result;
+	}
+
+	@Override public ResultSet getResultSet() throws SQLException {
+		ResultSet result = this.delegate.getResultSet();
+		log("getResultSet");
+		return result;
+	}
+
+	@Override public int getUpdateCount() throws SQLException {
+		int result = this.delegate.getUpdateCount();
+		log("getUpdateCount");
+		return result;
+	}
+
+	@Override public boolean getMoreResults() throws SQLException {
+		boolean result = this.delegate.getMoreResults();
+		log("getMoreResults");
+		return result;
+	}
+
+	@Override public void setFetchDirection(int direction) throws SQLException {
+		this.delegate.setFetchDirection(direction);
+		log("setFetchDirection");
+	}
+
+	@Override public int getFetchDirection() throws SQLException {
+		int result = this.delegate.getFetchDirection();
+		log("getFetchDirection");
+		return result;
+	}
+
+	@Override public void setFetchSize(int rows) throws SQLException {
+		this.delegate.setFetchSize(rows);
+		log("setFetchSize");
+	}
+
+	@Override public int getFetchSize() throws SQLException {
+		int result = this.delegate.getFetchSize();
+		log("getFetchSize");
+		return result;
+	}
+
+	@Override public int getResultSetConcurrency() throws SQLException {
+		int result = this.delegate.getResultSetConcurrency();
+		log("getResultSetConcurrency");
+		return result;
+	}
+
+	@Override public int getResultSetType() throws SQLException {
+		int result = this.delegate.getResultSetType();
+		log("getResultSetType");
+		return result;
+	}
+
+	@Override public void addBatch(String sql) throws SQLException {
+		this.delegate.addBatch(sql);
+		log("addBatch");
+	}
+
+	@Override public void clearBatch() throws SQLException {
+		this.delegate.clearBatch();
+		log("clearBatch");
+	}
+
+	@Override public int[] executeBatch() throws SQLException {
+		int[] result = this.delegate.executeBatch();
+		log("executeBatch");
+		return result;
+	}
+
+	@Override public Connection getConnection() throws SQLException {
+		Connection result = this.delegate.getConnection();
+		log("getConnection");
+		return result;
+	}
+
+	@Override public boolean getMoreResults(int current) throws SQLException {
+		boolean result = this.delegate.getMoreResults(current);
+		log("getMoreResults");
+		return result;
+	}
+
+	@Override public ResultSet getGeneratedKeys() throws SQLException {
+		ResultSet result = this.delegate.getGeneratedKeys();
+		log("getGeneratedKeys");
+		return result;
+	}
+
+	@Override public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		int result = this.delegate.executeUpdate(sql, autoGeneratedKeys);
+		log("executeUpdate");
+		return result;
+	}
+
+	@Override public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		int result = this.delegate.executeUpdate(sql, columnIndexes);
+		log("executeUpdate");
+		return result;
+	}
+
+	@Override public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+		int result = this.delegate.executeUpdate(sql, columnNames);
+		log("executeUpdate");
+		return result;
+	}
+
+	@Override public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+		boolean result = this.delegate.execute(sql, autoGeneratedKeys);
+		log("execute");
+		return result;
+	}
+
+	@Override public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+		boolean result = this.delegate.execute(sql, columnIndexes);
+		log("execute");
+		return result;
+	}
+
+	@Override public boolean execute(String sql, String[] columnNames) throws SQLException {
+		boolean result = this.delegate.execute(sql, columnNames);
+		log("execute");
+		return result;
+	}
+
+	@Override public int getResultSetHoldability() throws SQLException {
+		int result = this.delegate.getResultSetHoldability();
+		log("getResultSetHoldability");
+		return result;
+	}
+
+	@Override public boolean isClosed() throws SQLException {
+		boolean result = this.delegate.isClosed();
+		log("isClosed");
+		return result;
+	}
+
+	@Override public void setPoolable(boolean poolable) throws SQLException {
+		this.delegate.setPoolable(poolable);
+		log("setPoolable");
+	}
+
+	@Override public boolean isPoolable() throws SQLException {
+		boolean result = this.delegate.isPoolable();
+		log("isPoolable");
+		return result;
+	}
+
+	@Override public void closeOnCompletion() throws SQLException {
+		this.delegate.closeOnCompletion();
+		log("closeOnCompletion");
+	}
+
+	@Override public boolean isCloseOnCompletion() throws SQLException {
+		boolean result = this.delegate.isCloseOnCompletion();
+		log("isCloseOnCompletion");
+		return result;
+	}
+}
@@ -0,0 +1,1089 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.debug;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * Debug decorator of a {@link ResultSet}.
+ */
+public class DebugResultSet extends DebugWrapper<ResultSet> implements ResultSet {
+
+	public DebugResultSet(ResultSet delegate) {
+		super(delegate);
+	}
+
+	@Override public boolean next() throws SQLException {
+		boolean result = this.delegate.next();
+		log("next");
+		return result;
+	}
+
+	@Override public void close() throws SQLException {
+		this.delegate.close();
+		log("close");
+	}
+
+	@Override public boolean wasNull() throws SQLException {
+		boolean result = this.delegate.wasNull();
+		log("wasNull");
+		return result;
+	}
+
+	@Override public String getString(int columnIndex) throws SQLException {
+		String result = this.delegate.getString(columnIndex);
+		log("getString");
+		return result;
+	}
+
+	@Override public boolean getBoolean(int columnIndex) throws SQLException {
+		boolean result = this.delegate.getBoolean(columnIndex);
+		log("getBoolean");
+		return result;
+	}
+
+	@Override public byte getByte(int columnIndex) throws SQLException {
+		byte result = this.delegate.getByte(columnIndex);
+		log("getByte");
+		return result;
+	}
+
+	@Override public short getShort(int columnIndex) throws SQLException {
+		short result = this.delegate.getShort(columnIndex);
+		log("getShort");
+		return result;
+	}
+
+	@Override public int getInt(int columnIndex) throws SQLException {
+		int result = this.delegate.getInt(columnIndex);
+		log("getInt");
+		return result;
+	}
+
+	@Override public long getLong(int columnIndex) throws SQLException {
+		long result = this.delegate.getLong(columnIndex);
+		log("getLong");
+		return result;
+	}
+
+	@Override public float getFloat(int columnIndex) throws SQLException {
+		float result = this.delegate.getFloat(columnIndex);
+		log("getFloat");
+		return result;
+	}
+
+	@Override public double getDouble(int columnIndex) throws SQLException {
+		double result = this.delegate.getDouble(columnIndex);
+		log("getDouble");
+		return result;
+	}
+
+	@Override public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+		BigDecimal result = this.delegate.getBigDecimal(columnIndex, scale);
+		log("getBigDecimal");
+		return result;
+	}
+
+	@Override public byte[] getBytes(int columnIndex) throws SQLException {
+		byte[] result = this.delegate.getBytes(columnIndex);
+		log("getBytes");
+		return result;
+	}
+
+	@Override public Date getDate(int columnIndex) throws SQLException {
+		Date result = this.delegate.getDate(columnIndex);
+		log("getDate");
+		return result;
+	}
+
+	@Override public Time getTime(int columnIndex) throws SQLException {
+		Time result = this.delegate.getTime(columnIndex);
+		log("getTime");
+		return result;
+	}
+
+	@Override public Timestamp getTimestamp(int columnIndex) throws SQLException {
+		Timestamp result = this.delegate.getTimestamp(columnIndex);
+		log("getTimestamp");
+		return result;
+	}
+
+	@Override public InputStream getAsciiStream(int columnIndex) throws SQLException {
+		InputStream result = this.delegate.getAsciiStream(columnIndex);
+		log("getAsciiStream");
+		return result;
+	}
+
+	@Override public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+		InputStream result = this.delegate.getUnicodeStream(columnIndex);
+		log("getUnicodeStream");
+		return result;
+	}
+
+	@Override public InputStream getBinaryStream(int columnIndex) throws SQLException {
+		InputStream result = this.delegate.getBinaryStream(columnIndex);
+		log("getBinaryStream");
+		return result;
+	}
+
+	@Override public String getString(String columnLabel) throws SQLException {
+		String result = this.delegate.getString(columnLabel);
+		log("getString");
+		return result;
+	}
+
+	@Override public boolean getBoolean(String columnLabel) throws SQLException {
+		boolean result = this.delegate.getBoolean(columnLabel);
+		log("getBoolean");
+		return result;
+	}
+
+	@Override public byte getByte(String columnLabel) throws SQLException {
+		byte result = this.delegate.getByte(columnLabel);
+		log("getByte");
+		return result;
+	}
+
+	@Override public short getShort(String columnLabel) throws SQLException {
+		short result = this.delegate.getShort(columnLabel);
+		log("getShort");
+		return result;
+	}
+
+	@Override public int getInt(String columnLabel) throws SQLException {
+		int result = this.delegate.getInt(columnLabel);
+		log("getInt");
+		return result;
+	}
+
+	@Override public long getLong(String columnLabel) throws SQLException {
+		long result = this.delegate.getLong(columnLabel);
+		log("getLong");
+		return result;
+	}
+
+	@Override public float getFloat(String columnLabel) throws SQLException {
+		float result = this.delegate.getFloat(columnLabel);
+		log("getFloat");
+		return result;
+	}
+
+	@Override public double getDouble(String columnLabel) throws SQLException {
+		double result = this.delegate.getDouble(columnLabel);
+		log("getDouble");
+		return result;
+	}
+
+	@Override public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+		BigDecimal result = this.delegate.getBigDecimal(columnLabel, scale);
+		log("getBigDecimal");
+		return result;
+	}
+
+	@Override public byte[] getBytes(String columnLabel) throws SQLException {
+		byte[] result = this.delegate.getBytes(columnLabel);
+		log("getBytes");
+		return result;
+	}
+
+	@Override public Date getDate(String columnLabel) throws SQLException {
+		Date result = this.delegate.getDate(columnLabel);
+		log("getDate");
+		return result;
+	}
+
+	@Override public Time getTime(String columnLabel) throws SQLException {
+		Time result = this.delegate.getTime(columnLabel);
+		log("getTime");
+		return result;
+	}
+
+	@Override public Timestamp getTimestamp(String columnLabel) throws SQLException {
+		Timestamp result = this.delegate.getTimestamp(columnLabel);
+		log("getTimestamp");
+		return result;
+	}
+
+	@Override public InputStream getAsciiStream(String columnLabel) throws SQLException {
+		InputStream result = this.delegate.getAsciiStream(columnLabel);
+		log("getAsciiStream");
+		return result;
+	}
+
+	@Override public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+		InputStream result = this.delegate.getUnicodeStream(columnLabel);
+		log("getUnicodeStream");
+		return result;
+	}
+
+	@Override public InputStream getBinaryStream(String columnLabel) throws SQLException {
+		InputStream result = this.delegate.getBinaryStream(columnLabel);
+		log("getBinaryStream");
+		return result;
+	}
+
+	@Override public SQLWarning getWarnings() throws SQLException {
+		SQLWarning result = this.delegate.getWarnings();
+		log("getWarnings");
+		return result;
+	}
+
+	@Override public void clearWarnings() throws SQLException {
+		this.delegate.clearWarnings();
+		log("clearWarnings");
+	}
+
+	@Override public String getCursorName() throws SQLException {
+		String result = this.delegate.getCursorName();
+		log("getCursorName");
+		return result;
+	}
+
+	@Override public ResultSetMetaData getMetaData() throws SQLException {
+		ResultSetMetaData result = this.delegate.getMetaData();
+		log("getMetaData");
+		return result;
+	}
+
+	@Override public Object getObject(int columnIndex) throws SQLException {
+		Object result = this.delegate.getObject(columnIndex);
+		log("getObject");
+		return result;
+	}
+
+	@Override public Object getObject(String columnLabel) throws SQLException {
+		Object result = this.delegate.getObject(columnLabel);
+		log("getObject");
+		return result;
+	}
+
+	@Override public int findColumn(String columnLabel) throws SQLException {
+		int result = this.delegate.findColumn(columnLabel);
+		log("findColumn");
+		return result;
+	}
+
+	@Override public Reader getCharacterStream(int columnIndex) throws SQLException {
+		Reader result = this.delegate.getCharacterStream(columnIndex);
+		log("getCharacterStream");
+		return result;
+	}
+
+	@Override public Reader getCharacterStream(String columnLabel) throws SQLException {
+		Reader result = this.delegate.getCharacterStream(columnLabel);
+		log("getCharacterStream");
+		return result;
+	}
+
+	@Override public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+		BigDecimal result = this.delegate.getBigDecimal(columnIndex);
+		log("getBigDecimal");
+		return result;
+	}
+
+	@Override public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+		BigDecimal result = this.delegate.getBigDecimal(columnLabel);
+		log("getBigDecimal");
+		return result;
+	}
+
+	@Override public boolean isBeforeFirst() throws SQLException {
+		boolean result = this.delegate.isBeforeFirst();
+		log("isBeforeFirst");
+		return result;
+	}
+
+	@Override public boolean isAfterLast() throws SQLException {
+		boolean result = this.delegate.isAfterLast();
+		log("isAfterLast");
+		return result;
+	}
+
+	@Override public boolean isFirst() throws SQLException {
+		boolean result = this.delegate.isFirst();
+		log("isFirst");
+		return result;
+	}
+
+	@Override public boolean isLast() throws SQLException {
+		boolean result = this.delegate.isLast();
+		log("isLast");
+		return result;
+	}
+
+	@Override public void beforeFirst() throws SQLException {
+		this.delegate.beforeFirst();
+		log("beforeFirst");
+	}
+
+	@Override public void afterLast() throws SQLException {
+		this.delegate.afterLast();
+		log("afterLast");
+	}
+
+	@Override public boolean first() throws SQLException {
+		boolean result = this.delegate.first();
+		log("first");
+		return result;
+	}
+
+	@Override public boolean last() throws SQLException {
+		boolean result = this.delegate.last();
+		log("last");
+		return result;
+	}
+
+	@Override public int getRow() throws SQLException {
+		int result = this.delegate.getRow();
+		log("getRow");
+		return result;
+	}
+
+	@Override public boolean absolute(int row) throws SQLException {
+		boolean result = this.delegate.absolute(row);
+		log("absolute");
+		return result;
+	}
+
+	@Override public boolean relative(int rows) throws SQLException {
+		boolean result = this.delegate.relative(rows);
+		log("relative");
+		return result;
+	}
+
+	@Override public boolean previous() throws SQLException {
+		boolean result = this.delegate.previous();
+		log("previous");
+		return result;
+	}
+
+	@Override public void setFetchDirection(int direction) throws SQLException {
+		this.delegate.setFetchDirection(direction);
+		log("setFetchDirection");
+	}
+
+	@Override public int getFetchDirection() throws SQLException {
+		int result = this.delegate.getFetchDirection();
+		log("getFetchDirection");
+		return result;
+	}
+
+	@Override public void setFetchSize(int rows) throws SQLException {
+		this.delegate.setFetchSize(rows);
+		log("setFetchSize");
+	}
+
+	@Override public int getFetchSize() throws SQLException {
+		int result = this.delegate.getFetchSize();
+		log("getFetchSize");
+		return result;
+	}
+
+	@Override public int getType() throws SQLException {
+		int result = this.delegate.getType();
+		log("getType");
+		return result;
+	}
+
+	@Override public int getConcurrency() throws SQLException {
+		int result = this.delegate.getConcurrency();
+		log("getConcurrency");
+		return result;
+	}
+
+	@Override public boolean rowUpdated() throws SQLException {
+		boolean result = this.delegate.rowUpdated();
+		log("rowUpdated");
+		return result;
+	}
+
+	@Override public boolean rowInserted() throws SQLException {
+		boolean result = this.delegate.rowInserted();
+		log("rowInserted");
+		return result;
+	}
+
+	@Override public boolean rowDeleted() throws SQLException {
+		boolean result = this.delegate.rowDeleted();
+		log("rowDeleted");
+		return result;
+	}
+
+	@Override public void updateNull(int columnIndex) throws SQLException {
+		this.delegate.updateNull(columnIndex);
+		log("updateNull");
+	}
+
+	@Override public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+		this.delegate.updateBoolean(columnIndex, x);
+		log("updateBoolean");
+	}
+
+	@Override public void updateByte(int columnIndex, byte x) throws SQLException {
+		this.delegate.updateByte(columnIndex, x);
+		log("updateByte");
+	}
+
+	@Override public void updateShort(int columnIndex, short x) throws SQLException {
+		this.delegate.updateShort(columnIndex, x);
+		log("updateShort");
+	}
+
+	@Override public void updateInt(int columnIndex, int x) throws SQLException {
+		this.delegate.updateInt(columnIndex, x);
+		log("updateInt");
+	}
+
+	@Override public void updateLong(int columnIndex, long x) throws SQLException {
+		this.delegate.updateLong(columnIndex, x);
+		log("updateLong");
+	}
+
+	@Override public void updateFloat(int columnIndex, float x) throws SQLException {
+		this.delegate.updateFloat(columnIndex, x);
+		log("updateFloat");
+	}
+
+	@Override public void updateDouble(int columnIndex, double x) throws SQLException {
+		this.delegate.updateDouble(columnIndex, x);
+		log("updateDouble");
+	}
+
+	@Override public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+		this.delegate.updateBigDecimal(columnIndex, x);
+		log("updateBigDecimal");
+	}
+
+	@Override public void updateString(int columnIndex, String x) throws SQLException {
+		this.delegate.updateString(columnIndex, x);
+		log("updateString");
+	}
+
+	@Override public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+		this.delegate.updateBytes(columnIndex, x);
+		log("updateBytes");
+	}
+
+	@Override public void updateDate(int columnIndex, Date x) throws SQLException {
+		this.delegate.updateDate(columnIndex, x);
+		log("updateDate");
+	}
+
+	@Override public void updateTime(int columnIndex, Time x) throws SQLException {
+		this.delegate.updateTime(columnIndex, x);
+		log("updateTime");
+	}
+
+	@Override public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+		this.delegate.updateTimestamp(columnIndex, x);
+		log("updateTimestamp");
+	}
+
+	@Override public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+		this.delegate.updateAsciiStream(columnIndex, x, length);
+		log("updateAsciiStream");
+	}
+
+	@Override public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+		this.delegate.updateBinaryStream(columnIndex, x, length);
+		log("updateBinaryStream");
+	}
+
+	@Override public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+		this.delegate.updateCharacterStream(columnIndex, x, length);
+		log("updateCharacterStream");
+	}
+
+	@Override public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+		this.delegate.updateObject(columnIndex, x, scaleOrLength);
+		log("updateObject");
+	}
+
+	@Override public void updateObject(int columnIndex, Object x) throws SQLException {
+		this.delegate.updateObject(columnIndex, x);
+		log("updateObject");
+	}
+
+	@Override public void updateNull(String columnLabel) throws SQLException {
+		this.delegate.updateNull(columnLabel);
+		log("updateNull");
+	}
+
+	@Override public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+		this.delegate.updateBoolean(columnLabel, x);
+		log("updateBoolean");
+	}
+
+	@Override public void updateByte(String columnLabel, byte x) throws SQLException {
+		this.delegate.updateByte(columnLabel, x);
+		log("updateByte");
+	}
+
+	@Override public void updateShort(String columnLabel, short x) throws SQLException {
+		this.delegate.updateShort(columnLabel, x);
+		log("updateShort");
+	}
+
+	@Override public void updateInt(String columnLabel, int x) throws SQLException {
+		this.delegate.updateInt(columnLabel, x);
+		log("updateInt");
+	}
+
+	@Override public void updateLong(String columnLabel, long x) throws SQLException {
+		this.delegate.updateLong(columnLabel, x);
+		log("updateLong");
+	}
+
+	@Override public void updateFloat(String columnLabel, float x) throws SQLException {
+		this.delegate.updateFloat(columnLabel, x);
+		log("updateFloat");
+	}
+
+	@Override public void updateDouble(String columnLabel, double x) throws SQLException {
+		this.delegate.updateDouble(columnLabel, x);
+		log("updateDouble");
+	}
+
+	@Override public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+		this.delegate.updateBigDecimal(columnLabel, x);
+		log("updateBigDecimal");
+	}
+
+	@Override public void updateString(String columnLabel, String x) throws SQLException {
+		this.delegate.updateString(columnLabel, x);
+		log("updateString");
+	}
+
+	@Override public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+		this.delegate.updateBytes(columnLabel, x);
+		log("updateBytes");
+	}
+
+	@Override public void updateDate(String columnLabel, Date x) throws SQLException {
+		this.delegate.updateDate(columnLabel, x);
+		log("updateDate");
+	}
+
+	@Override public void updateTime(String columnLabel, Time x) throws SQLException {
+		this.delegate.updateTime(columnLabel, x);
+		log("updateTime");
+	}
+
+	@Override public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+		this.delegate.updateTimestamp(columnLabel, x);
+		log("updateTimestamp");
+	}
+
+	@Override public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+		this.delegate.updateAsciiStream(columnLabel, x, length);
+		log("updateAsciiStream");
+	}
+
+	@Override public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+		this.delegate.updateBinaryStream(columnLabel, x, length);
+		log("updateBinaryStream");
+	}
+
+	@Override public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+		this.delegate.updateCharacterStream(columnLabel, reader, length);
+		log("updateCharacterStream");
+	}
+
+	@Override public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+		this.delegate.updateObject(columnLabel, x, scaleOrLength);
+		log("updateObject");
+	}
+
+	@Override public void updateObject(String columnLabel, Object x) throws SQLException {
+		this.delegate.updateObject(columnLabel, x);
+		log("updateObject");
+	}
+
+	@Override public void insertRow() throws SQLException {
+		this.delegate.insertRow();
+		log("insertRow");
+	}
+
+	@Override public void updateRow() throws SQLException {
+		this.delegate.updateRow();
+		log("updateRow");
+	}
+
+	@Override public void deleteRow() throws SQLException {
+		this.delegate.deleteRow();
+		log("deleteRow");
+	}
+
+	@Override public void refreshRow() throws SQLException {
+		this.delegate.refreshRow();
+		log("refreshRow");
+	}
+
+	@Override public void cancelRowUpdates() throws SQLException {
+		this.delegate.cancelRowUpdates();
+		log("cancelRowUpdates");
+	}
+
+	@Override public void moveToInsertRow() throws SQLException {
+		this.delegate.moveToInsertRow();
+		log("moveToInsertRow");
+	}
+
+	@Override public void moveToCurrentRow() throws SQLException {
+		this.delegate.moveToCurrentRow();
+		log("moveToCurrentRow");
+	}
+
+	@Override public Statement getStatement() throws SQLException {
+		Statement result = this.delegate.getStatement();
+		log("getStatement");
+		return result;
+	}
+
+	@Override public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+		Object result = this.delegate.getObject(columnIndex, map);
+		log("getObject");
+		return result;
+	}
+
+	@Override public Ref getRef(int columnIndex) throws SQLException {
+		Ref result = this.delegate.getRef(columnIndex);
+		log("getRef");
+		return result;
+	}
+
+	@Override public Blob getBlob(int columnIndex) throws SQLException {
+		Blob result = this.delegate.getBlob(columnIndex);
+		log("getBlob");
+		return result;
+	}
+
+	@Override public Clob getClob(int columnIndex) throws SQLException {
+		Clob result = this.delegate.getClob(columnIndex);
+		log("getClob");
+		return result;
+	}
+
+	@Override public Array getArray(int columnIndex) throws SQLException {
+		Array result = this.delegate.getArray(columnIndex);
+		log("getArray");
+		return result;
+	}
+
+	@Override public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+		Object result = this.delegate.getObject(columnLabel, map);
+		log("getObject");
+		return result;
+	}
+
+	@Override public Ref getRef(String columnLabel) throws SQLException {
+		Ref result = this.delegate.getRef(columnLabel);
+		log("getRef");
+		return result;
+	}
+
+	@Override public Blob getBlob(String columnLabel) throws SQLException {
+		Blob result = this.delegate.getBlob(columnLabel);
+		log("getBlob");
+		return result;
+	}
+
+	@Override public Clob getClob(String columnLabel) throws SQLException {
+		Clob result = this.delegate.getClob(columnLabel);
+		log("getClob");
+		return result;
+	}
+
+	@Override public Array getArray(String columnLabel) throws SQLException {
+		Array result = this.delegate.getArray(columnLabel);
+		log("getArray");
+		return result;
+	}
+
+	@Override public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+		Date result = this.delegate.getDate(columnIndex, cal);
+		log("getDate");
+		return result;
+	}
+
+	@Override public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+		Date result = this.delegate.getDate(columnLabel, cal);
+		log("getDate");
+		return result;
+	}
+
+	@Override public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+		Time result = this.delegate.getTime(columnIndex, cal);
+		log("getTime");
+		return result;
+	}
+
+	@Override public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+		Time result = this.delegate.getTime(columnLabel, cal);
+		log("getTime");
+		return result;
+	}
+
+	@Override public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+		Timestamp result = this.delegate.getTimestamp(columnIndex, cal);
+		log("getTimestamp");
+		return result;
+	}
+
+	@Override public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+		Timestamp result = this.delegate.getTimestamp(columnLabel, cal);
+		log("getTimestamp");
+		return result;
+	}
+
+	@Override public URL getURL(int columnIndex) throws SQLException {
+		URL result = this.delegate.getURL(columnIndex);
+		log("getURL");
+		return result;
+	}
+
+	@Override public URL getURL(String columnLabel) throws SQLException {
+		URL result = this.delegate.getURL(columnLabel);
+		log("getURL");
+		return result;
+	}
+
+	@Override public void updateRef(int columnIndex, Ref x) throws SQLException {
+		this.delegate.updateRef(columnIndex, x);
+		log("updateRef");
+	}
+
+	@Override public void updateRef(String columnLabel, Ref x) throws SQLException {
+		this.delegate.updateRef(columnLabel, x);
+		log("updateRef");
+	}
+
+	@Override public void updateBlob(int columnIndex, Blob x) throws SQLException {
+		this.delegate.updateBlob(columnIndex, x);
+		log("updateBlob");
+	}
+
+	@Override public void updateBlob(String columnLabel, Blob x) throws SQLException {
+		this.delegate.updateBlob(columnLabel, x);
+		log("updateBlob");
+	}
+
+	@Override public void updateClob(int columnIndex, Clob x) throws SQLException {
+		this.delegate.updateClob(columnIndex, x);
+		log("updateClob");
+	}
+
+	@Override public void updateClob(String columnLabel, Clob x) throws SQLException {
+		this.delegate.updateClob(columnLabel, x);
+		log("updateClob");
+	}
+
+	@Override public void updateArray(int columnIndex, Array x) throws SQLException {
+		this.delegate.updateArray(columnIndex, x);
+		log("updateArray");
+	}
+
+	@Override public void updateArray(String columnLabel, Array x) throws SQLException {
+		this.delegate.updateArray(columnLabel, x);
+		log("updateArray");
+	}
+
+	@Override public RowId getRowId(int columnIndex) throws SQLException {
+		RowId result = this.delegate.getRowId(columnIndex);
+		log("getRowId");
+		return result;
+	}
+
+	@Override public RowId getRowId(String columnLabel) throws SQLException {
+		RowId result = this.delegate.getRowId(columnLabel);
+		log("getRowId");
+		return result;
+	}
+
+	@Override public void updateRowId(int columnIndex, RowId x) throws SQLException {
+		this.delegate.updateRowId(columnIndex, x);
+		log("updateRowId");
+	}
+
+	@Override public void updateRowId(String columnLabel, RowId x) throws SQLException {
+		this.delegate.updateRowId(columnLabel, x);
+		log("updateRowId");
+	}
+
+	@Override public int getHoldability() throws SQLException {
+		int result = this.delegate.getHoldability();
+		log("getHoldability");
+		return result;
+	}
+
+	@Override public boolean isClosed() throws SQLException {
+		boolean result = this.delegate.isClosed();
+		log("isClosed");
+		return result;
+	}
+
+	@Override public void updateNString(int columnIndex, String nString) throws SQLException {
+		this.delegate.updateNString(columnIndex, nString);
+		log("updateNString");
+	}
+
+	@Override public void updateNString(String columnLabel, String nString) throws SQLException {
+		this.delegate.updateNString(columnLabel, nString);
+		log("updateNString");
+	}
+
+	@Override public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+		this.delegate.updateNClob(columnIndex, nClob);
+		log("updateNClob");
+	}
+
+	@Override public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+		this.delegate.updateNClob(columnLabel, nClob);
+		log("updateNClob");
+	}
+
+	@Override public NClob getNClob(int columnIndex) throws SQLException {
+		NClob result = this.delegate.getNClob(columnIndex);
+		log("getNClob");
+		return result;
+	}
+
+	@Override public NClob getNClob(String columnLabel) throws SQLException {
+		NClob result = this.delegate.getNClob(columnLabel);
+		log("getNClob");
+		return result;
+	}
+
+	@Override public SQLXML getSQLXML(int columnIndex) throws SQLException {
+		SQLXML result = this.delegate.getSQLXML(columnIndex);
+		log("getSQLXML");
+		return result;
+	}
+
+	@Override public SQLXML getSQLXML(String columnLabel) throws SQLException {
+		SQLXML result = this.delegate.getSQLXML(columnLabel);
+		log("getSQLXML");
+		return result;
+	}
+
+	@Override public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+		this.delegate.updateSQLXML(columnIndex, xmlObject);
+		log("updateSQLXML");
+	}
+
+	@Override public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+		this.delegate.updateSQLXML(columnLabel, xmlObject);
+		log("updateSQLXML");
+	}
+
+	@Override public String getNString(int columnIndex) throws SQLException {
+		String result = this.delegate.getNString(columnIndex);
+		log("getNString");
+		return result;
+	}
+
+	@Override public String getNString(String columnLabel) throws SQLException {
+		String result = this.delegate.getNString(columnLabel);
+		log("getNString");
+		return result;
+	}
+
+	@Override public Reader getNCharacterStream(int columnIndex) throws SQLException {
+		Reader result = this.delegate.getNCharacterStream(columnIndex);
+		log("getNCharacterStream");
+		return result;
+	}
+
+	@Override public Reader getNCharacterStream(String columnLabel) throws SQLException {
+		Reader result = this.delegate.getNCharacterStream(columnLabel);
+		log("getNCharacterStream");
+		return result;
+	}
+
+	@Override public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		this.delegate.updateNCharacterStream(columnIndex, x, length);
+		log("updateNCharacterStream");
+	}
+
+	@Override public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		this.delegate.updateNCharacterStream(columnLabel, reader, length);
+		log("updateNCharacterStream");
+	}
+
+	@Override public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+		this.delegate.updateAsciiStream(columnIndex, x, length);
+		log("updateAsciiStream");
+	}
+
+	@Override public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+		this.delegate.updateBinaryStream(columnIndex, x, length);
+		log("updateBinaryStream");
+	}
+
+	@Override public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		this.delegate.updateCharacterStream(columnIndex, x, length);
+		log("updateCharacterStream");
+	}
+
+	@Override public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+		this.delegate.updateAsciiStream(columnLabel, x, length);
+		log("updateAsciiStream");
+	}
+
+	@Override public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+		this.delegate.updateBinaryStream(columnLabel, x, length);
+		log("updateBinaryStream");
+	}
+
+	@Override public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		this.delegate.updateCharacterStream(columnLabel, reader, length);
+		log("updateCharacterStream");
+	}
+
+	@Override public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+		this.delegate.updateBlob(columnIndex, inputStream, length);
+		log("updateBlob");
+	}
+
+	@Override public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+		this.delegate.updateBlob(columnLabel, inputStream, length);
+		log("updateBlob");
+	}
+
+	@Override public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+		this.delegate.updateClob(columnIndex, reader, length);
+		log("updateClob");
+	}
+
+	@Override public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+		this.delegate.updateClob(columnLabel, reader, length);
+		log("updateClob");
+	}
+
+	@Override public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+		this.delegate.updateNClob(columnIndex, reader, length);
+		log("updateNClob");
+	}
+
+	@Override public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+		this.delegate.updateNClob(columnLabel, reader, length);
+		log("updateNClob");
+	}
+
+	@Override public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+		this.delegate.updateNCharacterStream(columnIndex, x);
+		log("updateNCharacterStream");
+	}
+
+	@Override public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		this.delegate.updateNCharacterStream(columnLabel, reader);
+		log("updateNCharacterStream");
+	}
+
+	@Override public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+		this.delegate.updateAsciiStream(columnIndex, x);
+		log("updateAsciiStream");
+	}
+
+	@Override public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+		this.delegate.updateBinaryStream(columnIndex, x);
+		log("updateBinaryStream");
+	}
+
+	@Override public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+		this.delegate.updateCharacterStream(columnIndex, x);
+		log("updateCharacterStream");
+	}
+
+	@Override public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+		this.delegate.updateAsciiStream(columnLabel, x);
+		log("updateAsciiStream");
+	}
+
+	@Override public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+		this.delegate.updateBinaryStream(columnLabel, x);
+		log("updateBinaryStream");
+	}
+
+	@Override public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		this.delegate.updateCharacterStream(columnLabel, reader);
+		log("updateCharacterStream");
+	}
+
+	@Override public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+		this.delegate.updateBlob(columnIndex, inputStream);
+		log("updateBlob");
+	}
+
+	@Override public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+		this.delegate.updateBlob(columnLabel, inputStream);
+		log("updateBlob");
+	}
+
+	@Override public void updateClob(int columnIndex, Reader reader) throws SQLException {
+		this.delegate.updateClob(columnIndex, reader);
+		log("updateClob");
+	}
+
+	@Override public void updateClob(String columnLabel, Reader reader) throws SQLException {
+		this.delegate.updateClob(columnLabel, reader);
+		log("updateClob");
+	}
+
+	@Override public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+		this.delegate.updateNClob(columnIndex, reader);
+		log("updateNClob");
+	}
+
+	@Override public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+		this.delegate.updateNClob(columnLabel, reader);
+		log("updateNClob");
+	}
+
+	@Override public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+		T result = this.delegate.getObject(columnIndex, type);
+		log("getObject");
+		return result;
+	}
+
+	@Override public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+		T result = this.delegate.getObject(columnLabel, type);
+		log("getObject");
+		return result;
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.debug;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Debug decorator of a {@link ResultSetMetaData}.
+ */
+public class DebugResultSetMetaData extends DebugWrapper<ResultSetMetaData> implements ResultSetMetaData {
+
+	public DebugResultSetMetaData(ResultSetMetaData delegate) {
+		super(delegate);
+	}
+
+	@Override public int getColumnCount() throws SQLException {
+		int result = this.delegate.getColumnCount();
+		log("getColumnCount");
+		return result;
+	}
+
+	@Override public boolean isAutoIncrement(int column) throws SQLException {
+		boolean result = this.delegate.isAutoIncrement(column);
+		log("isAutoIncrement");
+		return result;
+	}
+
+	@Override public boolean isCaseSensitive(int column) throws SQLException {
+		boolean result = this.delegate.isCaseSensitive(column);
+		log("isCaseSensitive");
+		return result;
+	}
+
+	@Override public boolean isSearchable(int column) throws SQLException {
+		boolean result = this.delegate.isSearchable(column);
+		log("isSearchable");
+		return result;
+	}
+
+	@Override public boolean isCurrency(int column) throws SQLException {
+		boolean result = this.delegate.isCurrency(column);
+		log("isCurrency");
+		return result;
+	}
+
+	@Override public int isNullable(int column) throws SQLException {
+		int result = this.delegate.isNullable(column);
+		log("isNullable");
+		return result;
+	}
+
+	@Override public boolean isSigned(int column) throws SQLException {
+		boolean result = this.delegate.isSigned(column);
+		log("isSigned");
+		return result;
+	}
+
+	@Override public int getColumnDisplaySize(int column) throws SQLException {
+		int result = this.delegate.getColumnDisplaySize(column);
+		log("getColumnDisplaySize");
+		return result;
+	}
+
+	@Override public String getColumnLabel(int column) throws SQLException {
+		String result = this.delegate.getColumnLabel(column);
+		log("getColumnLabel");
+		return result;
+	}
+
+	@Override public String getColumnName(int column) throws SQLException {
+		String result = this.delegate.getColumnName(column);
+		log("getColumnName");
+		return result;
+	}
+
+	@Override public String getSchemaName(int column) throws SQLException {
+		String result = this.delegate.getSchemaName(column);
+		log("getSchemaName");
+		return result;
+	}
+
+	@Override public int getPrecision(int column) throws SQLException {
+		int result = this.delegate.getPrecision(column);
+		log("getPrecision");
+		return result;
+	}
+
+	@Override public int getScale(int column) throws SQLException {
+		int result = this.delegate.getScale(column);
+		log("getScale");
+		return result;
+	}
+
+	@Override public String getTableName(int column) throws SQLException {
+		String result = this.delegate.getTableName(column);
+		log("getTableName");
+		return result;
+	}
+
+	@Override public String getCatalogName(int column) throws SQLException {
+		String result = this.delegate.getCatalogName(column);
+		log("getCatalogName");
+		return result;
+	}
+
+	@Override public int getColumnType(int column) throws SQLException {
+		int result = this.delegate.getColumnType(column);
+		log("getColumnType");
+		return result;
+	}
+
+	@Override public String getColumnTypeName(int column) throws SQLException {
+		String result = this.delegate.getColumnTypeName(column);
+		log("getColumnTypeName");
+		return result;
+	}
+
+	@Override public boolean isReadOnly(int column) throws SQLException {
+		boolean result = this.delegate.isReadOnly(column);
+		log("isReadOnly");
+		return result;
+	}
+
+	@Override public boolean isWritable(int column) throws SQLException {
+		boolean result = this.delegate.isWritable(column);
+		log("isWritable");
+		return result;
+	}
+
+	@Override public boolean isDefinitelyWritable(int column) throws SQLException {
+		boolean result = this.delegate.isDefinitelyWritable(column);
+		log("isDefinitelyWritable");
+		return result;
+	}
+
+	@Override public String getColumnClassName(int column) throws SQLException {
+		String result = this.delegate.getColumnClassName(column);
+		log("getColumnClassName");
+		return result;
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.debug;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+/**
+ * Debug decorator of a {@link Statement}.
+ */
+public class DebugStatement extends DebugWrapper<Statement> implements Statement {
+
+	public DebugStatement(Statement delegate) {
+		super(delegate);
+	}
+
+	@Override public ResultSet executeQuery(String sql) throws SQLException {
+		ResultSet result = this.delegate.executeQuery(sql);
+		log("executeQuery");
+		return result;
+	}
+
+	@Override public int executeUpdate(String sql) throws SQLException {
+		int result = this.delegate.executeUpdate(sql);
+		log("executeUpdate");
+		return result;
+	}
+
+	@Override public void close() throws SQLException {
+		this.delegate.close();
+		log("close");
+	}
+
+	@Override public int getMaxFieldSize() throws SQLException {
+		int result = this.delegate.getMaxFieldSize();
+		log("getMaxFieldSize");
+		return result;
+	}
+
+	@Override public void setMaxFieldSize(int max) throws SQLException {
+		this.delegate.setMaxFieldSize(max);
+		log("setMaxFieldSize");
+	}
+
+	@Override public int getMaxRows() throws SQLException {
+		int result = this.delegate.getMaxRows();
+		log("getMaxRows");
+		return result;
+	}
+
+	@Override public void setMaxRows(int max) throws SQLException {
+		this.delegate.setMaxRows(max);
+		log("setMaxRows");
+	}
+
+	@Override public void setEscapeProcessing(boolean enable) throws SQLException {
+		this.delegate.setEscapeProcessing(enable);
+		log("setEscapeProcessing");
+	}
+
+	@Override public int getQueryTimeout() throws SQLException {
+		int result = this.delegate.getQueryTimeout();
+		log("getQueryTimeout");
+		return result;
+	}
+
+	@Override public void setQueryTimeout(int seconds) throws SQLException {
+		this.delegate.setQueryTimeout(seconds);
+		log("setQueryTimeout");
+	}
+
+	@Override public void cancel() throws SQLException {
+		this.delegate.cancel();
+		log("cancel");
+	}
+
+	@Override public SQLWarning getWarnings() throws SQLException {
+		SQLWarning result = this.delegate.getWarnings();
+		log("getWarnings");
+		return result;
+	}
+
+	@Override public void clearWarnings() throws SQLException {
+		this.delegate.clearWarnings();
+		log("clearWarnings");
+	}
+
+	@Override public void setCursorName(String name) throws SQLException {
+		this.delegate.setCursorName(name);
+		log("setCursorName");
+	}
+
+	@Override public boolean execute(String sql) throws SQLException {
+		boolean result = this.delegate.execute(sql);
+		log("execute");
+		return result;
+	}
+
+	@Override public ResultSet getResultSet() throws SQLException {
+		ResultSet result = this.delegate.getResultSet();
+		log("getResultSet");
+		return result;
+	}
+
+	@Override public int getUpdateCount() throws SQLException {
+		int result = this.delegate.getUpdateCount();
+		log("getUpdateCount");
+		return result;
+	}
+
+	@Override public boolean getMoreResults() throws SQLException {
+		boolean result = this.delegate.getMoreResults();
+		log("getMoreResults");
+		return result;
+	}
+
+	@Override public void setFetchDirection(int direction) throws SQLException {
+		this.delegate.setFetchDirection(direction);
+		log("setFetchDirection");
+	}
+
+	@Override public int getFetchDirection() throws SQLException {
+		int result = this.delegate.getFetchDirection();
+		log("getFetchDirection");
+		return result;
+	}
+
+	@Override public void setFetchSize(int rows) throws SQLException {
+		this.delegate.setFetchSize(rows);
+		log("setFetchSize");
+	}
+
+	@Override public int getFetchSize() throws SQLException {
+		int result = this.delegate.getFetchSize();
+		log("getFetchSize");
+		return result;
+	}
+
+	@Override public int getResultSetConcurrency() throws SQLException {
+		int result = this.delegate.getResultSetConcurrency();
+		log("getResultSetConcurrency");
+		return result;
+	}
+
+	@Override public int getResultSetType() throws SQLException {
+		int result = this.delegate.getResultSetType();
+		log("getResultSetType");
+		return result;
+	}
+
+	@Override public void addBatch(String sql) throws SQLException {
+		this.delegate.addBatch(sql);
+		log("addBatch");
+	}
+
+	@Override public void clearBatch() throws SQLException {
+		this.delegate.clearBatch();
+		log("clearBatch");
+	}
+
+	@Override public int[] executeBatch() throws SQLException {
+		int[] result = this.delegate.executeBatch();
+		log("executeBatch");
+		return result;
+	}
+
+	@Override public Connection getConnection() throws SQLException {
+		Connection result = this.delegate.getConnection();
+		log("getConnection");
+		return result;
+	}
+
+	@Override public boolean getMoreResults(int current) throws SQLException {
+		boolean result = this.delegate.getMoreResults(current);
+		log("getMoreResults");
+		return result;
+	}
+
+	@Override public ResultSet getGeneratedKeys() throws SQLException {
+		ResultSet result = this.delegate.getGeneratedKeys();
+		log("getGeneratedKeys");
+		return result;
+	}
+
+	@Override public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		int result = this.delegate.executeUpdate(sql, autoGeneratedKeys);
+		log("executeUpdate");
+		return result;
+	}
+
+	@Override public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		int result = this.delegate.executeUpdate(sql, columnIndexes);
+		log("executeUpdate");
+		return result;
+	}
+
+	@Override public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+		int result = this.delegate.executeUpdate(sql, columnNames);
+		log("executeUpdate");
+		return result;
+	}
+
+	@Override public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+		boolean result = this.delegate.execute(sql, autoGeneratedKeys);
+		log("execute");
+		return result;
+	}
+
+	@Override public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+		boolean result = this.delegate.execute(sql, columnIndexes);
+		log("execute");
+		return result;
+	}
+
+	@Override public boolean execute(String sql, String[] columnNames) throws SQLException {
+		boolean result = this.delegate.execute(sql, columnNames);
+		log("execute");
+		return result;
+	}
+
+	@Override public int getResultSetHoldability() throws SQLException {
+		int result = this.delegate.getResultSetHoldability();
+		log("getResultSetHoldability");
+		return result;
+	}
+
+	@Override public boolean isClosed() throws SQLException {
+		boolean result = this.delegate.isClosed();
+		log("isClosed");
+		return result;
+	}
+
+	@Override public void setPoolable(boolean poolable) throws SQLException {
+		this.delegate.setPoolable(poolable);
+		log("setPoolable");
+	}
+
+	@Override public boolean isPoolable() throws SQLException {
+		boolean result = this.delegate.isPoolable();
+		log("isPoolable");
+		return result;
+	}
+
+	@Override public void closeOnCompletion() throws SQLException {
+		this.delegate.closeOnCompletion();
+		log("closeOnCompletion");
+	}
+
+	@Override public boolean isCloseOnCompletion() throws SQLException {
+		boolean result = this.delegate.isCloseOnCompletion();
+		log("isCloseOnCompletion");
+		return result;
+	}
+}
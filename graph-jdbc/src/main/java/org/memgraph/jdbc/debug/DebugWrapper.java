@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.debug;
+
+import java.sql.SQLException;
+import java.sql.Wrapper;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Base of the debug decorators: every call is forwarded to the delegate and logged once it returned.
+ * <br>
+ * The decorators are plain classes, installed only when the debug mode is enabled,
+ * so the objects handed out without it are the driver implementations themselves.
+ *
+ * @param <T> the decorated interface
+ */
+public abstract class DebugWrapper<T extends Wrapper> implements Wrapper {
+
+	private static final Logger LOGGER = Logger.getLogger(DebugWrapper.class.getName());
+
+	protected final T delegate;
+
+	protected DebugWrapper(T delegate) {
+		this.delegate = delegate;
+	}
+
+	protected void log(String method) {
+		if (LOGGER.isLoggable(Level.INFO)) {
+			LOGGER.info("[" + this.delegate.getClass().getCanonicalName() + "] " + method);
+		}
+	}
+
+	@Override public <U> U unwrap(Class<U> iface) throws SQLException {
+		if (iface.isInstance(this)) {
+			return iface.cast(this);
+		}
+		return this.delegate.unwrap(iface);
+	}
+
+	@Override public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance(this) || this.delegate.isWrapperFor(iface);
+	}
+
+	@Override public String toString() {
+		return this.delegate.toString();
+	}
+}
@@ -22,6 +22,7 @@ package org.memgraph.jdbc.impl;
 import org.memgraph.jdbc.GraphArray;
 import org.memgraph.jdbc.GraphConnection;
 import org.memgraph.jdbc.GraphResultSet;
+import org.memgraph.jdbc.utils.CypherStatement;
 import org.memgraph.jdbc.utils.ExceptionBuilder;
 
 import java.sql.*;
@@ -147,27 +148,17 @@ public abstract class GraphConnectionImpl implements GraphConnection {
 	/**
 	 * Check if can execute the query into the current mode (ie. readonly or not).
 	 * If we can't an SQLException is throw.
+	 * The procedure calls go through, the server enforces the read access mode of the session on them.
 	 *
 	 * @param query Cypher query
 	 * @throws SQLException sqlexception
 	 */
-	protected void checkReadOnly(String query) throws SQLException {
-		if (isReadOnly() && isMutating(query)) {
+	public void checkReadOnly(String query) throws SQLException {
+		if (isReadOnly() && CypherStatement.of(query).isMutating()) {
 			throw new SQLException("Mutating Query in readonly mode: " + query);
 		}
 	}
 
-	/**
-	 * Detect some cypher keyword to know if this query mutated the graph.
-	 * /!\ This not enough now due to procedure procedure.
-	 *
-	 * @param query Cypher query
-	 * @return
-	 */
-	private boolean isMutating(String query) {
-		return query.matches("(?is).*\\b(create|merge|delete|set)\\b.*");
-	}
-
 	/**
 	 * Check if the holdability parameter conform to specification.
 	 * If it doesn't, we throw an exception.
@@ -22,9 +22,8 @@ package org.memgraph.jdbc.impl;
 import org.memgraph.jdbc.GraphArray;
 import org.memgraph.jdbc.GraphResultSet;
 import org.memgraph.jdbc.GraphResultSetMetaData;
-import org.memgraph.jdbc.utils.GraphInvocationHandler;
+import org.memgraph.jdbc.debug.DebugResultSet;
 
-import java.lang.reflect.Proxy;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
@@ -49,8 +48,7 @@ public class ListGraphResultSet extends GraphResultSet {
 
 	public static ResultSet newInstance(boolean debug, List<List<Object>> list, List<String> keys) {
 		ResultSet rs = new ListGraphResultSet(list, keys);
-		return (ResultSet) Proxy
-				.newProxyInstance(ListGraphResultSet.class.getClassLoader(), new Class[] { ResultSet.class }, new GraphInvocationHandler(rs, debug));
+		return debug ? new DebugResultSet(rs) : rs;
 	}
 
 	@Override protected boolean innerNext() throws SQLException {
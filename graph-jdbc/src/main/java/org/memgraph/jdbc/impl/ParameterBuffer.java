@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.impl;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Column oriented storage of the parameters of a prepared statement batch.
+ * <br>
+ * Every parameter index owns a column: primitive values are kept unboxed in a long array (doubles and floats by
+ * their raw bits) with a type tag per row, any other value in an object array allocated only when needed.
+ * The rows already added are exposed as a list of parameter maps, built on access, so the boxing and the maps
+ * are paid once when the batch is sent rather than at every addBatch.
+ * <br>
+ * Beside the added rows the buffer holds the open row, the one being filled by the setters.
+ */
+public class ParameterBuffer extends AbstractList<Map<String, Object>> implements RandomAccess {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static final byte ABSENT  = 0;
+	private static final byte NULL    = 1;
+	private static final byte BOOLEAN = 2;
+	private static final byte BYTE    = 3;
+	private static final byte SHORT   = 4;
+	private static final byte INT     = 5;
+	private static final byte LONG    = 6;
+	private static final byte FLOAT   = 7;
+	private static final byte DOUBLE  = 8;
+	private static final byte OBJECT  = 9;
+
+	private final Map<String, Object> openRow = new OpenRow();
+
+	private Column[] columns;
+	private int      size;
+	private int      capacity;
+
+	/**
+	 * @param parametersNumber the number of parameters of the statement, parameters are indexed from 1
+	 */
+	public ParameterBuffer(int parametersNumber) {
+		this.columns = new Column[parametersNumber + 1];
+		this.capacity = 1;
+	}
+
+	/*---------------------*/
+	/*       Setters       */
+	/*---------------------*/
+
+	public void setBoolean(int index, boolean value) {
+		column(index).setPrimitive(this.size, BOOLEAN, value ? 1 : 0);
+	}
+
+	public void setByte(int index, byte value) {
+		column(index).setPrimitive(this.size, BYTE, value);
+	}
+
+	public void setShort(int index, short value) {
+		column(index).setPrimitive(this.size, SHORT, value);
+	}
+
+	public void setInt(int index, int value) {
+		column(index).setPrimitive(this.size, INT, value);
+	}
+
+	public void setLong(int index, long value) {
+		column(index).setPrimitive(this.size, LONG, value);
+	}
+
+	public void setFloat(int index, float value) {
+		column(index).setPrimitive(this.size, FLOAT, Float.floatToRawIntBits(value));
+	}
+
+	public void setDouble(int index, double value) {
+		column(index).setPrimitive(this.size, DOUBLE, Double.doubleToRawLongBits(value));
+	}
+
+	/**
+	 * Set a value of the open row, boxed primitives are stored unboxed.
+	 *
+	 * @param index the parameter index
+	 * @param value the value, can be null
+	 */
+	public void setObject(int index, Object value) {
+		if (value == null) {
+			column(index).setPrimitive(this.size, NULL, 0);
+		} else if (value instanceof Integer) {
+			setInt(index, (Integer) value);
+		} else if (value instanceof Long) {
+			setLong(index, (Long) value);
+		} else if (value instanceof Double) {
+			setDouble(index, (Double) value);
+		} else if (value instanceof Boolean) {
+			setBoolean(index, (Boolean) value);
+		} else if (value instanceof Float) {
+			setFloat(index, (Float) value);
+		} else if (value instanceof Short) {
+			setShort(index, (Short) value);
+		} else if (value instanceof Byte) {
+			setByte(index, (Byte) value);
+		} else {
+			column(index).setObject(this.size, value);
+		}
+	}
+
+	/*--------------------------*/
+	/*       Row handling       */
+	/*--------------------------*/
+
+	/**
+	 * @return a live view of the parameters of the open row, keyed by the parameter index
+	 */
+	public Map<String, Object> openRow() {
+		return this.openRow;
+	}
+
+	/**
+	 * Forget the values of the open row.
+	 */
+	public void clearOpenRow() {
+		for (Column column : this.columns) {
+			if (column != null) {
+				column.states[this.size] = ABSENT;
+			}
+		}
+	}
+
+	/**
+	 * Append the open row to the batch and open a new empty one.
+	 */
+	public void addRow() {
+		this.size++;
+		this.modCount++;
+		if (this.size == this.capacity) {
+			this.capacity = Math.max(INITIAL_CAPACITY, this.capacity * 2);
+			for (Column column : this.columns) {
+				if (column != null) {
+					column.grow(this.capacity);
+				}
+			}
+		}
+		clearOpenRow();
+	}
+
+	/**
+	 * Remove the added rows, the open row is kept.
+	 * The storage is kept too, so a batch flushed and filled again doesn't reallocate it.
+	 */
+	@Override public void clear() {
+		if (this.size == 0) {
+			return;
+		}
+		for (Column column : this.columns) {
+			if (column != null) {
+				column.states[0] = column.states[this.size];
+				column.primitives[0] = column.primitives[this.size];
+				if (column.objects != null) {
+					column.objects[0] = column.objects[this.size];
+					Arrays.fill(column.objects, 1, this.size + 1, null);
+				}
+			}
+		}
+		this.size = 0;
+		this.modCount++;
+	}
+
+	@Override public Map<String, Object> get(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+		return row(index);
+	}
+
+	@Override public int size() {
+		return this.size;
+	}
+
+	private Map<String, Object> row(int row) {
+		Map<String, Object> parameters = new HashMap<>();
+		for (int index = 0; index < this.columns.length; index++) {
+			Column column = this.columns[index];
+			if (column != null && column.states[row] != ABSENT) {
+				parameters.put(Integer.toString(index), column.value(row));
+			}
+		}
+		return parameters;
+	}
+
+	private Column column(int index) {
+		if (index >= this.columns.length) {
+			this.columns = Arrays.copyOf(this.columns, index + 1);
+		}
+		Column column = this.columns[index];
+		if (column == null) {
+			column = new Column(this.capacity);
+			this.columns[index] = column;
+		}
+		return column;
+	}
+
+	private final class OpenRow extends AbstractMap<String, Object> {
+
+		@Override public Set<Entry<String, Object>> entrySet() {
+			return row(size).entrySet();
+		}
+
+		@Override public Object put(String key, Object value) {
+			Object previous = get(key);
+			setObject(Integer.parseInt(key), value);
+			return previous;
+		}
+
+		@Override public void clear() {
+			clearOpenRow();
+		}
+	}
+
+	private static final class Column {
+
+		private byte[]   states;
+		private long[]   primitives;
+		private Object[] objects;
+
+		private Column(int capacity) {
+			this.states = new byte[capacity];
+			this.primitives = new long[capacity];
+		}
+
+		private void grow(int capacity) {
+			this.states = Arrays.copyOf(this.states, capacity);
+			this.primitives = Arrays.copyOf(this.primitives, capacity);
+			if (this.objects != null) {
+				this.objects = Arrays.copyOf(this.objects, capacity);
+			}
+		}
+
+		private void setPrimitive(int row, byte state, long value) {
+			this.states[row] = state;
+			this.primitives[row] = value;
+			if (this.objects != null) {
+				this.objects[row] = null;
+			}
+		}
+
+		private void setObject(int row, Object value) {
+			if (this.objects == null) {
+				this.objects = new Object[this.states.length];
+			}
+			this.states[row] = OBJECT;
+			this.objects[row] = value;
+		}
+
+		private Object value(int row) {
+			long primitive = this.primitives[row];
+			switch (this.states[row]) {
+			case BOOLEAN:
+				return primitive != 0;
+			case BYTE:
+				return (byte) primitive;
+			case SHORT:
+				return (short) primitive;
+			case INT:
+				return (int) primitive;
+			case LONG:
+				return primitive;
+			case FLOAT:
+				return Float.intBitsToFloat((int) primitive);
+			case DOUBLE:
+				return Double.longBitsToDouble(primitive);
+			case OBJECT:
+				return this.objects[row];
+			default:
+				return null;
+			}
+		}
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.utils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * What a Cypher statement does, found by a single pass over its tokens.
+ * <br>
+ * Only the keywords count: string literals, quoted identifiers, comments, parameters, property keys, labels,
+ * relationship types and map keys are skipped, so a {@code n.created} or a {@code 'set'} isn't taken for a write.
+ * The classifications are cached by statement text in a driver wide LRU cache.
+ */
+public final class CypherStatement {
+
+	/**
+	 * The kind of a statement, from the strongest effect found in it.
+	 */
+	public enum Type {
+		/** the statement only reads the graph */
+		READ,
+		/** the statement creates, updates or deletes graph data */
+		WRITE,
+		/** the statement changes the schema or administers the database, like the index, constraint, user or trigger statements */
+		SCHEMA,
+		/** the statement calls a procedure, its effect isn't known by the client */
+		PROCEDURE
+	}
+
+	private static final StatementCache<CypherStatement> STATEMENTS = new StatementCache<>(1024);
+
+	private static final int MAX_KEYWORD_LENGTH = 10;
+
+	private static final Set<String> WRITE_KEYWORDS = new HashSet<>(Arrays.asList("CREATE", "MERGE", "DELETE", "DETACH", "SET", "REMOVE"));
+
+	private static final Set<String> SCHEMA_OBJECTS = new HashSet<>(Arrays.asList("INDEX", "CONSTRAINT", "EDGE", "POINT", "TEXT", "VECTOR",
+			"TRIGGER", "USER", "ROLE", "DATABASE", "STREAM"));
+
+	/**
+	 * The clauses whose result depends on more than one row, or that hide the variables bound before them.
+	 */
+	private static final Set<String> ACROSS_ROWS_KEYWORDS = new HashSet<>(Arrays.asList("WITH", "UNION", "CALL", "LIMIT", "SKIP", "DISTINCT", "ORDER",
+			"EXPLAIN", "PROFILE", "USING"));
+
+	private static final Set<String> AGGREGATIONS = new HashSet<>(Arrays.asList("COUNT", "COLLECT", "SUM", "AVG", "MIN", "MAX", "STDEV", "STDEVP",
+			"PERCENTILECONT", "PERCENTILEDISC", "PROJECT"));
+
+	private final Type    type;
+	private final boolean returning;
+	private final String  firstKeyword;
+	private final boolean acrossRows;
+
+	private CypherStatement(Type type, boolean returning, String firstKeyword, boolean acrossRows) {
+		this.type = type;
+		this.returning = returning;
+		this.firstKeyword = firstKeyword;
+		this.acrossRows = acrossRows;
+	}
+
+	/**
+	 * @param query the statement
+	 * @return the classification of the statement, cached
+	 */
+	public static CypherStatement of(String query) {
+		return STATEMENTS.get(query, CypherStatement::parse);
+	}
+
+	/**
+	 * @return the kind of the statement
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * A procedure call isn't counted as mutating: the server enforces the access mode of the session on it.
+	 *
+	 * @return true if the statement writes data or changes the schema
+	 */
+	public boolean isMutating() {
+		return type == Type.WRITE || type == Type.SCHEMA;
+	}
+
+	/**
+	 * @return true if the statement ends with a RETURN clause, the ones of the subqueries don't count
+	 */
+	public boolean hasReturn() {
+		return returning;
+	}
+
+	/**
+	 * @return the first keyword of the statement upper-cased, like MATCH or EXPLAIN, an empty string if there is none
+	 */
+	public String getFirstKeyword() {
+		return firstKeyword;
+	}
+
+	/**
+	 * A statement can run once for every row of an UNWIND, instead of once per row, only if it writes data without
+	 * returning anything and without a clause or an aggregation working across rows:
+	 * WITH, UNION, CALL, LIMIT, SKIP, DISTINCT, ORDER BY, count(), collect() and the like, or EXPLAIN, PROFILE and USING.
+	 *
+	 * @return true if the statement can be rewritten in an UNWIND over its parameter rows
+	 */
+	public boolean isUnwindable() {
+		return type == Type.WRITE && !returning && !acrossRows;
+	}
+
+	static CypherStatement parse(String query) {
+		int length = query.length();
+		boolean write = false;
+		boolean schema = false;
+		boolean procedure = false;
+		boolean returning = false;
+		boolean acrossRows = false;
+		String first = "";
+		int tokens = 0;
+		int depth = 0;
+		char before = 0;
+		int i = 0;
+		while (i < length) {
+			char c = query.charAt(i);
+			if (Character.isWhitespace(c)) {
+				i++;
+				continue;
+			}
+			if (c == '/' && i + 1 < length && query.charAt(i + 1) == '/') {
+				int end = query.indexOf('\n', i);
+				i = end < 0 ? length : end;
+				continue;
+			}
+			if (c == '/' && i + 1 < length && query.charAt(i + 1) == '*') {
+				int end = query.indexOf("*/", i + 2);
+				i = end < 0 ? length : end + 2;
+				continue;
+			}
+			tokens++;
+			if (c == '\'' || c == '"' || c == '`') {
+				i = PreparedStatementBuilder.skipQuoted(query, i, c);
+			} else if (c == '$') {
+				i = skipIdentifier(query, i + 1);
+			} else if (Character.isLetter(c) || c == '_') {
+				int start = i;
+				i = skipIdentifier(query, i);
+				if (before != '.' && nextSignificant(query, i) == '('
+						&& AGGREGATIONS.contains(query.substring(start, i).toUpperCase(Locale.ROOT))) {
+					acrossRows = true;
+				}
+				String word = keyword(query, start, i, before);
+				if (word != null) {
+					if (tokens == 1) {
+						first = word;
+					} else if (tokens == 2 && ("CREATE".equals(first) || "DROP".equals(first)) && SCHEMA_OBJECTS.contains(word)) {
+						schema = true;
+					}
+					if (WRITE_KEYWORDS.contains(word)) {
+						write = true;
+					} else if ("CALL".equals(word) && nextSignificant(query, i) != '{') {
+						procedure = true;
+					} else if ("RETURN".equals(word) && depth == 0) {
+						returning = true;
+					}
+					if (ACROSS_ROWS_KEYWORDS.contains(word)) {
+						acrossRows = true;
+					}
+				}
+			} else {
+				if (c == '{') {
+					depth++;
+				} else if (c == '}') {
+					depth--;
+				}
+				i++;
+			}
+			before = c;
+		}
+		Type type = schema ? Type.SCHEMA : write ? Type.WRITE : procedure ? Type.PROCEDURE : Type.READ;
+		return new CypherStatement(type, returning, first, acrossRows);
+	}
+
+	/**
+	 * @return the upper-cased keyword, null if the identifier can't be a keyword
+	 */
+	private static String keyword(String query, int start, int end, char before) {
+		// property keys, labels and relationship types
+		if (before == '.' || before == ':' || end - start > MAX_KEYWORD_LENGTH) {
+			return null;
+		}
+		// map keys
+		if (nextSignificant(query, end) == ':') {
+			return null;
+		}
+		return query.substring(start, end).toUpperCase(Locale.ROOT);
+	}
+
+	private static int skipIdentifier(String query, int start) {
+		int i = start;
+		while (i < query.length() && (Character.isLetterOrDigit(query.charAt(i)) || query.charAt(i) == '_')) {
+			i++;
+		}
+		return i;
+	}
+
+	private static char nextSignificant(String query, int start) {
+		for (int i = start; i < query.length(); i++) {
+			char c = query.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				return c;
+			}
+		}
+		return 0;
+	}
+}
@@ -19,8 +19,6 @@
  */
 package org.memgraph.jdbc.utils;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * This class contains static methods used to process a raw statement and create a valid string to be used as preparedStatement in neo4j
@@ -32,6 +30,46 @@ public class PreparedStatementBuilder {
 
 	private PreparedStatementBuilder() {}
 
+	private static final StatementCache<Template> TEMPLATES = new StatementCache<>(1024);
+
+	/**
+	 * The statement of a prepared statement ready to be run, with the number of its parameters.
+	 */
+	public static final class Template {
+
+		private final String statement;
+		private final int    parametersNumber;
+
+		Template(String statement, int parametersNumber) {
+			this.statement = statement;
+			this.parametersNumber = parametersNumber;
+		}
+
+		/**
+		 * @return the statement with the placeholders replaced
+		 */
+		public String getStatement() {
+			return statement;
+		}
+
+		/**
+		 * @return the highest parameter index of the statement
+		 */
+		public int getParametersNumber() {
+			return parametersNumber;
+		}
+	}
+
+	/**
+	 * Parse a raw statement, the templates are cached by raw statement in a driver wide LRU cache.
+	 *
+	 * @param raw The string to be translated.
+	 * @return The statement with the placeholders replaced and the number of its parameters.
+	 */
+	public static Template template(String raw) {
+		return TEMPLATES.get(raw, PreparedStatementBuilder::parse);
+	}
+
 	/**
 	 * This method return a String that is the original raw string with all valid placeholders replaced with neo4j curly brackets notation for parameters.
 	 * <br>
@@ -41,18 +79,7 @@ public class PreparedStatementBuilder {
 	 * @return The string with the placeholders replaced.
 	 */
 	public static String replacePlaceholders(String raw) {
-		int index = 1;
-		String digested = raw;
-
-		String regex = "\\?(?=[^\"]*(?:\"[^\"]*\"[^\"]*)*$)";
-		Matcher matcher = Pattern.compile(regex).matcher(digested);
-
-		while (matcher.find()) {
-			digested = digested.replaceFirst(regex, "\\$" + index);
-			index++;
-		}
-
-		return digested;
+		return parse(raw).getStatement();
 	}
 
 	/**
@@ -62,13 +89,174 @@ public class PreparedStatementBuilder {
 	 * @return The number of all valid placeholders
 	 */
 	public static int namedParameterCount(String raw) {
+		return parse(raw).getParametersNumber();
+	}
+
+	/**
+	 * Replace the ? placeholders and find the highest $ parameter index in a single pass.
+	 * Placeholders inside string literals, quoted identifiers and comments are left untouched.
+	 */
+	static Template parse(String raw) {
+		StringBuilder sb = null;
+		int length = raw.length();
+		int index = 0;
 		int max = 0;
-		String regex = "\\$\\s*`?\\s*(\\d+)\\s*`?\\s*(?=[^\"]*(\"[^\"]*\"[^\"]*)*$)";
-		Matcher matcher = Pattern.compile(regex).matcher(raw);
-		while (matcher.find()) {
-			max = Math.max(Integer.parseInt(matcher.group(1)),max);
+		int copied = 0;
+		int i = 0;
+		while (i < length) {
+			char c = raw.charAt(i);
+			if (c == '\'' || c == '"' || c == '`') {
+				i = skipQuoted(raw, i, c);
+			} else if (c == '/' && i + 1 < length && raw.charAt(i + 1) == '/') {
+				int end = raw.indexOf('\n', i);
+				i = end < 0 ? length : end;
+			} else if (c == '/' && i + 1 < length && raw.charAt(i + 1) == '*') {
+				int end = raw.indexOf("*/", i + 2);
+				i = end < 0 ? length : end + 2;
+			} else if (c == '?') {
+				if (sb == null) {
+					sb = new StringBuilder(length + 16);
+				}
+				index++;
+				max = Math.max(max, index);
+				sb.append(raw, copied, i).append('$').append(index);
+				copied = ++i;
+			} else if (c == '$') {
+				int end = skipParameterIndex(raw, i + 1);
+				if (end > 0) {
+					max = Math.max(max, parseParameterIndex(raw, i + 1, end));
+					i = end;
+				} else {
+					i++;
+				}
+			} else {
+				i++;
+			}
+		}
+		if (sb == null) {
+			return new Template(raw, max);
+		}
+		return new Template(sb.append(raw, copied, length).toString(), max);
+	}
+
+	/**
+	 * @return the end of a numeric parameter name like 1 or ` 1 `, -1 if there is none
+	 */
+	private static int skipParameterIndex(String raw, int start) {
+		int i = skipWhitespaces(raw, start);
+		boolean quoted = i < raw.length() && raw.charAt(i) == '`';
+		if (quoted) {
+			i = skipWhitespaces(raw, i + 1);
+		}
+		int digits = i;
+		while (i < raw.length() && Character.isDigit(raw.charAt(i))) {
+			i++;
+		}
+		if (i == digits) {
+			return -1;
+		}
+		if (quoted) {
+			int end = skipWhitespaces(raw, i);
+			return end < raw.length() && raw.charAt(end) == '`' ? end + 1 : -1;
+		}
+		return i;
+	}
+
+	private static int parseParameterIndex(String raw, int start, int end) {
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			char c = raw.charAt(i);
+			if (Character.isDigit(c)) {
+				value = value * 10 + Character.digit(c, 10);
+			}
+		}
+		return value;
+	}
+
+	private static int skipWhitespaces(String raw, int start) {
+		int i = start;
+		while (i < raw.length() && Character.isWhitespace(raw.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Rewrite a statement in order to execute it once for every row of a list parameter.
+	 * <br>
+	 * i.e. CREATE (n:User {name: $1}) is transformed in UNWIND $rows AS row CREATE (n:User {name: row.`1`})
+	 * <br>
+	 * Parameters inside string literals, quoted identifiers and comments are left untouched.
+	 * The result is the same as running the statement once per row only if it's {@link CypherStatement#isUnwindable() unwindable}.
+	 *
+	 * @param statement The statement with $ parameters
+	 * @param rowsParameter The name of the list parameter containing the parameter maps
+	 * @param rowVariable The variable bound to every parameter map
+	 * @return The rewritten statement
+	 */
+	public static String unwindStatement(String statement, String rowsParameter, String rowVariable) {
+		StringBuilder sb = new StringBuilder(statement.length() + 32)
+				.append("UNWIND $").append(rowsParameter).append(" AS ").append(rowVariable).append(' ');
+		int length = statement.length();
+		int i = 0;
+		while (i < length) {
+			char c = statement.charAt(i);
+			int end;
+			if (c == '\'' || c == '"' || c == '`') {
+				end = skipQuoted(statement, i, c);
+			} else if (c == '/' && i + 1 < length && statement.charAt(i + 1) == '/') {
+				end = statement.indexOf('\n', i);
+				end = end < 0 ? length : end;
+			} else if (c == '/' && i + 1 < length && statement.charAt(i + 1) == '*') {
+				end = statement.indexOf("*/", i + 2);
+				end = end < 0 ? length : end + 2;
+			} else if (c == '$') {
+				end = appendParameter(statement, i, rowVariable, sb);
+				i = end;
+				continue;
+			} else {
+				end = i + 1;
+			}
+			sb.append(statement, i, end);
+			i = end;
+		}
+		return sb.toString();
+	}
+
+	static int skipQuoted(String statement, int start, char quote) {
+		int i = start + 1;
+		while (i < statement.length()) {
+			char c = statement.charAt(i);
+			if (c == '\\' && quote != '`') {
+				i += 2;
+			} else if (c == quote) {
+				return i + 1;
+			} else {
+				i++;
+			}
+		}
+		return statement.length();
+	}
+
+	private static int appendParameter(String statement, int start, String rowVariable, StringBuilder sb) {
+		int i = start + 1;
+		String name;
+		if (i < statement.length() && statement.charAt(i) == '`') {
+			int end = skipQuoted(statement, i, '`');
+			name = statement.substring(i + 1, Math.max(i + 1, end - 1));
+			i = end;
+		} else {
+			while (i < statement.length() && (Character.isLetterOrDigit(statement.charAt(i)) || statement.charAt(i) == '_')) {
+				i++;
+			}
+			name = statement.substring(start + 1, i);
+		}
+		if (name.isEmpty()) {
+			sb.append('$');
+			return start + 1;
 		}
-		return max;
+		sb.append(rowVariable).append(".`").append(name.replace("`", "``")).append('`');
+		return i;
 	}
 
 }
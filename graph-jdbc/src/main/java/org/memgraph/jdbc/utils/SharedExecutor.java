@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The only thread pool of the driver, for the work that can't run on the calling thread:
+ * the statements and the validation pings waited for with a timeout, and the partitions of a parallel batch.
+ * <br>
+ * Its daemon threads are started on demand and stopped once idle for a minute. They are bounded and nothing is queued,
+ * so a task finding all of them busy is rejected at once with a {@link java.util.concurrent.RejectedExecutionException}
+ * and the caller decides whether to run it by itself or to fail.
+ */
+public final class SharedExecutor {
+
+	private static final AtomicInteger THREADS = new AtomicInteger();
+
+	private static final int MAX_THREADS = 64;
+
+	private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(0, MAX_THREADS, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+		Thread thread = new Thread(runnable, "graph-jdbc-" + THREADS.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private SharedExecutor() {}
+
+	/**
+	 * @return the executor shared by all the connections
+	 */
+	public static Executor get() {
+		return EXECUTOR;
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of what is parsed from the statements, keyed by statement text and shared by every connection.
+ * <br>
+ * Lookups are lock free: a hit only stamps the entry with the time of its last use. When the cache grows past
+ * its maximum size a single thread evicts the least recently used tenth of the entries at once,
+ * so the cost of the eviction is spread over many insertions.
+ */
+final class StatementCache<V> {
+
+	private final int maxSize;
+	private final int evictedSize;
+	private final Map<String, Entry<V>> entries;
+	private final AtomicBoolean evicting = new AtomicBoolean();
+
+	StatementCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.evictedSize = maxSize - Math.max(1, maxSize / 10);
+		this.entries = new ConcurrentHashMap<>(maxSize * 4 / 3 + 1);
+	}
+
+	/**
+	 * @param raw    the raw statement
+	 * @param parser the parser run on a miss
+	 * @return the cached value of the statement
+	 */
+	V get(String raw, Function<String, V> parser) {
+		Entry<V> entry = this.entries.get(raw);
+		if (entry == null) {
+			entry = new Entry<>(parser.apply(raw));
+			Entry<V> previous = this.entries.putIfAbsent(raw, entry);
+			if (previous != null) {
+				entry = previous;
+			} else if (this.entries.size() > this.maxSize) {
+				evict();
+			}
+		}
+		entry.lastUsed = System.nanoTime();
+		return entry.value;
+	}
+
+	int size() {
+		return this.entries.size();
+	}
+
+	private void evict() {
+		if (!this.evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			List<Map.Entry<String, Entry<V>>> snapshot = new ArrayList<>(this.entries.entrySet());
+			int toRemove = snapshot.size() - this.evictedSize;
+			if (toRemove <= 0) {
+				return;
+			}
+			snapshot.sort(Comparator.comparingLong(e -> e.getValue().lastUsed));
+			for (int i = 0; i < toRemove; i++) {
+				Map.Entry<String, Entry<V>> eldest = snapshot.get(i);
+				this.entries.remove(eldest.getKey(), eldest.getValue());
+			}
+		} finally {
+			this.evicting.set(false);
+		}
+	}
+
+	private static final class Entry<V> {
+
+		private final V value;
+		private volatile long lastUsed = System.nanoTime();
+
+		private Entry(V value) {
+			this.value = value;
+		}
+	}
+}
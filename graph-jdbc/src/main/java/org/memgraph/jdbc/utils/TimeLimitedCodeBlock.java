@@ -19,7 +19,13 @@
  */
 package org.memgraph.jdbc.utils;
 
-import java.util.concurrent.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 /**
  * @author AgileLARUS
@@ -40,18 +46,46 @@ public class TimeLimitedCodeBlock {
 	 * @throws GraphJdbcRuntimeException Any exception thrown by the runnable wrapped.
 	 */
 	public static void runWithTimeout(final Runnable runnable, long timeout, TimeUnit timeUnit) {
-		ExecutorService executor = Executors.newSingleThreadExecutor();
-		Future future = executor.submit(runnable);
-		executor.shutdown();
-		try {
-			if (timeout == 0) {
-				future.get();
-			} else {
-				future.get(timeout, timeUnit);
+		runWithTimeout(runnable, timeout, timeUnit, running -> {});
+	}
+
+	/**
+	 * Run a <code>Runnable</code> for at most a <code>timeout</code> period of time, in the calling thread when no timeout is set.
+	 * The runnable runs on the {@link SharedExecutor}: a call finding all its threads busy runs it in the calling thread, without timeout.
+	 * The runnable isn't interrupted once the timeout elapsed, <code>onTimeout</code> gets its completion to release what it holds.
+	 *
+	 * @param runnable The runnable to run
+	 * @param timeout The maximum time a run should last, 0 for no timeout
+	 * @param timeUnit The <code>TimeUnit</code> unit for the timeout
+	 * @param onTimeout Called with the completion of the runnable still running when the timeout elapsed
+	 * @throws GraphJdbcRuntimeException Any exception thrown by the runnable wrapped, or the timeout.
+	 */
+	public static void runWithTimeout(final Runnable runnable, long timeout, TimeUnit timeUnit, Consumer<CompletionStage<Void>> onTimeout) {
+		CompletableFuture<Void> running = null;
+		if (timeout > 0) {
+			try {
+				running = CompletableFuture.runAsync(runnable, SharedExecutor.get());
+			} catch (RejectedExecutionException e) {
+				running = null;
+			}
+		}
+		if (running == null) {
+			try {
+				runnable.run();
+			} catch (RuntimeException e) {
+				throw new GraphJdbcRuntimeException(e);
 			}
+			return;
 		}
-		catch (Exception e) {
-			future.cancel(true);
+		try {
+			running.get(timeout, timeUnit);
+		} catch (TimeoutException e) {
+			onTimeout.accept(running);
+			throw new GraphJdbcRuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new GraphJdbcRuntimeException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			throw new GraphJdbcRuntimeException(e);
 		}
 	}
@@ -112,4 +112,30 @@ public class GraphConnectionTest {
 		Array mapsArr = connection.createArrayOf("JAVA_OBJECT", maps);
 		assertArrayEquals(maps, (Object[]) mapsArr.getArray());
 	}
+
+	/*------------------------------*/
+	/*         checkReadOnly        */
+	/*------------------------------*/
+
+	@Test public void checkReadOnlyShouldRefuseMutatingQueries() throws SQLException {
+		GraphConnectionImpl connection = mock(GraphConnectionImpl.class, Mockito.CALLS_REAL_METHODS);
+		connection.setReadOnly(true);
+
+		expectedEx.expect(SQLException.class);
+		connection.checkReadOnly("MATCH (n:User) SET n.active = false");
+	}
+
+	@Test public void checkReadOnlyShouldAcceptReadingQueries() throws SQLException {
+		GraphConnectionImpl connection = mock(GraphConnectionImpl.class, Mockito.CALLS_REAL_METHODS);
+		connection.setReadOnly(true);
+
+		connection.checkReadOnly("MATCH (n:User {status: 'set'}) WHERE n.created > 0 RETURN n.merge");
+		connection.checkReadOnly("CALL db.labels()");
+	}
+
+	@Test public void checkReadOnlyShouldAcceptMutatingQueriesOnAWritableConnection() throws SQLException {
+		GraphConnectionImpl connection = mock(GraphConnectionImpl.class, Mockito.CALLS_REAL_METHODS);
+
+		connection.checkReadOnly("CREATE (:User)");
+	}
 }
@@ -79,4 +79,35 @@ public class GraphStatementTest {
 
 		statement.unwrap(GraphResultSet.class);
 	}
+
+	/*------------------------------*/
+	/*          fetchSize           */
+	/*------------------------------*/
+
+	@Test public void setFetchSizeShouldBeReturnedByGetFetchSize() throws SQLException {
+		GraphStatement statement = mock(GraphStatement.class, Mockito.CALLS_REAL_METHODS);
+		Mockito.doReturn(false).when(statement).isClosed();
+
+		assertEquals(0, statement.getFetchSize());
+		statement.setFetchSize(100);
+		assertEquals(100, statement.getFetchSize());
+	}
+
+	@Test public void setFetchSizeMinValueShouldResetToDefault() throws SQLException {
+		GraphStatement statement = mock(GraphStatement.class, Mockito.CALLS_REAL_METHODS);
+		Mockito.doReturn(false).when(statement).isClosed();
+
+		statement.setFetchSize(100);
+		statement.setFetchSize(Integer.MIN_VALUE);
+		assertEquals(0, statement.getFetchSize());
+	}
+
+	@Test public void setFetchSizeShouldThrowExceptionIfNegative() throws SQLException {
+		expectedEx.expect(SQLException.class);
+
+		GraphStatement statement = mock(GraphStatement.class, Mockito.CALLS_REAL_METHODS);
+		Mockito.doReturn(false).when(statement).isClosed();
+
+		statement.setFetchSize(-1);
+	}
 }
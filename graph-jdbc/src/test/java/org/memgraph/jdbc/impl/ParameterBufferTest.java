@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.impl;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ParameterBufferTest {
+
+	private static Map<String, Object> row(Object... entries) {
+		Map<String, Object> row = new HashMap<>();
+		for (int i = 0; i < entries.length; i += 2) {
+			row.put((String) entries[i], entries[i + 1]);
+		}
+		return row;
+	}
+
+	@Test public void shouldKeepTheTypeOfPrimitiveValues() {
+		ParameterBuffer buffer = new ParameterBuffer(8);
+		buffer.setBoolean(1, true);
+		buffer.setByte(2, (byte) 2);
+		buffer.setShort(3, (short) 3);
+		buffer.setInt(4, 4);
+		buffer.setLong(5, 5L);
+		buffer.setFloat(6, 6.5F);
+		buffer.setDouble(7, 7.5D);
+		buffer.setObject(8, "eight");
+
+		assertEquals(row("1", true, "2", (byte) 2, "3", (short) 3, "4", 4, "5", 5L, "6", 6.5F, "7", 7.5D, "8", "eight"),
+				buffer.openRow());
+	}
+
+	@Test public void shouldUnboxPrimitiveObjects() {
+		ParameterBuffer buffer = new ParameterBuffer(3);
+		buffer.setObject(1, 1);
+		buffer.setObject(2, 2L);
+		buffer.setObject(3, null);
+
+		Map<String, Object> row = buffer.openRow();
+		assertEquals(row("1", 1, "2", 2L, "3", null), row);
+		assertTrue(row.containsKey("3"));
+	}
+
+	@Test public void shouldAddRowsAndOpenAnEmptyOne() {
+		ParameterBuffer buffer = new ParameterBuffer(2);
+		for (int i = 0; i < 100; i++) {
+			buffer.setInt(1, i);
+			if (i % 2 == 0) {
+				buffer.setObject(2, "row" + i);
+			}
+			buffer.addRow();
+		}
+
+		assertEquals(100, buffer.size());
+		assertEquals(Collections.emptyMap(), buffer.openRow());
+		assertEquals(row("1", 0, "2", "row0"), buffer.get(0));
+		assertEquals(row("1", 1), buffer.get(1));
+		assertEquals(row("1", 98, "2", "row98"), buffer.get(98));
+		assertEquals(Arrays.asList(row("1", 97), row("1", 98, "2", "row98")), buffer.subList(97, 99));
+	}
+
+	@Test public void shouldReplaceAValueWithAnotherType() {
+		ParameterBuffer buffer = new ParameterBuffer(1);
+		buffer.setObject(1, "text");
+		buffer.setLong(1, 10L);
+		buffer.addRow();
+		buffer.setInt(1, 1);
+		buffer.setObject(1, Collections.singletonList(1));
+		buffer.addRow();
+
+		assertEquals(Arrays.asList(row("1", 10L), row("1", Collections.singletonList(1))), buffer);
+	}
+
+	@Test public void clearOpenRowShouldKeepTheAddedRows() {
+		ParameterBuffer buffer = new ParameterBuffer(1);
+		buffer.setInt(1, 1);
+		buffer.addRow();
+		buffer.setInt(1, 2);
+
+		buffer.clearOpenRow();
+
+		assertEquals(Collections.emptyMap(), buffer.openRow());
+		assertEquals(Collections.singletonList(row("1", 1)), buffer);
+	}
+
+	@Test public void clearShouldKeepTheOpenRow() {
+		ParameterBuffer buffer = new ParameterBuffer(1);
+		for (int i = 0; i < 20; i++) {
+			buffer.setObject(1, "row" + i);
+			buffer.addRow();
+		}
+		buffer.setInt(1, 42);
+
+		buffer.clear();
+
+		assertTrue(buffer.isEmpty());
+		assertEquals(row("1", 42), buffer.openRow());
+		buffer.addRow();
+		List<Map<String, Object>> expected = Collections.singletonList(row("1", 42));
+		assertEquals(expected, buffer);
+	}
+
+	@Test public void shouldGrowBeyondTheDeclaredParameters() {
+		ParameterBuffer buffer = new ParameterBuffer(0);
+		buffer.setInt(3, 3);
+
+		assertEquals(row("3", 3), buffer.openRow());
+		assertNull(buffer.openRow().get("1"));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void getShouldNotExposeTheOpenRow() {
+		ParameterBuffer buffer = new ParameterBuffer(1);
+		buffer.setInt(1, 1);
+
+		buffer.get(0);
+	}
+}
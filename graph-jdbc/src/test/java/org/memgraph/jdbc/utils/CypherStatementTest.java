@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2016 LARUS Business Automation [http://www.larus-ba.it]
+ * <p>
+ * This file is part of the "LARUS Integration Framework for Neo4j".
+ * <p>
+ * The "LARUS Integration Framework for Neo4j" is licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.memgraph.jdbc.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CypherStatementTest {
+
+	private static CypherStatement.Type type(String query) {
+		return CypherStatement.parse(query).getType();
+	}
+
+	@Test public void shouldClassifyReadingQueries() {
+		assertEquals(CypherStatement.Type.READ, type("MATCH (n:User) RETURN n"));
+		assertEquals(CypherStatement.Type.READ, type("UNWIND range(1, 10) AS i RETURN i"));
+		assertEquals(CypherStatement.Type.READ, type("SHOW INDEX INFO"));
+	}
+
+	@Test public void shouldClassifyWritingQueries() {
+		assertEquals(CypherStatement.Type.WRITE, type("CREATE (n:User {name: 'a'})"));
+		assertEquals(CypherStatement.Type.WRITE, type("merge (n:User {id: 1}) on create set n.created = timestamp()"));
+		assertEquals(CypherStatement.Type.WRITE, type("MATCH (n) DETACH DELETE n"));
+		assertEquals(CypherStatement.Type.WRITE, type("MATCH (n) REMOVE n:User"));
+		assertEquals(CypherStatement.Type.WRITE, type("MATCH (n) CALL { WITH n SET n.seen = true } RETURN count(n)"));
+		assertEquals(CypherStatement.Type.WRITE, type("UNWIND $rows AS row CREATE (:User {id: row.`1`})"));
+	}
+
+	@Test public void shouldIgnoreKeywordsOutsideTheClauses() {
+		assertEquals(CypherStatement.Type.READ, type("MATCH (n {set: 'create'}) WHERE n.delete = \"merge\" RETURN n.created"));
+		assertEquals(CypherStatement.Type.READ, type("MATCH (n:Create)-[:SET]->(m:Merge) RETURN n, m"));
+		assertEquals(CypherStatement.Type.READ, type("MATCH (n) WHERE n.id = $set RETURN `delete` // create\n"));
+		assertEquals(CypherStatement.Type.READ, type("/* MERGE (n) */ MATCH (n) RETURN n"));
+		assertEquals(CypherStatement.Type.READ, type("MATCH (n) WHERE n.text = 'it\\'s set' RETURN n"));
+	}
+
+	@Test public void shouldClassifySchemaQueries() {
+		assertEquals(CypherStatement.Type.SCHEMA, type("CREATE INDEX ON :User(id)"));
+		assertEquals(CypherStatement.Type.SCHEMA, type("create edge index on :KNOWS"));
+		assertEquals(CypherStatement.Type.SCHEMA, type("DROP CONSTRAINT ON (n:User) ASSERT n.id IS UNIQUE"));
+		assertEquals(CypherStatement.Type.SCHEMA, type("CREATE USER alice"));
+		assertEquals(CypherStatement.Type.WRITE, type("CREATE (user:User) RETURN user"));
+	}
+
+	@Test public void shouldClassifyProcedureCalls() {
+		assertEquals(CypherStatement.Type.PROCEDURE, type("CALL db.labels()"));
+		assertEquals(CypherStatement.Type.PROCEDURE, type("MATCH (n) CALL mg.node(n) YIELD x RETURN x"));
+		assertEquals(CypherStatement.Type.WRITE, type("CALL algo.run() YIELD node SET node.rank = 1"));
+		assertEquals(CypherStatement.Type.READ, type("CALL { MATCH (n) RETURN n } RETURN n"));
+	}
+
+	@Test public void shouldDetectTheReturnClause() {
+		assertTrue(CypherStatement.parse("MATCH (n) RETURN n").hasReturn());
+		assertTrue(CypherStatement.parse("MATCH (n) return n UNION MATCH (m) RETURN m").hasReturn());
+		assertFalse(CypherStatement.parse("CREATE (n) SET n.return = 1").hasReturn());
+		assertFalse(CypherStatement.parse("MATCH (n) CALL { WITH n RETURN n AS m } SET n.x = 1").hasReturn());
+		assertFalse(CypherStatement.parse("CREATE (:Log {text: 'RETURN'})").hasReturn());
+	}
+
+	@Test public void shouldUnwindOnlyWritesWorkingRowByRow() {
+		assertTrue(CypherStatement.parse("CREATE (n:User {id: $1})").isUnwindable());
+		assertTrue(CypherStatement.parse("MATCH (n:User {id: $1}) SET n.name = $2").isUnwindable());
+		assertTrue(CypherStatement.parse("MERGE (n:User {id: $1}) SET n.count = $2, n.order = $3").isUnwindable());
+		assertFalse(CypherStatement.parse("CREATE (n:User {id: $1}) RETURN n").isUnwindable());
+		assertFalse(CypherStatement.parse("MATCH (n:User {id: $1}) WITH n SET n.name = $2").isUnwindable());
+		assertFalse(CypherStatement.parse("MATCH (n:User) WITH count(n) AS c CREATE (:Stat {count: c})").isUnwindable());
+		assertFalse(CypherStatement.parse("MATCH (n:User) CREATE (:Log {users: collect (n.id)})").isUnwindable());
+		assertFalse(CypherStatement.parse("MATCH (n:User) WHERE n.id > $1 DETACH DELETE n LIMIT 10").isUnwindable());
+		assertFalse(CypherStatement.parse("MATCH (n:User) WITH DISTINCT n.city AS city MERGE (:City {name: city})").isUnwindable());
+		assertFalse(CypherStatement.parse("MATCH (n:User) WITH n ORDER BY n.id SET n.rank = $1").isUnwindable());
+		assertFalse(CypherStatement.parse("MATCH (n) CALL { WITH n SET n.seen = $1 }").isUnwindable());
+		assertFalse(CypherStatement.parse("CREATE INDEX ON :User(id)").isUnwindable());
+		assertFalse(CypherStatement.parse("MATCH (n:User {id: $1}) RETURN n").isUnwindable());
+		assertFalse(CypherStatement.parse("EXPLAIN CREATE (n:User {id: $1})").isUnwindable());
+	}
+
+	@Test public void shouldFindTheFirstKeyword() {
+		assertEquals("EXPLAIN", CypherStatement.parse("  explain MATCH (n) RETURN n").getFirstKeyword());
+		assertEquals("PROFILE", CypherStatement.parse("// comment\nPROFILE MATCH (n) RETURN n").getFirstKeyword());
+		assertEquals("", CypherStatement.parse("").getFirstKeyword());
+	}
+
+	@Test public void shouldCacheTheClassification() {
+		String query = "MATCH (n) SET n.x = 1";
+		assertSame(CypherStatement.of(query), CypherStatement.of(new String(query.toCharArray())));
+		assertTrue(CypherStatement.of(query).isMutating());
+	}
+}
@@ -22,7 +22,11 @@ package org.memgraph.jdbc.utils;
 import org.junit.Test;
 
 import static org.memgraph.jdbc.utils.PreparedStatementBuilder.replacePlaceholders;
+import static org.memgraph.jdbc.utils.PreparedStatementBuilder.unwindStatement;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author AgileLARUS
@@ -83,4 +87,54 @@ public class GraphPreparedStatementBuilderTest {
 		String raw = "MATCH n RETURN n WHERE param = $2 AND paramString = \"string$3\"\n" + "AND param2 = $1";
 		assertEquals(2, PreparedStatementBuilder.namedParameterCount(raw));
 	}
+
+	@Test public void unwindStatementShouldReplaceParametersWithRowProperties() {
+		String raw = "CREATE (n:User {name: $1, age: $2})";
+		assertEquals("UNWIND $rows AS row CREATE (n:User {name: row.`1`, age: row.`2`})", unwindStatement(raw, "rows", "row"));
+	}
+
+	@Test public void unwindStatementShouldReplaceNamedAndQuotedParameters() {
+		String raw = "MERGE (n:User {id: $id}) SET n.name = $`full name`";
+		assertEquals("UNWIND $rows AS row MERGE (n:User {id: row.`id`}) SET n.name = row.`full name`", unwindStatement(raw, "rows", "row"));
+	}
+
+	@Test public void unwindStatementShouldNotReplaceParametersInStringsAndComments() {
+		String raw = "CREATE (n {a: '$1', b: \"it\\\"s $2\", `$3`: $4}) // $5\n/* $6 */ RETURN n";
+		assertEquals("UNWIND $rows AS row CREATE (n {a: '$1', b: \"it\\\"s $2\", `$3`: row.`4`}) // $5\n/* $6 */ RETURN n",
+				unwindStatement(raw, "rows", "row"));
+	}
+
+	@Test public void replacePlaceholderShouldNotReplaceQuestionMarksInSingleQuotesAndComments() {
+		String raw = "MATCH (n) WHERE n.a = '?' AND n.b = ? // is it?\n/* or ? */ RETURN n.`c?`, ?";
+		assertEquals("MATCH (n) WHERE n.a = '?' AND n.b = $1 // is it?\n/* or ? */ RETURN n.`c?`, $2", replacePlaceholders(raw));
+	}
+
+	@Test public void placeholdersCountShouldCountQuotedIndexes() {
+		String raw = "MATCH (n) WHERE n.a = $ `3` AND n.b = $1 AND n.c = '$4' // $5";
+		assertEquals(3, PreparedStatementBuilder.namedParameterCount(raw));
+	}
+
+	@Test public void templateShouldReplaceAndCountInOnePass() {
+		PreparedStatementBuilder.Template template = PreparedStatementBuilder.template("MATCH (n) WHERE n.a = ? AND n.b = $3 RETURN n");
+		assertEquals("MATCH (n) WHERE n.a = $1 AND n.b = $3 RETURN n", template.getStatement());
+		assertEquals(3, template.getParametersNumber());
+	}
+
+	@Test public void templateShouldBeCached() {
+		String raw = "MATCH (n) WHERE n.id = ? RETURN n";
+		assertSame(PreparedStatementBuilder.template(raw), PreparedStatementBuilder.template(new String(raw.toCharArray())));
+	}
+
+	@Test public void templateCacheShouldEvictTheLeastRecentlyUsed() {
+		StatementCache<PreparedStatementBuilder.Template> cache = new StatementCache<>(10);
+		PreparedStatementBuilder.Template first = cache.get("RETURN 0", PreparedStatementBuilder::parse);
+		PreparedStatementBuilder.Template eldest = cache.get("RETURN 1", PreparedStatementBuilder::parse);
+		for (int i = 2; i <= 10; i++) {
+			cache.get("RETURN 0", PreparedStatementBuilder::parse);
+			cache.get("RETURN " + i, PreparedStatementBuilder::parse);
+		}
+		assertTrue(cache.size() <= 10);
+		assertSame(first, cache.get("RETURN 0", PreparedStatementBuilder::parse));
+		assertNotSame(eldest, cache.get("RETURN 1", PreparedStatementBuilder::parse));
+	}
 }